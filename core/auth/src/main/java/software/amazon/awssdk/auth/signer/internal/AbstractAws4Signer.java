@@ -25,7 +25,11 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
@@ -60,10 +64,24 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
-    private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
-        Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
+    private static final Set<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
+        new HashSet<>(Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect"));
+
+    /**
+     * Lower case forms of the header names seen while signing. A client sends the same small set of header names on every
+     * request, so this saves lower casing them each time. Once full, further names are lower cased on every use.
+     */
+    private static final int CANONICAL_HEADER_NAMES_MAX_SIZE = 1024;
+    private static final ConcurrentMap<String, String> CANONICAL_HEADER_NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * The canonical request is built in a per-thread builder and hashed without being turned into a string. Builders that
+     * grew beyond this size for an unusually large request are not kept.
+     */
+    private static final int CANONICAL_REQUEST_BUILDER_MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> CANONICAL_REQUEST_BUILDER =
+        ThreadLocal.withInitial(() -> new StringBuilder(512));
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
@@ -101,8 +119,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                                    contentChecksum.contentHash(),
                                                                    signingParams.doubleUrlEncode());
 
-        String canonicalRequestString = canonicalRequest.string();
-        String stringToSign = createStringToSign(canonicalRequestString, requestParams);
+        String stringToSign = createStringToSign(canonicalRequest.hash(), requestParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
@@ -144,8 +161,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         addPreSignInformationToRequest(mutableRequest, canonicalRequest, sanitizedCredentials,
                                        requestParams, expirationInSeconds);
 
-        String string = canonicalRequest.string();
-        String stringToSign = createStringToSign(string, requestParams);
+        String stringToSign = createStringToSign(canonicalRequest.hash(), requestParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
@@ -214,21 +230,14 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     }
 
     protected final byte[] deriveSigningKey(AwsCredentials credentials, Instant signingInstant, String region, String service) {
-        String cacheKey = createSigningCacheKeyName(credentials, region, service);
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
-            return signerKey.getSigningKey();
-        }
-
-        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
-                signingInstant.toEpochMilli());
-        byte[] signingKey = newSigningKey(credentials,
-                Aws4SignerUtils.formatDateStamp(signingInstant),
-                region,
-                service);
-        SIGNER_CACHE.add(cacheKey, new SignerKey(signingInstant, signingKey));
-        return signingKey;
+        return SIGNER_CACHE.get(credentials.secretAccessKey(), region, service, signingInstant, () -> {
+            LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
+                            signingInstant.toEpochMilli());
+            return newSigningKey(credentials,
+                                 Aws4SignerUtils.formatDateStamp(signingInstant),
+                                 region,
+                                 service);
+        });
     }
 
     /**
@@ -248,10 +257,10 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
      */
-    private String createStringToSign(String canonicalRequest,
+    private String createStringToSign(byte[] canonicalRequestHash,
                                       Aws4SignerRequestParams requestParams) {
 
-        String requestHash = BinaryUtils.toHex(hash(canonicalRequest));
+        String requestHash = BinaryUtils.toHex(canonicalRequestHash);
 
         String stringToSign = requestParams.getSigningAlgorithm() +
                               SignerConstant.LINE_SEPARATOR +
@@ -265,12 +274,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return stringToSign;
     }
 
-    private String createSigningCacheKeyName(AwsCredentials credentials,
-                                             String regionName,
-                                             String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -334,6 +337,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
     }
 
+    private static String canonicalHeaderName(String headerName) {
+        String canonicalName = CANONICAL_HEADER_NAMES.get(headerName);
+        if (canonicalName == null) {
+            canonicalName = lowerCase(headerName);
+            if (CANONICAL_HEADER_NAMES.size() < CANONICAL_HEADER_NAMES_MAX_SIZE) {
+                CANONICAL_HEADER_NAMES.put(headerName, canonicalName);
+            }
+        }
+        return canonicalName;
+    }
+
     private void addHostHeader(SdkHttpFullRequest.Builder mutableRequest) {
         // AWS4 requires that we sign the Host header so we
         // have to have it in the request by the time we sign.
@@ -458,7 +472,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         private final String contentSha256;
         private final boolean doubleUrlEncode;
 
-        private String canonicalRequestString;
         private StringBuilder signedHeaderStringBuilder;
         private List<Pair<String, List<String>>> canonicalHeaders;
         private String signedHeaderString;
@@ -469,9 +482,13 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             this.doubleUrlEncode = doubleUrlEncode;
         }
 
-        public String string() {
-            if (canonicalRequestString == null) {
-                StringBuilder canonicalRequest = new StringBuilder(512);
+        /**
+         * @return The SHA-256 hash of the canonical request.
+         */
+        public byte[] hash() {
+            StringBuilder canonicalRequest = CANONICAL_REQUEST_BUILDER.get();
+            canonicalRequest.setLength(0);
+            try {
                 canonicalRequest.append(request.method().toString())
                                 .append(SignerConstant.LINE_SEPARATOR);
                 addCanonicalizedResourcePath(canonicalRequest, request.encodedPath(), doubleUrlEncode);
@@ -483,9 +500,14 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                 .append(signedHeaderStringBuilder())
                                 .append(SignerConstant.LINE_SEPARATOR)
                                 .append(contentSha256);
-                this.canonicalRequestString = canonicalRequest.toString();
+                return AbstractAwsSigner.hash(canonicalRequest);
+            } finally {
+                if (canonicalRequest.capacity() > CANONICAL_REQUEST_BUILDER_MAX_RETAINED_CAPACITY) {
+                    CANONICAL_REQUEST_BUILDER.remove();
+                } else {
+                    canonicalRequest.setLength(0);
+                }
             }
-            return canonicalRequestString;
         }
 
         public StringBuilder signedHeaderStringBuilder() {
@@ -527,7 +549,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             List<Pair<String, List<String>>> result = new ArrayList<>(headers.numHeaders());
 
             headers.forEachHeader((key, value) -> {
-                String lowerCaseHeader = lowerCase(key);
+                String lowerCaseHeader = canonicalHeaderName(key);
                 if (!LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
                     result.add(Pair.of(lowerCaseHeader, value));
                 }
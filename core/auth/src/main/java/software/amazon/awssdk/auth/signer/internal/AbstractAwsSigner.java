@@ -27,7 +27,6 @@ import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -54,6 +53,7 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 public abstract class AbstractAwsSigner implements Signer {
 
     private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
+    private static final ThreadLocal<byte[]> ENCODING_BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
 
     static {
         SHA256_MESSAGE_DIGEST = ThreadLocal.withInitial(() -> {
@@ -142,10 +142,9 @@ public abstract class AbstractAwsSigner implements Signer {
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) throws SdkClientException {
         try {
-            Mac mac = algorithm.getMac();
-            mac.init(new SecretKeySpec(key, algorithm.toString()));
-            return mac.doFinal(data);
+            return algorithm.getInitializedMac(key).doFinal(data);
         } catch (Exception e) {
+            algorithm.invalidateInitializedMac();
             throw SdkClientException.builder()
                                     .message("Unable to calculate a request signature: " + e.getMessage())
                                     .cause(e)
@@ -165,6 +164,34 @@ public abstract class AbstractAwsSigner implements Signer {
         return AbstractAwsSigner.doHash(text);
     }
 
+    /**
+     * Hashes the character sequence (encoded as UTF-8) using the SHA-256 algorithm. ASCII content, which includes all
+     * canonical requests with URL encoded paths and query strings, is encoded straight into the digest without creating an
+     * intermediate string or byte array.
+     *
+     * @param text The characters to hash.
+     * @return The hashed bytes from the specified characters.
+     * @throws SdkClientException If the hash cannot be computed.
+     */
+    static byte[] hash(CharSequence text) throws SdkClientException {
+        MessageDigest md = getMessageDigestInstance();
+        byte[] buffer = ENCODING_BUFFER.get();
+        int position = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                return doHash(text.toString());
+            }
+            buffer[position++] = (byte) c;
+            if (position == buffer.length) {
+                md.update(buffer, 0, position);
+                position = 0;
+            }
+        }
+        md.update(buffer, 0, position);
+        return md.digest();
+    }
+
     byte[] hash(InputStream input, SdkChecksum sdkChecksum) throws SdkClientException {
         try {
             MessageDigest md = getMessageDigestInstance();
@@ -15,8 +15,11 @@
 
 package software.amazon.awssdk.auth.signer.internal;
 
+import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
@@ -25,7 +28,7 @@ public enum SigningAlgorithm {
 
     HmacSHA256;
 
-    private final ThreadLocal<Mac> macReference;
+    private final ThreadLocal<KeyedMac> macReference;
 
     SigningAlgorithm() {
         String algorithmName = this.toString();
@@ -33,13 +36,48 @@ public enum SigningAlgorithm {
     }
 
     /**
-     * Returns the thread local reference for the crypto algorithm
+     * Returns the thread local reference for the crypto algorithm. Callers are expected to initialize it with their own key.
      */
     public Mac getMac() {
-        return macReference.get();
+        KeyedMac keyedMac = macReference.get();
+        keyedMac.key = null;
+        return keyedMac.mac;
     }
 
-    private static class MacThreadLocal extends ThreadLocal<Mac> {
+    /**
+     * Returns the thread local reference for the crypto algorithm, initialized with the given key. The key setup is skipped if
+     * the Mac was last initialized with the same key on this thread, which is the common case when signing many requests
+     * with the same signing key. Callers must complete the operation with {@link Mac#doFinal} so that the Mac is left ready
+     * for the next one.
+     */
+    public Mac getInitializedMac(byte[] key) throws InvalidKeyException {
+        KeyedMac keyedMac = macReference.get();
+        if (!Arrays.equals(keyedMac.key, key)) {
+            keyedMac.key = null;
+            keyedMac.mac.init(new SecretKeySpec(key, toString()));
+            keyedMac.key = key.clone();
+        }
+        return keyedMac.mac;
+    }
+
+    /**
+     * Forgets the key the thread local Mac was initialized with, so that it will be initialized again before its next use.
+     * Used when an operation could not be completed and the Mac may hold partial input.
+     */
+    void invalidateInitializedMac() {
+        macReference.get().key = null;
+    }
+
+    private static final class KeyedMac {
+        private final Mac mac;
+        private byte[] key;
+
+        private KeyedMac(Mac mac) {
+            this.mac = mac;
+        }
+    }
+
+    private static class MacThreadLocal extends ThreadLocal<KeyedMac> {
         private final String algorithmName;
 
         MacThreadLocal(String algorithmName) {
@@ -47,9 +85,9 @@ public enum SigningAlgorithm {
         }
 
         @Override
-        protected Mac initialValue() {
+        protected KeyedMac initialValue() {
             try {
-                return Mac.getInstance(algorithmName);
+                return new KeyedMac(Mac.getInstance(algorithmName));
             } catch (NoSuchAlgorithmException e) {
                 throw SdkClientException.builder()
                                         .message("Unable to fetch Mac instance for Algorithm "
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Lock-free cache of derived SigV4 signing keys, keyed by the credential scope they were derived for (secret key, region
+ * and service). Each scope holds the key for a single day; a lookup for a different day replaces it.
+ *
+ * <p>When the cache is full an arbitrary entry is evicted to make room, which keeps the cache bounded without the
+ * bookkeeping of an access- or insertion-ordered map.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class SigningKeyCache {
+
+    private final ConcurrentMap<Scope, SignerKey> keys = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    SigningKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the signing key for the scope on the day of the signing instant, deriving and caching it if needed.
+     */
+    byte[] get(String secretKey, String region, String service, Instant signingInstant, Supplier<byte[]> keyDeriver) {
+        Scope scope = new Scope(secretKey, region, service);
+        SignerKey signerKey = keys.get(scope);
+        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
+            return signerKey.getSigningKey();
+        }
+
+        byte[] signingKey = keyDeriver.get();
+        if (signerKey == null && keys.size() >= maxSize) {
+            evictOne();
+        }
+        keys.put(scope, new SignerKey(signingInstant, signingKey));
+        return signingKey;
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    private void evictOne() {
+        Iterator<Scope> iterator = keys.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class Scope {
+        private final String secretKey;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private Scope(String secretKey, String region, String service) {
+            this.secretKey = secretKey;
+            this.region = region;
+            this.service = service;
+            int result = Objects.hashCode(secretKey);
+            result = 31 * result + Objects.hashCode(region);
+            result = 31 * result + Objects.hashCode(service);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Scope other = (Scope) o;
+            return Objects.equals(secretKey, other.secretKey) &&
+                   Objects.equals(region, other.region) &&
+                   Objects.equals(service, other.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
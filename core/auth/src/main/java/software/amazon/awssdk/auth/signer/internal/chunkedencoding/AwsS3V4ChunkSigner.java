@@ -44,6 +44,7 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
     public static final int SIGNATURE_LENGTH = 64;
     private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
     private static final String TRAILING_HEADER_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-TRAILER";
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
 
     private final String dateTime;
     private final String keyPath;
@@ -52,6 +53,14 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
     private final Mac hmacSha256;
     private final Mac trailerHmacSha256;
 
+    /**
+     * The parts of the chunk string to sign that are the same for every chunk, and a scratch buffer for the parts that are
+     * not, so that a chunk is signed by feeding the MAC directly instead of building the string to sign.
+     */
+    private final byte[] chunkStringToSignPrefix;
+    private final byte[] emptyStringHashLine;
+    private final byte[] hexBuffer = new byte[SIGNATURE_LENGTH];
+
     public AwsS3V4ChunkSigner(byte[] signingKey, String datetime, String keyPath) {
         try {
             this.sha256 = MessageDigest.getInstance("SHA-256");
@@ -68,20 +77,21 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
         }
         this.dateTime = datetime;
         this.keyPath = keyPath;
+        this.chunkStringToSignPrefix = (CHUNK_STRING_TO_SIGN_PREFIX + "\n" + dateTime + "\n" + keyPath + "\n")
+            .getBytes(StandardCharsets.UTF_8);
+        this.emptyStringHashLine = ("\n" + AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n").getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public String signChunk(byte[] chunkData, String previousSignature) {
-        String chunkStringToSign =
-            CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
-            dateTime + "\n" +
-            keyPath + "\n" +
-            previousSignature + "\n" +
-            AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
-            BinaryUtils.toHex(sha256.digest(chunkData));
         try {
-            byte[] bytes = hmacSha256.doFinal(chunkStringToSign.getBytes(StandardCharsets.UTF_8));
-            return BinaryUtils.toHex(bytes);
+            byte[] chunkHash = sha256.digest(chunkData);
+
+            hmacSha256.update(chunkStringToSignPrefix);
+            hmacSha256.update(previousSignature.getBytes(StandardCharsets.UTF_8));
+            hmacSha256.update(emptyStringHashLine);
+            hmacSha256.update(toHex(chunkHash), 0, chunkHash.length * 2);
+            return BinaryUtils.toHex(hmacSha256.doFinal());
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to calculate a request signature: " + e.getMessage())
@@ -114,6 +124,14 @@ public class AwsS3V4ChunkSigner implements AwsChunkSigner {
     }
 
 
+    private byte[] toHex(byte[] data) {
+        for (int i = 0; i < data.length; i++) {
+            hexBuffer[i * 2] = HEX_DIGITS[(data[i] >> 4) & 0xF];
+            hexBuffer[i * 2 + 1] = HEX_DIGITS[data[i] & 0xF];
+        }
+        return hexBuffer;
+    }
+
     public static int getSignatureLength() {
         return SIGNATURE_LENGTH;
     }
@@ -15,9 +15,14 @@
 
 package software.amazon.awssdk.auth.signer.internal.chunkedencoding;
 
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeAscii;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeChunkSize;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeCrlf;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
@@ -151,18 +156,18 @@ public final class AwsSignedChunkedEncodingInputStream extends AwsChunkedEncodin
     }
 
 
-    private byte[] createSignedChunk(byte[] chunkData) {
+    @Override
+    protected int writeChunkHeader(byte[] chunkData, int chunkLength, byte[] destination) {
         try {
-            byte[] header = createSignedChunkHeader(chunkData);
-            byte[] trailer = isTrailingTerminated ? CRLF.getBytes(StandardCharsets.UTF_8)
-                                                  : "".getBytes(StandardCharsets.UTF_8);
-            byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
+            // Full chunks are signed straight from the reused buffer; only the shorter last chunk of the data is copied.
+            byte[] signedData = chunkLength == chunkData.length ? chunkData : Arrays.copyOf(chunkData, chunkLength);
+            String chunkSignature = chunkSigner.signChunk(signedData, previousChunkSignature);
+            previousChunkSignature = chunkSignature;
+
+            int position = writeChunkSize(chunkLength, destination, 0);
+            position = writeAscii(CHUNK_SIGNATURE_HEADER, destination, position);
+            position = writeAscii(chunkSignature, destination, position);
+            return writeCrlf(destination, position);
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to sign the chunked data. " + e.getMessage())
@@ -171,26 +176,9 @@ public final class AwsSignedChunkedEncodingInputStream extends AwsChunkedEncodin
         }
     }
 
-    private byte[] createSignedChunkHeader(byte[] chunkData) {
-        String chunkSignature = chunkSigner.signChunk(chunkData, previousChunkSignature);
-        previousChunkSignature = chunkSignature;
-
-        StringBuilder chunkHeader = new StringBuilder();
-        chunkHeader.append(Integer.toHexString(chunkData.length));
-        chunkHeader.append(CHUNK_SIGNATURE_HEADER)
-                   .append(chunkSignature)
-                   .append(CRLF);
-        return chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
-    }
-
-    @Override
-    protected byte[] createFinalChunk(byte[] finalChunk) {
-        return createChunk(FINAL_CHUNK);
-    }
-
     @Override
-    protected byte[] createChunk(byte[] chunkData) {
-        return createSignedChunk(chunkData);
+    protected boolean isFinalChunkTerminated() {
+        return isTrailingTerminated;
     }
 
     @Override
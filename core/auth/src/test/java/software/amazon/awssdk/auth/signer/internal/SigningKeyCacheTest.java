@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+
+    private static final Instant NOW = Instant.parse("2021-06-01T12:00:00Z");
+
+    @Test
+    public void get_sameScopeAndDay_derivesKeyOnce() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        CountingDeriver deriver = new CountingDeriver();
+
+        byte[] first = cache.get("secret", "us-east-1", "s3", NOW, deriver);
+        byte[] second = cache.get("secret", "us-east-1", "s3", NOW.plus(Duration.ofHours(1)), deriver);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(deriver.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_differentDay_derivesNewKeyAndReplacesOld() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        CountingDeriver deriver = new CountingDeriver();
+
+        cache.get("secret", "us-east-1", "s3", NOW, deriver);
+        cache.get("secret", "us-east-1", "s3", NOW.plus(Duration.ofDays(1)), deriver);
+
+        assertThat(deriver.count()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_differentScopes_cachedSeparately() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        CountingDeriver deriver = new CountingDeriver();
+
+        cache.get("secret", "us-east-1", "s3", NOW, deriver);
+        cache.get("secret", "us-west-2", "s3", NOW, deriver);
+        cache.get("secret", "us-east-1", "sqs", NOW, deriver);
+        cache.get("other", "us-east-1", "s3", NOW, deriver);
+
+        assertThat(deriver.count()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void get_full_staysBounded() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        CountingDeriver deriver = new CountingDeriver();
+
+        for (int i = 0; i < 10; i++) {
+            cache.get("secret" + i, "us-east-1", "s3", NOW, deriver);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(deriver.count()).isEqualTo(10);
+    }
+
+    @Test
+    public void constructor_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> new SigningKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class CountingDeriver implements Supplier<byte[]> {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public byte[] get() {
+            return new byte[] {(byte) count.incrementAndGet()};
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+}
@@ -111,6 +111,37 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Read the provided {@link InputStream} directly from its token stream with the provided {@link JsonTokenReader}, instead
+     * of parsing it into a {@link JsonNode}. The {@link JsonParser} is created with this parser's {@link JsonFactory}, and
+     * failures are reported the same way as {@link #parse(InputStream)}.
+     */
+    public <T> T read(InputStream content, JsonTokenReader<T> reader) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                return reader.read(parser);
+            } catch (Exception e) {
+                removeErrorLocationsIfRequired(e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Parse the value at the current token of the provided {@link JsonParser} into a {@link JsonNode}. This allows a caller
+     * that is streaming through a document to materialize a single value as a tree. When this returns, the parser is positioned
+     * at the last token of the parsed value.
+     */
+    public JsonNode parseCurrentValue(JsonParser parser) throws IOException {
+        try {
+            return parseToken(parser, parser.currentToken());
+        } catch (Exception e) {
+            removeErrorLocationsIfRequired(e);
+            throw e;
+        }
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
@@ -186,6 +217,14 @@ public final class JsonNodeParser {
         return new ArrayJsonNode(array);
     }
 
+    /**
+     * Reads a document from the token stream of a {@link JsonParser}. See {@link #read(InputStream, JsonTokenReader)}.
+     */
+    @FunctionalInterface
+    public interface JsonTokenReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
     /**
      * A builder for configuring and creating {@link JsonNodeParser}. Created via {@link #builder()}.
      */
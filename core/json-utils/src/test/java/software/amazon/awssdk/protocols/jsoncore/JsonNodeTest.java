@@ -4,7 +4,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.utils.StringInputStream;
 
 public class JsonNodeTest {
@@ -266,4 +269,79 @@ public class JsonNodeTest {
                 }
             });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parseCurrentValue_parsesOnlyTheCurrentValue() throws IOException {
+        try (JsonParser parser = JsonNodeParser.DEFAULT_JSON_FACTORY.createParser("{\"a\": {\"b\": [1, 2]}, \"c\": true}")) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.FIELD_NAME);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+
+            assertThat(PARSER.parseCurrentValue(parser).toString()).isEqualTo("{\"b\": [1, 2]}");
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.FIELD_NAME);
+            assertThat(parser.getCurrentName()).isEqualTo("c");
+        }
+    }
+
+    @Test
+    public void parseCurrentValue_scalarValue_leavesParserOnValue() throws IOException {
+        try (JsonParser parser = JsonNodeParser.DEFAULT_JSON_FACTORY.createParser("[\"foo\", null]")) {
+            parser.nextToken();
+            parser.nextToken();
+
+            assertThat(PARSER.parseCurrentValue(parser).asString()).isEqualTo("foo");
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.VALUE_STRING);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.VALUE_NULL);
+            assertThat(PARSER.parseCurrentValue(parser).isNull()).isTrue();
+        }
+    }
+
+    @Test
+    public void parseCurrentValue_noCurrentToken_returnsNull() throws IOException {
+        try (JsonParser parser = JsonNodeParser.DEFAULT_JSON_FACTORY.createParser("")) {
+            assertThat(PARSER.parseCurrentValue(parser)).isNull();
+        }
+    }
+
+    @Test
+    public void parseCurrentValue_removeErrorLocations_removesErrorLocations() throws IOException {
+        JsonNodeParser parser = JsonNode.parserBuilder().removeErrorLocations(true).build();
+        try (JsonParser jsonParser = JsonNodeParser.DEFAULT_JSON_FACTORY.createParser("[{foo}]")) {
+            jsonParser.nextToken();
+            assertThatThrownBy(() -> parser.parseCurrentValue(jsonParser)).satisfies(this::assertNoErrorLocation);
+        }
+    }
+
+    @Test
+    public void read_readsFromTokenStream() {
+        String text = PARSER.read(new StringInputStream("{\"a\": \"b\"}"), parser -> {
+            parser.nextToken();
+            parser.nextToken();
+            parser.nextToken();
+            return parser.getText();
+        });
+        assertThat(text).isEqualTo("b");
+    }
+
+    @Test
+    public void read_removeErrorLocations_removesErrorLocations() {
+        assertThatThrownBy(() -> JsonNode.parserBuilder()
+                                         .removeErrorLocations(true)
+                                         .build()
+                                         .read(new StringInputStream("{{foo}"), parser -> {
+                                             parser.nextToken();
+                                             return parser.nextToken();
+                                         }))
+            .satisfies(this::assertNoErrorLocation);
+    }
+
+    private void assertNoErrorLocation(Throwable exception) {
+        Throwable cause = exception;
+        while (cause != null) {
+            assertThat(cause.getMessage()).doesNotContain("foo");
+            cause = cause.getCause();
+        }
+    }
+}
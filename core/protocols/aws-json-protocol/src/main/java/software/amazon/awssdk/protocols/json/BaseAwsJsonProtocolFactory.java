@@ -75,6 +75,7 @@ public abstract class BaseAwsJsonProtocolFactory {
             .parser(JsonNodeParser.builder()
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
+            .unmarshallFromTokenStream(true)
             .defaultTimestampFormats(getDefaultTimestampFormats())
             .build();
     }
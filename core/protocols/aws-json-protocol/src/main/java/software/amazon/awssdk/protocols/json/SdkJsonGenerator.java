@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.protocols.json;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -23,6 +22,8 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.core.MarshallingBuffer;
+import software.amazon.awssdk.protocols.core.MarshallingBufferPool;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -34,22 +35,29 @@ import software.amazon.awssdk.utils.DateUtils;
 @SdkProtectedApi
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
-    /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
-     * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
-     */
-    private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final MarshallingBuffer buffer;
     private final JsonGenerator generator;
     private final String contentType;
+    private ByteBuffer content;
 
     public SdkJsonGenerator(JsonFactory factory, String contentType) {
+        this(factory, contentType, MarshallingBufferPool.defaultPool());
+    }
+
+    /**
+     * @param factory Factory for the underlying Jackson generator.
+     * @param contentType Content type of the generated document.
+     * @param bufferPool Pool of the buffer the document is written into. The buffer is released by {@link #getBytes()} or
+     * {@link #getByteBuffer()}.
+     */
+    public SdkJsonGenerator(JsonFactory factory, String contentType, MarshallingBufferPool bufferPool) {
+        this.buffer = bufferPool.acquire();
         try {
             /**
              * A {@link JsonGenerator} created is by default enabled with
              * UTF-8 encoding
              */
-            this.generator = factory.createGenerator(baos);
+            this.generator = factory.createGenerator(buffer);
             this.contentType = contentType;
         } catch (IOException e) {
             throw new JsonGenerationException(e);
@@ -255,16 +263,27 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
     }
 
     /**
-     * Get the JSON content as a UTF-8 encoded byte array. It is recommended to hold onto the array
-     * reference rather then making repeated calls to this method as a new array will be created
-     * each time.
+     * Get the JSON content as a UTF-8 encoded byte array. This completes the document and releases the buffer it was
+     * written into. Prefer {@link #getByteBuffer()}, which avoids copying large documents.
      *
      * @return Array of UTF-8 encoded bytes that make up the generated JSON.
      */
     @Override
     public byte[] getBytes() {
-        close();
-        return baos.toByteArray();
+        ByteBuffer content = getByteBuffer();
+        if (content.arrayOffset() == 0 && content.position() == 0 && content.remaining() == content.array().length) {
+            return content.array();
+        }
+        return BinaryUtils.copyBytesFrom(content);
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+        if (content == null) {
+            close();
+            content = buffer.finish();
+        }
+        return content.duplicate();
     }
 
     @Override
@@ -171,6 +171,18 @@ public interface StructuredJsonGenerator {
 
     byte[] getBytes();
 
+    /**
+     * Completes the document and returns its bytes without requiring them to fill an array of the exact size, so that
+     * implementations can hand over the buffer they wrote into instead of copying it. Callers must not modify the returned
+     * bytes.
+     *
+     * @return The document, or null if nothing was generated.
+     */
+    default ByteBuffer getByteBuffer() {
+        byte[] bytes = getBytes();
+        return bytes == null ? null : ByteBuffer.wrap(bytes);
+    }
+
     /**
      * New clients use {@link SdkJsonProtocolFactory#getContentType()}.
      */
@@ -23,6 +23,7 @@ import static software.amazon.awssdk.http.Header.TRANSFER_ENCODING;
 
 import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -227,12 +228,15 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
                 jsonGenerator.writeEndObject();
             }
 
-            byte[] content = jsonGenerator.getBytes();
+            ByteBuffer content = jsonGenerator.getByteBuffer();
 
             if (content != null) {
-                request.contentStreamProvider(() -> new ByteArrayInputStream(content));
-                if (content.length > 0) {
-                    request.putHeader(CONTENT_LENGTH, Integer.toString(content.length));
+                byte[] array = content.array();
+                int offset = content.arrayOffset() + content.position();
+                int length = content.remaining();
+                request.contentStreamProvider(() -> new ByteArrayInputStream(array, offset, length));
+                if (length > 0) {
+                    request.putHeader(CONTENT_LENGTH, Integer.toString(length));
                 }
             }
         }
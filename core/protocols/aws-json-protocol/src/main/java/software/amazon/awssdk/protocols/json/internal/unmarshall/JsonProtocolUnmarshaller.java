@@ -61,12 +61,16 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final StreamingJsonProtocolUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = builder.unmarshallFromTokenStream ?
+                                     new StreamingJsonProtocolUnmarshaller(parser, instantStringToValue) : null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -188,6 +192,9 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
         if (hasPayloadMembersOnUnmarshall(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo) && response.content().isPresent()) {
+            if (streamingUnmarshaller != null && !hasExplicitPayloadMember(sdkPojo)) {
+                return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get(), createContext(response));
+            }
             JsonNode jsonNode = parser.parse(response.content().get());
             return unmarshall(sdkPojo, response, jsonNode);
         } else {
@@ -201,6 +208,12 @@ public final class JsonProtocolUnmarshaller {
                       .anyMatch(f -> isExplicitPayloadMember(f) && f.marshallingType() == MarshallingType.SDK_BYTES);
     }
 
+    private boolean hasExplicitPayloadMember(SdkPojo sdkPojo) {
+        return sdkPojo.sdkFields()
+                      .stream()
+                      .anyMatch(JsonProtocolUnmarshaller::isExplicitPayloadMember);
+    }
+
     private static boolean isExplicitPayloadMember(SdkField<?> f) {
         return f.containsTrait(PayloadTrait.class);
     }
@@ -215,11 +228,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -267,6 +283,7 @@ public final class JsonProtocolUnmarshaller {
     public static final class Builder {
 
         private JsonNodeParser parser;
+        private boolean unmarshallFromTokenStream;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
 
         private Builder() {
@@ -281,6 +298,16 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param unmarshallFromTokenStream Whether response payloads are unmarshalled directly from the token stream of the
+         *                                  configured {@link JsonNodeParser} instead of being parsed into a tree first.
+         * @return This builder for method chaining.
+         */
+        public Builder unmarshallFromTokenStream(boolean unmarshallFromTokenStream) {
+            this.unmarshallFromTokenStream = unmarshallFromTokenStream;
+            return this;
+        }
+
         /**
          * @param formats The default timestamp formats for each location in the HTTP response.
          * @return This builder for method chaining.
@@ -0,0 +1,265 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls the payload of a JSON (or CBOR) response directly from the token stream of a {@link JsonParser} into the
+ * {@link SdkPojo} builders, without first parsing the whole document into a {@link software.amazon.awssdk.protocols.jsoncore
+ * .JsonNode} tree.
+ *
+ * <p>Fields are located by their location name using a lookup table computed once per shape. Values that can't be read
+ * directly from the token stream, like {@link MarshallingType#DOCUMENT} members or values whose JSON type doesn't match the
+ * modeled type, are parsed into a {@code JsonNode} and handed to the tree based unmarshallers in the
+ * {@link JsonUnmarshallerRegistry}, so both paths produce the same result.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamingJsonProtocolUnmarshaller {
+
+    private final Map<Class<?>, Map<String, SdkField<?>>> payloadFieldsByShape = new ConcurrentHashMap<>();
+    private final JsonNodeParser treeParser;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+
+    StreamingJsonProtocolUnmarshaller(JsonNodeParser treeParser,
+                                      StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.treeParser = treeParser;
+        this.simpleTypeConverters = createSimpleTypeConverters(instantStringToValue);
+    }
+
+    private static Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> createSimpleTypeConverters(
+        StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new IdentityHashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Unmarshall the response into the provided POJO. Members found in the payload are read from the content stream, all other
+     * members (headers, status code) are unmarshalled by the registry in the provided context. Parse failures are reported the
+     * same way as {@link JsonNodeParser#parse(InputStream)}.
+     */
+    @SuppressWarnings("unchecked")
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                             InputStream content,
+                                             JsonUnmarshallerContext context) {
+        readNonPayloadMembers(sdkPojo, context);
+
+        treeParser.read(content, parser -> {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                readStructureMembers(parser, sdkPojo, context);
+            } else if (token != null) {
+                // Not an object, so there is nothing to bind to the members. Consume it the same way the tree parser would.
+                parser.skipChildren();
+            }
+            return null;
+        });
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * Unmarshall the members that are not in the payload (headers, status code) with the registry in the provided context, the
+     * same way the tree based unmarshaller does for every structure.
+     */
+    @SuppressWarnings("unchecked")
+    private static void readNonPayloadMembers(SdkPojo sdkPojo, JsonUnmarshallerContext context) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (!isInPayload(field)) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+    }
+
+    /**
+     * Read the members of the object the parser is currently positioned at (a {@link JsonToken#START_OBJECT}) into the provided
+     * POJO, leaving the parser at the matching {@link JsonToken#END_OBJECT}.
+     */
+    private void readStructureMembers(JsonParser parser, SdkPojo sdkPojo, JsonUnmarshallerContext context) throws IOException {
+        Map<String, SdkField<?>> fields = payloadFieldsByName(sdkPojo);
+        JsonToken token;
+        while ((token = nextToken(parser)) == JsonToken.FIELD_NAME) {
+            SdkField<?> field = fields.get(parser.getCurrentName());
+            JsonToken valueToken = nextToken(parser);
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, readValue(parser, valueToken, field, context));
+            }
+        }
+        expectEndToken(token, JsonToken.END_OBJECT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(JsonParser parser,
+                             JsonToken token,
+                             SdkField<?> field,
+                             JsonUnmarshallerContext context) throws IOException {
+        MarshallingType<?> type = field.marshallingType();
+
+        if (token == JsonToken.VALUE_NULL && type != MarshallingType.DOCUMENT) {
+            return null;
+        }
+
+        if (type == MarshallingType.SDK_POJO) {
+            if (token == JsonToken.START_OBJECT) {
+                SdkPojo pojo = field.constructor().get();
+                readNonPayloadMembers(pojo, context);
+                readStructureMembers(parser, pojo, context);
+                return ((Buildable) pojo).build();
+            }
+        } else if (type == MarshallingType.LIST) {
+            if (token == JsonToken.START_ARRAY) {
+                return readList(parser, field.getTrait(ListTrait.class).memberFieldInfo(), context);
+            }
+        } else if (type == MarshallingType.MAP) {
+            if (token == JsonToken.START_OBJECT) {
+                return readMap(parser, field.getTrait(MapTrait.class).valueFieldInfo(), context);
+            }
+        } else if (type == MarshallingType.SDK_BYTES) {
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                // Binary protocols like CBOR may already have the raw bytes extracted.
+                return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return TO_SDK_BYTES.convert(parser.getText(), (SdkField<SdkBytes>) field);
+            }
+        } else {
+            StringToValueConverter.StringToValue<Object> converter =
+                (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(type);
+            if (converter != null && token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return converter.convert(parser.getText(), (SdkField<Object>) field);
+            }
+        }
+
+        return readValueAsTree(parser, field, context);
+    }
+
+    private List<Object> readList(JsonParser parser,
+                                  SdkField<Object> memberInfo,
+                                  JsonUnmarshallerContext context) throws IOException {
+        List<Object> list = new ArrayList<>();
+        JsonToken token;
+        while ((token = nextToken(parser)) != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, token, memberInfo, context));
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(JsonParser parser,
+                                        SdkField<Object> valueInfo,
+                                        JsonUnmarshallerContext context) throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        JsonToken token;
+        while ((token = nextToken(parser)) == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            map.put(key, readValue(parser, nextToken(parser), valueInfo, context));
+        }
+        expectEndToken(token, JsonToken.END_OBJECT);
+        return map;
+    }
+
+    /**
+     * Advance to the next token, failing if the content ends before the enclosing value is complete. Textual JSON parsers
+     * already fail in that case, but binary formats like CBOR may just report the end of the content.
+     */
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw SdkClientException.create("Unable to unmarshall response: the content ended before the end of the value.");
+        }
+        return token;
+    }
+
+    private static void expectEndToken(JsonToken token, JsonToken expected) {
+        if (token != expected) {
+            throw SdkClientException.create("Unable to unmarshall response: expected " + expected + " but found " + token + ".");
+        }
+    }
+
+    /**
+     * Fallback for values that aren't handled on the token stream: parse the current value into a tree and delegate to the
+     * registered tree based unmarshaller.
+     */
+    @SuppressWarnings("unchecked")
+    private Object readValueAsTree(JsonParser parser, SdkField<?> field, JsonUnmarshallerContext context) throws IOException {
+        JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(MarshallLocation.PAYLOAD, field.marshallingType());
+        return unmarshaller.unmarshall(context, treeParser.parseCurrentValue(parser), (SdkField<Object>) field);
+    }
+
+    private Map<String, SdkField<?>> payloadFieldsByName(SdkPojo sdkPojo) {
+        Map<String, SdkField<?>> fields = payloadFieldsByShape.get(sdkPojo.getClass());
+        if (fields == null) {
+            fields = payloadFieldsByShape.computeIfAbsent(sdkPojo.getClass(), c -> indexPayloadFields(sdkPojo.sdkFields()));
+        }
+        return fields;
+    }
+
+    private static Map<String, SdkField<?>> indexPayloadFields(List<SdkField<?>> sdkFields) {
+        Map<String, SdkField<?>> fields = new HashMap<>();
+        for (SdkField<?> field : sdkFields) {
+            if (isInPayload(field)) {
+                fields.put(field.locationName(), field);
+            }
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * A member being in the URI on a response is nonsensical; when a member is declared to be somewhere in the URI, it should be
+     * found in the payload on response.
+     */
+    private static boolean isInPayload(SdkField<?> field) {
+        return field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.locationInUri(field.location());
+    }
+}
@@ -19,21 +19,27 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -65,6 +71,27 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    /**
+     * Unmarshalls successful responses straight from the parser events. Wrapped lists in EC2 responses don't always use the
+     * modeled member name, so every child of a list is a member, as in {@link ListQueryUnmarshaller}.
+     */
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = XmlStreamingUnmarshaller
+        .builder()
+        .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .converter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .matchListMemberNames(false)
+        .build();
+
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+
     private final boolean hasResultWrapper;
 
     private QueryProtocolUnmarshaller(Builder builder) {
@@ -82,9 +109,51 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
-        XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
-        XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
-        return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
+        Map<String, String> metadata = new HashMap<>();
+        if (response.content().isPresent()) {
+            unmarshallDocument(sdkPojo, response.content().get(), metadata);
+        }
+        return Pair.of((TypeT) build(sdkPojo), metadata);
+    }
+
+    private void unmarshallDocument(SdkPojo sdkPojo, InputStream content, Map<String, String> metadata) {
+        try {
+            XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(content);
+            if (reader == null) {
+                return;
+            }
+            try {
+                unmarshallDocument(sdkPojo, reader, metadata);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads the result and the response metadata from the document element. With a result wrapper the result is the first
+     * child of the document, otherwise it is the document itself and the metadata is mixed in with the result members.
+     */
+    private void unmarshallDocument(SdkPojo sdkPojo, XMLStreamReader reader, Map<String, String> metadata)
+            throws XMLStreamException {
+        if (!hasResultWrapper) {
+            STREAMING_UNMARSHALLER.readStructure(reader, sdkPojo, e -> parseMetadata(e, metadata));
+            return;
+        }
+
+        boolean resultRead = false;
+        while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+            if (!resultRead && !RESPONSE_METADATA.equals(reader.getLocalName())) {
+                STREAMING_UNMARSHALLER.readStructure(reader, sdkPojo, XmlStreamingUnmarshaller::skipElement);
+            } else {
+                parseMetadata(reader, metadata);
+            }
+            resultRead = true;
+        }
     }
 
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
@@ -108,21 +177,22 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
-    private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
-        Map<String, String> metadata = new HashMap<>();
-        if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
-        }
-        XmlElement requestId = document.getElementByName("requestId");
-        if (requestId != null) {
-            metadata.put(AWS_REQUEST_ID, requestId.textContent());
+    private void parseMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if (RESPONSE_METADATA.equals(elementName)) {
+            while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                String keyName = metadataKeyName(reader.getLocalName());
+                metadata.put(keyName, XmlStreamingUnmarshaller.readText(reader));
+            }
+        } else if (REQUEST_ID.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamingUnmarshaller.readText(reader));
+        } else {
+            XmlStreamingUnmarshaller.skipElement(reader);
         }
-        return metadata;
     }
 
-    private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+    private String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -142,6 +212,10 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
@@ -0,0 +1,492 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an XML document directly into {@link SdkPojo} builders as it is read from an {@link XMLStreamReader}, without
+ * first building an {@link XmlElement} tree. Members are matched against the {@link SdkField} metadata of the builder with
+ * the same rules that the DOM based unmarshallers apply to {@link XmlElement}s:
+ *
+ * <ul>
+ *     <li>Scalar and structure members take the first element with a matching name.</li>
+ *     <li>Flattened lists and maps collect every sibling element with a matching name.</li>
+ *     <li>Wrapped maps read their {@code entry} children.</li>
+ *     <li>Wrapped lists read either all children or only the children with the modeled member name, see
+ *     {@link Builder#matchListMemberNames(boolean)}.</li>
+ *     <li>The text content of an element is its last contiguous run of character data.</li>
+ * </ul>
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamingUnmarshaller {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlStreamingUnmarshaller::createXmlInputFactory);
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters;
+    private final boolean matchListMemberNames;
+    private final Map<Class<?>, StructureIndex> structureIndexes = new ConcurrentHashMap<>();
+
+    private XmlStreamingUnmarshaller(Builder builder) {
+        this.converters = builder.converters;
+        this.matchListMemberNames = builder.matchListMemberNames;
+    }
+
+    /**
+     * Creates a reader positioned on the start of the root element of the document.
+     *
+     * @param inputStream Stream containing the XML document.
+     * @return The reader, or null if the stream does not contain an XML document.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) throws IOException, XMLStreamException {
+        LookaheadInputStream stream = new LookaheadInputStream(inputStream);
+        if (stream.peek() == -1) {
+            return null;
+        }
+
+        XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+        while (reader.hasNext()) {
+            if (reader.next() == START_ELEMENT) {
+                return reader;
+            }
+        }
+        reader.close();
+        return null;
+    }
+
+    /**
+     * Advances the reader to the start of the next child of the current element.
+     *
+     * @return True if the reader is positioned on the start of a child element, false if it reached the end of the current
+     * element instead.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                return true;
+            }
+            if (event == END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads the text content of the current element, leaving the reader on its end element. Mirrors
+     * {@link XmlElement#textContent()}, so an element without character data has empty text content.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        String chunk = null;
+        StringBuilder chunks = null;
+        while (true) {
+            int event = reader.next();
+            if (event == CHARACTERS || event == CDATA || event == SPACE) {
+                if (chunk == null) {
+                    chunk = reader.getText();
+                } else {
+                    if (chunks == null) {
+                        chunks = new StringBuilder(chunk);
+                    }
+                    chunks.append(reader.getText());
+                }
+                continue;
+            }
+
+            if (chunk != null) {
+                text = chunks == null ? chunk : chunks.toString();
+                chunk = null;
+                chunks = null;
+            }
+
+            if (event == START_ELEMENT) {
+                skipElement(reader);
+            } else if (event == END_ELEMENT) {
+                return text;
+            }
+        }
+    }
+
+    /**
+     * Skips the current element and all of its children, leaving the reader on its end element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the members of the document element into the given builder. Nothing is read if the stream is empty. The builder
+     * is not built so that callers may populate members from other locations first.
+     *
+     * @param inputStream Stream containing the XML document.
+     * @param sdkPojo Builder to populate.
+     */
+    public void readDocument(InputStream inputStream, SdkPojo sdkPojo) {
+        try {
+            XMLStreamReader reader = createReader(inputStream);
+            if (reader == null) {
+                return;
+            }
+            try {
+                readStructure(reader, sdkPojo, XmlStreamingUnmarshaller::skipElement);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads the members of the structure at the current element into the given builder, leaving the reader on its end
+     * element. The builder is not built so that callers may populate members from other locations first.
+     *
+     * @param reader Reader positioned on the start of the structure element.
+     * @param sdkPojo Builder to populate.
+     * @param unmatchedElementHandler Invoked for children that don't match any member. It must consume the element.
+     */
+    public void readStructure(XMLStreamReader reader,
+                              SdkPojo sdkPojo,
+                              UnmatchedElementHandler unmatchedElementHandler) throws XMLStreamException {
+        StructureIndex index = structureIndexes.computeIfAbsent(sdkPojo.getClass(), c -> new StructureIndex(sdkPojo));
+
+        if (!index.attributes.isEmpty()) {
+            readAttributes(reader, sdkPojo, index);
+        }
+
+        boolean[] seen = null;
+        Object[] flattened = null;
+        while (nextChildElement(reader)) {
+            Member member = index.elements.get(reader.getLocalName());
+            if (member == null) {
+                unmatchedElementHandler.handle(reader);
+                continue;
+            }
+
+            if (member.flattened) {
+                if (flattened == null) {
+                    flattened = new Object[index.elements.size()];
+                }
+                readFlattened(reader, member, flattened);
+                continue;
+            }
+
+            if (seen == null) {
+                seen = new boolean[index.elements.size()];
+            }
+            if (seen[member.ordinal]) {
+                skipElement(reader);
+            } else {
+                seen[member.ordinal] = true;
+                member.field.set(sdkPojo, readValue(reader, member.field));
+            }
+        }
+
+        if (flattened != null) {
+            for (Member member : index.elements.values()) {
+                if (flattened[member.ordinal] != null) {
+                    member.field.set(sdkPojo, flattened[member.ordinal]);
+                }
+            }
+        }
+    }
+
+    private void readAttributes(XMLStreamReader reader, SdkPojo sdkPojo, StructureIndex index) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            SdkField<?> field = index.attributes.get(key);
+            if (field != null) {
+                field.set(sdkPojo, reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readFlattened(XMLStreamReader reader, Member member, Object[] flattened) throws XMLStreamException {
+        if (member.field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = (List<Object>) flattened[member.ordinal];
+            if (list == null) {
+                list = new ArrayList<>();
+                flattened[member.ordinal] = list;
+            }
+            list.add(readValue(reader, member.field.getTrait(ListTrait.class).memberFieldInfo()));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattened[member.ordinal];
+            if (map == null) {
+                map = new HashMap<>();
+                flattened[member.ordinal] = map;
+            }
+            readMapEntry(reader, member.field.getTrait(MapTrait.class), map);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = field.constructor().get();
+            readStructure(reader, sdkPojo, XmlStreamingUnmarshaller::skipElement);
+            return ((Buildable) sdkPojo).build();
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(reader, field.getTrait(ListTrait.class));
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(reader, field.getTrait(MapTrait.class));
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) converters.get(type);
+        if (converter == null) {
+            throw SdkClientException.create(String.format("No marshaller/unmarshaller of type %s registered for location %s.",
+                                                          type, MarshallLocation.PAYLOAD.name()));
+        }
+        return converter.convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    private List<Object> readList(XMLStreamReader reader, ListTrait listTrait) throws XMLStreamException {
+        String memberName = matchListMemberNames ? listMemberName(listTrait) : null;
+        List<Object> list = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (memberName == null || memberName.equals(reader.getLocalName())) {
+                list.add(readValue(reader, listTrait.memberFieldInfo()));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private static String listMemberName(ListTrait listTrait) {
+        return listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                      : listTrait.memberFieldInfo().locationName();
+    }
+
+    private Map<String, Object> readMap(XMLStreamReader reader, MapTrait mapTrait) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                readMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Reads one map entry. Like the tree unmarshallers, a repeated key replaces the value of the earlier entry and an entry
+     * with more than one key or value element is rejected.
+     */
+    private void readMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map) throws XMLStreamException {
+        String entryName = reader.getLocalName();
+        String key = null;
+        Object value = null;
+        boolean keyRead = false;
+        boolean valueRead = false;
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals(mapTrait.keyLocationName())) {
+                keyRead = checkSingleElement(keyRead, name, entryName);
+                key = readText(reader);
+            } else if (name.equals(mapTrait.valueLocationName())) {
+                valueRead = checkSingleElement(valueRead, name, entryName);
+                value = readValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    private static boolean checkSingleElement(boolean alreadyRead, String name, String parentName) {
+        if (alreadyRead) {
+            throw SdkClientException.create(
+                String.format("Did not expect more than one element with the name %s in the XML event %s", name, parentName));
+        }
+        return true;
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Callback for child elements of a structure that don't match any of its members.
+     */
+    @FunctionalInterface
+    public interface UnmatchedElementHandler {
+
+        /**
+         * @param reader Reader positioned on the start of the unmatched element. The handler must leave it on the end of the
+         * same element.
+         */
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Payload members of a structure, keyed by the element or attribute name they are unmarshalled from.
+     */
+    private static final class StructureIndex {
+        private final Map<String, Member> elements;
+        private final Map<String, SdkField<?>> attributes;
+
+        private StructureIndex(SdkPojo sdkPojo) {
+            Map<String, Member> elements = new HashMap<>();
+            Map<String, SdkField<?>> attributes = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                String name = field.unmarshallLocationName();
+                if (field.location() != MarshallLocation.PAYLOAD || name == null) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributes.putIfAbsent(name, field);
+                } else if (!elements.containsKey(name)) {
+                    elements.put(name, new Member(field, elements.size()));
+                }
+            }
+            this.elements = elements;
+            this.attributes = attributes.isEmpty() ? Collections.emptyMap() : attributes;
+        }
+    }
+
+    private static final class Member {
+        private final SdkField<?> field;
+        private final int ordinal;
+        private final boolean flattened;
+
+        private Member(SdkField<?> field, int ordinal) {
+            this.field = field;
+            this.ordinal = ordinal;
+            this.flattened = isFlattened(field);
+        }
+
+        private static boolean isFlattened(SdkField<?> field) {
+            if (field.marshallingType() == MarshallingType.LIST) {
+                return field.getTrait(ListTrait.class).isFlattened();
+            }
+            if (field.marshallingType() == MarshallingType.MAP) {
+                return field.getTrait(MapTrait.class).isFlattened();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Builder for {@link XmlStreamingUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new IdentityHashMap<>();
+        private boolean matchListMemberNames;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for a simple type in the payload.
+         *
+         * @param marshallingType Type of the member.
+         * @param converter Converter from the text content of the element to the member value.
+         * @return This builder for method chaining.
+         */
+        public <T> Builder converter(MarshallingType<T> marshallingType, StringToValueConverter.StringToValue<T> converter) {
+            converters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * @param matchListMemberNames True if only the children of a wrapped list with the modeled member name are list members,
+         * false if every child is a list member regardless of its name.
+         * @return This builder for method chaining.
+         */
+        public Builder matchListMemberNames(boolean matchListMemberNames) {
+            this.matchListMemberNames = matchListMemberNames;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamingUnmarshaller}.
+         */
+        public XmlStreamingUnmarshaller build() {
+            return new XmlStreamingUnmarshaller(this);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlStreamingUnmarshallerTest {
+
+    private static final XmlStreamingUnmarshaller UNMARSHALLER =
+        XmlStreamingUnmarshaller.builder()
+                                .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+                                .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+                                .matchListMemberNames(true)
+                                .build();
+
+    @Test
+    public void simpleXmlDocument_UnmarshalledCorrectly() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <unknownMember><stringMember>ignored</stringMember></unknownMember>"
+                     + " <integerMember>42</integerMember>"
+                     + "</Struct>";
+        TestPojo pojo = readDocument(xml);
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+        assertThat(pojo.integerMember).isEqualTo(42);
+    }
+
+    @Test
+    public void firstElementWithSameName_Wins() {
+        String xml = "<Struct>"
+                     + " <stringMember>valOne</stringMember>"
+                     + " <stringMember>valTwo</stringMember>"
+                     + "</Struct>";
+        assertThat(readDocument(xml).stringMember).isEqualTo("valOne");
+    }
+
+    @Test
+    public void textSplitByCdataAndEntities_Concatenated() {
+        String xml = "<Struct><stringMember>a&amp;b<![CDATA[<c>]]></stringMember></Struct>";
+        assertThat(readDocument(xml).stringMember).isEqualTo("a&b<c>");
+    }
+
+    @Test
+    public void emptyElement_HasEmptyText() {
+        String xml = "<Struct><stringMember/></Struct>";
+        assertThat(readDocument(xml).stringMember).isEmpty();
+    }
+
+    @Test
+    public void wrappedList_OnlyReadsMembersWithModeledName() {
+        String xml = "<Struct>"
+                     + " <listMember><member>valOne</member><other>ignored</other><member>valTwo</member></listMember>"
+                     + "</Struct>";
+        assertThat(readDocument(xml).listMember).containsExactly("valOne", "valTwo");
+    }
+
+    @Test
+    public void flattenedList_CollectsSiblingElements() {
+        String xml = "<Struct>"
+                     + " <flattenedMember>valOne</flattenedMember>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <flattenedMember>valTwo</flattenedMember>"
+                     + "</Struct>";
+        TestPojo pojo = readDocument(xml);
+        assertThat(pojo.flattenedMember).containsExactly("valOne", "valTwo");
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+    }
+
+    @Test
+    public void wrappedMap_DuplicatedKey_SameResultAsTreeUnmarshaller() {
+        String xml = "<Struct>"
+                     + " <mapMember>"
+                     + "  <entry><key>a</key><value>valOne</value></entry>"
+                     + "  <entry><key>b</key><value>valTwo</value></entry>"
+                     + "  <entry><key>a</key><value>valThree</value></entry>"
+                     + " </mapMember>"
+                     + "</Struct>";
+        TestPojo pojo = readDocument(xml);
+        assertThat(pojo.mapMember).containsOnly(entry("a", "valThree"), entry("b", "valTwo"));
+        assertThat(pojo.mapMember).isEqualTo(readTree(xml).mapMember);
+    }
+
+    @Test
+    public void flattenedMap_DuplicatedKey_SameResultAsTreeUnmarshaller() {
+        String xml = "<Struct>"
+                     + " <flattenedMapMember><key>a</key><value>valOne</value></flattenedMapMember>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <flattenedMapMember><key>a</key><value>valTwo</value></flattenedMapMember>"
+                     + "</Struct>";
+        TestPojo pojo = readDocument(xml);
+        assertThat(pojo.flattenedMapMember).containsOnly(entry("a", "valTwo"));
+        assertThat(pojo.flattenedMapMember).isEqualTo(readTree(xml).flattenedMapMember);
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+    }
+
+    @Test
+    public void mapEntryWithRepeatedKeyElement_ThrowsException() {
+        String xml = "<Struct>"
+                     + " <mapMember><entry><key>a</key><key>b</key><value>valOne</value></entry></mapMember>"
+                     + "</Struct>";
+        assertThatThrownBy(() -> readTree(xml)).isInstanceOf(SdkClientException.class);
+        assertThatThrownBy(() -> readDocument(xml))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("more than one element with the name key");
+    }
+
+    @Test
+    public void attributes_UnmarshalledCorrectly() {
+        String xml = "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\"/>";
+        assertThat(readDocument(xml).attributeMember).isEqualTo("foo");
+    }
+
+    @Test
+    public void emptyStream_LeavesMembersUnset() {
+        TestPojo pojo = readDocument("");
+        assertThat(pojo.stringMember).isNull();
+        assertThat(pojo.listMember).isNull();
+    }
+
+    @Test
+    public void invalidXml_ThrowsException() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <stringMember>valOne"
+                     + "</Struct>";
+        assertThatThrownBy(() -> readDocument(xml))
+            .isInstanceOf(SdkClientException.class)
+            .hasCauseInstanceOf(XMLStreamException.class);
+    }
+
+    private static TestPojo readDocument(String xml) {
+        TestPojo pojo = new TestPojo();
+        UNMARSHALLER.readDocument(new StringInputStream(xml), pojo);
+        return pojo;
+    }
+
+    private static TestPojo readTree(String xml) {
+        return QueryProtocolUnmarshaller.builder().build()
+                                        .unmarshall(new TestPojo(),
+                                                    XmlDomParser.parse(new StringInputStream(xml)),
+                                                    SdkHttpFullResponse.builder().statusCode(200).build());
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder()
+                                                .location(MarshallLocation.PAYLOAD)
+                                                .locationName(name)
+                                                .unmarshallLocationName(name)
+                                                .build();
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> null)
+                       .setter((o, v) -> ((TestPojo) o).set(name, v))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private static final SdkField<String> LIST_MEMBER_FIELD = field(MarshallingType.STRING, "member");
+
+        private static final List<SdkField<?>> SDK_FIELDS = Arrays.asList(
+            field(MarshallingType.STRING, "stringMember"),
+            field(MarshallingType.INTEGER, "integerMember"),
+            field(MarshallingType.LIST, "listMember",
+                  ListTrait.builder().memberLocationName("member").memberFieldInfo(LIST_MEMBER_FIELD).build()),
+            field(MarshallingType.LIST, "flattenedMember",
+                  ListTrait.builder().memberFieldInfo(LIST_MEMBER_FIELD).isFlattened(true).build()),
+            field(MarshallingType.MAP, "mapMember", mapTrait(false)),
+            field(MarshallingType.MAP, "flattenedMapMember", mapTrait(true)),
+            field(MarshallingType.STRING, "xsi:type", XmlAttributeTrait.create()));
+
+        private String stringMember;
+        private Integer integerMember;
+        private List<Object> listMember;
+        private List<Object> flattenedMember;
+        private Map<String, Object> mapMember;
+        private Map<String, Object> flattenedMapMember;
+        private String attributeMember;
+
+        private static MapTrait mapTrait(boolean flattened) {
+            return MapTrait.builder()
+                           .keyLocationName("key")
+                           .valueLocationName("value")
+                           .valueFieldInfo(field(MarshallingType.STRING, "value"))
+                           .isFlattened(flattened)
+                           .build();
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public TestPojo build() {
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void set(String name, Object value) {
+            switch (name) {
+                case "stringMember":
+                    stringMember = (String) value;
+                    break;
+                case "integerMember":
+                    integerMember = (Integer) value;
+                    break;
+                case "listMember":
+                    listMember = (List<Object>) value;
+                    break;
+                case "flattenedMember":
+                    flattenedMember = (List<Object>) value;
+                    break;
+                case "mapMember":
+                    mapMember = (Map<String, Object>) value;
+                    break;
+                case "flattenedMapMember":
+                    flattenedMapMember = (Map<String, Object>) value;
+                    break;
+                case "xsi:type":
+                    attributeMember = (String) value;
+                    break;
+                default:
+                    throw new IllegalArgumentException(name);
+            }
+        }
+    }
+}
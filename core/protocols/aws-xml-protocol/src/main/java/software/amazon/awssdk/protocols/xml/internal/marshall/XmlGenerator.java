@@ -15,9 +15,16 @@
 
 package software.amazon.awssdk.protocols.xml.internal.marshall;
 
-import java.io.StringWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.core.MarshallingBuffer;
+import software.amazon.awssdk.protocols.core.MarshallingBufferPool;
 
 /**
  * Wrapper around the {@link XmlWriter} for marshalling requests for XML protocol
@@ -25,25 +32,44 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 @SdkInternalApi
 public final class XmlGenerator {
 
-    private final StringWriter stringWriter;
+    private final MarshallingBuffer buffer;
+    private final Writer writer;
     private final XmlWriter xmlWriter;
+    private ByteBuffer content;
 
-    private XmlGenerator(StringWriter stringWriter, XmlWriter xmlWriter) {
-        this.stringWriter = stringWriter;
-        this.xmlWriter = xmlWriter;
+    private XmlGenerator(MarshallingBuffer buffer, String xmlns) {
+        this.buffer = buffer;
+        this.writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+        this.xmlWriter = new XmlWriter(writer, xmlns);
     }
 
     public static XmlGenerator create(String xmlns) {
-        StringWriter stringWriter = new StringWriter();
-        return new XmlGenerator(stringWriter, new XmlWriter(stringWriter, xmlns));
+        return create(xmlns, MarshallingBufferPool.defaultPool());
+    }
+
+    public static XmlGenerator create(String xmlns, MarshallingBufferPool bufferPool) {
+        return new XmlGenerator(bufferPool.acquire(), xmlns);
     }
 
     public XmlWriter xmlWriter() {
         return xmlWriter;
     }
 
-    public StringWriter stringWriter() {
-        return stringWriter;
+    /**
+     * Returns the UTF-8 encoded document and releases the buffer it was written into.
+     *
+     * @see MarshallingBuffer#finish()
+     */
+    public ByteBuffer getByteBuffer() {
+        if (content == null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw SdkClientException.builder().message("Unable to write XML document").cause(e).build();
+            }
+            content = buffer.finish();
+        }
+        return content.duplicate();
     }
 
     public void startElement(String element) {
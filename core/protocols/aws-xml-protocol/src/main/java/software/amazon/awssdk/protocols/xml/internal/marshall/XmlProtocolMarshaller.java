@@ -20,6 +20,7 @@ import static software.amazon.awssdk.http.Header.CONTENT_TYPE;
 
 import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collections;
@@ -40,7 +41,6 @@ import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter;
 import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
-import software.amazon.awssdk.utils.StringInputStream;
 
 /**
  * Implementation of {@link ProtocolMarshaller} for REST-XML services. This is currently only Cloudfront, Route53,
@@ -110,11 +110,14 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
         // Content may already be set if the payload is binary data.
         if (hasPayloadMembers(pojo) && request.contentStreamProvider() == null
             && marshallerContext.xmlGenerator() != null) {
-            String content = marshallerContext.xmlGenerator().stringWriter().getBuffer().toString();
-
-            if (!content.isEmpty()) {
-                request.contentStreamProvider(() -> new StringInputStream(content));
-                request.putHeader("Content-Length", Integer.toString(content.getBytes(StandardCharsets.UTF_8).length));
+            ByteBuffer content = marshallerContext.xmlGenerator().getByteBuffer();
+
+            if (content.hasRemaining()) {
+                byte[] array = content.array();
+                int offset = content.arrayOffset() + content.position();
+                int length = content.remaining();
+                request.contentStreamProvider(() -> new ByteArrayInputStream(array, offset, length));
+                request.putHeader("Content-Length", Integer.toString(length));
                 setContentTypeHeaderIfNeeded("application/xml");
             }
         }
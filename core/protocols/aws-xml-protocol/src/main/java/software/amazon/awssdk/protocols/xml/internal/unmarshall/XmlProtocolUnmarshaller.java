@@ -38,6 +38,7 @@ import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,6 +50,8 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = createStreamingUnmarshaller();
+
     private XmlProtocolUnmarshaller() {
     }
 
@@ -58,10 +61,49 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) {
+        if (canUnmarshallFromStream(sdkPojo, response)) {
+            return (TypeT) unmarshallFromStream(sdkPojo, response);
+        }
         XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Successful responses whose members are bound to the children of the document element are read straight from the parser
+     * events. Explicit payload members (blobs and structures bound to the whole document) and error responses keep using the
+     * {@link XmlElement} tree.
+     */
+    private boolean canUnmarshallFromStream(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (!response.isSuccessful() || !response.content().isPresent()) {
+            return false;
+        }
+        boolean hasPayloadMembers = false;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isExplicitPayloadMember(field)) {
+                return false;
+            }
+            hasPayloadMembers |= field.location() == MarshallLocation.PAYLOAD;
+        }
+        return hasPayloadMembers;
+    }
+
+    private SdkPojo unmarshallFromStream(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        STREAMING_UNMARSHALLER.readDocument(response.content().get(), sdkPojo);
+        return build(sdkPojo);
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -120,6 +162,10 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
         if (!(sdkPojo instanceof Buildable)) {
             throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
                                        + "Buildable)");
@@ -142,6 +188,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlStreamingUnmarshaller createStreamingUnmarshaller() {
+        return XmlStreamingUnmarshaller
+            .builder()
+            .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .converter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .converter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .matchListMemberNames(true)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Growable buffer that marshallers write request bodies into. Buffers are obtained from a {@link MarshallingBufferPool} and
+ * handed back to it by {@link #finish()}.
+ */
+@SdkProtectedApi
+@NotThreadSafe
+public final class MarshallingBuffer extends OutputStream {
+
+    private final MarshallingBufferPool pool;
+    private byte[] buf;
+    private int count;
+
+    MarshallingBuffer(MarshallingBufferPool pool, int initialCapacity) {
+        this.pool = pool;
+        this.buf = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count] = (byte) b;
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * @return The number of bytes written so far.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return The size of the backing array.
+     */
+    public int capacity() {
+        return buf.length;
+    }
+
+    /**
+     * Returns the bytes written to this buffer and releases it to the pool it was acquired from. The buffer must not be
+     * used afterwards.
+     *
+     * <p>If the pool keeps the buffer for reuse, the content is copied into an array of the exact size. Otherwise the backing
+     * array is handed over without a copy, so the returned buffer may not start at offset zero of its array or span all of it.
+     * In both cases callers own the returned bytes and must not modify them if they are shared with other readers.
+     *
+     * @return Buffer positioned at the start of the content, with a limit at its end.
+     */
+    public ByteBuffer finish() {
+        if (pool.shouldRetain(this)) {
+            ByteBuffer content = ByteBuffer.wrap(Arrays.copyOf(buf, count));
+            count = 0;
+            pool.release(this);
+            return content;
+        }
+
+        ByteBuffer content = ByteBuffer.wrap(buf, 0, count);
+        buf = null;
+        return content;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Request body is larger than the maximum array size.");
+        }
+        if (minCapacity > buf.length) {
+            int newCapacity = Math.max(buf.length << 1, minCapacity);
+            buf = Arrays.copyOf(buf, newCapacity < 0 ? Integer.MAX_VALUE - 8 : newCapacity);
+        }
+    }
+}
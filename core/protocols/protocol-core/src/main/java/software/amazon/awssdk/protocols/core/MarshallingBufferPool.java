@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Source of the {@link MarshallingBuffer}s that request bodies are marshalled into. A buffer is acquired when a request
+ * starts marshalling and released by {@link MarshallingBuffer#finish()} once the body is complete, so that the next request
+ * can reuse its backing array instead of growing a new one.
+ *
+ * <p>Buffers are released when marshalling completes rather than when the HTTP request completes, because the marshalled body
+ * is replayed on retries and may be retained by interceptors after the call finishes.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public abstract class MarshallingBufferPool {
+
+    static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    /**
+     * Buffers that grew beyond this size are not retained by {@link #striped()}, so that a few large requests do not pin
+     * memory for the lifetime of the pool. Their content is handed over without a copy instead.
+     */
+    static final int DEFAULT_MAX_RETAINED_CAPACITY = 128 * 1024;
+
+    private static final MarshallingBufferPool UNPOOLED = new Unpooled();
+    private static final MarshallingBufferPool STRIPED = new Striped(Runtime.getRuntime().availableProcessors() * 2,
+                                                                     DEFAULT_MAX_RETAINED_CAPACITY);
+
+    /**
+     * @return A new or reused buffer with no content.
+     */
+    public abstract MarshallingBuffer acquire();
+
+    /**
+     * @return True if the buffer will be kept for reuse when it is released.
+     */
+    protected abstract boolean shouldRetain(MarshallingBuffer buffer);
+
+    /**
+     * Returns an empty buffer for which {@link #shouldRetain(MarshallingBuffer)} returned true to the pool.
+     */
+    protected abstract void release(MarshallingBuffer buffer);
+
+    /**
+     * Creates a new buffer that is released to this pool.
+     *
+     * @param initialCapacity Initial size of the backing array.
+     */
+    protected final MarshallingBuffer newBuffer(int initialCapacity) {
+        return new MarshallingBuffer(this, initialCapacity);
+    }
+
+    /**
+     * @return A pool that never reuses buffers. Every request body is marshalled into a new buffer and handed over without
+     * a copy.
+     */
+    public static MarshallingBufferPool unpooled() {
+        return UNPOOLED;
+    }
+
+    /**
+     * @return The shared pool that keeps a small number of buffers in slots selected by the current thread. This works
+     * for platform and virtual threads alike, since buffers are not tied to the lifetime of a thread.
+     */
+    public static MarshallingBufferPool striped() {
+        return STRIPED;
+    }
+
+    /**
+     * @return The pool used by marshallers that were not configured with one.
+     */
+    public static MarshallingBufferPool defaultPool() {
+        return STRIPED;
+    }
+
+    private static final class Unpooled extends MarshallingBufferPool {
+
+        @Override
+        public MarshallingBuffer acquire() {
+            return newBuffer(DEFAULT_INITIAL_CAPACITY);
+        }
+
+        @Override
+        protected boolean shouldRetain(MarshallingBuffer buffer) {
+            return false;
+        }
+
+        @Override
+        protected void release(MarshallingBuffer buffer) {
+        }
+    }
+
+    static final class Striped extends MarshallingBufferPool {
+        private final AtomicReferenceArray<MarshallingBuffer> slots;
+        private final int mask;
+        private final int maxRetainedCapacity;
+
+        Striped(int minSlots, int maxRetainedCapacity) {
+            int slotCount = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1;
+            this.slots = new AtomicReferenceArray<>(slotCount);
+            this.mask = slotCount - 1;
+            this.maxRetainedCapacity = maxRetainedCapacity;
+        }
+
+        @Override
+        public MarshallingBuffer acquire() {
+            MarshallingBuffer buffer = slots.getAndSet(slot(), null);
+            return buffer != null ? buffer : newBuffer(DEFAULT_INITIAL_CAPACITY);
+        }
+
+        @Override
+        protected boolean shouldRetain(MarshallingBuffer buffer) {
+            return buffer.capacity() <= maxRetainedCapacity;
+        }
+
+        @Override
+        protected void release(MarshallingBuffer buffer) {
+            slots.compareAndSet(slot(), null, buffer);
+        }
+
+        private int slot() {
+            long id = Thread.currentThread().getId();
+            int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class MarshallingBufferPoolTest {
+
+    @Test
+    public void finish_ReturnsWrittenBytes() {
+        MarshallingBuffer buffer = new MarshallingBufferPool.Striped(1, 1024).acquire();
+        buffer.write('{');
+        buffer.write("\"a\":1}".getBytes(StandardCharsets.UTF_8), 0, 6);
+
+        ByteBuffer content = buffer.finish();
+        assertThat(new String(BinaryUtils.copyBytesFrom(content), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    public void striped_SmallBufferIsCopiedAndReused() {
+        MarshallingBufferPool pool = new MarshallingBufferPool.Striped(1, 4096);
+        MarshallingBuffer buffer = pool.acquire();
+        buffer.write(new byte[10], 0, 10);
+
+        ByteBuffer content = buffer.finish();
+        assertThat(content.array()).hasSize(10);
+        assertThat(pool.acquire()).isSameAs(buffer);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    public void striped_LargeBufferIsHandedOverWithoutCopy() {
+        MarshallingBufferPool pool = new MarshallingBufferPool.Striped(1, 1024);
+        MarshallingBuffer buffer = pool.acquire();
+        buffer.write(new byte[3000], 0, 3000);
+
+        ByteBuffer content = buffer.finish();
+        assertThat(content.remaining()).isEqualTo(3000);
+        assertThat(content.array().length).isGreaterThanOrEqualTo(3000);
+        assertThat(pool.acquire()).isNotSameAs(buffer);
+    }
+
+    @Test
+    public void unpooled_NeverReusesBuffers() {
+        MarshallingBufferPool pool = MarshallingBufferPool.unpooled();
+        MarshallingBuffer buffer = pool.acquire();
+        buffer.write(1);
+        buffer.finish();
+        assertThat(pool.acquire()).isNotSameAs(buffer);
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.regions.providers;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -37,6 +39,11 @@ public final class InstanceProfileRegionProvider implements AwsRegionProvider {
      */
     private volatile String region;
 
+    /**
+     * Guards the instance metadata lookup, which makes an HTTP call and so shouldn't be done while holding a monitor.
+     */
+    private final Lock regionLock = new ReentrantLock();
+
     @Override
     public Region getRegion() throws SdkClientException {
         if (SdkSystemSetting.AWS_EC2_METADATA_DISABLED.getBooleanValueOrThrow()) {
@@ -47,10 +54,13 @@ public final class InstanceProfileRegionProvider implements AwsRegionProvider {
         }
 
         if (region == null) {
-            synchronized (this) {
+            regionLock.lock();
+            try {
                 if (region == null) {
                     this.region = tryDetectRegion();
                 }
+            } finally {
+                regionLock.unlock();
             }
         }
 
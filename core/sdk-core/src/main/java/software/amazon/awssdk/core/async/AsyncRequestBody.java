@@ -26,6 +26,7 @@ import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.internal.async.ByteArrayAsyncRequestBody;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
+import software.amazon.awssdk.core.internal.async.MappedFileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.utils.BinaryUtils;
 
@@ -114,6 +115,49 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
         return FileAsyncRequestBody.builder().path(file.toPath()).build();
     }
 
+    /**
+     * Creates an {@link AsyncRequestBody} that produces data from a region of a file. Several bodies may share the same file,
+     * for example to send the parts of a multipart upload. See {@link FileAsyncRequestBody#builder} to create a customized
+     * body implementation.
+     *
+     * @param path Path to file to read from.
+     * @param position The position in the file at which the content starts.
+     * @param numBytesToRead The number of bytes to read, starting at {@code position}.
+     * @return Implementation of {@link AsyncRequestBody} that reads data from the specified region of the file.
+     * @see FileAsyncRequestBody
+     */
+    static AsyncRequestBody fromFile(Path path, long position, long numBytesToRead) {
+        return FileAsyncRequestBody.builder().path(path).position(position).numBytesToRead(numBytesToRead).build();
+    }
+
+    /**
+     * Creates an {@link AsyncRequestBody} that produces data from the contents of a file by memory-mapping it, so the data is
+     * not copied onto the heap. HTTP clients that support it may also send the file directly, for example the Netty client
+     * uses {@code sendfile} on plaintext HTTP/1.1 connections. See {@link MappedFileAsyncRequestBody#builder} to create a
+     * customized body implementation.
+     *
+     * @param path Path to file to read from.
+     * @return Implementation of {@link AsyncRequestBody} that reads data from the specified file.
+     * @see MappedFileAsyncRequestBody
+     */
+    static AsyncRequestBody fromMappedFile(Path path) {
+        return MappedFileAsyncRequestBody.builder().path(path).build();
+    }
+
+    /**
+     * Creates an {@link AsyncRequestBody} that produces data from a region of a file by memory-mapping it. See
+     * {@link #fromMappedFile(Path)} and {@link #fromFile(Path, long, long)}.
+     *
+     * @param path Path to file to read from.
+     * @param position The position in the file at which the content starts.
+     * @param numBytesToRead The number of bytes to read, starting at {@code position}.
+     * @return Implementation of {@link AsyncRequestBody} that reads data from the specified region of the file.
+     * @see MappedFileAsyncRequestBody
+     */
+    static AsyncRequestBody fromMappedFile(Path path, long position, long numBytesToRead) {
+        return MappedFileAsyncRequestBody.builder().path(path).position(position).numBytesToRead(numBytesToRead).build();
+    }
+
     /**
      * Creates an {@link AsyncRequestBody} that uses a single string as data.
      *
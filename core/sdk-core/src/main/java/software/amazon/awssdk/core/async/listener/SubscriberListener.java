@@ -15,10 +15,12 @@
 
 package software.amazon.awssdk.core.async.listener;
 
+import java.nio.ByteBuffer;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -56,13 +58,19 @@ public interface SubscriberListener<T> {
 
     /**
      * Wrap a {@link Subscriber} with a new one that will notify a {@link SubscriberListener} of important events occurring.
+     * A {@link ReleasableBufferSubscriber} stays releasable once wrapped.
      */
+    @SuppressWarnings("unchecked")
     static <T> Subscriber<T> wrap(Subscriber<? super T> delegate, SubscriberListener<? super T> listener) {
+        if (delegate instanceof ReleasableBufferSubscriber) {
+            return (Subscriber<T>) new ReleasableNotifyingSubscriber((ReleasableBufferSubscriber) delegate,
+                                                                     (SubscriberListener<? super ByteBuffer>) listener);
+        }
         return new NotifyingSubscriber<>(delegate, listener);
     }
 
     @SdkInternalApi
-    final class NotifyingSubscriber<T> implements Subscriber<T> {
+    class NotifyingSubscriber<T> implements Subscriber<T> {
         private static final Logger log = Logger.loggerFor(NotifyingSubscriber.class);
 
         private final Subscriber<? super T> delegate;
@@ -125,4 +133,27 @@ public interface SubscriberListener<T> {
             }
         }
     }
+
+    /**
+     * A {@link NotifyingSubscriber} that hands pooled buffers and their release hooks straight to a
+     * {@link ReleasableBufferSubscriber}.
+     */
+    @SdkInternalApi
+    final class ReleasableNotifyingSubscriber extends NotifyingSubscriber<ByteBuffer> implements ReleasableBufferSubscriber {
+        private final ReleasableBufferSubscriber releasableDelegate;
+        private final SubscriberListener<? super ByteBuffer> releasableListener;
+
+        ReleasableNotifyingSubscriber(ReleasableBufferSubscriber delegate,
+                                      SubscriberListener<? super ByteBuffer> listener) {
+            super(delegate, listener);
+            this.releasableDelegate = delegate;
+            this.releasableListener = listener;
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer, Runnable releaseHook) {
+            invoke(() -> releasableListener.subscriberOnNext(buffer), "subscriberOnNext");
+            releasableDelegate.onNext(buffer, releaseHook);
+        }
+    }
 }
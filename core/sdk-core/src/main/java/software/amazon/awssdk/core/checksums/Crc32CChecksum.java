@@ -17,81 +17,101 @@ package software.amazon.awssdk.core.checksums;
 
 import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
 
-import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+import software.amazon.awssdk.core.internal.checksums.factory.CrcChecksumProvider;
+import software.amazon.awssdk.core.internal.checksums.factory.CrcCombiner;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum.
+ *
+ * <p>The fastest available CRC32C implementation is selected by {@link CrcChecksumProvider}. Not all of them can be cloned,
+ * so {@link #mark(int)} records the value so far and restarts the underlying checksum, and {@link #getValue()} combines the
+ * two with {@link CrcCombiner}.
  */
 @SdkInternalApi
 public class Crc32CChecksum implements SdkChecksum {
 
-    private Checksum crc32c;
-    private Checksum lastMarkedCrc32C;
-    private final boolean isCrtBasedChecksum;
+    private final Checksum crc32c;
+
+    /**
+     * The value of the checksum at the last mark, and whether a mark was set after any data was read.
+     */
+    private long markedValue;
+    private boolean hasMarkedValue;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * The number of bytes given to {@link #crc32c} since the last mark.
      */
+    private long lengthSinceMark;
+
     public Crc32CChecksum() {
-        crc32c = CrtBasedChecksumProvider.createCrc32C();
-        isCrtBasedChecksum = crc32c != null;
-        if (!isCrtBasedChecksum) {
-            crc32c = SdkCrc32C.create();
-        }
+        crc32c = CrcChecksumProvider.createCrc32C();
+    }
+
+    /**
+     * Combines the CRC32C of two consecutive blocks of data into the CRC32C of their concatenation.
+     *
+     * @param crc1 The CRC32C of the first block.
+     * @param crc2 The CRC32C of the second block.
+     * @param length2 The length in bytes of the second block.
+     * @return The CRC32C of the first block followed by the second block.
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return CrcCombiner.CRC32C.combine(crc1, crc2, length2);
     }
 
     @Override
     public byte[] getChecksumBytes() {
-        return Arrays.copyOfRange(longToByte(crc32c.getValue()), 4, 8);
+        return Arrays.copyOfRange(longToByte(getValue()), 4, 8);
     }
 
-
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32C = cloneChecksum(crc32c);
+        if (lengthSinceMark > 0) {
+            markedValue = getValue();
+            hasMarkedValue = true;
+            crc32c.reset();
+            lengthSinceMark = 0;
+        }
     }
 
     @Override
     public void update(int b) {
         crc32c.update(b);
+        lengthSinceMark++;
     }
 
     @Override
     public void update(byte[] b, int off, int len) {
         crc32c.update(b, off, len);
+        lengthSinceMark += len;
     }
 
     @Override
-    public long getValue() {
-        return crc32c.getValue();
+    public void update(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (CrcChecksumProvider.update(crc32c, buffer)) {
+            // Checksums direct buffers, such as memory mapped file parts, without copying them to the heap.
+            lengthSinceMark += length;
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
     }
 
     @Override
-    public void reset() {
-        if (lastMarkedCrc32C == null) {
-            crc32c.reset();
-        } else {
-            crc32c = cloneChecksum(lastMarkedCrc32C);
+    public long getValue() {
+        if (!hasMarkedValue) {
+            return crc32c.getValue();
         }
+        return combine(markedValue, crc32c.getValue(), lengthSinceMark);
     }
 
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (isCrtBasedChecksum) {
-            try {
-                Method method = checksum.getClass().getDeclaredMethod("clone");
-                return (Checksum) method.invoke(checksum);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
-            }
-        } else {
-            return (Checksum) ((SdkCrc32C) checksum).clone();
-
-        }
+    @Override
+    public void reset() {
+        crc32c.reset();
+        lengthSinceMark = 0;
     }
-}
\ No newline at end of file
+}
@@ -17,78 +17,102 @@ package software.amazon.awssdk.core.checksums;
 
 import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
 
-import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32;
+import software.amazon.awssdk.core.internal.checksums.factory.CrcChecksumProvider;
+import software.amazon.awssdk.core.internal.checksums.factory.CrcCombiner;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32 checksum.
+ *
+ * <p>The fastest available CRC32 implementation is selected by {@link CrcChecksumProvider}. Not all of them can be cloned,
+ * so {@link #mark(int)} records the value so far and restarts the underlying checksum, and {@link #getValue()} combines the
+ * two with {@link CrcCombiner}.
  */
 @SdkInternalApi
 public class Crc32Checksum implements SdkChecksum {
 
-    private Checksum crc32;
-    private Checksum lastMarkedCrc32;
-    private final boolean isCrtBasedChecksum;
+    private final Checksum crc32;
+
+    /**
+     * The value of the checksum at the last mark, and whether a mark was set after any data was read.
+     */
+    private long markedValue;
+    private boolean hasMarkedValue;
 
     /**
-     * Creates CRT Based Crc32 checksum if Crt classpath for Crc32 is loaded, else create Sdk Implemented Crc32.
+     * The number of bytes given to {@link #crc32} since the last mark.
      */
+    private long lengthSinceMark;
+
     public Crc32Checksum() {
-        crc32 = CrtBasedChecksumProvider.createCrc32();
-        isCrtBasedChecksum = crc32 != null;
-        if (!isCrtBasedChecksum) {
-            crc32 = SdkCrc32.create();
-        }
+        crc32 = CrcChecksumProvider.createCrc32();
+    }
+
+    /**
+     * Combines the CRC32 of two consecutive blocks of data into the CRC32 of their concatenation.
+     *
+     * @param crc1 The CRC32 of the first block.
+     * @param crc2 The CRC32 of the second block.
+     * @param length2 The length in bytes of the second block.
+     * @return The CRC32 of the first block followed by the second block.
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return CrcCombiner.CRC32.combine(crc1, crc2, length2);
     }
 
     @Override
     public byte[] getChecksumBytes() {
-        return Arrays.copyOfRange(longToByte(crc32.getValue()), 4, 8);
+        return Arrays.copyOfRange(longToByte(getValue()), 4, 8);
     }
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32 = cloneChecksum(crc32);
+        if (lengthSinceMark > 0) {
+            markedValue = getValue();
+            hasMarkedValue = true;
+            crc32.reset();
+            lengthSinceMark = 0;
+        }
     }
 
     @Override
     public void update(int b) {
         crc32.update(b);
+        lengthSinceMark++;
     }
 
     @Override
     public void update(byte[] b, int off, int len) {
         crc32.update(b, off, len);
+        lengthSinceMark += len;
     }
 
     @Override
-    public long getValue() {
-        return crc32.getValue();
+    public void update(ByteBuffer buffer) {
+        if (crc32 instanceof CRC32) {
+            // Checksums direct buffers, such as memory mapped file parts, without copying them to the heap.
+            lengthSinceMark += buffer.remaining();
+            ((CRC32) crc32).update(buffer);
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
     }
 
     @Override
-    public void reset() {
-        if ((lastMarkedCrc32 == null)) {
-            crc32.reset();
-        } else {
-            crc32 = cloneChecksum(lastMarkedCrc32);
+    public long getValue() {
+        if (!hasMarkedValue) {
+            return crc32.getValue();
         }
+        return combine(markedValue, crc32.getValue(), lengthSinceMark);
     }
 
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (isCrtBasedChecksum) {
-            try {
-                Method method = checksum.getClass().getDeclaredMethod("clone");
-                return (Checksum) method.invoke(checksum);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
-            }
-        } else {
-            return (Checksum) ((SdkCrc32) checksum).clone();
-        }
+    @Override
+    public void reset() {
+        crc32.reset();
+        lengthSinceMark = 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Computes the checksums of the parts of a multipart upload, independently and in parallel, and composes the checksum of
+ * the whole object from them once every part is known.
+ *
+ * <p>Two object checksums can be composed:
+ * <ul>
+ *     <li>{@link #compositeChecksum()}, the checksum of the concatenated binary part checksums followed by
+ *     {@code -<number of parts>}, which is what S3 reports for a multipart object and can be computed for any
+ *     {@link Algorithm}.</li>
+ *     <li>{@link #fullObjectChecksum()}, the checksum of the object as if it had been uploaded in one piece. It is only
+ *     available for CRC algorithms, whose part checksums can be combined without reading the data again.</li>
+ * </ul>
+ *
+ * <p>Part checksums are computed on the configured executor, the common {@link ForkJoinPool} by default, so that checksum
+ * computation for many concurrently uploading parts is spread over all cores instead of running on the threads that
+ * publish the data.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class MultipartChecksumCalculator {
+
+    private final Algorithm algorithm;
+    private final Executor executor;
+    private final ConcurrentNavigableMap<Integer, PartChecksum> parts = new ConcurrentSkipListMap<>();
+
+    private MultipartChecksumCalculator(DefaultBuilder builder) {
+        this.algorithm = Validate.paramNotNull(builder.algorithm, "algorithm");
+        this.executor = builder.executor != null ? builder.executor : ForkJoinPool.commonPool();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * @return The algorithm used for the part and object checksums.
+     */
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Computes the checksum of a part on the executor and records it.
+     *
+     * @param partNumber The number of the part, starting at 1.
+     * @param partData The data of the part. Its position is not modified, and it must not be modified until the returned
+     *                 future completes.
+     * @return A future completed with the base64 encoded checksum of the part, as sent with the part upload.
+     */
+    public CompletableFuture<String> calculatePartChecksum(int partNumber, ByteBuffer partData) {
+        validatePartNumber(partNumber);
+        ByteBuffer data = partData.duplicate();
+        return CompletableFuture.supplyAsync(() -> {
+            long length = data.remaining();
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(data);
+            byte[] checksumBytes = checksum.getChecksumBytes();
+            addPartChecksum(partNumber, checksumBytes, length);
+            return BinaryUtils.toBase64(checksumBytes);
+        }, executor);
+    }
+
+    /**
+     * Records the checksum of a part that was computed elsewhere, for example while the part was being streamed.
+     *
+     * @param partNumber The number of the part, starting at 1.
+     * @param checksum The binary checksum of the part, as returned by {@link SdkChecksum#getChecksumBytes()}.
+     * @param partLength The length of the part in bytes.
+     */
+    public void addPartChecksum(int partNumber, byte[] checksum, long partLength) {
+        validatePartNumber(partNumber);
+        Validate.paramNotNull(checksum, "checksum");
+        Validate.isNotNegative(partLength, "partLength");
+        parts.put(partNumber, new PartChecksum(checksum.clone(), partLength));
+    }
+
+    /**
+     * @return The checksum of the concatenated part checksums, base64 encoded and followed by {@code -<number of parts>}.
+     * @throws IllegalStateException If no part was recorded or the recorded part numbers are not consecutive from 1.
+     */
+    public String compositeChecksum() {
+        validateParts();
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        for (PartChecksum part : parts.values()) {
+            checksum.update(part.checksum);
+        }
+        return BinaryUtils.toBase64(checksum.getChecksumBytes()) + "-" + parts.size();
+    }
+
+    /**
+     * @return The base64 encoded checksum of the whole object, combined from the part checksums, or empty if the algorithm
+     * is not a CRC.
+     * @throws IllegalStateException If no part was recorded or the recorded part numbers are not consecutive from 1.
+     */
+    public Optional<String> fullObjectChecksum() {
+        if (algorithm != Algorithm.CRC32 && algorithm != Algorithm.CRC32C) {
+            return Optional.empty();
+        }
+        validateParts();
+        long crc = 0;
+        for (PartChecksum part : parts.values()) {
+            long partCrc = toCrc(part.checksum);
+            crc = algorithm == Algorithm.CRC32 ? Crc32Checksum.combine(crc, partCrc, part.length)
+                                               : Crc32CChecksum.combine(crc, partCrc, part.length);
+        }
+        byte[] crcBytes = {(byte) (crc >>> 24), (byte) (crc >>> 16), (byte) (crc >>> 8), (byte) crc};
+        return Optional.of(BinaryUtils.toBase64(crcBytes));
+    }
+
+    private void validateParts() {
+        Validate.validState(!parts.isEmpty(), "No part checksums have been recorded.");
+        int expectedPartNumber = 1;
+        for (Map.Entry<Integer, PartChecksum> entry : parts.entrySet()) {
+            Validate.validState(entry.getKey() == expectedPartNumber,
+                                "The checksum of part %s has not been recorded.", expectedPartNumber);
+            expectedPartNumber++;
+        }
+    }
+
+    private static void validatePartNumber(int partNumber) {
+        Validate.isPositive(partNumber, "partNumber");
+    }
+
+    private static long toCrc(byte[] checksum) {
+        long crc = 0;
+        for (byte b : checksum) {
+            crc = (crc << 8) | (b & 0xFF);
+        }
+        return crc;
+    }
+
+    private static final class PartChecksum {
+        private final byte[] checksum;
+        private final long length;
+
+        private PartChecksum(byte[] checksum, long length) {
+            this.checksum = checksum;
+            this.length = length;
+        }
+    }
+
+    public interface Builder extends SdkBuilder<Builder, MultipartChecksumCalculator> {
+
+        /**
+         * Sets the checksum algorithm.
+         * @param algorithm algorithm that is used to compute the part and object checksums.
+         * @return This builder for method chaining.
+         */
+        Builder algorithm(Algorithm algorithm);
+
+        /**
+         * Sets the executor on which part checksums are computed. Defaults to {@link ForkJoinPool#commonPool()}.
+         * @param executor executor for checksum computation.
+         * @return This builder for method chaining.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Algorithm algorithm;
+        private Executor executor;
+
+        @Override
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public MultipartChecksumCalculator build() {
+            return new MultipartChecksumCalculator(this);
+        }
+    }
+}
@@ -20,12 +20,12 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
-import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
@@ -65,7 +65,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
-    static class BaosSubscriber implements Subscriber<ByteBuffer> {
+    static class BaosSubscriber implements ReleasableBufferSubscriber {
         private final CompletableFuture<byte[]> resultFuture;
 
         private ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -92,6 +92,16 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
             subscription.request(1);
         }
 
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable releaseHook) {
+            try {
+                invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            } finally {
+                releaseHook.run();
+            }
+            subscription.request(1);
+        }
+
         @Override
         public void onError(Throwable throwable) {
             baos = null;
@@ -15,14 +15,17 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.CRLF;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.HEADER_COLON_SEPARATOR;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.ZERO_BYTE;
 import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.calculateChecksumContentLength;
 import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.calculateChunkLength;
-import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.createChecksumTrailer;
-import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.createChunk;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeAscii;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeChunkSize;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeCrlf;
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -37,16 +40,19 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 /**
  * Wrapper class to wrap an AsyncRequestBody.
  * This will read the data in chunk format and append Checksum as trailer at the end.
+ * <p>
+ * The content is sent as a single chunk. The chunk header is written in front of the first buffer and the final chunk and
+ * checksum trailer after the last one, using the same in place encoding as {@code AwsChunkedEncodingInputStream}; the
+ * buffers in between are passed through without being copied.
  */
 @SdkInternalApi
 public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
-    public static final byte[] FINAL_BYTE = new byte[0];
     private final AsyncRequestBody wrapped;
     private final SdkChecksum sdkChecksum;
     private final Algorithm algorithm;
     private final String trailerHeader;
-    private final AtomicLong remainingBytes;
+    private final long totalBytes;
 
     private ChecksumCalculatingAsyncRequestBody(DefaultBuilder builder) {
 
@@ -57,8 +63,8 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         this.algorithm = builder.algorithm;
         this.sdkChecksum = builder.algorithm != null ? SdkChecksum.forAlgorithm(algorithm) : null;
         this.trailerHeader = builder.trailerHeader;
-        this.remainingBytes = new AtomicLong(wrapped.contentLength()
-                .orElseThrow(() -> new UnsupportedOperationException("Content length must be supplied.")));
+        this.totalBytes = wrapped.contentLength()
+                .orElseThrow(() -> new UnsupportedOperationException("Content length must be supplied."));
     }
 
     /**
@@ -148,7 +154,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         if (sdkChecksum != null) {
             sdkChecksum.reset();
         }
-        wrapped.subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, remainingBytes));
+        wrapped.subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, totalBytes));
     }
 
     private static final class ChecksumCalculatingSubscriber implements Subscriber<ByteBuffer> {
@@ -156,17 +162,21 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private final Subscriber<? super ByteBuffer> wrapped;
         private final SdkChecksum checksum;
         private final String trailerHeader;
+        private final long totalBytes;
+        private long remainingBytes;
+        private boolean chunkHeaderWritten;
+        private boolean chunkTerminated;
         private byte[] checksumBytes;
-        private final AtomicLong remainingBytes;
         private Subscription subscription;
 
         ChecksumCalculatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
                                       SdkChecksum checksum,
-                                      String trailerHeader, AtomicLong remainingBytes) {
+                                      String trailerHeader, long totalBytes) {
             this.wrapped = wrapped;
             this.checksum = checksum;
             this.trailerHeader = trailerHeader;
-            this.remainingBytes = remainingBytes;
+            this.totalBytes = totalBytes;
+            this.remainingBytes = totalBytes;
         }
 
         @Override
@@ -177,17 +187,22 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            boolean lastByte = this.remainingBytes.addAndGet(-byteBuffer.remaining()) <= 0;
+            remainingBytes -= byteBuffer.remaining();
+            boolean firstByte = !chunkHeaderWritten;
+            boolean lastByte = remainingBytes <= 0 && !chunkTerminated;
             try {
                 if (checksum != null) {
                     byteBuffer.mark();
                     checksum.update(byteBuffer);
                     byteBuffer.reset();
                 }
-                if (lastByte && checksumBytes == null && checksum != null) {
+                if (lastByte && checksum != null) {
                     checksumBytes = checksum.getChecksumBytes();
-                    ByteBuffer allocatedBuffer = getFinalChecksumAppendedChunk(byteBuffer);
-                    wrapped.onNext(allocatedBuffer);
+                }
+                if (firstByte || lastByte) {
+                    chunkHeaderWritten = true;
+                    chunkTerminated = lastByte;
+                    wrapped.onNext(encode(byteBuffer, firstByte, lastByte));
                 } else {
                     wrapped.onNext(byteBuffer);
                 }
@@ -197,22 +212,41 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             }
         }
 
-        private ByteBuffer getFinalChecksumAppendedChunk(ByteBuffer byteBuffer) {
-            ByteBuffer finalChunkedByteBuffer = createChunk(ByteBuffer.wrap(FINAL_BYTE), true);
-            ByteBuffer checksumTrailerByteBuffer = createChecksumTrailer(
-                    BinaryUtils.toBase64(checksumBytes), trailerHeader);
-            ByteBuffer contentChunk = createChunk(byteBuffer, false);
-
-            ByteBuffer checksumAppendedBuffer = ByteBuffer.allocate(
-                    contentChunk.remaining()
-                    + finalChunkedByteBuffer.remaining()
-                    + checksumTrailerByteBuffer.remaining());
-            checksumAppendedBuffer
-                    .put(contentChunk)
-                    .put(finalChunkedByteBuffer)
-                    .put(checksumTrailerByteBuffer);
-            checksumAppendedBuffer.flip();
-            return checksumAppendedBuffer;
+        /**
+         * Frames the buffer with the chunk header when it is the first one, and with the end of the chunk, the final chunk
+         * and the checksum trailer when it is the last one.
+         */
+        private ByteBuffer encode(ByteBuffer byteBuffer, boolean firstByte, boolean lastByte) {
+            String checksum = lastByte && checksumBytes != null ? BinaryUtils.toBase64(checksumBytes) : null;
+            int prefixLength = firstByte ? Long.toHexString(totalBytes).length() + CRLF.length() : 0;
+            int suffixLength = lastByte ? CRLF.length() + ZERO_BYTE.length() + CRLF.length() : 0;
+            if (checksum != null) {
+                suffixLength += trailerHeader.length() + HEADER_COLON_SEPARATOR.length() + checksum.length()
+                                + CRLF.length() + CRLF.length();
+            }
+
+            byte[] encoded = new byte[prefixLength + byteBuffer.remaining() + suffixLength];
+            int position = 0;
+            if (firstByte) {
+                position = writeChunkSize(totalBytes, encoded, position);
+                position = writeCrlf(encoded, position);
+            }
+            int dataLength = byteBuffer.remaining();
+            byteBuffer.duplicate().get(encoded, position, dataLength);
+            position += dataLength;
+            if (lastByte) {
+                position = writeCrlf(encoded, position);
+                position = writeChunkSize(0, encoded, position);
+                position = writeCrlf(encoded, position);
+                if (checksum != null) {
+                    position = writeAscii(trailerHeader, encoded, position);
+                    position = writeAscii(HEADER_COLON_SEPARATOR, encoded, position);
+                    position = writeAscii(checksum, encoded, position);
+                    position = writeCrlf(encoded, position);
+                    writeCrlf(encoded, position);
+                }
+            }
+            return ByteBuffer.wrap(encoded);
         }
 
         @Override
@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
@@ -46,7 +47,12 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
-        publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, expectedChecksum));
+        if (s instanceof ReleasableBufferSubscriber) {
+            publisher.subscribe(new ReleasableChecksumValidatingSubscriber((ReleasableBufferSubscriber) s, sdkChecksum,
+                                                                           expectedChecksum));
+        } else {
+            publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, expectedChecksum));
+        }
     }
 
     private static class ChecksumValidatingSubscriber implements Subscriber<ByteBuffer> {
@@ -71,13 +77,17 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            updateChecksum(byteBuffer);
+            wrapped.onNext(byteBuffer);
+        }
+
+        protected void updateChecksum(ByteBuffer byteBuffer) {
             byteBuffer.mark();
             try {
                 sdkChecksum.update(byteBuffer);
             } finally {
                 byteBuffer.reset();
             }
-            wrapped.onNext(byteBuffer);
         }
 
         @Override
@@ -101,4 +111,26 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
         }
     }
 
+    /**
+     * Validates the checksum of buffers that are still owned by the HTTP client, and passes them on to a subscriber that
+     * releases them, instead of having them copied.
+     */
+    private static final class ReleasableChecksumValidatingSubscriber extends ChecksumValidatingSubscriber
+        implements ReleasableBufferSubscriber {
+
+        private final ReleasableBufferSubscriber releasableWrapped;
+
+        ReleasableChecksumValidatingSubscriber(ReleasableBufferSubscriber wrapped,
+                                               SdkChecksum sdkChecksum,
+                                               String expectedChecksum) {
+            super(wrapped, sdkChecksum, expectedChecksum);
+            this.releasableWrapped = wrapped;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable releaseHook) {
+            updateChecksum(byteBuffer);
+            releasableWrapped.onNext(byteBuffer, releaseHook);
+        }
+    }
 }
@@ -59,7 +59,15 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private final Path path;
 
-    private final long fileLength;
+    /**
+     * Position in the file at which the content starts.
+     */
+    private final long position;
+
+    /**
+     * Number of bytes of the file, starting from {@link #position}, that make up the content.
+     */
+    private final long numBytesToRead;
 
     /**
      * Size (in bytes) of ByteBuffer chunks read from the file and delivered to the subscriber.
@@ -69,12 +77,20 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
-        this.fileLength = invokeSafely(() -> Files.size(path));
+        long fileLength = invokeSafely(() -> Files.size(path));
+        this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
+        Validate.isTrue(position <= fileLength, "position (%s) must not exceed the file size (%s)", position, fileLength);
+        this.numBytesToRead = builder.numBytesToRead == null
+                              ? fileLength - position
+                              : Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        Validate.isTrue(numBytesToRead <= fileLength - position,
+                        "numBytesToRead (%s) must not exceed the %s bytes of the file after position %s",
+                        numBytesToRead, fileLength - position, position);
     }
 
     @Override
     public Optional<Long> contentLength() {
-        return Optional.of(fileLength);
+        return Optional.of(numBytesToRead);
     }
 
     @Override
@@ -91,7 +107,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             // We need to synchronize here because the subscriber could call
             // request() from within onSubscribe which would potentially
             // trigger onNext before onSubscribe is finished.
-            Subscription subscription = new FileSubscription(path, channel, s, chunkSizeInBytes);
+            Subscription subscription = new FileSubscription(path, channel, s, chunkSizeInBytes, position, numBytesToRead);
 
             synchronized (subscription) {
                 s.onSubscribe(subscription);
@@ -139,12 +155,35 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          */
         Builder chunkSizeInBytes(Integer chunkSize);
 
+        /**
+         * Sets the position in the file at which the content starts. Together with {@link #numBytesToRead(Long)}, this allows
+         * several bodies to send regions of the same file, such as the parts of a multipart upload.
+         *
+         * <p>By default, the content starts at the beginning of the file.</p>
+         *
+         * @param position The position in the file, in bytes.
+         * @return This builder for method chaining.
+         */
+        Builder position(Long position);
+
+        /**
+         * Sets the number of bytes to read from the file, starting at {@link #position(Long)}.
+         *
+         * <p>By default, the content extends to the end of the file.</p>
+         *
+         * @param numBytesToRead The number of bytes to read.
+         * @return This builder for method chaining.
+         */
+        Builder numBytesToRead(Long numBytesToRead);
+
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Path path;
         private Integer chunkSizeInBytes;
+        private Long position;
+        private Long numBytesToRead;
 
         @Override
         public Builder path(Path path) {
@@ -166,6 +205,26 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder position(Long position) {
+            this.position = position;
+            return this;
+        }
+
+        public void setPosition(Long position) {
+            position(position);
+        }
+
+        @Override
+        public Builder numBytesToRead(Long numBytesToRead) {
+            this.numBytesToRead = numBytesToRead;
+            return this;
+        }
+
+        public void setNumBytesToRead(Long numBytesToRead) {
+            numBytesToRead(numBytesToRead);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -181,8 +240,8 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private final Subscriber<? super ByteBuffer> subscriber;
         private final int chunkSize;
 
-        private final AtomicLong position = new AtomicLong(0);
-        private final AtomicLong remainingBytes = new AtomicLong(0);
+        private final AtomicLong position;
+        private final AtomicLong remainingBytes;
         private final long sizeAtStart;
         private final FileTime modifiedTimeAtStart;
         private long outstandingDemand = 0;
@@ -193,14 +252,17 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private FileSubscription(Path path,
                                  AsynchronousFileChannel inputChannel,
                                  Subscriber<? super ByteBuffer> subscriber,
-                                 int chunkSize) throws IOException {
+                                 int chunkSize,
+                                 long position,
+                                 long numBytesToRead) throws IOException {
             this.path = path;
             this.inputChannel = inputChannel;
             this.subscriber = subscriber;
             this.chunkSize = chunkSize;
             this.sizeAtStart = inputChannel.size();
             this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
-            this.remainingBytes.set(Validate.isNotNegative(sizeAtStart, "size"));
+            this.position = new AtomicLong(position);
+            this.remainingBytes = new AtomicLong(numBytesToRead);
         }
 
         @Override
@@ -255,7 +317,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 return;
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(chunkSize, remainingBytes.get()));
             inputChannel.read(buffer, position.get(), buffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
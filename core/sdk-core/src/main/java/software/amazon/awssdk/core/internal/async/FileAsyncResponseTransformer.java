@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
@@ -130,9 +131,13 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     }
 
     /**
-     * {@link Subscriber} implementation that writes chunks to a file.
+     * {@link Subscriber} implementation that writes chunks to a file. Buffers lent by the HTTP client are released as soon as
+     * they have been written.
      */
-    static class FileSubscriber implements Subscriber<ByteBuffer> {
+    static class FileSubscriber implements ReleasableBufferSubscriber {
+        private static final Runnable NO_OP = () -> {
+        };
+
         private final AtomicLong position;
         private final AsynchronousFileChannel fileChannel;
         private final Path path;
@@ -169,10 +174,19 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            performWrite(byteBuffer, NO_OP);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable releaseHook) {
+            if (byteBuffer == null) {
+                throw new NullPointerException("Element must not be null");
+            }
+
+            performWrite(byteBuffer, releaseHook);
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
+        private void performWrite(ByteBuffer byteBuffer, Runnable releaseHook) {
             writeInProgress = true;
 
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
@@ -181,8 +195,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                     position.addAndGet(result);
 
                     if (byteBuffer.hasRemaining()) {
-                        performWrite(byteBuffer);
+                        performWrite(byteBuffer, releaseHook);
                     } else {
+                        releaseHook.run();
                         synchronized (FileSubscriber.this) {
                             writeInProgress = false;
                             if (closeOnLastWrite) {
@@ -196,6 +211,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    releaseHook.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
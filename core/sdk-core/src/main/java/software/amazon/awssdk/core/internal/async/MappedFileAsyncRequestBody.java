@@ -0,0 +1,431 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.internal.util.Mimetype;
+import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.http.async.FileRegionContentPublisher;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Implementation of {@link AsyncRequestBody} that sends a region of a file by memory-mapping it and delivering slices of the
+ * mapping, so no bytes are copied onto the heap.
+ *
+ * <p>Because this body is also a {@link FileRegionContentPublisher}, HTTP clients that support it may skip the publisher
+ * entirely and transfer the region straight from the file.
+ *
+ * <p>Mapped pages are read lazily, so the thread requesting data may block on disk I/O when touching a page that is not
+ * yet in the page cache. Mappings are released by the garbage collector once the slices are no longer referenced. Files on
+ * file systems that cannot be mapped are read onto the heap instead.
+ *
+ * @see AsyncRequestBody#fromMappedFile(Path)
+ * @see AsyncRequestBody#fromMappedFile(Path, long, long)
+ */
+@SdkInternalApi
+public final class MappedFileAsyncRequestBody implements AsyncRequestBody, FileRegionContentPublisher {
+    private static final Logger log = Logger.loggerFor(MappedFileAsyncRequestBody.class);
+
+    /**
+     * Default size (in bytes) of ByteBuffer slices delivered to the subscriber.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+
+    /**
+     * Maximum size (in bytes) of a single mapping of the file. Large regions are mapped in windows of this size so that the
+     * address space held at any time stays bounded.
+     */
+    private static final long MAX_MAPPING_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * File to read.
+     */
+    private final Path path;
+
+    /**
+     * Position in the file at which the content starts.
+     */
+    private final long position;
+
+    /**
+     * Number of bytes of the file, starting from {@link #position}, that make up the content.
+     */
+    private final long numBytesToRead;
+
+    /**
+     * Size (in bytes) of ByteBuffer slices delivered to the subscriber.
+     */
+    private final int chunkSizeInBytes;
+
+    private MappedFileAsyncRequestBody(DefaultBuilder builder) {
+        this.path = Validate.paramNotNull(builder.path, "path");
+        this.chunkSizeInBytes = builder.chunkSizeInBytes == null
+                                ? DEFAULT_CHUNK_SIZE
+                                : Validate.isPositive(builder.chunkSizeInBytes, "chunkSizeInBytes");
+        long fileLength = invokeSafely(() -> Files.size(path));
+        this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
+        Validate.isTrue(position <= fileLength, "position (%s) must not exceed the file size (%s)", position, fileLength);
+        this.numBytesToRead = builder.numBytesToRead == null
+                              ? fileLength - position
+                              : Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        Validate.isTrue(numBytesToRead <= fileLength - position,
+                        "numBytesToRead (%s) must not exceed the %s bytes of the file after position %s",
+                        numBytesToRead, fileLength - position, position);
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of(numBytesToRead);
+    }
+
+    @Override
+    public String contentType() {
+        return Mimetype.getInstance().getMimetype(path);
+    }
+
+    @Override
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            s.onSubscribe(new MappedFileSubscription(path, channel, s, chunkSizeInBytes, position, numBytesToRead));
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                runAndLogError(log.logger(), "Unable to close file channel", channel::close);
+            }
+            // subscribe() must return normally, so we need to signal the
+            // failure to open via onError() once onSubscribe() is signaled.
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(e);
+        }
+    }
+
+    /**
+     * @return Builder instance to construct a {@link MappedFileAsyncRequestBody}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * A builder for {@link MappedFileAsyncRequestBody}.
+     */
+    public interface Builder extends SdkBuilder<Builder, MappedFileAsyncRequestBody> {
+
+        /**
+         * Sets the file to send to the service.
+         *
+         * @param path Path to file to read.
+         * @return This builder for method chaining.
+         */
+        Builder path(Path path);
+
+        /**
+         * Sets the size of the slices of the file delivered to the subscriber.
+         *
+         * @param chunkSize New chunk size in bytes.
+         * @return This builder for method chaining.
+         */
+        Builder chunkSizeInBytes(Integer chunkSize);
+
+        /**
+         * Sets the position in the file at which the content starts.
+         *
+         * <p>By default, the content starts at the beginning of the file.</p>
+         *
+         * @param position The position in the file, in bytes.
+         * @return This builder for method chaining.
+         */
+        Builder position(Long position);
+
+        /**
+         * Sets the number of bytes to read from the file, starting at {@link #position(Long)}.
+         *
+         * <p>By default, the content extends to the end of the file.</p>
+         *
+         * @param numBytesToRead The number of bytes to read.
+         * @return This builder for method chaining.
+         */
+        Builder numBytesToRead(Long numBytesToRead);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+
+        private Path path;
+        private Integer chunkSizeInBytes;
+        private Long position;
+        private Long numBytesToRead;
+
+        @Override
+        public Builder path(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        public void setPath(Path path) {
+            path(path);
+        }
+
+        @Override
+        public Builder chunkSizeInBytes(Integer chunkSizeInBytes) {
+            this.chunkSizeInBytes = chunkSizeInBytes;
+            return this;
+        }
+
+        public void setChunkSizeInBytes(Integer chunkSizeInBytes) {
+            chunkSizeInBytes(chunkSizeInBytes);
+        }
+
+        @Override
+        public Builder position(Long position) {
+            this.position = position;
+            return this;
+        }
+
+        public void setPosition(Long position) {
+            position(position);
+        }
+
+        @Override
+        public Builder numBytesToRead(Long numBytesToRead) {
+            this.numBytesToRead = numBytesToRead;
+            return this;
+        }
+
+        public void setNumBytesToRead(Long numBytesToRead) {
+            numBytesToRead(numBytesToRead);
+        }
+
+        @Override
+        public MappedFileAsyncRequestBody build() {
+            return new MappedFileAsyncRequestBody(this);
+        }
+    }
+
+    /**
+     * Maps the file region for one subscriber and emits it slice by slice. Signals are serialized through a work-in-progress
+     * counter so that the subscriber may call {@link #request(long)} from within {@code onSubscribe} or {@code onNext}.
+     */
+    private static final class MappedFileSubscription implements Subscription {
+        private final Path path;
+        private final FileChannel channel;
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final int chunkSize;
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Only accessed from within drain()
+        private long position;
+        private long remainingBytes;
+        private MappedByteBuffer mapping;
+        private boolean mappingSupported = true;
+        private boolean terminated;
+
+        private MappedFileSubscription(Path path,
+                                       FileChannel channel,
+                                       Subscriber<? super ByteBuffer> subscriber,
+                                       int chunkSize,
+                                       long position,
+                                       long numBytesToRead) throws IOException {
+            this.path = path;
+            this.channel = channel;
+            this.subscriber = subscriber;
+            this.chunkSize = chunkSize;
+            this.sizeAtStart = channel.size();
+            this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+            this.position = position;
+            this.remainingBytes = numBytesToRead;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 1) {
+                invalidRequest = new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by "
+                                                              + "requesting a non-positive number of elements.");
+            } else {
+                // As governed by rule 3.17, when demand overflows `Long.MAX_VALUE` we treat the signalled demand as
+                // "effectively unbounded"
+                demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (true) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+
+                Throwable error = invalidRequest;
+                if (error != null) {
+                    terminate();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                if (remainingBytes == 0) {
+                    terminate();
+                    signalOnComplete();
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ByteBuffer chunk;
+                try {
+                    chunk = nextChunk();
+                } catch (Throwable t) {
+                    // Touching a mapping of a file that was truncated in the meantime surfaces as an InternalError
+                    terminate();
+                    subscriber.onError(t);
+                    return;
+                }
+
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(chunk);
+            }
+        }
+
+        private ByteBuffer nextChunk() throws IOException {
+            ByteBuffer chunk = mappingSupported ? nextMappedChunk() : nextCopiedChunk();
+            position += chunk.remaining();
+            remainingBytes -= chunk.remaining();
+            return chunk;
+        }
+
+        private ByteBuffer nextMappedChunk() throws IOException {
+            if (mapping == null || !mapping.hasRemaining()) {
+                long mappingSize = Math.min(MAX_MAPPING_SIZE, remainingBytes);
+                if (channel.size() < position + mappingSize) {
+                    throw new IOException("The file is smaller than expected, was it modified after reading started?");
+                }
+                try {
+                    mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, mappingSize);
+                } catch (UnsupportedOperationException e) {
+                    // Not every file system can map files (e.g. in-memory ones), read those onto the heap instead
+                    mappingSupported = false;
+                    return nextCopiedChunk();
+                }
+            }
+
+            int chunkLength = Math.min(chunkSize, mapping.remaining());
+            ByteBuffer chunk = mapping.slice();
+            chunk.limit(chunkLength);
+            mapping.position(mapping.position() + chunkLength);
+            return chunk;
+        }
+
+        private ByteBuffer nextCopiedChunk() throws IOException {
+            ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(chunkSize, remainingBytes));
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk, position + chunk.position()) < 0) {
+                    throw new IOException("The file is smaller than expected, was it modified after reading started?");
+                }
+            }
+            chunk.flip();
+            return chunk;
+        }
+
+        private void terminate() {
+            terminated = true;
+            mapping = null;
+            runAndLogError(log.logger(), "Unable to close file channel", channel::close);
+        }
+
+        private void signalOnComplete() {
+            try {
+                long sizeAtEnd = Files.size(path);
+                if (sizeAtStart != sizeAtEnd) {
+                    subscriber.onError(new IOException("File size changed after reading started. Initial size: " + sizeAtStart
+                                                       + ". Current size: " + sizeAtEnd));
+                    return;
+                }
+
+                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                    subscriber.onError(new IOException("File last-modified time changed after reading started. Initial "
+                                                       + "modification time: " + modifiedTimeAtStart + ". Current "
+                                                       + "modification time: " + modifiedTimeAtEnd));
+                    return;
+                }
+            } catch (IOException e) {
+                subscriber.onError(new IOException("Unable to check file status after read.", e));
+                return;
+            }
+
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums.factory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Selects, once per JVM, the fastest available implementation of CRC32 and CRC32C.
+ *
+ * <p>The JDK implementations are preferred because they are compiled to hardware CRC instructions without crossing JNI:
+ * {@link CRC32} is available on every supported JDK and {@code java.util.zip.CRC32C} from Java 9, which is looked up
+ * reflectively since the SDK is built for Java 8. Otherwise the CRT implementation is used when aws-crt is on the class
+ * path, and the table driven {@link SdkCrc32C} as a last resort.
+ */
+@SdkInternalApi
+public final class CrcChecksumProvider {
+
+    private static final Logger LOG = Logger.loggerFor(CrcChecksumProvider.class);
+    private static final String JDK_CRC32C_CLASS = "java.util.zip.CRC32C";
+
+    private static final Supplier<Checksum> CRC32_FACTORY = selectCrc32Factory();
+    private static final Supplier<Checksum> CRC32C_FACTORY = selectCrc32CFactory();
+    private static final MethodHandle BYTE_BUFFER_UPDATE = byteBufferUpdate();
+
+    private CrcChecksumProvider() {
+    }
+
+    public static Checksum createCrc32() {
+        return CRC32_FACTORY.get();
+    }
+
+    public static Checksum createCrc32C() {
+        return CRC32C_FACTORY.get();
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the buffer through {@code Checksum#update(ByteBuffer)}, which the JDK
+     * checksums implement without copying direct buffers to the heap. The method is looked up reflectively since it was
+     * added in Java 9.
+     *
+     * @return False if the method is not available on this JVM, in which case the buffer is left untouched.
+     */
+    public static boolean update(Checksum checksum, ByteBuffer buffer) {
+        if (BYTE_BUFFER_UPDATE == null) {
+            return false;
+        }
+        try {
+            BYTE_BUFFER_UPDATE.invokeExact(checksum, buffer);
+            return true;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Could not update the checksum from a ByteBuffer", t);
+        }
+    }
+
+    private static Supplier<Checksum> selectCrc32Factory() {
+        LOG.debug(() -> "Using " + CRC32.class.getName() + " for CRC32 checksums.");
+        return CRC32::new;
+    }
+
+    private static Supplier<Checksum> selectCrc32CFactory() {
+        MethodHandle jdkConstructor = jdkCrc32CConstructor();
+        if (jdkConstructor != null) {
+            LOG.debug(() -> "Using " + JDK_CRC32C_CLASS + " for CRC32C checksums.");
+            return () -> {
+                try {
+                    return (Checksum) jdkConstructor.invokeExact();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Could not create " + JDK_CRC32C_CLASS, t);
+                }
+            };
+        }
+        if (CrtBasedChecksumProvider.createCrc32C() != null) {
+            LOG.debug(() -> "Using the CRT implementation for CRC32C checksums.");
+            return CrtBasedChecksumProvider::createCrc32C;
+        }
+        LOG.debug(() -> "Using " + SdkCrc32C.class.getName() + " for CRC32C checksums.");
+        return SdkCrc32C::create;
+    }
+
+    private static MethodHandle jdkCrc32CConstructor() {
+        try {
+            Class<?> crc32CClass = Class.forName(JDK_CRC32C_CLASS);
+            return MethodHandles.publicLookup()
+                                .findConstructor(crc32CClass, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(Checksum.class));
+        } catch (ReflectiveOperationException e) {
+            LOG.debug(() -> JDK_CRC32C_CLASS + " is not available on this JVM.", e);
+            return null;
+        }
+    }
+
+    private static MethodHandle byteBufferUpdate() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException e) {
+            LOG.debug(() -> "Checksum#update(ByteBuffer) is not available on this JVM.", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums.factory;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Combines the CRCs of two consecutive blocks of data into the CRC of their concatenation, given only the length of the
+ * second block. This lets a checksum be computed for separate parts of the data, possibly in parallel, and joined
+ * afterwards.
+ *
+ * <p>This is the GF(2) matrix method used by zlib's {@code crc32_combine}. The operators that append 2<sup>k</sup> zero
+ * bytes to a CRC are computed once per polynomial, so combining costs at most one 32x32 bit matrix multiplication per set
+ * bit of the length.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CrcCombiner {
+
+    /**
+     * Combiner for CRC32, polynomial 0x04C11DB7 in reflected form.
+     */
+    public static final CrcCombiner CRC32 = new CrcCombiner(0xEDB88320);
+
+    /**
+     * Combiner for CRC32C (Castagnoli), polynomial 0x1EDC6F41 in reflected form.
+     */
+    public static final CrcCombiner CRC32C = new CrcCombiner(0x82F63B78);
+
+    private static final int GF2_DIM = 32;
+    private static final int MAX_LENGTH_BITS = Long.SIZE - 1;
+
+    /**
+     * zeroOperators[k] appends 2^k zero bytes to a CRC.
+     */
+    private final int[][] zeroOperators = new int[MAX_LENGTH_BITS][];
+
+    private CrcCombiner(int reflectedPolynomial) {
+        // Operator for a single zero bit.
+        int[] operator = new int[GF2_DIM];
+        operator[0] = reflectedPolynomial;
+        int row = 1;
+        for (int n = 1; n < GF2_DIM; n++) {
+            operator[n] = row;
+            row <<= 1;
+        }
+
+        // Square three times to get the operator for a single zero byte (eight zero bits).
+        for (int i = 0; i < 3; i++) {
+            operator = square(operator);
+        }
+
+        zeroOperators[0] = operator;
+        for (int k = 1; k < MAX_LENGTH_BITS; k++) {
+            zeroOperators[k] = square(zeroOperators[k - 1]);
+        }
+    }
+
+    /**
+     * @param crc1 The CRC of the first block.
+     * @param crc2 The CRC of the second block.
+     * @param length2 The length in bytes of the second block.
+     * @return The CRC of the first block followed by the second block.
+     */
+    public long combine(long crc1, long crc2, long length2) {
+        if (length2 < 0) {
+            throw new IllegalArgumentException("length2 must not be negative: " + length2);
+        }
+        int crc = (int) crc1;
+        long remaining = length2;
+        for (int k = 0; remaining != 0; k++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                crc = times(zeroOperators[k], crc);
+            }
+        }
+        return (crc ^ (int) crc2) & 0xFFFFFFFFL;
+    }
+
+    private static int times(int[] matrix, int vector) {
+        int sum = 0;
+        int remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static int[] square(int[] matrix) {
+        int[] square = new int[GF2_DIM];
+        for (int n = 0; n < GF2_DIM; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+        return square;
+    }
+}
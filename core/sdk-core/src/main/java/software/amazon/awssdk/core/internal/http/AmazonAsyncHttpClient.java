@@ -26,6 +26,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactionIdStage;
@@ -52,11 +53,41 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 //TODO: come up with better name
 public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
     private final HttpClientDependencies httpClientDependencies;
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Object>> requestPipeline;
 
     public AmazonAsyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .build();
+        this.requestPipeline = buildRequestPipeline(httpClientDependencies);
+    }
+
+    /**
+     * Build the request pipeline used by every request made by this client. None of the stages hold request-scoped state:
+     * everything that varies per call, including the response handler, is carried by the {@link RequestExecutionContext}.
+     */
+    private static RequestPipeline<SdkHttpFullRequest, CompletableFuture<Object>> buildRequestPipeline(
+        HttpClientDependencies dependencies) {
+        return RequestPipelineBuilder
+            .first(RequestPipelineBuilder
+                       .first(MakeRequestMutableStage::new)
+                       .then(ApplyTransactionIdStage::new)
+                       .then(ApplyUserAgentStage::new)
+                       .then(MergeCustomHeadersStage::new)
+                       .then(MergeCustomQueryParamsStage::new)
+                       .then(MakeRequestImmutableStage::new)
+                       .then(RequestPipelineBuilder
+                                 .first(AsyncSigningStage::new)
+                                 .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
+                                 .then(d -> new MakeAsyncHttpRequestStage<Object>(d))
+                                 .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new)
+                                 .wrappedWith((deps, wrapped) -> new AsyncRetryableStage<>(deps, wrapped))
+                                 .then(async(() -> new UnwrapResponseContainer<>()))
+                                 .then(async(() -> new AfterExecutionInterceptorsStage<>()))
+                                 .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
+                                 .wrappedWith(AsyncApiCallTimeoutTrackingStage::new)
+                                 .wrappedWith(AsyncApiCallMetricCollectionStage::new)::build)::build)
+            .build(dependencies);
     }
 
     /**
@@ -158,31 +189,13 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <OutputT> CompletableFuture<OutputT> execute(
             TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
 
             try {
-                return RequestPipelineBuilder
-                        .first(RequestPipelineBuilder
-                                .first(MakeRequestMutableStage::new)
-                                .then(ApplyTransactionIdStage::new)
-                                .then(ApplyUserAgentStage::new)
-                                .then(MergeCustomHeadersStage::new)
-                                .then(MergeCustomQueryParamsStage::new)
-                                .then(MakeRequestImmutableStage::new)
-                                .then(RequestPipelineBuilder
-                                        .first(AsyncSigningStage::new)
-                                        .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
-                                        .then(d -> new MakeAsyncHttpRequestStage<>(responseHandler, d))
-                                        .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new)
-                                        .wrappedWith((deps, wrapped) -> new AsyncRetryableStage<>(responseHandler, deps, wrapped))
-                                        .then(async(() -> new UnwrapResponseContainer<>()))
-                                        .then(async(() -> new AfterExecutionInterceptorsStage<>()))
-                                        .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
-                                        .wrappedWith(AsyncApiCallTimeoutTrackingStage::new)
-                                        .wrappedWith(AsyncApiCallMetricCollectionStage::new)::build)::build)
-                        .build(httpClientDependencies)
-                        .execute(request, createRequestExecutionDependencies());
+                return (CompletableFuture<OutputT>) requestPipeline.execute(request,
+                                                                            createRequestExecutionDependencies(responseHandler));
             } catch (RuntimeException e) {
                 throw ThrowableUtils.asSdkException(e);
             } catch (Exception e) {
@@ -190,11 +203,13 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
             }
         }
 
-        private RequestExecutionContext createRequestExecutionDependencies() {
+        private RequestExecutionContext createRequestExecutionDependencies(
+            TransformingAsyncResponseHandler<? extends Response<?>> responseHandler) {
             return RequestExecutionContext.builder()
                                           .requestProvider(requestProvider)
                                           .originalRequest(originalRequest)
                                           .executionContext(executionContext)
+                                          .asyncResponseHandler(responseHandler)
                                           .build();
         }
 
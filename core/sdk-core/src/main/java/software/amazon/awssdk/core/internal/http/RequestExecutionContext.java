@@ -17,10 +17,12 @@ package software.amazon.awssdk.core.internal.http;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
+import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
@@ -41,6 +43,8 @@ public final class RequestExecutionContext {
     private AsyncRequestBody requestProvider;
     private final SdkRequest originalRequest;
     private final ExecutionContext executionContext;
+    private final HttpResponseHandler<? extends Response<?>> responseHandler;
+    private final TransformingAsyncResponseHandler<? extends Response<?>> asyncResponseHandler;
     private TimeoutTracker apiCallTimeoutTracker;
     private TimeoutTracker apiCallAttemptTimeoutTracker;
     private MetricCollector attemptMetricCollector;
@@ -49,6 +53,8 @@ public final class RequestExecutionContext {
         this.requestProvider = builder.requestProvider;
         this.originalRequest = Validate.paramNotNull(builder.originalRequest, "originalRequest");
         this.executionContext = Validate.paramNotNull(builder.executionContext, "executionContext");
+        this.responseHandler = builder.responseHandler;
+        this.asyncResponseHandler = builder.asyncResponseHandler;
     }
 
     /**
@@ -88,6 +94,24 @@ public final class RequestExecutionContext {
                               .orElse(EMPTY_CONFIG);
     }
 
+    /**
+     * @return The response handler for this request when executed by {@link AmazonSyncHttpClient}. Carried on the context so
+     * that the request pipeline can be built once and shared across requests.
+     */
+    @SuppressWarnings("unchecked")
+    public <OutputT> HttpResponseHandler<Response<OutputT>> responseHandler() {
+        return (HttpResponseHandler<Response<OutputT>>) responseHandler;
+    }
+
+    /**
+     * @return The response handler for this request when executed by {@link AmazonAsyncHttpClient}. Carried on the context so
+     * that the request pipeline can be built once and shared across requests.
+     */
+    @SuppressWarnings("unchecked")
+    public <OutputT> TransformingAsyncResponseHandler<Response<OutputT>> asyncResponseHandler() {
+        return (TransformingAsyncResponseHandler<Response<OutputT>>) asyncResponseHandler;
+    }
+
     /**
      * @return SignerProvider used to obtain an instance of a {@link Signer}.
      */
@@ -144,6 +168,8 @@ public final class RequestExecutionContext {
         private AsyncRequestBody requestProvider;
         private SdkRequest originalRequest;
         private ExecutionContext executionContext;
+        private HttpResponseHandler<? extends Response<?>> responseHandler;
+        private TransformingAsyncResponseHandler<? extends Response<?>> asyncResponseHandler;
 
         public Builder requestProvider(AsyncRequestBody requestProvider) {
             this.requestProvider = requestProvider;
@@ -160,6 +186,16 @@ public final class RequestExecutionContext {
             return this;
         }
 
+        public Builder responseHandler(HttpResponseHandler<? extends Response<?>> responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder asyncResponseHandler(TransformingAsyncResponseHandler<? extends Response<?>> asyncResponseHandler) {
+            this.asyncResponseHandler = asyncResponseHandler;
+            return this;
+        }
+
         public RequestExecutionContext build() {
             return new RequestExecutionContext(this);
         }
@@ -18,6 +18,8 @@ package software.amazon.awssdk.core.internal.http.loader;
 import static software.amazon.awssdk.utils.Validate.notNull;
 
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
@@ -28,6 +30,8 @@ final class CachingSdkHttpServiceProvider<T> implements SdkHttpServiceProvider<T
 
     private final SdkHttpServiceProvider<T> delegate;
 
+    private final Lock loadLock = new ReentrantLock();
+
     /**
      * We assume that the service obtained from the provider chain will always be the same (even if it's an empty optional) so
      * we cache it as a field.
@@ -41,10 +45,13 @@ final class CachingSdkHttpServiceProvider<T> implements SdkHttpServiceProvider<T
     @Override
     public Optional<T> loadService() {
         if (factory == null) {
-            synchronized (this) {
+            loadLock.lock();
+            try {
                 if (factory == null) {
                     this.factory = delegate.loadService();
                 }
+            } finally {
+                loadLock.unlock();
             }
         }
         return factory;
@@ -45,28 +45,24 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
     CompletableFuture<Response<OutputT>>> {
 
-    private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
     private final ScheduledExecutorService scheduledExecutor;
     private final HttpClientDependencies dependencies;
     private final RateLimitingTokenBucket rateLimitingTokenBucket;
 
-    public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
-                               HttpClientDependencies dependencies,
+    /**
+     * The response handler is read from the {@link RequestExecutionContext} of each request, so that a single stage
+     * instance can be shared by every request made by a client.
+     */
+    public AsyncRetryableStage(HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline) {
-        this.responseHandler = responseHandler;
-        this.dependencies = dependencies;
-        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
-        this.rateLimitingTokenBucket = new RateLimitingTokenBucket();
-        this.requestPipeline = requestPipeline;
+        this(dependencies, requestPipeline, new RateLimitingTokenBucket());
     }
 
     @SdkTestInternalApi
-    public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
-                               HttpClientDependencies dependencies,
+    public AsyncRetryableStage(HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline,
                                RateLimitingTokenBucket rateLimitingTokenBucket) {
-        this.responseHandler = responseHandler;
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.requestPipeline = requestPipeline;
@@ -82,11 +78,13 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
     private class RetryingExecutor {
         private final AsyncRequestBody originalRequestBody;
         private final RequestExecutionContext context;
+        private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
         private final RetryableStageHelper retryableStageHelper;
 
         private RetryingExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.originalRequestBody = context.requestProvider();
             this.context = context;
+            this.responseHandler = context.asyncResponseHandler();
             this.retryableStageHelper = new RetryableStageHelper(request, context, rateLimitingTokenBucket, dependencies);
         }
 
@@ -29,14 +29,13 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
  */
 @SdkInternalApi
 public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFullResponse, Response<OutputT>> {
-    private final HttpResponseHandler<Response<OutputT>> responseHandler;
-
-    public HandleResponseStage(HttpResponseHandler<Response<OutputT>> responseHandler) {
-        this.responseHandler = responseHandler;
-    }
-
+    /**
+     * The response handler is read from the {@link RequestExecutionContext}, so that a single stage instance can be shared by
+     * every request made by a client.
+     */
     @Override
     public Response<OutputT> execute(SdkHttpFullResponse httpResponse, RequestExecutionContext context) throws Exception {
+        HttpResponseHandler<Response<OutputT>> responseHandler = context.responseHandler();
         return responseHandler.handle(httpResponse, context.executionAttributes());
     }
 }
@@ -48,6 +48,7 @@ import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.FileRegionContentPublisher;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -64,14 +65,15 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private static final Logger log = Logger.loggerFor(MakeAsyncHttpRequestStage.class);
 
     private final SdkAsyncHttpClient sdkAsyncHttpClient;
-    private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
 
-    public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
-                                     HttpClientDependencies dependencies) {
-        this.responseHandler = responseHandler;
+    /**
+     * The response handler is read from the {@link RequestExecutionContext} of each request, so that a single stage
+     * instance can be shared by every request made by a client.
+     */
+    public MakeAsyncHttpRequestStage(HttpClientDependencies dependencies) {
         this.futureCompletionExecutor =
                 dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
@@ -122,11 +124,12 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         CompletableFuture<Response<OutputT>> responseFuture = new CompletableFuture<>();
 
-        CompletableFuture<Response<OutputT>> responseHandlerFuture = responseHandler.prepare();
+        TransformingAsyncResponseHandler<Response<OutputT>> handler = context.asyncResponseHandler();
+        CompletableFuture<Response<OutputT>> responseHandlerFuture = handler.prepare();
 
         SdkHttpContentPublisher requestProvider = context.requestProvider() == null
                                                   ? new SimpleHttpContentPublisher(request)
-                                                  : new SdkHttpContentPublisherAdapter(context.requestProvider());
+                                                  : toContentPublisher(context.requestProvider());
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
@@ -135,7 +138,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         AsyncExecuteRequest.Builder executeRequestBuilder = AsyncExecuteRequest.builder()
                                                                 .request(requestWithContentLength)
                                                                 .requestContentPublisher(requestProvider)
-                                                                .responseHandler(responseHandler)
+                                                                .responseHandler(handler)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
                                                                 .metricCollector(httpMetricCollector);
         if (context.executionAttributes().getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES) != null) {
@@ -190,6 +193,14 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
     }
 
+    private static SdkHttpContentPublisher toContentPublisher(AsyncRequestBody requestBody) {
+        // Pass file region bodies through as-is so the HTTP client can recognize them and send them straight from the file
+        if (requestBody instanceof FileRegionContentPublisher) {
+            return (FileRegionContentPublisher) requestBody;
+        }
+        return new SdkHttpContentPublisherAdapter(requestBody);
+    }
+
     private SdkHttpFullRequest getRequestWithContentLength(SdkHttpFullRequest request, SdkHttpContentPublisher requestProvider) {
         if (shouldSetContentLength(request, requestProvider)) {
             return request.toBuilder()
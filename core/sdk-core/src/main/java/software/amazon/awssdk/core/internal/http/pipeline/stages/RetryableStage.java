@@ -41,9 +41,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
-        this.dependencies = dependencies;
-        this.requestPipeline = requestPipeline;
-        this.rateLimitingTokenBucket = null;
+        this(dependencies, requestPipeline, new RateLimitingTokenBucket());
     }
 
     @SdkTestInternalApi
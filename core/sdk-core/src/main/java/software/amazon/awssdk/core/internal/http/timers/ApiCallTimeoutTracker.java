@@ -15,24 +15,23 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
-import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link ScheduledFuture}.
+ * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link HashedWheelTimer.Timeout} it was scheduled with.
  */
 @SdkInternalApi
 public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     private final TimeoutTask timeoutTask;
 
-    private final ScheduledFuture<?> future;
+    private final HashedWheelTimer.Timeout timeout;
 
-    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
-        this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
-        this.future = Validate.paramNotNull(future, "scheduledFuture");
+    public ApiCallTimeoutTracker(TimeoutTask timeoutTask, HashedWheelTimer.Timeout timeout) {
+        this.timeoutTask = Validate.paramNotNull(timeoutTask, "timeoutTask");
+        this.timeout = Validate.paramNotNull(timeout, "timeout");
     }
 
     @Override
@@ -47,8 +46,8 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     @Override
     public void cancel() {
-        // Best-effort attempt to ensure that if the future hasn't started running already, don't run it.
-        future.cancel(false);
+        // Best-effort attempt to ensure that if the timeout hasn't expired already, it's never submitted.
+        timeout.cancel();
         // Ensure that if the future hasn't executed its timeout logic already, it won't do so.
         timeoutTask.cancel();
     }
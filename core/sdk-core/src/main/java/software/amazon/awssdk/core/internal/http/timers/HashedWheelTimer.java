@@ -0,0 +1,303 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A hashed timer wheel for scheduling timeouts that are usually cancelled before they expire, like API call and API call
+ * attempt timeouts.
+ *
+ * <p>Scheduling a timeout pushes it onto a lock-free stack, and cancelling it is a single compare-and-set. A single worker
+ * thread moves scheduled timeouts into the bucket of the wheel that matches their deadline, advances the wheel once per tick,
+ * and removes the cancelled timeouts of each bucket it passes. Unlike a {@link java.util.concurrent.ScheduledThreadPoolExecutor},
+ * request threads never contend on a shared delay queue. The cost is precision: timeouts expire up to one tick late.
+ *
+ * <p>Expired tasks are not run on the worker thread. They are handed to the executor they were scheduled with, so that a slow
+ * task cannot delay other timeouts. The worker thread parks while there are no timeouts to track.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class HashedWheelTimer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    /**
+     * The worker thread wakes up once per tick while any timeout is outstanding, so a busy client pays for one wake-up per
+     * tick no matter how few of its timeouts are due. Expiring an API call timeout up to 10ms late is negligible next to the
+     * request it aborts, and wakes the worker a tenth as often as a 1ms tick would.
+     */
+    private static final long DEFAULT_TICK_MILLIS = 10;
+
+    /**
+     * With the default tick, one rotation of the wheel spans about 10 seconds. Longer timeouts wait out the extra rotations in
+     * their bucket.
+     */
+    private static final int DEFAULT_WHEEL_SIZE = 1024;
+
+    private final long tickNanos;
+    private final long mask;
+    private final WheelTimeout[] bucketHeads;
+    private final long startNanos;
+    private final Thread worker;
+
+    /**
+     * Timeouts that were scheduled, but not yet moved into the wheel by the worker thread.
+     */
+    private final AtomicReference<WheelTimeout> pendingTimeouts = new AtomicReference<>();
+
+    /**
+     * Whether the worker thread is parked (or about to park) because there are no timeouts to track.
+     */
+    private volatile boolean workerIdle;
+
+    private volatile boolean closed;
+
+    @SdkTestInternalApi
+    HashedWheelTimer(long tickDuration, TimeUnit tickUnit, int wheelSize, String threadName) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isTrue(wheelSize > 0 && Integer.bitCount(wheelSize) == 1, "wheelSize must be a power of two: %s", wheelSize);
+        this.tickNanos = tickUnit.toNanos(tickDuration);
+        this.mask = wheelSize - 1;
+        this.bucketHeads = new WheelTimeout[wheelSize];
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::runWorker, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * The timer shared by all clients in this JVM.
+     */
+    public static HashedWheelTimer shared() {
+        return SharedTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Schedule a task to be submitted to the provided executor once the provided delay has passed, unless the returned
+     * {@link Timeout} is cancelled first.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        WheelTimeout timeout = new WheelTimeout(task, executor, System.nanoTime() + unit.toNanos(delay));
+
+        WheelTimeout head;
+        do {
+            head = pendingTimeouts.get();
+            timeout.nextPending = head;
+        } while (!pendingTimeouts.compareAndSet(head, timeout));
+
+        if (workerIdle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not expired yet never will.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void runWorker() {
+        long tick = 0;
+        long timeoutsInWheel = 0;
+
+        while (!closed) {
+            if (timeoutsInWheel == 0 && pendingTimeouts.get() == null) {
+                // Publish that we are idle before checking for new timeouts one last time, so that a concurrent schedule()
+                // either sees the flag and unparks us, or is seen by this check.
+                workerIdle = true;
+                if (pendingTimeouts.get() == null && !closed) {
+                    LockSupport.park(this);
+                }
+                workerIdle = false;
+
+                // The wheel is empty, so the ticks that passed while parked have nothing to expire.
+                tick = Math.max(tick, currentTick());
+                continue;
+            }
+
+            long tickEndNanos = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = tickEndNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            timeoutsInWheel += transferPendingTimeouts(tick);
+            timeoutsInWheel -= expireBucket(tick);
+            tick++;
+        }
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startNanos) / tickNanos;
+    }
+
+    /**
+     * Move all pending timeouts into the bucket of the tick that they expire in, or into the current bucket if they have
+     * already expired.
+     *
+     * @return The number of timeouts added to the wheel.
+     */
+    private long transferPendingTimeouts(long currentTick) {
+        long added = 0;
+        WheelTimeout timeout = pendingTimeouts.getAndSet(null);
+        while (timeout != null) {
+            WheelTimeout next = timeout.nextPending;
+            timeout.nextPending = null;
+
+            if (timeout.state == WheelTimeout.PENDING) {
+                long expiryTick = Math.max(currentTick, (timeout.deadlineNanos - startNanos) / tickNanos);
+                timeout.remainingRounds = (expiryTick - currentTick) / bucketHeads.length;
+                addToBucket(timeout, (int) (expiryTick & mask));
+                added++;
+            }
+
+            timeout = next;
+        }
+        return added;
+    }
+
+    /**
+     * Expire the timeouts in the bucket of the provided tick that are due in this round, and drop the cancelled ones.
+     *
+     * @return The number of timeouts removed from the wheel.
+     */
+    private long expireBucket(long tick) {
+        int bucket = (int) (tick & mask);
+        long removed = 0;
+        WheelTimeout timeout = bucketHeads[bucket];
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            if (timeout.state != WheelTimeout.PENDING) {
+                removeFromBucket(timeout, bucket);
+                removed++;
+            } else if (timeout.remainingRounds <= 0) {
+                removeFromBucket(timeout, bucket);
+                removed++;
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+        return removed;
+    }
+
+    private void addToBucket(WheelTimeout timeout, int bucket) {
+        WheelTimeout head = bucketHeads[bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        bucketHeads[bucket] = timeout;
+    }
+
+    private void removeFromBucket(WheelTimeout timeout, int bucket) {
+        if (timeout.previous == null) {
+            bucketHeads[bucket] = timeout.next;
+        } else {
+            timeout.previous.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+    }
+
+    /**
+     * A handle to a task scheduled with {@link #schedule(Runnable, long, TimeUnit, Executor)}.
+     */
+    public interface Timeout {
+        /**
+         * Prevent the task from being submitted, if it has not been submitted already.
+         *
+         * @return True if the task will not be submitted because of this call.
+         */
+        boolean cancel();
+    }
+
+    private static final class WheelTimeout implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final long deadlineNanos;
+        private volatile int state = PENDING;
+
+        // Released on cancellation, because a cancelled timeout can stay in the wheel for up to one rotation.
+        private Runnable task;
+        private Executor executor;
+
+        // Only accessed by the worker thread, or before the timeout is published to it.
+        private WheelTimeout nextPending;
+        private WheelTimeout next;
+        private WheelTimeout previous;
+        private long remainingRounds;
+
+        private WheelTimeout(Runnable task, Executor executor, long deadlineNanos) {
+            this.task = task;
+            this.executor = executor;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            task = null;
+            executor = null;
+            return true;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug(() -> "Dropped an expired timeout, because its executor was shut down.", e);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to submit an expired timeout.", e);
+            }
+        }
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer INSTANCE =
+            new HashedWheelTimer(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE, "sdk-timeout-timer");
+    }
+}
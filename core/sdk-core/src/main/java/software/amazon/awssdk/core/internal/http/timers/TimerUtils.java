@@ -18,8 +18,7 @@ package software.amazon.awssdk.core.internal.http.timers;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,18 +32,18 @@ public final class TimerUtils {
     }
 
     /**
-     * Schedule a {@link TimeoutTask} and exceptional completes a {@link CompletableFuture} with the provide exception
-     * if not otherwise completed before the given timeout.
+     * Schedule a {@link TimeoutTask} on the {@link HashedWheelTimer#shared() shared timer} and exceptional completes a
+     * {@link CompletableFuture} with the provide exception if not otherwise completed before the given timeout.
      *
      * @param completableFuture the completableFuture to be timed
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutExecutor the executor to execute the {@link TimeoutTask} on, once it expires
      * @param exceptionSupplier the exception to thrown after timeout
      * @param timeoutInMills the timeout in milliseconds.
      * @param <T> the type of the {@link CompletableFuture}
      * @return a {@link TimeoutTracker}
      */
     public static <T> TimeoutTracker timeAsyncTaskIfNeeded(CompletableFuture<T> completableFuture,
-                                                           ScheduledExecutorService timeoutExecutor,
+                                                           Executor timeoutExecutor,
                                                            Supplier<SdkClientException> exceptionSupplier,
                                                            long timeoutInMills) {
         if (timeoutInMills <= 0) {
@@ -53,11 +52,12 @@ public final class TimerUtils {
 
         TimeoutTask timeoutTask = new AsyncTimeoutTask(completableFuture, exceptionSupplier);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        HashedWheelTimer.Timeout timeout =
+            HashedWheelTimer.shared().schedule(timeoutTask,
+                                               timeoutInMills,
+                                               TimeUnit.MILLISECONDS,
+                                               timeoutExecutor);
+        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, timeout);
 
         completableFuture.whenComplete((o, t) -> timeoutTracker.cancel());
 
@@ -65,14 +65,15 @@ public final class TimerUtils {
     }
 
     /**
-     * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
+     * Schedule a {@link TimeoutTask} on the {@link HashedWheelTimer#shared() shared timer} that aborts the task if not
+     * otherwise completed before the given timeout.
      *
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutExecutor the executor to execute the {@link TimeoutTask} on, once it expires
      * @param timeoutInMills the timeout in milliseconds.
      * @param threadToInterrupt the thread to interrupt
      * @return a {@link TimeoutTracker}
      */
-    public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
+    public static TimeoutTracker timeSyncTaskIfNeeded(Executor timeoutExecutor,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
         if (timeoutInMills <= 0) {
@@ -81,11 +82,12 @@ public final class TimerUtils {
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        return new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        HashedWheelTimer.Timeout timeout =
+            HashedWheelTimer.shared().schedule(timeoutTask,
+                                               timeoutInMills,
+                                               TimeUnit.MILLISECONDS,
+                                               timeoutExecutor);
+        return new ApiCallTimeoutTracker(timeoutTask, timeout);
     }
 
     public static long resolveTimeoutInMillis(Supplier<Optional<Duration>> supplier, Duration fallback) {
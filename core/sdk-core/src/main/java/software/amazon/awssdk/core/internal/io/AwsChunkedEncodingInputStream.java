@@ -18,7 +18,6 @@ package software.amazon.awssdk.core.internal.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.internal.chunked.AwsChunkedEncodingConfig;
@@ -34,7 +33,9 @@ import software.amazon.awssdk.utils.Validate;
  * the expected encoded stream length before reading the wrapped stream.<br>
  * This class will use the mark() & reset() of the wrapped InputStream if they
  * are supported, otherwise it will create a buffer for bytes read from
- * the wrapped stream.
+ * the wrapped stream.<br>
+ * Chunk data is read into a single buffer that is reused for every chunk, and chunk headers are written in place into a
+ * second reusable buffer, so encoding a stream does not allocate per chunk.
  */
 @SdkInternalApi
 public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
@@ -44,6 +45,12 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
     protected static final String CRLF = "\r\n";
     protected static final byte[] FINAL_CHUNK = new byte[0];
     protected static final String HEADER_COLON_SEPARATOR = ":";
+
+    /**
+     * The largest chunk header a subclass may write, which fits the chunk size and a SigV4a chunk signature.
+     */
+    protected static final int MAX_CHUNK_HEADER_LENGTH = 256;
+    private static final byte[] CRLF_BYTES = CRLF.getBytes(StandardCharsets.UTF_8);
     private static final Logger log = Logger.loggerFor(AwsChunkedEncodingInputStream.class);
     protected byte[] calculatedChecksum = null;
     protected final String checksumHeaderForTrailer;
@@ -56,7 +63,14 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
     /**
      * Iterator on the current chunk.
      */
-    private ChunkContentIterator currentChunkIterator;
+    private final ChunkContentIterator currentChunkIterator = new ChunkContentIterator();
+
+    /**
+     * Reusable buffers for the data and the header of the current chunk.
+     */
+    private final byte[] chunkData;
+    private final byte[] chunkHeader = new byte[MAX_CHUNK_HEADER_LENGTH];
+    private final byte[] singleByte = new byte[1];
 
     /**
      * Iterator on the buffer of the decoded stream,
@@ -101,6 +115,7 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
         }
         this.sdkChecksum = sdkChecksum;
         this.checksumHeaderForTrailer = checksumHeaderForTrailer;
+        this.chunkData = new byte[chunkSize];
     }
 
     protected abstract static class Builder<T extends Builder> {
@@ -155,11 +170,10 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
 
     @Override
     public int read() throws IOException {
-        byte[] tmp = new byte[1];
-        int count = read(tmp, 0, 1);
+        int count = read(singleByte, 0, 1);
         if (count > 0) {
             log.debug(() -> "One byte read from the stream.");
-            int unsignedByte = (int) tmp[0] & 0xFF;
+            int unsignedByte = (int) singleByte[0] & 0xFF;
             return unsignedByte;
         } else {
             return count;
@@ -176,7 +190,7 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
             return 0;
         }
 
-        if (null == currentChunkIterator || !currentChunkIterator.hasNext()) {
+        if (!currentChunkIterator.hasNext()) {
             if (isTerminating && isTrailingTerminated) {
                 return -1;
             } else if (!isTerminating) {
@@ -201,11 +215,14 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
         }
         if (calculatedChecksum == null) {
             calculatedChecksum = sdkChecksum.getChecksumBytes();
-            currentChunkIterator = new ChunkContentIterator(createChecksumChunkHeader());
+            byte[] checksumChunkHeader = createChecksumChunkHeader();
+            currentChunkIterator.clear();
+            currentChunkIterator.add(checksumChunkHeader, checksumChunkHeader.length);
             return false;
         } else if (!isLastTrailingCrlf) {
             // Signed Payload needs Checksums to be signed at the end.
-            currentChunkIterator = new ChunkContentIterator(CRLF.getBytes(StandardCharsets.UTF_8));
+            currentChunkIterator.clear();
+            currentChunkIterator.add(CRLF_BYTES, CRLF_BYTES.length);
             isLastTrailingCrlf = true;
         }
         return true;
@@ -268,7 +285,7 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
     public void reset() throws IOException {
         abortIfNeeded();
         // Clear up any encoded data
-        currentChunkIterator = null;
+        currentChunkIterator.clear();
         if (sdkChecksum != null) {
             sdkChecksum.reset();
         }
@@ -294,12 +311,11 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
      * @return Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[chunkSize];
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < chunkSize) {
             /** Read from the buffer of the decoded stream */
             if (null != decodedStreamBuffer && decodedStreamBuffer.hasNext()) {
-                chunkData[chunkSizeInBytes++] = decodedStreamBuffer.next();
+                chunkSizeInBytes += decodedStreamBuffer.read(chunkData, chunkSizeInBytes, chunkSize - chunkSizeInBytes);
             } else { /** Read from the wrapped stream */
                 int bytesToRead = chunkSize - chunkSizeInBytes;
                 int count = is.read(chunkData, chunkSizeInBytes, bytesToRead);
@@ -313,21 +329,24 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
                 }
             }
         }
+        currentChunkIterator.clear();
         if (chunkSizeInBytes == 0) {
             if (sdkChecksum != null) {
                 isTrailingTerminated = false;
             }
-            byte[] finalChunk = createFinalChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(finalChunk);
+            int headerLength = writeChunkHeader(FINAL_CHUNK, 0, chunkHeader);
+            currentChunkIterator.add(chunkHeader, headerLength);
+            if (isFinalChunkTerminated()) {
+                currentChunkIterator.add(CRLF_BYTES, CRLF_BYTES.length);
+            }
             return true;
         } else {
-            if (chunkSizeInBytes < chunkData.length) {
-                chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-            }
-            byte[] chunkContent = createChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(chunkContent);
+            int headerLength = writeChunkHeader(chunkData, chunkSizeInBytes, chunkHeader);
+            currentChunkIterator.add(chunkHeader, headerLength);
+            currentChunkIterator.add(chunkData, chunkSizeInBytes);
+            currentChunkIterator.add(CRLF_BYTES, CRLF_BYTES.length);
             if (sdkChecksum != null) {
-                sdkChecksum.update(chunkData);
+                sdkChecksum.update(chunkData, 0, chunkSizeInBytes);
             }
             return false;
         }
@@ -341,21 +360,20 @@ public abstract class AwsChunkedEncodingInputStream extends SdkInputStream {
 
 
     /**
-     * The final chunk.
+     * Writes the header of a chunk, which is the chunk size followed by any chunk extensions such as a signature, and the
+     * CRLF that separates it from the chunk data. The chunk data follows the header and is always terminated by a CRLF.
      *
-     * @param finalChunk The last byte which will be often 0 byte.
-     * @return Final chunk that will be appended with CRLF or any required signatures.
+     * @param chunkData The buffer holding the data of the chunk.
+     * @param chunkLength The number of bytes of chunk data in the buffer, which is 0 for the final chunk.
+     * @param destination The buffer to write the header into, which holds {@link #MAX_CHUNK_HEADER_LENGTH} bytes.
+     * @return The length of the header.
      */
-    protected abstract byte[] createFinalChunk(byte[] finalChunk);
+    protected abstract int writeChunkHeader(byte[] chunkData, int chunkLength, byte[] destination);
 
     /**
-     * Creates chunk for the given buffer.
-     * The chucks could be appended with Signatures or any additional bytes by Concrete classes.
-     *
-     * @param chunkData The chunk of original data.
-     * @return Chunked data which will have signature if signed or just data if unsigned.
+     * @return True if the header of the final, empty chunk should be followed by a CRLF.
      */
-    protected abstract byte[] createChunk(byte[] chunkData);
+    protected abstract boolean isFinalChunkTerminated();
 
     /**
      * @return ChecksumChunkHeader in bytes based on the Header name field.
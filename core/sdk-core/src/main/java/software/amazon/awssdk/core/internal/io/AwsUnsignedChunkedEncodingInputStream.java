@@ -15,12 +15,14 @@
 
 package software.amazon.awssdk.core.internal.io;
 
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeChunkSize;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.writeCrlf;
+
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
-import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.chunked.AwsChunkedEncodingConfig;
 import software.amazon.awssdk.utils.BinaryUtils;
 
@@ -82,36 +84,14 @@ public class AwsUnsignedChunkedEncodingInputStream extends AwsChunkedEncodingInp
     }
 
     @Override
-    protected byte[] createFinalChunk(byte[] finalChunk) {
-        StringBuilder chunkHeader = new StringBuilder();
-        // chunk-size
-        chunkHeader.append(Integer.toHexString(finalChunk.length));
-        chunkHeader.append(CRLF);
-        return chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
+    protected int writeChunkHeader(byte[] chunkData, int chunkLength, byte[] destination) {
+        int position = writeChunkSize(chunkLength, destination, 0);
+        return writeCrlf(destination, position);
     }
 
     @Override
-    protected byte[] createChunk(byte[] chunkData) {
-        StringBuilder chunkHeader = new StringBuilder();
-        // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
-        chunkHeader.append(CRLF);
-        try {
-            byte[] header = chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
-            byte[] trailer = CRLF.getBytes(StandardCharsets.UTF_8);
-            byte[] chunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, chunk, 0, header.length);
-            System.arraycopy(chunkData, 0, chunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    chunk, header.length + chunkData.length,
-                    trailer.length);
-            return chunk;
-        } catch (Exception e) {
-            throw SdkClientException.builder()
-                    .message("Unable to create chunked data. " + e.getMessage())
-                    .cause(e)
-                    .build();
-        }
+    protected boolean isFinalChunkTerminated() {
+        return false;
     }
 
     @Override
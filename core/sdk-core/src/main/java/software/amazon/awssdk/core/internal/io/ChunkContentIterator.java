@@ -17,18 +17,49 @@ package software.amazon.awssdk.core.internal.io;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
+/**
+ * Iterates over the bytes of a single encoded chunk. A chunk is made of up to three segments, typically the chunk header, the
+ * chunk data and the trailing CRLF, which are read in order straight from the arrays they were written to, so no chunk is
+ * ever assembled into an array of its own. The iterator is reused for every chunk of a stream.
+ */
 @SdkInternalApi
 class ChunkContentIterator {
 
-    private final byte[] bytes;
+    private static final int MAX_SEGMENTS = 3;
+
+    private final byte[][] segments = new byte[MAX_SEGMENTS][];
+    private final int[] segmentLengths = new int[MAX_SEGMENTS];
+    private int segmentCount;
+    private int segment;
     private int pos;
 
-    ChunkContentIterator(byte[] bytes) {
-        this.bytes = bytes;
+    /**
+     * Discards the current chunk, leaving the iterator empty.
+     */
+    void clear() {
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = null;
+        }
+        segmentCount = 0;
+        segment = 0;
+        pos = 0;
+    }
+
+    /**
+     * Appends the first {@code length} bytes of the given array to the current chunk. The array must not be modified until
+     * the chunk has been read.
+     */
+    void add(byte[] bytes, int length) {
+        if (length == 0) {
+            return;
+        }
+        segments[segmentCount] = bytes;
+        segmentLengths[segmentCount] = length;
+        segmentCount++;
     }
 
     public boolean hasNext() {
-        return pos < bytes.length;
+        return segment < segmentCount;
     }
 
     public int read(byte[] output, int offset, int length) {
@@ -38,10 +69,18 @@ class ChunkContentIterator {
         if (!hasNext()) {
             return -1;
         }
-        int remaingBytesNum = bytes.length - pos;
-        int bytesToRead = Math.min(remaingBytesNum, length);
-        System.arraycopy(bytes, pos, output, offset, bytesToRead);
-        pos += bytesToRead;
-        return bytesToRead;
+        int bytesRead = 0;
+        while (bytesRead < length && hasNext()) {
+            int remainingBytesNum = segmentLengths[segment] - pos;
+            int bytesToRead = Math.min(remainingBytesNum, length - bytesRead);
+            System.arraycopy(segments[segment], pos, output, offset + bytesRead, bytesToRead);
+            bytesRead += bytesToRead;
+            pos += bytesToRead;
+            if (pos == segmentLengths[segment]) {
+                segment++;
+                pos = 0;
+            }
+        }
+        return bytesRead;
     }
 }
@@ -67,6 +67,18 @@ class DecodedStreamBuffer {
         return bufferArray[pos++];
     }
 
+    /**
+     * Copies up to {@code length} buffered bytes into the destination.
+     *
+     * @return The number of bytes copied.
+     */
+    public int read(byte[] destination, int offset, int length) {
+        int count = Math.min(length, byteBuffered - pos);
+        System.arraycopy(bufferArray, pos, destination, offset, count);
+        pos += count;
+        return count;
+    }
+
     public void startReadBuffer() {
         if (bufferSizeOverflow) {
             throw SdkClientException.builder()
@@ -16,10 +16,25 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client side rate limiter used by {@link software.amazon.awssdk.core.retry.RetryMode#ADAPTIVE}, which combines a token
+ * bucket with a CUBIC congestion control algorithm to adapt the rate of requests to the throttling responses of the service.
+ *
+ * <p>Every request and every response of a client goes through this rate limiter, so it does not take any locks. Its state is
+ * split into immutable snapshots that are replaced with compare-and-set: the token bucket, the CUBIC state, and the measured
+ * sending rate. A sequence of calls that does not race produces exactly the same rates as the pseudo-code documented on its
+ * methods. Racing calls may interleave their updates of different snapshots, but no update of a snapshot is lost. A request
+ * counted while another thread closes the measurement window may be counted in the next window instead.
+ */
+@ThreadSafe
 @SdkInternalApi
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
@@ -31,18 +46,14 @@ public class RateLimitingTokenBucket {
 
     private final Clock clock;
 
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
+    private final AtomicReference<BucketState> bucketState = new AtomicReference<>();
+    private final AtomicReference<CubicState> cubicState = new AtomicReference<>();
+    private final AtomicReference<MeasuredRate> measuredRate = new AtomicReference<>();
 
-    private double timeWindow;
+    /**
+     * The number of requests in the current measurement window of {@link #measuredRate}.
+     */
+    private final LongAdder requestCount = new LongAdder();
 
     public interface Clock {
         double time();
@@ -151,61 +162,61 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
+        while (true) {
+            BucketState bucket = bucketState.get();
 
-        synchronized (this) {
             // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
+            if (!bucket.enabled) {
                 return OptionalDouble.of(0.0);
             }
 
-            refill();
-
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+            // Read the clock after the state, so that a successful compare-and-set never moves the bucket back in time.
+            double timestamp = clock.time();
+            double capacity = refill(bucket, timestamp);
+            double unfulfilled = unfulfilledCapacity(capacity, amount);
 
             if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
-                return OptionalDouble.empty();
+                // Still record the refill, because later refills may use a different fill rate.
+                BucketState refilled = new BucketState(true, bucket.fillRate, bucket.maxCapacity, capacity, timestamp);
+                if (bucketState.compareAndSet(bucket, refilled)) {
+                    return OptionalDouble.empty();
+                }
+                continue;
             }
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
+            BucketState acquired = new BucketState(true, bucket.fillRate, bucket.maxCapacity, capacity - amount, timestamp);
+            if (bucketState.compareAndSet(bucket, acquired)) {
+                // If all the tokens couldn't be acquired immediately, wait enough
+                // time to fill the remainder.
+                return OptionalDouble.of(unfulfilled > 0 ? unfulfilled / bucket.fillRate : 0.0);
             }
         }
-
-        return OptionalDouble.of(waitTime);
     }
 
     /**
+     * Acquire capacity from the bucket without refilling it first.
      *
      * @param amount The amount of capacity to acquire from the bucket.
      * @return The unfulfilled amount.
      */
+    @SdkTestInternalApi
     double tryAcquireCapacity(double amount) {
-        double result;
+        BucketState bucket = bucketState.getAndUpdate(b -> b.withCurrentCapacity(b.currentCapacity - amount));
+        return unfulfilledCapacity(bucket.currentCapacity, amount);
+    }
+
+    private static double unfulfilledCapacity(double currentCapacity, double amount) {
         if (amount <= currentCapacity) {
-            result = 0;
-        } else {
-            result = amount - currentCapacity;
+            return 0;
         }
-        currentCapacity = currentCapacity - amount;
-        return result;
+        return amount - currentCapacity;
     }
 
     private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+        bucketState.set(new BucketState(false, Double.NaN, Double.NaN, 0.0, Double.NaN));
+        cubicState.set(new CubicState(0.0, clock.time(), 0.0));
+        measuredRate.set(new MeasuredRate(Math.floor(clock.time()), 0.0));
+        requestCount.reset();
     }
 
     /**
@@ -220,17 +231,13 @@ public class RateLimitingTokenBucket {
      *   last_timestamp = timestamp
      * </pre>
      */
-    // Package private for testing
-    synchronized void refill() {
-        double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
-            return;
+    private static double refill(BucketState bucket, double timestamp) {
+        if (Double.isNaN(bucket.lastTimestamp)) {
+            return bucket.currentCapacity;
         }
 
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        double fillAmount = (timestamp - bucket.lastTimestamp) * bucket.fillRate;
+        return Math.min(bucket.maxCapacity, bucket.currentCapacity + fillAmount);
     }
 
     /**
@@ -245,11 +252,19 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private void updateRate(double newRps, boolean enable) {
+        double fillRate = Math.max(newRps, MIN_FILL_RATE);
+        double maxCapacity = Math.max(newRps, MIN_CAPACITY);
+
+        while (true) {
+            BucketState bucket = bucketState.get();
+            double timestamp = clock.time();
+            double capacity = Math.min(refill(bucket, timestamp), maxCapacity);
+            BucketState updated = new BucketState(bucket.enabled || enable, fillRate, maxCapacity, capacity, timestamp);
+            if (bucketState.compareAndSet(bucket, updated)) {
+                return;
+            }
+        }
     }
 
     /**
@@ -263,21 +278,33 @@ public class RateLimitingTokenBucket {
      *   request_count = 0
      *   last_tx_rate_bucket = time_bucket
      * </pre>
+     *
+     * @return The measured sending rate.
      */
-    private synchronized void updateMeasuredRate() {
+    private double updateMeasuredRate() {
         double t = clock.time();
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        requestCount.increment();
+
+        while (true) {
+            MeasuredRate measured = measuredRate.get();
+            if (timeBucket <= measured.lastTxRateBucket) {
+                return measured.measuredTxRate;
+            }
+
+            long count = requestCount.sum();
+            double currentRate = count / (timeBucket - measured.lastTxRateBucket);
+            double measuredTxRate = (currentRate * SMOOTH) + (measured.measuredTxRate * (1 - SMOOTH));
+            if (measuredRate.compareAndSet(measured, new MeasuredRate(timeBucket, measuredTxRate))) {
+                // Requests counted since the sum belong to the next window, so don't reset to 0.
+                requestCount.add(-count);
+                return measuredTxRate;
+            }
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    void enable() {
+        updateBucketState(b -> b.withEnabled(true));
     }
 
     /**
@@ -305,30 +332,29 @@ public class RateLimitingTokenBucket {
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        double measuredTxRate = updateMeasuredRate();
 
         double calculatedRate;
         if (throttlingResponse) {
+            BucketState bucket = bucketState.get();
             double rateToUse;
-            if (!enabled) {
+            if (!bucket.enabled) {
                 rateToUse = measuredTxRate;
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                rateToUse = Math.min(measuredTxRate, bucket.fillRate);
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
+            cubicState.set(new CubicState(rateToUse, clock.time(), calculateTimeWindow(rateToUse)));
             calculatedRate = cubicThrottle(rateToUse);
-            enable();
         } else {
-            calculateTimeWindow();
+            // The time window only changes with the last max rate, so it was calculated when that was last updated.
             calculatedRate = cubicSuccess(clock.time());
         }
 
         double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+        // Enable the bucket in the same update as the new rate, so that no request is limited by the rate from before.
+        updateRate(newRate, throttlingResponse);
     }
 
     /**
@@ -339,9 +365,13 @@ public class RateLimitingTokenBucket {
      *   _time_window = ((last_max_rate * (1 - BETA)) / SCALE_CONSTANT) ^ (1 / 3)
      * </pre>
      */
-    // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    private static double calculateTimeWindow(double lastMaxRate) {
+        return Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    }
+
+    @SdkTestInternalApi
+    void calculateTimeWindow() {
+        updateCubicState(c -> new CubicState(c.lastMaxRate, c.lastThrottleTime, calculateTimeWindow(c.lastMaxRate)));
     }
 
     /**
@@ -381,9 +411,10 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    double cubicSuccess(double timestamp) {
+        CubicState cubic = cubicState.get();
+        double dt = timestamp - cubic.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - cubic.timeWindow, 3) + cubic.lastMaxRate;
         return calculatedRate;
     }
 
@@ -396,37 +427,105 @@ public class RateLimitingTokenBucket {
     }
 
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        updateCubicState(c -> new CubicState(lastMaxRate, c.lastThrottleTime, c.timeWindow));
+    }
+
+    @SdkTestInternalApi
+    void setLastThrottleTime(double lastThrottleTime) {
+        updateCubicState(c -> new CubicState(c.lastMaxRate, lastThrottleTime, c.timeWindow));
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    double getMeasuredTxRate() {
+        return measuredRate.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getFillRate() {
+        return bucketState.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    void setCurrentCapacity(double currentCapacity) {
+        updateBucketState(b -> b.withCurrentCapacity(currentCapacity));
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    double getCurrentCapacity() {
+        return bucketState.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    void setFillRate(double fillRate) {
+        updateBucketState(b -> new BucketState(b.enabled, fillRate, b.maxCapacity, b.currentCapacity, b.lastTimestamp));
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setMaxCapacity(double maxCapacity) {
+        updateBucketState(b -> new BucketState(b.enabled, b.fillRate, maxCapacity, b.currentCapacity, b.lastTimestamp));
+    }
+
+    private void updateBucketState(UnaryOperator<BucketState> update) {
+        bucketState.updateAndGet(update);
+    }
+
+    private void updateCubicState(UnaryOperator<CubicState> update) {
+        cubicState.updateAndGet(update);
+    }
+
+    /**
+     * The state of the token bucket. The fill rate, max capacity and last timestamp are {@code NaN} until they are first set.
+     */
+    private static final class BucketState {
+        private final boolean enabled;
+        private final double fillRate;
+        private final double maxCapacity;
+        private final double currentCapacity;
+        private final double lastTimestamp;
+
+        private BucketState(boolean enabled, double fillRate, double maxCapacity, double currentCapacity, double lastTimestamp) {
+            this.enabled = enabled;
+            this.fillRate = fillRate;
+            this.maxCapacity = maxCapacity;
+            this.currentCapacity = currentCapacity;
+            this.lastTimestamp = lastTimestamp;
+        }
+
+        private BucketState withEnabled(boolean enabled) {
+            return new BucketState(enabled, fillRate, maxCapacity, currentCapacity, lastTimestamp);
+        }
+
+        private BucketState withCurrentCapacity(double currentCapacity) {
+            return new BucketState(enabled, fillRate, maxCapacity, currentCapacity, lastTimestamp);
+        }
+    }
+
+    /**
+     * The state of the CUBIC algorithm, which only changes when a throttling response is received.
+     */
+    private static final class CubicState {
+        private final double lastMaxRate;
+        private final double lastThrottleTime;
+        private final double timeWindow;
+
+        private CubicState(double lastMaxRate, double lastThrottleTime, double timeWindow) {
+            this.lastMaxRate = lastMaxRate;
+            this.lastThrottleTime = lastThrottleTime;
+            this.timeWindow = timeWindow;
+        }
+    }
+
+    /**
+     * The measured sending rate, as of the end of the last measurement window.
+     */
+    private static final class MeasuredRate {
+        private final double lastTxRateBucket;
+        private final double measuredTxRate;
+
+        private MeasuredRate(double lastTxRateBucket, double measuredTxRate) {
+            this.lastTxRateBucket = lastTxRateBucket;
+            this.measuredTxRate = measuredTxRate;
+        }
     }
 }
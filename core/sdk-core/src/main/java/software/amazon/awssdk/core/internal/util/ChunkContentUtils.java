@@ -15,11 +15,9 @@
 
 package software.amazon.awssdk.core.internal.util;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.checksums.Algorithm;
-import software.amazon.awssdk.core.exception.SdkClientException;
 
 @SdkInternalApi
 public final class ChunkContentUtils {
@@ -28,6 +26,8 @@ public final class ChunkContentUtils {
     public static final String ZERO_BYTE = "0";
     public static final String CRLF = "\r\n";
 
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
     private ChunkContentUtils() {
     }
 
@@ -60,47 +60,45 @@ public final class ChunkContentUtils {
     }
 
     /**
-     * Creates Chunk encoded checksum trailer for a computedChecksum which is in Base64 encoded.
-     * @param computedChecksum Base64 encoded computed checksum.
-     * @param trailerHeader Header for the checksum data in the trailer.
-     * @return Chunk encoded checksum trailer with given header.
+     * Writes the hex encoded chunk size into the destination, as it appears at the start of a chunk header.
+     *
+     * @param chunkSize The size of the chunk data.
+     * @param destination The array to write to.
+     * @param offset The position in the destination to start writing at.
+     * @return The position in the destination after the last byte written.
      */
-    public static ByteBuffer createChecksumTrailer(String computedChecksum, String trailerHeader) {
-        StringBuilder headerBuilder = new StringBuilder(trailerHeader)
-                .append(HEADER_COLON_SEPARATOR)
-                .append(computedChecksum)
-                .append(CRLF)
-                .append(CRLF);
-        return ByteBuffer.wrap(headerBuilder.toString().getBytes(StandardCharsets.UTF_8));
+    public static int writeChunkSize(long chunkSize, byte[] destination, int offset) {
+        int digits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(chunkSize) + 3) / 4);
+        int end = offset + digits;
+        long remaining = chunkSize;
+        for (int i = end - 1; i >= offset; i--) {
+            destination[i] = HEX_DIGITS[(int) (remaining & 0xF)];
+            remaining >>>= 4;
+        }
+        return end;
     }
 
     /**
-     * Creates ChunkEncoded data for an given chunk data.
-     * @param chunkData chunk data that needs to be converted to chunk encoded format.
-     * @param isLastByte if true then additional CRLF will not be appended.
-     * @return Chunk encoded format of a given data.
+     * Writes a string made up of ASCII characters, such as a header name or a hex encoded signature, into the destination.
+     *
+     * @return The position in the destination after the last byte written.
      */
-    public static ByteBuffer createChunk(ByteBuffer chunkData, boolean isLastByte) {
-        int chunkLength = chunkData.remaining();
-        StringBuilder chunkHeader = new StringBuilder(Integer.toHexString(chunkLength));
-        chunkHeader.append(CRLF);
-        try {
-            byte[] header = chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
-            // Last byte does not need additional \r\n trailer
-            byte[] trailer = !isLastByte ? CRLF.getBytes(StandardCharsets.UTF_8)
-                    : "".getBytes(StandardCharsets.UTF_8);
-            ByteBuffer chunkFormattedBuffer = ByteBuffer.allocate(header.length + chunkLength + trailer.length);
-            chunkFormattedBuffer.put(header)
-                    .put(chunkData)
-                    .put(trailer);
-            chunkFormattedBuffer.flip();
-            return chunkFormattedBuffer;
-        } catch (Exception e) {
-            // This is to warp BufferOverflowException,ReadOnlyBufferException to SdkClientException.
-            throw SdkClientException.builder()
-                    .message("Unable to create chunked data. " + e.getMessage())
-                    .cause(e)
-                    .build();
+    public static int writeAscii(String value, byte[] destination, int offset) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            destination[offset + i] = (byte) value.charAt(i);
         }
+        return offset + length;
+    }
+
+    /**
+     * Writes a CRLF into the destination.
+     *
+     * @return The position in the destination after the last byte written.
+     */
+    public static int writeCrlf(byte[] destination, int offset) {
+        destination[offset] = '\r';
+        destination[offset + 1] = '\n';
+        return offset + 2;
     }
 }
\ No newline at end of file
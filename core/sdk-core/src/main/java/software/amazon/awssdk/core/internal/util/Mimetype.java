@@ -26,6 +26,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.StringTokenizer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -75,6 +77,8 @@ public final class Mimetype {
 
     private static final ClassLoader CLASS_LOADER = ClassLoaderHelper.classLoader(Mimetype.class);
 
+    private static final Lock INSTANCE_LOCK = new ReentrantLock();
+
     private static volatile Mimetype mimetype;
 
     /**
@@ -101,10 +105,13 @@ public final class Mimetype {
      */
     public static Mimetype getInstance() {
         if (mimetype == null) {
-            synchronized (Mimetype.class) {
+            INSTANCE_LOCK.lock();
+            try {
                 if (mimetype == null) {
                     mimetype = new Mimetype();
                 }
+            } finally {
+                INSTANCE_LOCK.unlock();
             }
         }
 
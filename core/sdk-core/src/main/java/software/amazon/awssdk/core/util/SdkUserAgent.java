@@ -16,6 +16,8 @@
 package software.amazon.awssdk.core.util;
 
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.jar.JarInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +45,8 @@ public final class SdkUserAgent {
     /** Shared logger for any issues while loading version information. */
     private static final Logger log = LoggerFactory.getLogger(SdkUserAgent.class);
     private static final String UNKNOWN = "unknown";
+    private static final Lock INSTANCE_LOCK = new ReentrantLock();
+
     private static volatile SdkUserAgent instance;
 
     private static final String[] USER_AGENT_SEARCH = {
@@ -67,10 +71,13 @@ public final class SdkUserAgent {
 
     public static SdkUserAgent create() {
         if (instance == null) {
-            synchronized (SdkUserAgent.class) {
+            INSTANCE_LOCK.lock();
+            try {
                 if (instance == null) {
                     instance = new SdkUserAgent();
                 }
+            } finally {
+                INSTANCE_LOCK.unlock();
             }
         }
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.AfterClass;
+import software.amazon.awssdk.core.internal.async.MappedFileAsyncRequestBody;
+import software.amazon.awssdk.utils.FunctionalUtils;
+
+/**
+ * TCK verification test for {@link MappedFileAsyncRequestBody}.
+ */
+public class MappedFileAsyncRequestPublisherTckTest extends org.reactivestreams.tck.PublisherVerification<ByteBuffer> {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_ELEMENTS = 1000;
+
+    // Mapping needs files on the default file system
+    private final Path rootDir = Files.createTempDirectory("mapped-file-tck");
+    private final byte[] chunkData = new byte[CHUNK_SIZE];
+
+    public MappedFileAsyncRequestPublisherTckTest() throws IOException {
+        super(new TestEnvironment());
+    }
+
+    @AfterClass
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.list(rootDir)) {
+            files.forEach(f -> FunctionalUtils.invokeSafely(() -> Files.delete(f)));
+        }
+        Files.delete(rootDir);
+    }
+
+    // prevent some tests from trying to create publishers with more elements
+    // than this since it would be impractical. For example, one test attempts
+    // to create a publisher with Long.MAX_VALUE elements
+    @Override
+    public long maxElementsFromPublisher() {
+        return MAX_ELEMENTS;
+    }
+
+    @Override
+    public Publisher<ByteBuffer> createPublisher(long elements) {
+        return MappedFileAsyncRequestBody.builder()
+                                         .chunkSizeInBytes(CHUNK_SIZE)
+                                         .path(fileOfNChunks(elements))
+                                         .build();
+    }
+
+    @Override
+    public Publisher<ByteBuffer> createFailedPublisher() {
+        // tests properly failing on non existing files:
+        Path path = rootDir.resolve("createFailedPublisher" + UUID.randomUUID());
+
+        FunctionalUtils.invokeSafely(() -> Files.write(path, "test".getBytes(StandardCharsets.UTF_8)));
+        MappedFileAsyncRequestBody requestBody = MappedFileAsyncRequestBody.builder()
+                                                                           .chunkSizeInBytes(CHUNK_SIZE)
+                                                                           .path(path)
+                                                                           .build();
+
+        FunctionalUtils.invokeSafely(() -> Files.delete(path));
+        return requestBody;
+    }
+
+    private Path fileOfNChunks(long nChunks) {
+        String name = String.format("%d-chunks-file.dat", nChunks);
+        Path p = rootDir.resolve(name);
+        if (!Files.exists(p)) {
+            try (OutputStream os = Files.newOutputStream(p)) {
+                for (int i = 0; i < nChunks; ++i) {
+                    os.write(chunkData);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return p;
+    }
+}
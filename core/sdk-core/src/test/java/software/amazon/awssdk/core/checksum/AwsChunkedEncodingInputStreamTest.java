@@ -23,6 +23,7 @@ import java.io.InputStream;
 import org.junit.Test;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.internal.chunked.AwsChunkedEncodingConfig;
 import software.amazon.awssdk.core.internal.io.AwsChunkedEncodingInputStream;
 import software.amazon.awssdk.core.internal.io.AwsUnsignedChunkedEncodingInputStream;
 
@@ -86,4 +87,29 @@ public class AwsChunkedEncodingInputStreamTest {
         }
         assertThat(sb).hasToString("b" + CRLF + initialString +CRLF + "0" + CRLF
                 + "x-amz-checksum-sha-256:ZOyIygCyaOW6GjVnihtTFtIS9PNmskdyMlNKiuyjfzw=" + CRLF+CRLF);    }
+
+    @Test
+    public void readMultipleChunks_reusesChunkBufferAcrossChunks() throws IOException {
+        String initialString = "Hello world";
+        InputStream targetStream = new ByteArrayInputStream(initialString.getBytes());
+        AwsChunkedEncodingInputStream chunkedStream =
+            AwsUnsignedChunkedEncodingInputStream.builder()
+                                                 .inputStream(targetStream)
+                                                 .awsChunkedEncodingConfig(AwsChunkedEncodingConfig.builder()
+                                                                                                   .chunkSize(4)
+                                                                                                   .build())
+                                                 .sdkChecksum(SdkChecksum.forAlgorithm(SHA256_ALGORITHM))
+                                                 .checksumHeaderForTrailer(SHA256_HEADER_NAME)
+                                                 .build();
+        byte[] buffer = new byte[5];
+        StringBuilder sb = new StringBuilder();
+        for (int count; (count = chunkedStream.read(buffer, 0, buffer.length)) != -1; ) {
+            sb.append(new String(buffer, 0, count));
+        }
+        assertThat(sb).hasToString("4" + CRLF + "Hell" + CRLF
+                                   + "4" + CRLF + "o wo" + CRLF
+                                   + "3" + CRLF + "rld" + CRLF
+                                   + "0" + CRLF
+                                   + "x-amz-checksum-sha-256:ZOyIygCyaOW6GjVnihtTFtIS9PNmskdyMlNKiuyjfzw=" + CRLF + CRLF);
+    }
 }
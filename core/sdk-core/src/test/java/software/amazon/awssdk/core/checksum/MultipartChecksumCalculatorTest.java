@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.MultipartChecksumCalculator;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class MultipartChecksumCalculatorTest {
+
+    private static final int PART_SIZE = 1000;
+    private static final byte[] DATA = new byte[PART_SIZE * 3 + 123];
+
+    static {
+        new Random(7).nextBytes(DATA);
+    }
+
+    @Test
+    public void fullObjectChecksum_crcAlgorithms_matchesChecksumOfWholeObject() {
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.CRC32, Algorithm.CRC32C}) {
+            MultipartChecksumCalculator calculator = calculateAllParts(algorithm);
+
+            assertThat(calculator.fullObjectChecksum()).hasValue(checksum(algorithm, DATA, 0, DATA.length));
+        }
+    }
+
+    @Test
+    public void fullObjectChecksum_sha256_isEmpty() {
+        assertThat(calculateAllParts(Algorithm.SHA256).fullObjectChecksum()).isEmpty();
+    }
+
+    @Test
+    public void compositeChecksum_isChecksumOfPartChecksums() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            MultipartChecksumCalculator calculator = calculateAllParts(algorithm);
+
+            SdkChecksum expected = SdkChecksum.forAlgorithm(algorithm);
+            for (int offset = 0; offset < DATA.length; offset += PART_SIZE) {
+                String partChecksum = checksum(algorithm, DATA, offset, Math.min(PART_SIZE, DATA.length - offset));
+                expected.update(BinaryUtils.fromBase64(partChecksum));
+            }
+            assertThat(calculator.compositeChecksum()).isEqualTo(BinaryUtils.toBase64(expected.getChecksumBytes()) + "-4");
+        }
+    }
+
+    @Test
+    public void compositeChecksum_missingPart_throws() {
+        MultipartChecksumCalculator calculator = MultipartChecksumCalculator.builder().algorithm(Algorithm.CRC32).build();
+        calculator.addPartChecksum(1, new byte[4], 10);
+        calculator.addPartChecksum(3, new byte[4], 10);
+
+        assertThatThrownBy(calculator::compositeChecksum).isInstanceOf(IllegalStateException.class)
+                                                         .hasMessageContaining("part 2");
+    }
+
+    private static MultipartChecksumCalculator calculateAllParts(Algorithm algorithm) {
+        MultipartChecksumCalculator calculator = MultipartChecksumCalculator.builder().algorithm(algorithm).build();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        int partNumber = 1;
+        for (int offset = 0; offset < DATA.length; offset += PART_SIZE) {
+            ByteBuffer part = ByteBuffer.wrap(DATA, offset, Math.min(PART_SIZE, DATA.length - offset));
+            futures.add(calculator.calculatePartChecksum(partNumber++, part));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        return calculator;
+    }
+
+    private static String checksum(Algorithm algorithm, byte[] data, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(data, offset, length);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+}
@@ -22,6 +22,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -224,4 +225,36 @@ public class ChecksumCalculatingAsyncRequestBodyTest {
         ByteBuffer publishedBb = Flowable.fromPublisher(body).toList().blockingGet().get(0);
         assertThat(BinaryUtils.copyAllBytesFrom(publishedBb)).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void multipleBuffers_framedAsSingleChunk() {
+        List<ByteBuffer> buffers = Lists.newArrayList(ByteBuffer.wrap("Hello".getBytes(StandardCharsets.UTF_8)),
+                                                       ByteBuffer.wrap(" ".getBytes(StandardCharsets.UTF_8)),
+                                                       ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8)));
+        AsyncRequestBody wrapped = new AsyncRequestBody() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of((long) testString.length());
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                Flowable.fromIterable(buffers).map(ByteBuffer::duplicate).subscribe(s);
+            }
+        };
+        AsyncRequestBody body = ChecksumCalculatingAsyncRequestBody.builder()
+                                                                   .asyncRequestBody(wrapped)
+                                                                   .algorithm(Algorithm.CRC32)
+                                                                   .trailerHeader("x-amz-checksum-crc32")
+                                                                   .build();
+
+        for (int i = 0; i < 2; i++) {
+            String published = Flowable.fromPublisher(body)
+                                       .map(b -> new String(BinaryUtils.copyAllBytesFrom(b), StandardCharsets.UTF_8))
+                                       .reduce("", String::concat)
+                                       .blockingGet();
+            assertThat(published).isEqualTo(expectedTestString);
+            assertThat(body.contentLength()).hasValue((long) published.length());
+        }
+    }
+}
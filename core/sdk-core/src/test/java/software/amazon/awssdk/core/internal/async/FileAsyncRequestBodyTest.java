@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
@@ -28,6 +29,7 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
@@ -104,6 +106,62 @@ public class FileAsyncRequestBodyTest {
         completed.get(5, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void readRange_deliversOnlyBytesInRange() throws Exception {
+        long position = MiB + 3;
+        long numBytesToRead = 2 * MiB + 5;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .position(position)
+                                                                .numBytesToRead(numBytesToRead)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        byte[] expected = Arrays.copyOfRange(Files.readAllBytes(testFile), (int) position, (int) (position + numBytesToRead));
+        assertThat(asyncRequestBody.contentLength()).hasValue(numBytesToRead);
+        assertThat(subscriber.output.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void readRange_positionOnly_readsToEndOfFile() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .position(TEST_FILE_SIZE - 10)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(asyncRequestBody.contentLength()).hasValue(10L);
+        assertThat(subscriber.output.size()).isEqualTo(10);
+    }
+
+    @Test
+    public void readRange_positionPastEndOfFile_throwsException() {
+        assertThatThrownBy(() -> FileAsyncRequestBody.builder()
+                                                     .path(testFile)
+                                                     .position(TEST_FILE_SIZE + 1)
+                                                     .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void readRange_numBytesToReadPastEndOfFile_throwsException() {
+        assertThatThrownBy(() -> FileAsyncRequestBody.builder()
+                                                     .path(testFile)
+                                                     .position(TEST_FILE_SIZE - 10)
+                                                     .numBytesToRead(11L)
+                                                     .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("numBytesToRead (11) must not exceed the 10 bytes of the file after position");
+    }
+
     @Test
     public void changingFile_fileGetsShorterThanAlreadyRead_failsBecauseTooShort() throws Exception {
         AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
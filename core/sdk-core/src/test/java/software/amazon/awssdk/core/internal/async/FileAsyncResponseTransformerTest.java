@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -107,6 +109,42 @@ class FileAsyncResponseTransformerTest {
         assertThat(future.isCompletedExceptionally()).isFalse();
     }
 
+    @Test
+    public void releasableBuffers_writesContentAndReleasesEachBufferOnce() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath);
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+
+        List<String> chunks = Arrays.asList("hello ", "releasable ", "world");
+        AtomicInteger releases = new AtomicInteger();
+        transformer.onStream(subscriber -> {
+            assertThat(subscriber).isInstanceOf(ReleasableBufferSubscriber.class);
+            ReleasableBufferSubscriber releasableSubscriber = (ReleasableBufferSubscriber) subscriber;
+            subscriber.onSubscribe(new Subscription() {
+                private int next = 0;
+
+                @Override
+                public void request(long n) {
+                    if (next < chunks.size()) {
+                        ByteBuffer chunk = ByteBuffer.wrap(chunks.get(next++).getBytes(StandardCharsets.UTF_8));
+                        releasableSubscriber.onNext(chunk.asReadOnlyBuffer(), releases::incrementAndGet);
+                    } else if (next++ == chunks.size()) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        });
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("foobar");
+        assertThat(releases).hasValue(chunks.size());
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo(String.join("", chunks));
+    }
+
     @Test
     void noConfiguration_fileAlreadyExists_shouldThrowException() throws Exception {
         Path testPath = testFs.getPath("test_file.txt");
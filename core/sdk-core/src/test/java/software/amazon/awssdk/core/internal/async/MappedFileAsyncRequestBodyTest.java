@@ -0,0 +1,261 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.async.FileRegionContentPublisher;
+import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class MappedFileAsyncRequestBodyTest {
+    private static final long MiB = 1024 * 1024;
+    private static final long TEST_FILE_SIZE = 10 * MiB;
+    private static Path testFile;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        testFile = new RandomTempFile(TEST_FILE_SIZE).toPath();
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        try {
+            Files.delete(testFile);
+        } catch (NoSuchFileException e) {
+            // ignore
+        }
+    }
+
+    @Test
+    public void readFully_deliversFileContents() throws Exception {
+        AsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                      .path(testFile)
+                                                                      .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(asyncRequestBody.contentLength()).hasValue(TEST_FILE_SIZE);
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void readRange_deliversOnlyBytesInRange() throws Exception {
+        long position = MiB + 3;
+        long numBytesToRead = 2 * MiB + 5;
+        MappedFileAsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                                .path(testFile)
+                                                                                .position(position)
+                                                                                .numBytesToRead(numBytesToRead)
+                                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        byte[] expected = Arrays.copyOfRange(Files.readAllBytes(testFile), (int) position, (int) (position + numBytesToRead));
+        assertThat(subscriber.output.toByteArray()).isEqualTo(expected);
+        assertThat(asyncRequestBody.contentLength()).hasValue(numBytesToRead);
+        assertThat(asyncRequestBody.position()).isEqualTo(position);
+        assertThat(asyncRequestBody.path()).isEqualTo(testFile);
+    }
+
+    @Test
+    public void readOneChunkAtATime_deliversChunksOfConfiguredSize() throws Exception {
+        int chunkSize = 1000;
+        AsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                      .path(testFile)
+                                                                      .chunkSizeInBytes(chunkSize)
+                                                                      .numBytesToRead(2500L)
+                                                                      .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        for (int i = 0; i < 3; i++) {
+            subscriber.sub.request(1);
+            assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+        }
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.chunkSizes).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    public void inMemoryFileSystem_readsWithoutMapping() throws Exception {
+        try (FileSystem fs = Jimfs.newFileSystem(Configuration.unix())) {
+            Path file = fs.getPath("/file");
+            Files.write(file, Files.readAllBytes(testFile));
+
+            AsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                          .path(file)
+                                                                          .position(7L)
+                                                                          .build();
+
+            ControllableSubscriber subscriber = new ControllableSubscriber();
+            asyncRequestBody.subscribe(subscriber);
+            subscriber.sub.request(Long.MAX_VALUE);
+            subscriber.completed.get(5, TimeUnit.SECONDS);
+
+            byte[] expected = Arrays.copyOfRange(Files.readAllBytes(testFile), 7, (int) TEST_FILE_SIZE);
+            assertThat(subscriber.output.toByteArray()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void isFileRegionContentPublisher() {
+        assertThat(AsyncRequestBody.fromMappedFile(testFile)).isInstanceOf(FileRegionContentPublisher.class);
+    }
+
+    @Test
+    public void readRange_positionPastEndOfFile_throwsException() {
+        assertThatThrownBy(() -> MappedFileAsyncRequestBody.builder()
+                                                           .path(testFile)
+                                                           .position(TEST_FILE_SIZE + 1)
+                                                           .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void readRange_numBytesToReadPastEndOfFile_throwsException() {
+        assertThatThrownBy(() -> MappedFileAsyncRequestBody.builder()
+                                                           .path(testFile)
+                                                           .position(TEST_FILE_SIZE - 10)
+                                                           .numBytesToRead(11L)
+                                                           .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("numBytesToRead (11) must not exceed the 10 bytes of the file after position");
+    }
+
+    @Test
+    public void changingFile_fileGetsShorterThanRange_failsBecauseTooShort() throws Exception {
+        AsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                      .path(testFile)
+                                                                      .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+
+        // Change the file to be shorter before the region is mapped
+        Files.write(testFile, new byte[10]);
+
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void changingFile_fileGetsTouched_failsBecauseUpdatedModificationTime() throws Exception {
+        AsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                      .path(testFile)
+                                                                      .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+
+        // Start reading file
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        // Change the file to be updated
+        Thread.sleep(1_000); // Wait for 1 second so that we are definitely in a different second than when the file was created
+        Files.setLastModifiedTime(testFile, FileTime.from(Instant.now()));
+
+        // Finishing reading the file
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void cancel_stopsDelivery() throws Exception {
+        AsyncRequestBody asyncRequestBody = MappedFileAsyncRequestBody.builder()
+                                                                      .path(testFile)
+                                                                      .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        subscriber.sub.cancel();
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.chunkSizes).hasSize(1);
+        assertThat(subscriber.completed).isNotDone();
+    }
+
+    private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final CompletableFuture<Void> completed = new CompletableFuture<>();
+        private final Semaphore onNextSemaphore = new Semaphore(0);
+        private final List<Integer> chunkSizes = new ArrayList<>();
+        private Subscription sub;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.sub = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            chunkSizes.add(byteBuffer.remaining());
+            invokeSafely(() -> output.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            onNextSemaphore.release();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(null);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.Test;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.Crc32CChecksum;
+import software.amazon.awssdk.core.checksums.Crc32Checksum;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+
+public class CrcCombinerTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    public void combine_crc32_matchesChecksumOfConcatenation() {
+        for (int split : new int[] {0, 1, 7, 1000, 4095, 4096}) {
+            byte[] data = randomBytes(4096);
+            CRC32 whole = new CRC32();
+            whole.update(data, 0, data.length);
+            CRC32 first = new CRC32();
+            first.update(data, 0, split);
+            CRC32 second = new CRC32();
+            second.update(data, split, data.length - split);
+
+            assertThat(Crc32Checksum.combine(first.getValue(), second.getValue(), data.length - split))
+                .isEqualTo(whole.getValue());
+        }
+    }
+
+    @Test
+    public void combine_crc32c_matchesChecksumOfConcatenation() {
+        for (int split : new int[] {0, 1, 7, 1000, 4095, 4096}) {
+            byte[] data = randomBytes(4096);
+            SdkCrc32C whole = SdkCrc32C.create();
+            whole.update(data, 0, data.length);
+            SdkCrc32C first = SdkCrc32C.create();
+            first.update(data, 0, split);
+            SdkCrc32C second = SdkCrc32C.create();
+            second.update(data, split, data.length - split);
+
+            assertThat(Crc32CChecksum.combine(first.getValue(), second.getValue(), data.length - split))
+                .isEqualTo(whole.getValue());
+        }
+    }
+
+    @Test
+    public void markAndReset_multipleMarks_restoresLatestMark() {
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.CRC32, Algorithm.CRC32C}) {
+            byte[] data = randomBytes(300);
+            SdkChecksum expected = SdkChecksum.forAlgorithm(algorithm);
+            expected.update(data, 0, data.length);
+
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(data, 0, 100);
+            checksum.mark(0);
+            checksum.update(data, 100, 100);
+            checksum.mark(0);
+            checksum.update(data, 200, 50);
+            checksum.reset();
+            checksum.update(data, 200, 100);
+
+            assertThat(checksum.getValue()).isEqualTo(expected.getValue());
+        }
+    }
+
+    @Test
+    public void updateByteBuffer_heapAndDirectBuffers_matchesByteArrayUpdate() {
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.CRC32, Algorithm.CRC32C}) {
+            byte[] data = randomBytes(10_000);
+            SdkChecksum expected = SdkChecksum.forAlgorithm(algorithm);
+            expected.update(data, 0, data.length);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length - 100);
+            direct.put(data, 100, data.length - 100);
+            direct.flip();
+
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(ByteBuffer.wrap(data, 0, 100));
+            checksum.mark(0);
+            checksum.update(direct);
+
+            assertThat(direct.hasRemaining()).isFalse();
+            assertThat(checksum.getValue()).isEqualTo(expected.getValue());
+        }
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.core.internal.util.ResponseHandlerTestUtils.combinedSyncResponseHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+/**
+ * Tests for the request pipeline that {@link AmazonSyncHttpClient} builds once and shares across requests.
+ */
+public class AmazonSyncHttpClientPipelineTest {
+    private static final String REQUEST_ID_HEADER = "x-test-request-id";
+
+    private SdkHttpClient sdkHttpClient;
+
+    @BeforeEach
+    public void setup() {
+        sdkHttpClient = mock(SdkHttpClient.class);
+        when(sdkHttpClient.clientName()).thenReturn("UNKNOWN");
+    }
+
+    @Test
+    public void adaptiveRetry_throttledRequest_rateLimitsLaterRequestsOfSameClient() throws Exception {
+        ExecutableHttpRequest throttled = executableRequest(HttpStatusCode.THROTTLING);
+        ExecutableHttpRequest successful = executableRequest(HttpStatusCode.OK);
+        when(sdkHttpClient.prepareRequest(any())).thenReturn(throttled, successful);
+
+        AmazonSyncHttpClient client = adaptiveClient();
+
+        assertThatThrownBy(() -> execute(client, combinedSyncResponseHandler(null, statusCodeErrorHandler())))
+            .isInstanceOf(SdkServiceException.class);
+
+        // The throttled response of the first request enabled rate limiting on the bucket the second request uses.
+        assertThatThrownBy(() -> execute(client, combinedSyncResponseHandler(null, statusCodeErrorHandler())))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Unable to acquire a send token");
+
+        verify(sdkHttpClient, times(1)).prepareRequest(any());
+    }
+
+    @Test
+    public void adaptiveRetry_throttledRequest_doesNotRateLimitOtherClients() throws Exception {
+        ExecutableHttpRequest throttled = executableRequest(HttpStatusCode.THROTTLING);
+        ExecutableHttpRequest successful = executableRequest(HttpStatusCode.OK);
+        when(sdkHttpClient.prepareRequest(any())).thenReturn(throttled, successful);
+
+        assertThatThrownBy(() -> execute(adaptiveClient(), combinedSyncResponseHandler(null, statusCodeErrorHandler())))
+            .isInstanceOf(SdkServiceException.class);
+
+        execute(adaptiveClient(), combinedSyncResponseHandler(null, statusCodeErrorHandler()));
+
+        verify(sdkHttpClient, times(2)).prepareRequest(any());
+    }
+
+    @Test
+    public void concurrentRequests_eachUseTheirOwnResponseHandler() throws Exception {
+        int concurrency = 8;
+        CyclicBarrier allInFlight = new CyclicBarrier(concurrency);
+
+        // Echo the request's ID back on the response, once every request has reached the HTTP client.
+        when(sdkHttpClient.prepareRequest(any())).thenAnswer(i -> {
+            HttpExecuteRequest request = i.getArgument(0);
+            String requestId = request.httpRequest().firstMatchingHeader(REQUEST_ID_HEADER).get();
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() throws IOException {
+                    try {
+                        allInFlight.await(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return response(HttpStatusCode.OK, requestId);
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        });
+
+        AmazonSyncHttpClient client = HttpTestUtils.testClientBuilder()
+                                                   .httpClient(sdkHttpClient)
+                                                   .retryPolicy(RetryPolicy.none())
+                                                   .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                String requestId = Integer.toString(i);
+                HttpResponseHandler<String> handler = (response, attributes) ->
+                    requestId + ":" + response.firstMatchingHeader(REQUEST_ID_HEADER).orElse(null);
+                results.add(executor.submit(() -> client.requestExecutionBuilder()
+                                                        .request(ValidSdkObjects.sdkHttpFullRequest()
+                                                                                .putHeader(REQUEST_ID_HEADER, requestId)
+                                                                                .build())
+                                                        .originalRequest(NoopTestRequest.builder().build())
+                                                        .executionContext(ClientExecutionAndRequestTimerTestUtils
+                                                                              .executionContext(null))
+                                                        .execute(combinedSyncResponseHandler(handler, null))));
+            }
+
+            for (int i = 0; i < concurrency; i++) {
+                assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i + ":" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AmazonSyncHttpClient adaptiveClient() {
+        return HttpTestUtils.testClientBuilder()
+                            .httpClient(sdkHttpClient)
+                            .retryPolicy(RetryPolicy.builder(RetryMode.ADAPTIVE)
+                                                    .numRetries(0)
+                                                    .fastFailRateLimiting(true)
+                                                    .build())
+                            .build();
+    }
+
+    private static <T> T execute(AmazonSyncHttpClient client,
+                                 HttpResponseHandler<Response<T>> responseHandler) {
+        return client.requestExecutionBuilder()
+                     .request(ValidSdkObjects.sdkHttpFullRequest().build())
+                     .originalRequest(NoopTestRequest.builder().build())
+                     .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(null))
+                     .execute(responseHandler);
+    }
+
+    private static HttpResponseHandler<SdkServiceException> statusCodeErrorHandler() {
+        return (response, attributes) -> SdkServiceException.builder()
+                                                            .statusCode(response.statusCode())
+                                                            .build();
+    }
+
+    private static ExecutableHttpRequest executableRequest(int statusCode) throws Exception {
+        ExecutableHttpRequest executable = mock(ExecutableHttpRequest.class);
+        when(executable.call()).thenReturn(response(statusCode, null));
+        return executable;
+    }
+
+    private static HttpExecuteResponse response(int statusCode, String requestId) {
+        SdkHttpResponse.Builder response = SdkHttpResponse.builder().statusCode(statusCode);
+        if (requestId != null) {
+            response.putHeader(REQUEST_ID_HEADER, requestId);
+        }
+        return HttpExecuteResponse.builder().response(response.build()).build();
+    }
+}
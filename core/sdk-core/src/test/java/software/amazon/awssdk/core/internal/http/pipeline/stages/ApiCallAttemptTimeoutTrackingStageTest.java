@@ -16,16 +16,19 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,6 +38,7 @@ import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -53,9 +57,6 @@ public class ApiCallAttemptTimeoutTrackingStageTest {
     @Mock
     private ScheduledExecutorService timeoutExecutor;
 
-    @Mock
-    private ScheduledFuture scheduledFuture;
-
     private ApiCallAttemptTimeoutTrackingStage<Void> stage;
 
     @Before
@@ -72,11 +73,43 @@ public class ApiCallAttemptTimeoutTrackingStageTest {
     public void timeoutEnabled_shouldHaveTracker() throws Exception {
         when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
             .thenAnswer(invocationOnMock -> null);
-        when(timeoutExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(scheduledFuture);
         RequestExecutionContext context = requestContext(500);
         stage.execute(mock(SdkHttpFullRequest.class), context);
-        assertThat(scheduledFuture.isDone()).isFalse();
         assertThat(context.apiCallAttemptTimeoutTracker()).isInstanceOf(ApiCallTimeoutTracker.class);
+        assertThat(context.apiCallAttemptTimeoutTracker().hasExecuted()).isFalse();
+    }
+
+    @Test
+    public void attemptCompletesBeforeTimeout_shouldCancelTimeout() throws Exception {
+        when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+            .thenAnswer(invocationOnMock -> null);
+        RequestExecutionContext context = requestContext(50);
+        stage.execute(mock(SdkHttpFullRequest.class), context);
+
+        // Well past the deadline, the cancelled timeout must never have been handed to the executor.
+        verify(timeoutExecutor, after(500).never()).execute(any(Runnable.class));
+        assertThat(context.apiCallAttemptTimeoutTracker().hasExecuted()).isFalse();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void attemptExceedsTimeout_shouldInterruptAndThrowApiCallAttemptTimeoutException() throws Exception {
+        doAnswer(invocationOnMock -> {
+            invocationOnMock.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(timeoutExecutor).execute(any(Runnable.class));
+        when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
+            .thenAnswer(invocationOnMock -> {
+                Thread.sleep(10_000);
+                return null;
+            });
+        RequestExecutionContext context = requestContext(50);
+
+        assertThatThrownBy(() -> stage.execute(mock(SdkHttpFullRequest.class), context))
+            .isInstanceOf(ApiCallAttemptTimeoutException.class);
+        verify(timeoutExecutor, timeout(1_000)).execute(any(Runnable.class));
+        assertThat(context.apiCallAttemptTimeoutTracker().hasExecuted()).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
     }
 
     @Test
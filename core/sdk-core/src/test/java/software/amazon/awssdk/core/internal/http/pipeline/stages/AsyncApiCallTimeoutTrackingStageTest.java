@@ -16,9 +16,7 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,8 +24,6 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -97,17 +93,14 @@ public class AsyncApiCallTimeoutTrackingStageTest {
 
         when(requestPipeline.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
                 .thenReturn(new CompletableFuture());
-
-        when(executorService.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(mock(ScheduledFuture.class));
     }
 
     @Test
     @SuppressWarnings("unchecked")
-    public void testSchedulesTheTimeoutUsingSuppliedExecutorService() throws Exception {
+    public void testRunsTheTimeoutUsingSuppliedExecutorService() throws Exception {
         AsyncApiCallTimeoutTrackingStage apiCallTimeoutTrackingStage = new AsyncApiCallTimeoutTrackingStage(dependencies,
                 requestPipeline);
         apiCallTimeoutTrackingStage.execute(httpRequest, requestExecutionContext);
-        verify(executorService)
-                .schedule(any(Runnable.class), eq(TIMEOUT_MILLIS), eq(TimeUnit.MILLISECONDS));
+        verify(executorService, timeout(TIMEOUT_MILLIS * 5)).execute(any(Runnable.class));
     }
 }
@@ -243,7 +243,7 @@ public class AsyncRetryableStageAdaptiveModeTest {
     }
 
     private AsyncRetryableStage<Object> createStage(RetryPolicy retryPolicy) {
-        return new AsyncRetryableStage<>(null, clientDependencies(retryPolicy), mockChildPipeline, tokenBucket);
+        return new AsyncRetryableStage<>(clientDependencies(retryPolicy), mockChildPipeline, tokenBucket);
     }
 
     private Response<Object> createSuccessResponse() {
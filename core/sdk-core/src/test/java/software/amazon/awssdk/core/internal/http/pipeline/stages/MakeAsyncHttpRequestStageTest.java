@@ -17,11 +17,8 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
@@ -32,14 +29,13 @@ import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTest
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.http.ExecutionContext;
@@ -47,6 +43,7 @@ import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
 import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -67,52 +64,41 @@ public class MakeAsyncHttpRequestStageTest {
 
     private CompletableFuture<Void> clientExecuteFuture = CompletableFuture.completedFuture(null);
 
-    @Mock
-    private ScheduledFuture future;
-
     private MakeAsyncHttpRequestStage stage;
 
     @Before
     public void setup() {
         when(sdkAsyncHttpClient.execute(any())).thenReturn(clientExecuteFuture);
-        when(timeoutExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(future);
     }
 
     @Test
-    public void apiCallAttemptTimeoutEnabled_shouldInvokeExecutor() throws Exception {
-        stage = new MakeAsyncHttpRequestStage<>(
-            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
-                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
-            clientDependencies(Duration.ofMillis(1000)));
+    public void apiCallAttemptTimeoutEnabled_shouldTrackTimeout() throws Exception {
+        stage = new MakeAsyncHttpRequestStage<>(clientDependencies(Duration.ofMillis(1000)));
 
         CompletableFuture<SdkHttpFullRequest> requestFuture = CompletableFuture.completedFuture(
                 ValidSdkObjects.sdkHttpFullRequest().build());
-        stage.execute(requestFuture, requestContext());
+        RequestExecutionContext context = requestContext();
+        stage.execute(requestFuture, context);
 
-        verify(timeoutExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertThat(context.apiCallAttemptTimeoutTracker().isEnabled()).isTrue();
     }
 
     @Test
-    public void apiCallAttemptTimeoutNotEnabled_shouldNotInvokeExecutor() throws Exception {
-        stage = new MakeAsyncHttpRequestStage<>(
-            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
-                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
-            clientDependencies(null));
+    public void apiCallAttemptTimeoutNotEnabled_shouldNotTrackTimeout() throws Exception {
+        stage = new MakeAsyncHttpRequestStage<>(clientDependencies(null));
 
         CompletableFuture<SdkHttpFullRequest> requestFuture = CompletableFuture.completedFuture(
                 ValidSdkObjects.sdkHttpFullRequest().build());
 
-        stage.execute(requestFuture, requestContext());
+        RequestExecutionContext context = requestContext();
+        stage.execute(requestFuture, context);
 
-        verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertThat(context.apiCallAttemptTimeoutTracker().isEnabled()).isFalse();
     }
 
     @Test
     public void testExecute_contextContainsMetricCollector_addsChildToExecuteRequest() {
-        stage = new MakeAsyncHttpRequestStage<>(
-                combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
-                        AsyncResponseHandlerTestUtils.noOpResponseHandler()),
-                clientDependencies(null));
+        stage = new MakeAsyncHttpRequestStage<>(clientDependencies(null));
 
         SdkHttpFullRequest sdkHttpRequest = SdkHttpFullRequest.builder()
                 .method(SdkHttpMethod.GET)
@@ -132,6 +118,7 @@ public class MakeAsyncHttpRequestStageTest {
         RequestExecutionContext context = RequestExecutionContext.builder()
                 .originalRequest(ValidSdkObjects.sdkRequest())
                 .executionContext(executionContext)
+                .asyncResponseHandler(responseHandler())
                 .build();
 
         context.attemptMetricCollector(mockCollector);
@@ -171,6 +158,12 @@ public class MakeAsyncHttpRequestStageTest {
         return RequestExecutionContext.builder()
                                       .executionContext(executionContext)
                                       .originalRequest(NoopTestRequest.builder().build())
+                                      .asyncResponseHandler(responseHandler())
                                       .build();
     }
+
+    private TransformingAsyncResponseHandler<Response<Object>> responseHandler() {
+        return combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                            AsyncResponseHandlerTestUtils.noOpResponseHandler());
+    }
 }
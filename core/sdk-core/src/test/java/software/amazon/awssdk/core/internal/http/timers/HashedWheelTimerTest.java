@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelTimerTest {
+    private static final Executor CALLER_RUNS = Runnable::run;
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    public void setup() {
+        timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, "test-timer");
+    }
+
+    @AfterEach
+    public void teardown() {
+        timer.close();
+    }
+
+    @Test
+    public void schedule_expiresAfterDelay() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(expired::countDown, 50, TimeUnit.MILLISECONDS, CALLER_RUNS);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void schedule_delayLongerThanOneRotation_expiresAfterDelay() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // The wheel covers 8 ticks of 1ms, so this needs several rotations.
+        timer.schedule(expired::countDown, 30, TimeUnit.MILLISECONDS, CALLER_RUNS);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void schedule_afterIdle_expires() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(first::countDown, 1, TimeUnit.MILLISECONDS, CALLER_RUNS);
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(50);
+
+        CountDownLatch second = new CountDownLatch(1);
+        timer.schedule(second::countDown, 1, TimeUnit.MILLISECONDS, CALLER_RUNS);
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void cancel_beforeExpiry_taskIsNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS, CALLER_RUNS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+
+        Thread.sleep(100);
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    public void cancel_afterExpiry_returnsFalse() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        HashedWheelTimer.Timeout timeout = timer.schedule(expired::countDown, 1, TimeUnit.MILLISECONDS, CALLER_RUNS);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void expiry_executorRejectsTask_timerKeepsRunning() throws InterruptedException {
+        timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS, r -> {
+            throw new RejectedExecutionException();
+        });
+
+        CountDownLatch expired = new CountDownLatch(1);
+        timer.schedule(expired::countDown, 5, TimeUnit.MILLISECONDS, CALLER_RUNS);
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void manyTimeouts_onlyUncancelledOnesExpire() throws InterruptedException {
+        int timeoutCount = 100_000;
+        AtomicInteger runs = new AtomicInteger();
+
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>(timeoutCount);
+        for (int i = 0; i < timeoutCount; i++) {
+            timeouts.add(timer.schedule(runs::incrementAndGet, 10 + i % 50, TimeUnit.MILLISECONDS, CALLER_RUNS));
+        }
+
+        // Timeouts with the shortest delays may expire before they are cancelled.
+        int cancelled = 0;
+        for (int i = 0; i < timeoutCount; i += 2) {
+            if (timeouts.get(i).cancel()) {
+                cancelled++;
+            }
+        }
+
+        CountDownLatch lastTimeoutExpired = new CountDownLatch(1);
+        timer.schedule(lastTimeoutExpired::countDown, 100, TimeUnit.MILLISECONDS, CALLER_RUNS);
+        assertThat(lastTimeoutExpired.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cancelled).isGreaterThan(0);
+        assertThat(runs).hasValue(timeoutCount - cancelled);
+    }
+}
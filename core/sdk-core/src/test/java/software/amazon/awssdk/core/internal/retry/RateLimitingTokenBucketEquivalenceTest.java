@@ -0,0 +1,190 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that {@link RateLimitingTokenBucket} behaves like the synchronized algorithm it replaced when calls don't race, and
+ * that racing calls don't lose any capacity.
+ */
+public class RateLimitingTokenBucketEquivalenceTest {
+    private static final Offset<Double> EPSILON = Offset.offset(1E-9);
+    private static final int THREADS = 8;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
+    public void randomCalls_matchSynchronizedAlgorithm(long seed) {
+        Random random = new Random(seed);
+        TestClock clock = new TestClock(random.nextDouble() * 10);
+        RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+        SynchronizedRateLimitingTokenBucket reference = new SynchronizedRateLimitingTokenBucket(clock);
+
+        for (int i = 0; i < 10_000; i++) {
+            clock.advance(random.nextDouble() * 0.3);
+
+            if (random.nextBoolean()) {
+                double amount = random.nextDouble() * 2;
+                boolean fastFail = random.nextBoolean();
+                OptionalDouble expected = reference.acquireNonBlocking(amount, fastFail);
+                OptionalDouble actual = bucket.acquireNonBlocking(amount, fastFail);
+
+                assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+                if (expected.isPresent()) {
+                    assertThat(actual.getAsDouble()).isCloseTo(expected.getAsDouble(), EPSILON);
+                }
+            } else {
+                boolean throttled = random.nextInt(10) == 0;
+                reference.updateClientSendingRate(throttled);
+                bucket.updateClientSendingRate(throttled);
+
+                assertThat(bucket.getFillRate()).isCloseTo(reference.getFillRate(), EPSILON);
+                assertThat(bucket.getMeasuredTxRate()).isCloseTo(reference.getMeasuredTxRate(), EPSILON);
+            }
+
+            assertThat(bucket.getCurrentCapacity()).isCloseTo(reference.getCurrentCapacity(), EPSILON);
+        }
+    }
+
+    @Test
+    public void concurrentAcquires_allCapacityIsAccountedFor() throws Exception {
+        RateLimitingTokenBucket bucket = enabledBucketWithCapacity(new TestClock(0), 1000);
+
+        int acquiresPerThread = 10_000;
+        runConcurrently(() -> {
+            for (int i = 0; i < acquiresPerThread; i++) {
+                assertThat(bucket.acquireNonBlocking(1.0, false)).isPresent();
+            }
+        });
+
+        // The clock is stopped, so nothing is refilled while acquiring.
+        assertThat(bucket.getCurrentCapacity()).isEqualTo(1000.0 - THREADS * acquiresPerThread);
+    }
+
+    @Test
+    public void concurrentFastFailAcquires_neverAcquireMoreThanCapacity() throws Exception {
+        RateLimitingTokenBucket bucket = enabledBucketWithCapacity(new TestClock(0), 1000);
+
+        AtomicInteger acquired = new AtomicInteger();
+        runConcurrently(() -> {
+            for (int i = 0; i < 1000; i++) {
+                if (bucket.acquireNonBlocking(1.0, true).isPresent()) {
+                    acquired.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(acquired).hasValue(1000);
+        assertThat(bucket.getCurrentCapacity()).isZero();
+    }
+
+    @Test
+    public void concurrentRateUpdates_matchSynchronizedAlgorithmForTheSameResponses() throws Exception {
+        TestClock clock = new TestClock(0);
+        RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+        SynchronizedRateLimitingTokenBucket reference = new SynchronizedRateLimitingTokenBucket(clock);
+
+        // Within a measurement window, the order of the responses doesn't change the measured rate. The window is closed by a
+        // single response after all the racing ones, so all of them must have been counted in it.
+        for (int window = 1; window <= 20; window++) {
+            runConcurrently(() -> {
+                for (int i = 0; i < 100; i++) {
+                    bucket.updateClientSendingRate(false);
+                }
+            });
+            for (int i = 0; i < THREADS * 100; i++) {
+                reference.updateClientSendingRate(false);
+            }
+
+            clock.advance(0.5);
+            bucket.updateClientSendingRate(window % 5 == 0);
+            reference.updateClientSendingRate(window % 5 == 0);
+
+            assertThat(bucket.getMeasuredTxRate()).isCloseTo(reference.getMeasuredTxRate(), EPSILON);
+            assertThat(bucket.getFillRate()).isCloseTo(reference.getFillRate(), EPSILON);
+        }
+    }
+
+    private static RateLimitingTokenBucket enabledBucketWithCapacity(TestClock clock, double capacity) {
+        RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+        bucket.setFillRate(1.0);
+        bucket.setMaxCapacity(capacity);
+        bucket.setCurrentCapacity(capacity);
+        bucket.enable();
+        return bucket;
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static final class TestClock implements RateLimitingTokenBucket.Clock {
+        private volatile double time;
+
+        private TestClock(double time) {
+            this.time = time;
+        }
+
+        private void advance(double seconds) {
+            time += seconds;
+        }
+
+        @Override
+        public double time() {
+            return time;
+        }
+    }
+}
@@ -32,10 +32,7 @@ public class RateLimitingTokenBucketTest {
 
     @Test
     public void acquire_capacitySufficient_returnsImmediately() {
-        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
-
-        // stub out refill() so we have control over the capacity
-        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+        RateLimitingTokenBucket tb = new RateLimitingTokenBucket();
 
         tb.setFillRate(0.5);
         tb.setCurrentCapacity(1000.0);
@@ -51,10 +48,7 @@ public class RateLimitingTokenBucketTest {
 
     @Test
     public void acquire_capacityInsufficient_sleepsForRequiredTime() {
-        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
-
-        // stub out refill() so we have control over the capacity
-        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+        RateLimitingTokenBucket tb = new RateLimitingTokenBucket();
 
         tb.setFillRate(1.0);
         tb.setCurrentCapacity(0.0);
@@ -73,10 +67,7 @@ public class RateLimitingTokenBucketTest {
 
     @Test
     public void acquire_capacityInsufficient_fastFailEnabled_doesNotSleep() {
-        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
-
-        // stub out refill() so we have control over the capacity
-        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+        RateLimitingTokenBucket tb = new RateLimitingTokenBucket();
 
         tb.setFillRate(1.0);
         tb.setCurrentCapacity(4.0);
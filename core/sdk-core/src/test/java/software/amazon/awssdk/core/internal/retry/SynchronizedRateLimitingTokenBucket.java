@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.util.OptionalDouble;
+
+/**
+ * The synchronized implementation of {@link RateLimitingTokenBucket} that preceded the lock-free one, kept as the reference
+ * that {@link RateLimitingTokenBucketEquivalenceTest} compares the lock-free implementation to.
+ */
+class SynchronizedRateLimitingTokenBucket {
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+
+    private final RateLimitingTokenBucket.Clock clock;
+
+    private Double fillRate;
+    private Double maxCapacity;
+    private double currentCapacity;
+    private Double lastTimestamp;
+    private boolean enabled;
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+
+    private double timeWindow;
+
+    SynchronizedRateLimitingTokenBucket(RateLimitingTokenBucket.Clock clock) {
+        this.clock = clock;
+        this.lastTxRateBucket = Math.floor(clock.time());
+        this.lastThrottleTime = clock.time();
+    }
+
+    synchronized OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
+        if (!enabled) {
+            return OptionalDouble.of(0.0);
+        }
+
+        refill();
+
+        double originalCapacity = currentCapacity;
+        double unfulfilled = amount <= currentCapacity ? 0 : amount - currentCapacity;
+        currentCapacity = currentCapacity - amount;
+
+        if (unfulfilled > 0.0 && fastFail) {
+            currentCapacity = originalCapacity;
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(unfulfilled > 0 ? unfulfilled / fillRate : 0.0);
+    }
+
+    synchronized void updateClientSendingRate(boolean throttlingResponse) {
+        updateMeasuredRate();
+
+        double calculatedRate;
+        if (throttlingResponse) {
+            double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = clock.time();
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            calculatedRate = SCALE_CONSTANT * Math.pow(clock.time() - lastThrottleTime - timeWindow, 3) + lastMaxRate;
+        }
+
+        updateRate(Math.min(calculatedRate, 2 * measuredTxRate));
+    }
+
+    synchronized Double getFillRate() {
+        return fillRate;
+    }
+
+    synchronized double getCurrentCapacity() {
+        return currentCapacity;
+    }
+
+    synchronized double getMeasuredTxRate() {
+        return measuredTxRate;
+    }
+
+    private void refill() {
+        double timestamp = clock.time();
+        if (lastTimestamp == null) {
+            lastTimestamp = timestamp;
+            return;
+        }
+
+        double fillAmount = (timestamp - lastTimestamp) * fillRate;
+        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
+        lastTimestamp = timestamp;
+    }
+
+    private void updateRate(double newRps) {
+        refill();
+        fillRate = Math.max(newRps, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate() {
+        double timeBucket = Math.floor(clock.time() * 2) / 2;
+        requestCount = requestCount + 1;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    }
+}
@@ -42,6 +42,13 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The number of active streams, including the stream for this request, on the HTTP/2 connection that this request was
+     * executed on.
+     */
+    public static final SdkMetric<Integer> STREAMS_ON_CONNECTION =
+        metric("StreamsOnConnection", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
@@ -120,6 +120,36 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The time taken by an explicit connection pool warm-up to acquire a connection. If the connection was not already open,
+     * this includes establishing it and performing the TLS handshake if TLS is enabled.
+     *
+     * <p>This is reported once for every connection acquired by the warm-up, to the {@code MetricCollection} returned by the
+     * HTTP client's {@code warmUp} method. It is not reported for requests.
+     */
+    public static final SdkMetric<Duration> CONNECTION_WARM_UP_DURATION =
+        metric("ConnectionWarmUpDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to perform the TLS handshake of a new connection.
+     *
+     * <p>This is only reported for requests that established a new TLS connection, and is part of
+     * {@link #CONCURRENCY_ACQUIRE_DURATION} for those requests.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION =
+        metric("TlsHandshakeDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * Whether the TLS handshake of a new connection resumed a cached TLS session ({@code true}), or negotiated a new one with
+     * a full handshake ({@code false}).
+     *
+     * <p>This is only reported for requests that established a new TLS connection. Resumed handshakes skip the certificate
+     * exchange and key agreement of a full handshake, so the share of resumed handshakes shows how effective the HTTP client's
+     * TLS session cache is for the connection churn of a workload.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_RESUMED =
+        metric("TlsSessionResumed", Boolean.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
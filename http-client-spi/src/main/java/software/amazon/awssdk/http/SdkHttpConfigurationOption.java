@@ -131,6 +131,26 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<Duration> TLS_NEGOTIATION_TIMEOUT =
         new SdkHttpConfigurationOption<>("TlsNegotiationTimeout", Duration.class);
 
+    /**
+     * The maximum number of TLS sessions the HTTP client caches so that later connections to the same endpoint can resume
+     * them instead of performing a full handshake. Zero means no limit.
+     *
+     * <p>
+     * If not specified, the default of the TLS implementation is used.
+     */
+    public static final SdkHttpConfigurationOption<Integer> TLS_SESSION_CACHE_SIZE =
+        new SdkHttpConfigurationOption<>("TlsSessionCacheSize", Integer.class);
+
+    /**
+     * The amount of time a cached TLS session can be resumed for. Zero means no limit. Sessions time out in whole
+     * seconds, so a fractional value is rounded up.
+     *
+     * <p>
+     * If not specified, the default of the TLS implementation is used.
+     */
+    public static final SdkHttpConfigurationOption<Duration> TLS_SESSION_TIMEOUT =
+        new SdkHttpConfigurationOption<>("TlsSessionTimeout", Duration.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * A {@link Subscriber} to a response body that can consume buffers still owned by the HTTP client, saving the client from
+ * copying each buffer before publishing it.
+ * <p>
+ * An HTTP client that supports this may call {@link #onNext(ByteBuffer, Runnable)} instead of {@link #onNext(Object)}. The
+ * buffer is a read-only view of the client's memory, which the client may reuse once the release hook has run, so the
+ * subscriber must run the hook exactly once when it is done with the buffer and must not access the buffer afterwards. This
+ * applies even if the subscription is cancelled or fails before the buffer has been consumed.
+ * <p>
+ * HTTP clients that don't support this, or subscribers that are wrapped by another subscriber, only see
+ * {@link #onNext(Object)} with buffers the subscriber owns.
+ */
+@SdkPublicApi
+public interface ReleasableBufferSubscriber extends Subscriber<ByteBuffer> {
+
+    /**
+     * Called with the next buffer of the response body, which the subscriber must release when it is done with it.
+     *
+     * @param buffer A read-only view of the next part of the response body.
+     * @param releaseHook Returns the buffer to the HTTP client. Must be run exactly once.
+     */
+    void onNext(ByteBuffer buffer, Runnable releaseHook);
+}
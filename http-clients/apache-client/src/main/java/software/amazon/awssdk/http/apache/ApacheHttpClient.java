@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -57,6 +58,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
@@ -78,13 +80,18 @@ import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolWarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
+import software.amazon.awssdk.http.apache.internal.conn.LockFreePoolingConnectionManager;
+import software.amazon.awssdk.http.apache.internal.conn.MinIdlePoolingConnectionManager;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
+import software.amazon.awssdk.http.apache.internal.conn.SharedSslContexts;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
+import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -111,6 +118,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final HttpRoutePlanner routePlanner;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,12 +127,15 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = Optional.ofNullable(resolveRoutePlanner(builder))
+                                    .orElseGet(() -> new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
     }
 
     public static Builder builder() {
@@ -179,14 +190,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
         }
+        HttpRoutePlanner routePlanner = resolveRoutePlanner(configuration);
 
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
@@ -202,6 +209,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+        if (isProxyEnabled(proxyConfiguration)) {
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+        return configuration.httpRoutePlanner;
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -240,6 +258,43 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * Eagerly open connections to an endpoint, so that the first requests to it don't pay for establishing connections and
+     * TLS handshakes.
+     *
+     * <p>The requested number of connections to the endpoint are leased from the connection pool at once, limited by the
+     * client's {@link Builder#maxConnections(Integer)}. Those that aren't open yet are connected, and all of them are then
+     * released back to the pool. Connections that are already open count toward the requested number. This blocks until the
+     * connections have been established. Warmed connections are subject to the usual idle timeouts. Use
+     * {@link Builder#minIdleConnections(Integer)} to keep them open while the client is idle.
+     *
+     * <p>Connections that must be tunnelled through a proxy can't be warmed up.
+     *
+     * <p>The returned metrics contain the {@link software.amazon.awssdk.http.HttpMetric#CONNECTION_WARM_UP_DURATION} of every
+     * connection, and the state of the connection pool after the warm-up.
+     *
+     * @param endpoint The endpoint to connect to. Only the scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @return The warm-up's metrics.
+     * @throws IOException If any of the connections could not be leased or established. The connections that could be
+     * established are still added to the pool.
+     */
+    public MetricCollection warmUp(URI endpoint, int connections) throws IOException {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+
+        MetricCollector metricCollector = MetricCollector.create("HttpClientWarmUp");
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        long keepAliveMillis = resolvedOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
+        int maxConnections = resolvedOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        new ConnectionPoolWarmer(httpClient.getHttpClientConnectionManager(), routePlanner, requestConfig, keepAliveMillis)
+            .warmUp(endpoint, Math.min(connections, maxConnections), metricCollector);
+
+        collectPoolMetric(metricCollector);
+        return metricCollector.collect();
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -310,10 +365,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
     }
 
     private void collectPoolMetric(MetricCollector metricCollector) {
+        if (metricCollector instanceof NoOpMetricCollector) {
+            return;
+        }
+
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
-        if (cm instanceof PoolingHttpClientConnectionManager && !(metricCollector instanceof NoOpMetricCollector)) {
-            PoolingHttpClientConnectionManager poolingCm = (PoolingHttpClientConnectionManager) cm;
-            PoolStats totalStats = poolingCm.getTotalStats();
+        PoolStats totalStats = null;
+        if (cm instanceof PoolingHttpClientConnectionManager) {
+            totalStats = ((PoolingHttpClientConnectionManager) cm).getTotalStats();
+        } else if (cm instanceof LockFreePoolingConnectionManager) {
+            totalStats = ((LockFreePoolingConnectionManager) cm).getTotalStats();
+        }
+
+        if (totalStats != null) {
             metricCollector.reportMetric(MAX_CONCURRENCY, totalStats.getMax());
             metricCollector.reportMetric(AVAILABLE_CONCURRENCY, totalStats.getAvailable());
             metricCollector.reportMetric(LEASED_CONCURRENCY, totalStats.getLeased());
@@ -337,6 +401,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
      * .socketTimeout(Duration.ofSeconds(10))
      * .build();
      * </pre>
+     *
+     * <p>Unlike the JDK client, this builder has no executor or virtual-thread option: requests run on the thread that
+     * calls the client, so calling it from a virtual thread is enough to get virtual-thread execution. The only thread
+     * the client owns is the shared idle connection reaper.
      */
     public interface Builder extends SdkHttpClient.Builder<ApacheHttpClient.Builder> {
 
@@ -398,6 +466,29 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder useIdleConnectionReaper(Boolean useConnectionReaper);
 
+        /**
+         * Configure the minimum number of connections per route that the idle connection reaper keeps open.
+         * <p>
+         * The reaper only closes a connection that has been idle for longer than {@link #connectionMaxIdleTime(Duration)} if
+         * at least this many other connections to the same route stay open. Combined with
+         * {@link ApacheHttpClient#warmUp(URI, int)}, this keeps warmed connections available through quiet periods.
+         * Connections are still closed once they reach their {@link #connectionTimeToLive(Duration)}, or if the server closes
+         * them. By default, this is 0.
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
+        /**
+         * Configure whether the client should use a connection pool that leases and releases connections without a
+         * pool-wide lock.
+         * <p>
+         * The default pool guards every lease and release, for all routes, with a single lock. When many threads share a
+         * client, that lock can become a point of contention. The lock-free pool keeps the idle connections of each route
+         * separately and limits the number of leased connections with an atomic counter, so threads only wait for each other
+         * when all {@link #maxConnections(Integer)} connections are leased. It supports the same configuration, idle
+         * connection reaping and pool metrics as the default pool. By default, this is disabled.
+         */
+        Builder useLockFreeConnectionPool(Boolean useLockFreeConnectionPool);
+
         /**
          * Configuration that defines a DNS resolver. If no matches are found, the default resolver is used.
          */
@@ -442,6 +533,25 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions that are cached so that new connections to the same endpoint can resume
+         * them with an abbreviated handshake. Zero means no limit. If not set, the default of the JVM is used.
+         *
+         * <p>Clients that use the default trust and key managers share their TLS session cache with all other such clients
+         * that have the same TLS session configuration.
+         *
+         * @see software.amazon.awssdk.http.HttpMetric#TLS_SESSION_RESUMED
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time that a cached TLS session can be resumed for. Zero means no limit.
+         * Sessions time out in whole seconds, so a fractional value is rounded up. If not set, the default of the JVM is used.
+         *
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -452,6 +562,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
+        private Integer minIdleConnections;
+        private Boolean useLockFreeConnectionPool;
 
         private DefaultBuilder() {
         }
@@ -562,6 +674,29 @@ public final class ApacheHttpClient implements SdkHttpClient {
             useIdleConnectionReaper(useIdleConnectionReaper);
         }
 
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            if (minIdleConnections != null) {
+                Validate.isNotNegative(minIdleConnections, "minIdleConnections");
+            }
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
+        @Override
+        public Builder useLockFreeConnectionPool(Boolean useLockFreeConnectionPool) {
+            this.useLockFreeConnectionPool = useLockFreeConnectionPool;
+            return this;
+        }
+
+        public void setUseLockFreeConnectionPool(Boolean useLockFreeConnectionPool) {
+            useLockFreeConnectionPool(useLockFreeConnectionPool);
+        }
+
         @Override
         public Builder dnsResolver(DnsResolver dnsResolver) {
             this.dnsResolver = dnsResolver;
@@ -622,6 +757,32 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            if (tlsSessionCacheSize != null) {
+                Validate.isNotNegative(tlsSessionCacheSize, "tlsSessionCacheSize");
+            }
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            if (tlsSessionTimeout != null) {
+                Validate.isNotNegative(tlsSessionTimeout, "tlsSessionTimeout");
+            }
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -636,14 +797,36 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                                   AttributeMap standardOptions) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
 
-            PoolingHttpClientConnectionManager cm = new
-                    PoolingHttpClientConnectionManager(
+            if (Boolean.TRUE.equals(configuration.useLockFreeConnectionPool)) {
+                return new LockFreePoolingConnectionManager(
+                    createSocketFactoryRegistry(sslsf),
+                    DefaultSchemePortResolver.INSTANCE,
+                    configuration.dnsResolver,
+                    buildSocketConfig(standardOptions),
+                    standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
+                    TimeUnit.MILLISECONDS,
+                    standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                    configuration.minIdleConnections != null ? configuration.minIdleConnections : 0);
+            }
+
+            PoolingHttpClientConnectionManager cm;
+            if (configuration.minIdleConnections != null && configuration.minIdleConnections > 0) {
+                cm = new MinIdlePoolingConnectionManager(
+                    createSocketFactoryRegistry(sslsf),
+                    DefaultSchemePortResolver.INSTANCE,
+                    configuration.dnsResolver,
+                    standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
+                    TimeUnit.MILLISECONDS,
+                    configuration.minIdleConnections);
+            } else {
+                cm = new PoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
                     null,
                     DefaultSchemePortResolver.INSTANCE,
                     configuration.dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
+            }
 
             cm.setDefaultMaxPerRoute(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
             cm.setMaxTotal(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
@@ -684,10 +867,22 @@ public final class ApacheHttpClient implements SdkHttpClient {
             TlsKeyManagersProvider provider = standardOptions.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
             KeyManager[] keyManagers = provider.keyManagers();
 
+            Integer sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+            if (keyManagers == null && trustManagers == null) {
+                return SharedSslContexts.get(sessionCacheSize, sessionTimeout,
+                                             () -> createSslContext(null, null, sessionCacheSize, sessionTimeout));
+            }
+            return createSslContext(keyManagers, trustManagers, sessionCacheSize, sessionTimeout);
+        }
+
+        private SSLContext createSslContext(KeyManager[] keyManagers, TrustManager[] trustManagers, Integer sessionCacheSize,
+                                            Duration sessionTimeout) {
             try {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                SharedSslContexts.configureSessionCache(sslcontext, sessionCacheSize, sessionTimeout);
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_WARM_UP_DURATION;
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Warms up the connection pool of a {@link HttpClientConnectionManager} by leasing a number of connections to a route at
+ * once, connecting (and TLS-handshaking) the ones that aren't open yet, and then releasing them all back to the pool.
+ */
+@SdkInternalApi
+public final class ConnectionPoolWarmer {
+    private static final Logger log = Logger.loggerFor(ConnectionPoolWarmer.class);
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpRoutePlanner routePlanner;
+    private final ApacheHttpRequestConfig requestConfig;
+    private final long keepAliveMillis;
+
+    /**
+     * @param keepAliveMillis How long the warmed connections may be kept in the pool once released, or 0 for no limit.
+     */
+    public ConnectionPoolWarmer(HttpClientConnectionManager connectionManager,
+                                HttpRoutePlanner routePlanner,
+                                ApacheHttpRequestConfig requestConfig,
+                                long keepAliveMillis) {
+        this.connectionManager = connectionManager;
+        this.routePlanner = routePlanner;
+        this.requestConfig = requestConfig;
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    /**
+     * Lease, connect and release the given number of connections to the endpoint, reporting how long each connection took to
+     * the metric collector.
+     *
+     * @throws IOException If any of the connections couldn't be leased or established. The connections that were established
+     * are still released to the pool.
+     */
+    public void warmUp(URI endpoint, int connections, MetricCollector metricCollector) throws IOException {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(requestConfig.localAddress()).build());
+        HttpRoute route = determineRoute(endpoint, context);
+
+        List<HttpClientConnection> leasedConnections = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                long startNanos = System.nanoTime();
+                HttpClientConnection connection = lease(route);
+                leasedConnections.add(connection);
+                if (!connection.isOpen()) {
+                    connectionManager.connect(connection, route, saturatedCast(requestConfig.connectionTimeout().toMillis()),
+                                              context);
+                    connectionManager.routeComplete(connection, route, context);
+                }
+                metricCollector.reportMetric(CONNECTION_WARM_UP_DURATION, Duration.ofNanos(System.nanoTime() - startNanos));
+            }
+        } finally {
+            log.debug(() -> "Releasing " + leasedConnections.size() + " warmed connections to " + route);
+            // Connections that failed to connect are not open, and are discarded by the pool instead of being reused.
+            leasedConnections.forEach(c -> connectionManager.releaseConnection(c, null, keepAliveMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private HttpRoute determineRoute(URI endpoint, HttpClientContext context) throws IOException {
+        HttpHost target = URIUtils.extractHost(endpoint);
+        Validate.isTrue(target != null, "The endpoint %s has no host.", endpoint);
+
+        HttpRoute route;
+        try {
+            route = routePlanner.determineRoute(target, new HttpGet(endpoint), context);
+        } catch (HttpException e) {
+            throw new IOException("Unable to determine the route to " + endpoint, e);
+        }
+
+        // Tunnelling through a proxy requires a CONNECT request, which is only sent when executing a request.
+        Validate.isTrue(!route.isTunnelled(),
+                        "Warming up connections that are tunnelled through a proxy is not supported: %s", route);
+        return route;
+    }
+
+    private HttpClientConnection lease(HttpRoute route) throws IOException {
+        ConnectionRequest connectionRequest = connectionManager.requestConnection(route, null);
+        try {
+            return connectionRequest.get(requestConfig.connectionAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while leasing a connection to " + route);
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to lease a connection to " + route, e.getCause());
+        }
+    }
+}
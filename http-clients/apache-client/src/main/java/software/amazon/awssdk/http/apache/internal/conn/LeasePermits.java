@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A counting semaphore for the connection leases of {@link LockFreePoolingConnectionManager}.
+ *
+ * <p>Acquiring and releasing a permit is a single compare-and-set while permits are available, so callers only queue up
+ * once the pool is exhausted. Unlike {@link java.util.concurrent.Semaphore}, a queued acquisition is a future that can be
+ * cancelled from another thread, which is how Apache aborts a request that is waiting for a connection.
+ */
+@SdkInternalApi
+final class LeasePermits {
+    private final int maxPermits;
+    private final AtomicInteger available;
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    LeasePermits(int maxPermits) {
+        this.maxPermits = maxPermits;
+        this.available = new AtomicInteger(maxPermits);
+    }
+
+    int maxPermits() {
+        return maxPermits;
+    }
+
+    int availablePermits() {
+        return Math.max(available.get(), 0);
+    }
+
+    /**
+     * Acquire a permit. The returned future is completed once the permit has been granted to the caller, which is
+     * immediately if one is available.
+     */
+    CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        if (tryAcquire()) {
+            waiter.complete(null);
+            return waiter;
+        }
+
+        waiters.add(waiter);
+        // A permit may have been released after the attempt above but before we were queued.
+        dispatch();
+        return waiter;
+    }
+
+    /**
+     * Give up on a queued acquisition, for example because it timed out.
+     *
+     * @return True if the permit will not be granted, false if it was granted before the acquisition could be abandoned, in
+     * which case the caller owns the permit.
+     */
+    boolean abandon(CompletableFuture<Void> waiter) {
+        waiter.cancel(false);
+        waiters.remove(waiter);
+        return waiter.isCancelled();
+    }
+
+    void release() {
+        available.incrementAndGet();
+        dispatch();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = available.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hand available permits to queued waiters, in the order they were queued.
+     */
+    private void dispatch() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter == null || !waiter.complete(null)) {
+                // The waiter was taken by another thread, or it has been abandoned. Put the permit back and look again.
+                available.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,630 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.net.ssl.SSLSession;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.HttpClientConnectionOperator;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.SchemePortResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.ConnectionShutdownException;
+import org.apache.http.impl.conn.DefaultHttpClientConnectionOperator;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link HttpClientConnectionManager} that leases connections without a pool-wide lock.
+ *
+ * <p>Apache's {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager} guards leasing and releasing connections
+ * to every route with a single lock, which becomes a point of contention when many threads share a client. This manager
+ * keeps the idle connections of each route in their own concurrent deque, and limits the number of leased connections with
+ * a compare-and-set permit counter ({@link LeasePermits}). Threads only wait when every permit is leased.
+ *
+ * <p>Like Apache's pool, idle connections are reused most recently released first, connections that have been idle for a
+ * while are checked for staleness before they are leased, and connections are closed once they reach their time to live or
+ * keep-alive. The total number of open connections is bounded by the maximum number of connections: when a new connection
+ * is needed and the pool is full, an idle connection to another route is closed to make room. When closing idle
+ * connections, the most recently used idle connections of each route are kept until the route has at least the minimum
+ * number of open (leased or idle) connections.
+ */
+@SdkInternalApi
+public final class LockFreePoolingConnectionManager implements HttpClientConnectionManager {
+    private static final Logger log = Logger.loggerFor(LockFreePoolingConnectionManager.class);
+
+    /**
+     * Idle connections are checked for staleness before being leased if they have been idle for at least this long. This is
+     * the default of {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager}.
+     */
+    private static final long VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    private final ConcurrentMap<HttpRoute, RoutePool> routePools = new ConcurrentHashMap<>();
+    private final HttpClientConnectionOperator connectionOperator;
+    private final SocketConfig socketConfig;
+    private final long timeToLiveMillis;
+    private final int minIdleConnections;
+    private final LeasePermits permits;
+
+    /**
+     * The number of open connections, leased or idle.
+     */
+    private final AtomicInteger allocated = new AtomicInteger(0);
+
+    /**
+     * The number of threads waiting for a permit to lease a connection.
+     */
+    private final AtomicInteger pending = new AtomicInteger(0);
+
+    private volatile boolean isShutdown;
+
+    public LockFreePoolingConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                                            SchemePortResolver schemePortResolver,
+                                            DnsResolver dnsResolver,
+                                            SocketConfig socketConfig,
+                                            long timeToLive,
+                                            TimeUnit timeUnit,
+                                            int maxConnections,
+                                            int minIdleConnections) {
+        this.connectionOperator = new DefaultHttpClientConnectionOperator(socketFactoryRegistry, schemePortResolver, dnsResolver);
+        this.socketConfig = Validate.paramNotNull(socketConfig, "socketConfig");
+        this.timeToLiveMillis = timeToLive > 0 ? timeUnit.toMillis(timeToLive) : 0;
+        this.permits = new LeasePermits(Validate.isPositive(maxConnections, "maxConnections"));
+        this.minIdleConnections = Validate.isNotNegative(minIdleConnections, "minIdleConnections");
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        Validate.paramNotNull(route, "route");
+        return new LeaseRequest(route, state);
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection managedConn, Object state, long keepAlive, TimeUnit timeUnit) {
+        PoolEntry entry = asLeasedConnection(managedConn).detach();
+        if (entry == null) {
+            return;
+        }
+
+        RoutePool routePool = routePool(entry.route);
+        routePool.leased.remove(entry);
+        try {
+            ManagedHttpClientConnection connection = entry.connection;
+            if (!isShutdown && connection.isOpen() && entry.routeComplete) {
+                entry.state = state;
+                entry.updateExpiry(keepAlive, timeUnit != null ? timeUnit : TimeUnit.MILLISECONDS);
+                connection.setSocketTimeout(0);
+                routePool.available.addFirst(entry);
+                if (isShutdown) {
+                    // The pool was shut down while the connection was being released.
+                    closeAvailable(routePool);
+                }
+            } else {
+                discard(entry);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context)
+            throws IOException {
+        ManagedHttpClientConnection connection = asLeasedConnection(managedConn).validEntry().connection;
+        HttpHost host = route.getProxyHost() != null ? route.getProxyHost() : route.getTargetHost();
+        connectionOperator.connect(connection, host, route.getLocalSocketAddress(), connectTimeout, socketConfig, context);
+    }
+
+    @Override
+    public void upgrade(HttpClientConnection managedConn, HttpRoute route, HttpContext context) throws IOException {
+        ManagedHttpClientConnection connection = asLeasedConnection(managedConn).validEntry().connection;
+        connectionOperator.upgrade(connection, route.getTargetHost(), context);
+    }
+
+    @Override
+    public void routeComplete(HttpClientConnection managedConn, HttpRoute route, HttpContext context) {
+        asLeasedConnection(managedConn).validEntry().routeComplete = true;
+    }
+
+    @Override
+    public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+        long deadline = System.currentTimeMillis() - Math.max(timeUnit.toMillis(idleTime), 0);
+        for (RoutePool routePool : routePools.values()) {
+            int kept = routePool.leased.size();
+            // Idle connections are enumerated from the most to the least recently released.
+            for (PoolEntry entry : routePool.available) {
+                if (kept < minIdleConnections) {
+                    kept++;
+                } else if (entry.updated <= deadline && routePool.available.remove(entry)) {
+                    discard(entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        long now = System.currentTimeMillis();
+        for (RoutePool routePool : routePools.values()) {
+            for (PoolEntry entry : routePool.available) {
+                if (entry.isExpired(now) && routePool.available.remove(entry)) {
+                    discard(entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (isShutdown) {
+            return;
+        }
+        isShutdown = true;
+        for (RoutePool routePool : routePools.values()) {
+            closeAvailable(routePool);
+            // Like Apache's pool, connections that are still leased are shut down as well.
+            routePool.leased.forEach(entry -> entry.shutdownConnection());
+        }
+    }
+
+    /**
+     * The statistics of the pool, in the same form as {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager}'s.
+     * The values are read without synchronization and may not be consistent with each other while the pool is in use.
+     */
+    public PoolStats getTotalStats() {
+        int leased = 0;
+        for (RoutePool routePool : routePools.values()) {
+            leased += routePool.leased.size();
+        }
+        int available = Math.max(allocated.get() - leased, 0);
+        return new PoolStats(leased, pending.get(), available, permits.maxPermits());
+    }
+
+    private RoutePool routePool(HttpRoute route) {
+        RoutePool routePool = routePools.get(route);
+        return routePool != null ? routePool : routePools.computeIfAbsent(route, r -> new RoutePool());
+    }
+
+    private PoolEntry leaseEntry(HttpRoute route, Object state) {
+        RoutePool routePool = routePool(route);
+        PoolEntry entry;
+        while ((entry = routePool.takeAvailable(state)) != null) {
+            if (isReusable(entry)) {
+                break;
+            }
+            discard(entry);
+        }
+
+        if (entry == null) {
+            entry = createEntry(route);
+        }
+
+        routePool.leased.add(entry);
+        return entry;
+    }
+
+    private boolean isReusable(PoolEntry entry) {
+        long now = System.currentTimeMillis();
+        if (entry.isExpired(now) || !entry.connection.isOpen()) {
+            return false;
+        }
+        // Checking for staleness costs a blocking read, so only connections that have been idle for a while are checked.
+        return entry.updated + VALIDATE_AFTER_INACTIVITY_MILLIS > now || !entry.connection.isStale();
+    }
+
+    private PoolEntry createEntry(HttpRoute route) {
+        if (allocated.incrementAndGet() > permits.maxPermits()) {
+            evictIdleConnection();
+        }
+        ManagedHttpClientConnection connection = ManagedHttpClientConnectionFactory.INSTANCE.create(route,
+                                                                                                     ConnectionConfig.DEFAULT);
+        return new PoolEntry(route, connection, timeToLiveMillis);
+    }
+
+    /**
+     * Close an idle connection to make room for a new one. Every permit is accounted for by a leased connection, so an idle
+     * connection exists unless another thread takes it first, in which case the pool is briefly over its limit.
+     */
+    private void evictIdleConnection() {
+        for (RoutePool routePool : routePools.values()) {
+            PoolEntry entry = routePool.available.pollLast();
+            if (entry != null) {
+                log.debug(() -> "Closing idle connection to " + entry.route + " to make room for a new connection.");
+                discard(entry);
+                return;
+            }
+        }
+    }
+
+    private void closeAvailable(RoutePool routePool) {
+        PoolEntry entry;
+        while ((entry = routePool.available.poll()) != null) {
+            discard(entry);
+        }
+    }
+
+    private void discard(PoolEntry entry) {
+        entry.closeConnection();
+        allocated.decrementAndGet();
+    }
+
+    private static LeasedConnection asLeasedConnection(HttpClientConnection managedConn) {
+        Validate.paramNotNull(managedConn, "managedConn");
+        return Validate.isInstanceOf(LeasedConnection.class, managedConn, "Unexpected connection type: %s",
+                                     managedConn.getClass());
+    }
+
+    private static CancellationException cancelledException() {
+        return new CancellationException("Operation cancelled");
+    }
+
+    /**
+     * The connections to a single route.
+     */
+    private static final class RoutePool {
+        /**
+         * Idle connections, most recently released first.
+         */
+        private final Deque<PoolEntry> available = new ConcurrentLinkedDeque<>();
+
+        private final Set<PoolEntry> leased = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Take the most recently released idle connection with the given state. Like Apache's pool, a connection with a state
+         * (such as the principal of a TLS client certificate) is only reused for requests with the same state, and a request
+         * with a state otherwise only takes a connection without one.
+         */
+        private PoolEntry takeAvailable(Object state) {
+            if (state == null) {
+                for (PoolEntry entry : available) {
+                    if (entry.state == null && available.remove(entry)) {
+                        return entry;
+                    }
+                }
+                return null;
+            }
+
+            for (PoolEntry entry : available) {
+                if (Objects.equals(state, entry.state) && available.remove(entry)) {
+                    return entry;
+                }
+            }
+            return takeAvailable(null);
+        }
+    }
+
+    /**
+     * A pooled connection and its pooling state.
+     */
+    private static final class PoolEntry {
+        private final HttpRoute route;
+        private final ManagedHttpClientConnection connection;
+        private final long validityDeadline;
+
+        private volatile Object state;
+        private volatile long updated;
+        private volatile long expiry;
+        private volatile boolean routeComplete;
+
+        private PoolEntry(HttpRoute route, ManagedHttpClientConnection connection, long timeToLiveMillis) {
+            this.route = route;
+            this.connection = connection;
+            this.updated = System.currentTimeMillis();
+            this.validityDeadline = timeToLiveMillis > 0 ? updated + timeToLiveMillis : Long.MAX_VALUE;
+            this.expiry = validityDeadline;
+        }
+
+        private void updateExpiry(long keepAlive, TimeUnit timeUnit) {
+            this.updated = System.currentTimeMillis();
+            long newExpiry = keepAlive > 0 ? updated + timeUnit.toMillis(keepAlive) : Long.MAX_VALUE;
+            this.expiry = Math.min(newExpiry, validityDeadline);
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiry;
+        }
+
+        private void closeConnection() {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                log.debug(() -> "I/O exception closing connection to " + route, e);
+            }
+        }
+
+        private void shutdownConnection() {
+            try {
+                connection.shutdown();
+            } catch (IOException e) {
+                log.debug(() -> "I/O exception shutting down connection to " + route, e);
+            }
+        }
+    }
+
+    /**
+     * A request for a connection, which waits for a permit when every connection is leased.
+     */
+    private final class LeaseRequest implements ConnectionRequest {
+        private final HttpRoute route;
+        private final Object state;
+
+        private volatile boolean cancelled;
+        private volatile CompletableFuture<Void> permit;
+
+        private LeaseRequest(HttpRoute route, Object state) {
+            this.route = route;
+            this.state = state;
+        }
+
+        @Override
+        public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+            Validate.validState(!isShutdown, "Connection pool shut down");
+            acquirePermit(timeout, timeUnit);
+            try {
+                if (cancelled) {
+                    throw new ExecutionException(cancelledException());
+                }
+                return new LeasedConnection(leaseEntry(route, state));
+            } catch (ExecutionException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            cancelled = true;
+            CompletableFuture<Void> waiter = permit;
+            return waiter == null || waiter.cancel(false);
+        }
+
+        private void acquirePermit(long timeout, TimeUnit timeUnit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+            if (cancelled) {
+                throw new ExecutionException(cancelledException());
+            }
+
+            pending.incrementAndGet();
+            CompletableFuture<Void> waiter = permits.acquire();
+            this.permit = waiter;
+            try {
+                if (cancelled) {
+                    waiter.cancel(false);
+                }
+                if (timeout > 0) {
+                    waiter.get(timeout, timeUnit);
+                } else {
+                    waiter.get();
+                }
+            } catch (TimeoutException e) {
+                if (permits.abandon(waiter)) {
+                    throw new ConnectionPoolTimeoutException("Timeout waiting for connection from pool");
+                }
+            } catch (CancellationException e) {
+                permits.abandon(waiter);
+                throw new ExecutionException(e);
+            } catch (InterruptedException e) {
+                if (!permits.abandon(waiter)) {
+                    permits.release();
+                }
+                throw e;
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The connection handed out for a lease. It is detached from its pool entry when released, after which it behaves like
+     * a closed connection.
+     */
+    private static final class LeasedConnection implements ManagedHttpClientConnection, HttpContext {
+        private final AtomicReference<PoolEntry> entry;
+
+        private LeasedConnection(PoolEntry entry) {
+            this.entry = new AtomicReference<>(entry);
+        }
+
+        private PoolEntry detach() {
+            return entry.getAndSet(null);
+        }
+
+        private PoolEntry validEntry() {
+            PoolEntry poolEntry = entry.get();
+            if (poolEntry == null) {
+                throw new ConnectionShutdownException();
+            }
+            return poolEntry;
+        }
+
+        private ManagedHttpClientConnection validConnection() {
+            return validEntry().connection;
+        }
+
+        @Override
+        public void close() throws IOException {
+            PoolEntry poolEntry = entry.get();
+            if (poolEntry != null) {
+                poolEntry.connection.close();
+            }
+        }
+
+        @Override
+        public void shutdown() throws IOException {
+            PoolEntry poolEntry = entry.get();
+            if (poolEntry != null) {
+                poolEntry.connection.shutdown();
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            PoolEntry poolEntry = entry.get();
+            return poolEntry != null && poolEntry.connection.isOpen();
+        }
+
+        @Override
+        public boolean isStale() {
+            PoolEntry poolEntry = entry.get();
+            return poolEntry == null || poolEntry.connection.isStale();
+        }
+
+        @Override
+        public void setSocketTimeout(int timeout) {
+            validConnection().setSocketTimeout(timeout);
+        }
+
+        @Override
+        public int getSocketTimeout() {
+            return validConnection().getSocketTimeout();
+        }
+
+        @Override
+        public String getId() {
+            return validConnection().getId();
+        }
+
+        @Override
+        public void bind(Socket socket) throws IOException {
+            validConnection().bind(socket);
+        }
+
+        @Override
+        public Socket getSocket() {
+            return validConnection().getSocket();
+        }
+
+        @Override
+        public SSLSession getSSLSession() {
+            return validConnection().getSSLSession();
+        }
+
+        @Override
+        public boolean isResponseAvailable(int timeout) throws IOException {
+            return validConnection().isResponseAvailable(timeout);
+        }
+
+        @Override
+        public void sendRequestHeader(HttpRequest request) throws HttpException, IOException {
+            validConnection().sendRequestHeader(request);
+        }
+
+        @Override
+        public void sendRequestEntity(HttpEntityEnclosingRequest request) throws HttpException, IOException {
+            validConnection().sendRequestEntity(request);
+        }
+
+        @Override
+        public HttpResponse receiveResponseHeader() throws HttpException, IOException {
+            return validConnection().receiveResponseHeader();
+        }
+
+        @Override
+        public void receiveResponseEntity(HttpResponse response) throws HttpException, IOException {
+            validConnection().receiveResponseEntity(response);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            validConnection().flush();
+        }
+
+        @Override
+        public HttpConnectionMetrics getMetrics() {
+            return validConnection().getMetrics();
+        }
+
+        @Override
+        public InetAddress getLocalAddress() {
+            return validConnection().getLocalAddress();
+        }
+
+        @Override
+        public int getLocalPort() {
+            return validConnection().getLocalPort();
+        }
+
+        @Override
+        public InetAddress getRemoteAddress() {
+            return validConnection().getRemoteAddress();
+        }
+
+        @Override
+        public int getRemotePort() {
+            return validConnection().getRemotePort();
+        }
+
+        @Override
+        public Object getAttribute(String id) {
+            ManagedHttpClientConnection connection = validConnection();
+            return connection instanceof HttpContext ? ((HttpContext) connection).getAttribute(id) : null;
+        }
+
+        @Override
+        public void setAttribute(String id, Object obj) {
+            ManagedHttpClientConnection connection = validConnection();
+            if (connection instanceof HttpContext) {
+                ((HttpContext) connection).setAttribute(id, obj);
+            }
+        }
+
+        @Override
+        public Object removeAttribute(String id) {
+            ManagedHttpClientConnection connection = validConnection();
+            return connection instanceof HttpContext ? ((HttpContext) connection).removeAttribute(id) : null;
+        }
+
+        @Override
+        public String toString() {
+            PoolEntry poolEntry = entry.get();
+            return "LeasedConnection{" + (poolEntry != null ? poolEntry.connection : "detached") + "}";
+        }
+    }
+}
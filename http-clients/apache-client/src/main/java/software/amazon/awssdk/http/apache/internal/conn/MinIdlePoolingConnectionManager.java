@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.SchemePortResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link PoolingHttpClientConnectionManager} that keeps a minimum number of connections open per route when closing idle
+ * connections.
+ *
+ * <p>When idle connections are closed, the most recently used idle connections of each route are kept until the route has
+ * at least the minimum number of open (leased or idle) connections. Only the remaining idle connections are closed.
+ */
+@SdkInternalApi
+public final class MinIdlePoolingConnectionManager extends PoolingHttpClientConnectionManager {
+    private final int minIdleConnections;
+
+    public MinIdlePoolingConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                                           SchemePortResolver schemePortResolver,
+                                           DnsResolver dnsResolver,
+                                           long timeToLive,
+                                           TimeUnit timeUnit,
+                                           int minIdleConnections) {
+        super(socketFactoryRegistry, null, schemePortResolver, dnsResolver, timeToLive, timeUnit);
+        this.minIdleConnections = minIdleConnections;
+    }
+
+    @Override
+    public void closeIdleConnections(long idleTimeout, TimeUnit timeUnit) {
+        long deadline = System.currentTimeMillis() - Math.max(timeUnit.toMillis(idleTimeout), 0);
+        Map<HttpRoute, Integer> keptConnections = new HashMap<>();
+
+        // Idle connections are enumerated from the most to the least recently released.
+        enumAvailable(entry -> {
+            HttpRoute route = entry.getRoute();
+            int kept = keptConnections.computeIfAbsent(route, r -> getStats(r).getLeased());
+            if (kept < minIdleConnections) {
+                keptConnections.put(route, kept + 1);
+            } else if (entry.getUpdated() <= deadline) {
+                entry.close();
+            }
+        });
+    }
+}
@@ -15,9 +15,14 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
+import static software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR;
+
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Arrays;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -28,6 +33,7 @@ import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -71,4 +77,28 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         return new SdkSocket(connectedSocket);
     }
 
+    /**
+     * Performs the TLS handshake of a new connection, and reports its duration and whether it resumed a cached TLS session to
+     * the metric collector of the request that is establishing the connection.
+     */
+    @Override
+    public Socket createLayeredSocket(
+            final Socket socket,
+            final String target,
+            final int port,
+            final HttpContext context) throws IOException {
+        long startNanos = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null && layeredSocket instanceof SSLSocket) {
+            metricCollector.reportMetric(TLS_HANDSHAKE_DURATION, Duration.ofNanos(System.nanoTime() - startNanos));
+            // A resumed session keeps the creation time of the handshake that negotiated it
+            metricCollector.reportMetric(TLS_SESSION_RESUMED,
+                                         ((SSLSocket) layeredSocket).getSession().getCreationTime() < startMillis);
+        }
+        return layeredSocket;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The SSL contexts shared by clients that use the default trust and key material.
+ *
+ * <p>The TLS session cache is part of the {@link SSLContext}, so connections can only resume sessions negotiated by
+ * connections that use the same context. Sharing one context for each session cache configuration lets connections made by
+ * different clients to the same endpoint resume each other's sessions.
+ */
+@SdkInternalApi
+public final class SharedSslContexts {
+    private static final ConcurrentMap<SessionCacheConfiguration, SSLContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private SharedSslContexts() {
+    }
+
+    /**
+     * Get the shared context for a session cache configuration, creating it with the given supplier if there is none yet.
+     */
+    public static SSLContext get(Integer sessionCacheSize, Duration sessionTimeout, Supplier<SSLContext> sslContextSupplier) {
+        return CONTEXTS.computeIfAbsent(new SessionCacheConfiguration(sessionCacheSize, sessionTimeout),
+                                        k -> sslContextSupplier.get());
+    }
+
+    /**
+     * Apply a session cache configuration to the client sessions of a context. Null values keep the defaults of the JVM.
+     */
+    public static void configureSessionCache(SSLContext sslContext, Integer sessionCacheSize, Duration sessionTimeout) {
+        SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+        if (sessionContext == null) {
+            return;
+        }
+        if (sessionCacheSize != null) {
+            sessionContext.setSessionCacheSize(sessionCacheSize);
+        }
+        if (sessionTimeout != null) {
+            sessionContext.setSessionTimeout(Math.toIntExact(Math.min(sessionTimeoutSeconds(sessionTimeout), Integer.MAX_VALUE)));
+        }
+    }
+
+    /**
+     * The session context only supports whole seconds, and treats zero as no limit. Round sub-second values up so that a
+     * short timeout is never turned into an unlimited one.
+     */
+    private static long sessionTimeoutSeconds(Duration sessionTimeout) {
+        return sessionTimeout.getNano() == 0 ? sessionTimeout.getSeconds() : sessionTimeout.getSeconds() + 1;
+    }
+
+    private static final class SessionCacheConfiguration {
+        private final Integer sessionCacheSize;
+        private final Duration sessionTimeout;
+
+        private SessionCacheConfiguration(Integer sessionCacheSize, Duration sessionTimeout) {
+            this.sessionCacheSize = sessionCacheSize;
+            this.sessionTimeout = sessionTimeout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            SessionCacheConfiguration that = (SessionCacheConfiguration) o;
+
+            if (sessionCacheSize != null ? !sessionCacheSize.equals(that.sessionCacheSize) : that.sessionCacheSize != null) {
+                return false;
+            }
+            return sessionTimeout != null ? sessionTimeout.equals(that.sessionTimeout) : that.sessionTimeout == null;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = sessionCacheSize != null ? sessionCacheSize.hashCode() : 0;
+            result = 31 * result + (sessionTimeout != null ? sessionTimeout.hashCode() : 0);
+            return result;
+        }
+    }
+}
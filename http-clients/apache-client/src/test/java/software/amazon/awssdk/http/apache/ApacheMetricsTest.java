@@ -18,11 +18,20 @@ package software.amazon.awssdk.http.apache;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_WARM_UP_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
+import java.net.URI;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -33,11 +42,14 @@ import org.junit.rules.ExpectedException;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
 
 
 public class ApacheMetricsTest {
@@ -49,13 +61,16 @@ public class ApacheMetricsTest {
 
     @BeforeClass
     public static void setUp() throws IOException {
-        wireMockServer = new WireMockServer();
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
         wireMockServer.start();
     }
 
     @Before
     public void methodSetup() {
         wireMockServer.stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200).withBody("{}")));
+        wireMockServer.stubFor(any(urlPathEqualTo("/close")).willReturn(aResponse().withStatus(200)
+                                                                                   .withHeader("Connection", "close")
+                                                                                   .withBody("{}")));
     }
 
     @AfterClass
@@ -82,6 +97,68 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void warmUp_reportsConnectionWarmUpDurationsAndPoolState() throws IOException {
+        ApacheHttpClient apacheClient = (ApacheHttpClient) ApacheHttpClient.create();
+        client = apacheClient;
+
+        MetricCollection collection = apacheClient.warmUp(URI.create("http://localhost:" + wireMockServer.port()), 3);
+
+        assertThat(collection.metricValues(HTTP_CLIENT_NAME)).containsExactly(ApacheHttpClient.CLIENT_NAME);
+        assertThat(collection.metricValues(CONNECTION_WARM_UP_DURATION)).hasSize(3);
+        assertThat(collection.metricValues(AVAILABLE_CONCURRENCY)).containsExactly(3);
+        assertThat(collection.metricValues(LEASED_CONCURRENCY)).containsExactly(0);
+    }
+
+    @Test
+    public void tlsHandshake_newConnections_reportFullThenResumedHandshakes() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .buildWithDefaults(AttributeMap.builder()
+                                                                .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                .build());
+
+        MetricCollection first = makeHttpsRequestWithMetrics("/close");
+        assertThat(first.metricValues(TLS_SESSION_RESUMED)).containsExactly(false);
+        assertThat(first.metricValues(TLS_HANDSHAKE_DURATION)).hasSize(1);
+        assertThat(first.metricValues(TLS_HANDSHAKE_DURATION).get(0)).isPositive();
+
+        MetricCollection second = makeHttpsRequestWithMetrics("/close");
+        assertThat(second.metricValues(TLS_SESSION_RESUMED)).containsExactly(true);
+        assertThat(second.metricValues(TLS_HANDSHAKE_DURATION)).hasSize(1);
+    }
+
+    @Test
+    public void tlsHandshake_reusedConnection_reportsNothing() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .buildWithDefaults(AttributeMap.builder()
+                                                                .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                .build());
+
+        makeHttpsRequestWithMetrics("/keep-alive");
+        MetricCollection second = makeHttpsRequestWithMetrics("/keep-alive");
+
+        assertThat(second.metricValues(TLS_SESSION_RESUMED)).isEmpty();
+        assertThat(second.metricValues(TLS_HANDSHAKE_DURATION)).isEmpty();
+    }
+
+    private MetricCollection makeHttpsRequestWithMetrics(String path) throws IOException {
+        SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .protocol("https")
+                                                       .host("localhost")
+                                                       .port(wireMockServer.httpsPort())
+                                                       .encodedPath(path)
+                                                       .build();
+        MetricCollector metricCollector = MetricCollector.create("test");
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                                .request(httpRequest)
+                                                                                .metricCollector(metricCollector)
+                                                                                .build())
+                                             .call();
+        response.responseBody().ifPresent(IoUtils::drainInputStream);
+        return metricCollector.collect();
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
@@ -0,0 +1,249 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class LockFreePoolingConnectionManagerTest {
+    private static final int MAX_CONNECTIONS = 4;
+
+    private static WireMockServer wireMockServer;
+
+    private LockFreePoolingConnectionManager connectionManager;
+    private ConnectionPoolWarmer warmer;
+    private HttpRoute route;
+
+    @BeforeClass
+    public static void setUp() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterClass
+    public static void teardown() {
+        wireMockServer.stop();
+    }
+
+    @Before
+    public void methodSetup() {
+        connectionManager = new LockFreePoolingConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create().register("http", PlainConnectionSocketFactory.INSTANCE).build(),
+            DefaultSchemePortResolver.INSTANCE,
+            null,
+            SocketConfig.DEFAULT,
+            -1,
+            TimeUnit.MILLISECONDS,
+            MAX_CONNECTIONS,
+            1);
+        ApacheHttpRequestConfig requestConfig = ApacheHttpRequestConfig.builder()
+                                                                       .connectionTimeout(Duration.ofSeconds(2))
+                                                                       .connectionAcquireTimeout(Duration.ofSeconds(2))
+                                                                       .build();
+        warmer = new ConnectionPoolWarmer(connectionManager,
+                                          new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE),
+                                          requestConfig,
+                                          0);
+        route = new HttpRoute(new HttpHost("localhost", wireMockServer.port(), "http"));
+    }
+
+    @After
+    public void methodTeardown() {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void warmUp_connectionsAreReleasedToThePoolAndReused() throws Exception {
+        warmer.warmUp(endpoint(), 2, MetricCollector.create("test"));
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(2);
+
+        HttpClientConnection connection = lease();
+        assertThat(connection.isOpen()).isTrue();
+        assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+
+        connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(2);
+        assertThat(connectionManager.getTotalStats().getMax()).isEqualTo(MAX_CONNECTIONS);
+    }
+
+    @Test
+    public void releaseConnection_connectionNotOpen_isNotReturnedToThePool() throws Exception {
+        HttpClientConnection connection = lease();
+
+        connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+        assertThat(connection.isOpen()).isFalse();
+    }
+
+    @Test
+    public void closeIdleConnections_keepsMinimumIdleConnections() throws Exception {
+        warmer.warmUp(endpoint(), 3, MetricCollector.create("test"));
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+    }
+
+    @Test
+    public void closeExpiredConnections_closesConnectionsPastTheirKeepAlive() throws Exception {
+        HttpClientConnection connection = leaseAndConnect();
+        connectionManager.releaseConnection(connection, null, 1, TimeUnit.MILLISECONDS);
+        Thread.sleep(10);
+
+        connectionManager.closeExpiredConnections();
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+    }
+
+    @Test
+    public void get_poolExhausted_timesOut() throws Exception {
+        leaseAll();
+
+        assertThatThrownBy(() -> connectionManager.requestConnection(route, null).get(50, TimeUnit.MILLISECONDS))
+            .isInstanceOf(ConnectionPoolTimeoutException.class);
+        assertThat(connectionManager.getTotalStats().getPending()).isZero();
+    }
+
+    @Test
+    public void get_poolExhausted_waitsForARelease() throws Exception {
+        List<HttpClientConnection> connections = leaseAll();
+
+        CompletableFuture<HttpClientConnection> waiter =
+            CompletableFuture.supplyAsync(() -> leaseUnchecked(connectionManager.requestConnection(route, null)));
+        Thread.sleep(50);
+        assertThat(waiter).isNotDone();
+
+        connectionManager.releaseConnection(connections.get(0), null, 0, TimeUnit.MILLISECONDS);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    public void cancel_wakesUpTheWaitingThread() throws Exception {
+        leaseAll();
+        ConnectionRequest request = connectionManager.requestConnection(route, null);
+
+        CompletableFuture<HttpClientConnection> waiter = CompletableFuture.supplyAsync(() -> leaseUnchecked(request));
+        Thread.sleep(50);
+        request.cancel();
+
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    public void get_afterShutdown_throws() {
+        connectionManager.shutdown();
+
+        assertThatThrownBy(() -> lease()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void concurrentLeases_neverExceedMaxConnections() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        AtomicInteger leased = new AtomicInteger();
+        AtomicInteger maxLeased = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        HttpClientConnection connection = lease();
+                        maxLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+                        leased.decrementAndGet();
+                        connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxLeased.get()).isLessThanOrEqualTo(MAX_CONNECTIONS);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        assertThat(connectionManager.getTotalStats().getPending()).isZero();
+    }
+
+    private List<HttpClientConnection> leaseAll() throws Exception {
+        List<HttpClientConnection> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_CONNECTIONS; i++) {
+            connections.add(lease());
+        }
+        return connections;
+    }
+
+    private HttpClientConnection lease() throws Exception {
+        return connectionManager.requestConnection(route, null).get(5, TimeUnit.SECONDS);
+    }
+
+    private HttpClientConnection leaseAndConnect() throws Exception {
+        HttpClientConnection connection = lease();
+        BasicHttpContext context = new BasicHttpContext();
+        connectionManager.connect(connection, route, 2000, context);
+        connectionManager.routeComplete(connection, route, context);
+        return connection;
+    }
+
+    private static HttpClientConnection leaseUnchecked(ConnectionRequest request) {
+        try {
+            return request.get(0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | ConnectionPoolTimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static URI endpoint() {
+        return URI.create("http://localhost:" + wireMockServer.port());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_WARM_UP_DURATION;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Tests for {@link MinIdlePoolingConnectionManager} and {@link ConnectionPoolWarmer}.
+ */
+public class MinIdlePoolingConnectionManagerTest {
+    private static WireMockServer wireMockServer;
+
+    private MinIdlePoolingConnectionManager connectionManager;
+    private ConnectionPoolWarmer warmer;
+
+    @BeforeClass
+    public static void setUp() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterClass
+    public static void teardown() {
+        wireMockServer.stop();
+    }
+
+    @Before
+    public void methodSetup() {
+        connectionManager = new MinIdlePoolingConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create().register("http", PlainConnectionSocketFactory.INSTANCE).build(),
+            DefaultSchemePortResolver.INSTANCE,
+            null,
+            -1,
+            TimeUnit.MILLISECONDS,
+            2);
+        connectionManager.setDefaultMaxPerRoute(10);
+        ApacheHttpRequestConfig requestConfig = ApacheHttpRequestConfig.builder()
+                                                                       .connectionTimeout(Duration.ofSeconds(2))
+                                                                       .connectionAcquireTimeout(Duration.ofSeconds(2))
+                                                                       .build();
+        warmer = new ConnectionPoolWarmer(connectionManager,
+                                          new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE),
+                                          requestConfig,
+                                          0);
+    }
+
+    @After
+    public void methodTeardown() {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void warmUp_opensConnectionsAndReleasesThemToThePool() throws Exception {
+        MetricCollector collector = MetricCollector.create("test");
+        warmer.warmUp(endpoint(), 3, collector);
+
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(CONNECTION_WARM_UP_DURATION)).hasSize(3);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(3);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    public void warmUp_reusesConnectionsAlreadyInThePool() throws Exception {
+        warmer.warmUp(endpoint(), 2, MetricCollector.create("test"));
+        warmer.warmUp(endpoint(), 3, MetricCollector.create("test"));
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    public void closeIdleConnections_keepsMinimumIdleConnections() throws Exception {
+        warmer.warmUp(endpoint(), 4, MetricCollector.create("test"));
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(2);
+    }
+
+    @Test
+    public void closeIdleConnections_leasedConnectionsCountTowardMinimum() throws Exception {
+        warmer.warmUp(endpoint(), 4, MetricCollector.create("test"));
+        HttpRoute route = new HttpRoute(new HttpHost("localhost", wireMockServer.port(), "http"));
+        HttpClientConnection leased = connectionManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+
+        assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        connectionManager.releaseConnection(leased, null, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void closeIdleConnections_keepsConnectionsThatHaveNotBeenIdleLongEnough() throws Exception {
+        warmer.warmUp(endpoint(), 4, MetricCollector.create("test"));
+
+        connectionManager.closeIdleConnections(1, TimeUnit.MINUTES);
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(4);
+    }
+
+    private static URI endpoint() {
+        return URI.create("http://localhost:" + wireMockServer.port());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import javax.net.ssl.SSLContext;
+import org.junit.jupiter.api.Test;
+
+class SharedSslContextsTest {
+
+    @Test
+    void configureSessionCache_wholeSeconds_appliedAsIs() throws Exception {
+        SSLContext sslContext = newContext();
+
+        SharedSslContexts.configureSessionCache(sslContext, 42, Duration.ofMinutes(5));
+
+        assertThat(sslContext.getClientSessionContext().getSessionCacheSize()).isEqualTo(42);
+        assertThat(sslContext.getClientSessionContext().getSessionTimeout()).isEqualTo(300);
+    }
+
+    @Test
+    void configureSessionCache_subSecondTimeout_roundedUpToOneSecond() throws Exception {
+        SSLContext sslContext = newContext();
+
+        SharedSslContexts.configureSessionCache(sslContext, null, Duration.ofMillis(500));
+
+        assertThat(sslContext.getClientSessionContext().getSessionTimeout()).isEqualTo(1);
+    }
+
+    @Test
+    void configureSessionCache_fractionalTimeout_roundedUp() throws Exception {
+        SSLContext sslContext = newContext();
+
+        SharedSslContexts.configureSessionCache(sslContext, null, Duration.ofMillis(1500));
+
+        assertThat(sslContext.getClientSessionContext().getSessionTimeout()).isEqualTo(2);
+    }
+
+    @Test
+    void configureSessionCache_zeroTimeout_meansNoLimit() throws Exception {
+        SSLContext sslContext = newContext();
+
+        SharedSslContexts.configureSessionCache(sslContext, null, Duration.ZERO);
+
+        assertThat(sslContext.getClientSessionContext().getSessionTimeout()).isEqualTo(0);
+    }
+
+    private static SSLContext newContext() throws Exception {
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, null, null);
+        return sslContext;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.contentLength;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.toBodyPublisher;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.toJdkRequest;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.toSdkResponse;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.EventListeningSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the JDK's {@link HttpClient} (available in Java 11 and later) to
+ * communicate with the service. It provides non-blocking I/O and HTTP/2 multiplexing without any dependencies outside of the
+ * JDK.
+ *
+ * <p>See software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final Logger log = Logger.loggerFor(JdkAsyncHttpClient.class);
+    private static final String CLIENT_NAME = "JdkHttpClient";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    /**
+     * The number of requests that have been sent and are waiting for a response.
+     */
+    private final AtomicInteger inFlightRequests = new AtomicInteger(0);
+
+    private JdkAsyncHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = JdkHttpClientFactory.create(options, builder.executor);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} with the default properties
+     *
+     * @return an {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+        try {
+            HttpRequest jdkRequest = toJdkRequest(request.request(), bodyPublisher(request), readTimeout);
+
+            metricCollector.reportMetric(LEASED_CONCURRENCY, inFlightRequests.incrementAndGet());
+            CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+                httpClient.sendAsync(jdkRequest, BodyHandlers.ofPublisher());
+
+            responseFuture.whenComplete((response, error) -> {
+                inFlightRequests.decrementAndGet();
+                if (error != null) {
+                    failExecution(responseHandler, executeFuture, error);
+                    return;
+                }
+
+                try {
+                    responseHandler.onHeaders(toSdkResponse(response.statusCode(), response.headers()));
+                    responseHandler.onStream(new ResponsePublisher(response.body(), executeFuture));
+                } catch (RuntimeException e) {
+                    failExecution(responseHandler, executeFuture, e);
+                }
+            });
+
+            // Cancelling the execution, e.g. because the API call timed out, cancels the exchange if it's still in progress.
+            executeFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    responseFuture.cancel(true);
+                }
+            });
+        } catch (RuntimeException e) {
+            failExecution(responseHandler, executeFuture, e);
+        }
+
+        return executeFuture;
+    }
+
+    @Override
+    public void close() {
+        // The JDK client only became closeable in Java 21. Before that its resources are released once it's unreachable.
+        IoUtils.closeIfCloseable(httpClient, log.logger());
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private HttpRequest.BodyPublisher bodyPublisher(AsyncExecuteRequest request) {
+        Optional<Long> contentLength = contentLength(request.request());
+        if (!contentLength.isPresent()) {
+            contentLength = request.requestContentPublisher().contentLength();
+        }
+        return toBodyPublisher(FlowAdapters.toFlowPublisher(request.requestContentPublisher()), contentLength);
+    }
+
+    private static void failExecution(SdkAsyncHttpResponseHandler responseHandler,
+                                      CompletableFuture<Void> executeFuture,
+                                      Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        try {
+            responseHandler.onError(cause);
+        } finally {
+            executeFuture.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Publishes the response body to the SDK's response handler, completing the execution once the body has been fully
+     * delivered or the subscriber cancels.
+     */
+    private static final class ResponsePublisher implements Publisher<ByteBuffer> {
+        private final Flow.Publisher<List<ByteBuffer>> body;
+        private final CompletableFuture<Void> executeFuture;
+
+        private ResponsePublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> executeFuture) {
+            this.body = body;
+            this.executeFuture = executeFuture;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            FlowAdapters.toPublisher(body)
+                        .subscribe(new FlatteningSubscriber<>(
+                            new EventListeningSubscriber<>(subscriber,
+                                                           () -> executeFuture.complete(null),
+                                                           executeFuture::completeExceptionally,
+                                                           () -> executeFuture.complete(null))));
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkAsyncHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = JdkAsyncHttpClient.builder()
+     * .readTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .protocol(Protocol.HTTP2)
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers after the request has been sent before the request is timed out.
+         * A duration of 0 means infinity, and is not recommended.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). When HTTP/2 is requested the client falls back to HTTP/1.1
+         * for servers that don't support it. Not all services support HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the executor that the JDK client uses for its asynchronous tasks, including delivering the response body to
+         * the SDK. By default, the JDK client uses its own cached thread pool.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(this, standardOptions.build()
+                                                               .merge(serviceDefaults)
+                                                               .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
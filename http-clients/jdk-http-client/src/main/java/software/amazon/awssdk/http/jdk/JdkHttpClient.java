@@ -0,0 +1,368 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.contentLength;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.toBodyPublisher;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.toJdkRequest;
+import static software.amazon.awssdk.http.jdk.internal.JdkHttpUtils.toSdkResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.VirtualThreadFactory;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the JDK's {@link HttpClient} (available in Java 11 and later) to
+ * communicate with the service. Like the URL connection client it has no dependencies outside of the JDK, but it pools
+ * connections and supports HTTP/2.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+    private static final Logger log = Logger.loggerFor(JdkHttpClient.class);
+    private static final String CLIENT_NAME = "JdkHttpClient";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    /**
+     * The number of requests that have been sent and are waiting for a response.
+     */
+    private final AtomicInteger inFlightRequests = new AtomicInteger(0);
+
+    private JdkHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = JdkHttpClientFactory.create(options, resolveExecutor(builder));
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    private static Executor resolveExecutor(DefaultBuilder builder) {
+        if (builder.executor != null || !Boolean.TRUE.equals(builder.virtualThreads)) {
+            return builder.executor;
+        }
+
+        if (!VirtualThreadFactory.isSupported()) {
+            log.warn(() -> "Virtual threads were requested but are not supported by this JVM. The JDK client's default "
+                           + "executor will be used instead.");
+            return null;
+        }
+
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("sdk-jdk-http")
+                                                                .virtualThreads(true)
+                                                                .build();
+        return task -> threadFactory.newThread(task).start();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return an {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        return new RequestCallable(request, metricCollector);
+    }
+
+    @Override
+    public void close() {
+        // The JDK client only became closeable in Java 21. Before that its resources are released once it's unreachable.
+        IoUtils.closeIfCloseable(httpClient, log.logger());
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpExecuteRequest request;
+        private final MetricCollector metricCollector;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile boolean aborted = false;
+
+        private RequestCallable(HttpExecuteRequest request, MetricCollector metricCollector) {
+            this.request = request;
+            this.metricCollector = metricCollector;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            HttpRequest jdkRequest = toJdkRequest(request.httpRequest(), bodyPublisher(), readTimeout);
+
+            metricCollector.reportMetric(LEASED_CONCURRENCY, inFlightRequests.incrementAndGet());
+            HttpResponse<InputStream> response;
+            try {
+                responseFuture = httpClient.sendAsync(jdkRequest, bodyHandler());
+                if (aborted) {
+                    responseFuture.cancel(true);
+                }
+                response = awaitResponse(responseFuture);
+            } finally {
+                inFlightRequests.decrementAndGet();
+            }
+
+            InputStream body = response.body();
+            return HttpExecuteResponse.builder()
+                                      .response(toSdkResponse(response.statusCode(), response.headers()))
+                                      .responseBody(body == null ? null : AbortableInputStream.create(body))
+                                      .build();
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        private BodyPublisher bodyPublisher() {
+            return request.contentStreamProvider()
+                          .map(provider -> toBodyPublisher(BodyPublishers.ofInputStream(provider::newStream),
+                                                           contentLength(request.httpRequest())))
+                          .orElseGet(BodyPublishers::noBody);
+        }
+
+        private BodyHandler<InputStream> bodyHandler() {
+            // HEAD responses never have a payload, and the SDK expects no response body rather than an empty one.
+            return request.httpRequest().method() == SdkHttpMethod.HEAD ? BodyHandlers.<InputStream>replacing(null)
+                                                                          : BodyHandlers.ofInputStream();
+        }
+
+        private HttpResponse<InputStream> awaitResponse(CompletableFuture<HttpResponse<InputStream>> future)
+                throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for a response.");
+                interrupted.initCause(e);
+                throw interrupted;
+            } catch (CancellationException e) {
+                throw new IOException("The request was aborted.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created via
+     * {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers after the request has been sent before the request is timed out.
+         * A duration of 0 means infinity, and is not recommended.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). When HTTP/2 is requested the client falls back to HTTP/1.1
+         * for servers that don't support it.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the executor that the JDK client uses for its asynchronous tasks. By default, the JDK client uses its own
+         * cached thread pool.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure whether the JDK client should run its asynchronous tasks on virtual threads, one per task. This is
+         * useful when the SDK is called from a large number of virtual threads: the calling threads block without pinning
+         * their carrier while the client's own work is also scheduled on virtual threads, instead of a bounded platform pool.
+         *
+         * <p>Virtual threads require Java 21 or newer. On older JVMs this setting is ignored and a warning is logged. If an
+         * {@link #executor(Executor)} is also configured, the executor takes precedence.
+         *
+         * <p>By default, this is false.
+         */
+        Builder virtualThreads(Boolean virtualThreads);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+        private Boolean virtualThreads;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder virtualThreads(Boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public void setVirtualThreads(Boolean virtualThreads) {
+            virtualThreads(virtualThreads);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(this, standardOptions.build()
+                                                          .merge(serviceDefaults)
+                                                          .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
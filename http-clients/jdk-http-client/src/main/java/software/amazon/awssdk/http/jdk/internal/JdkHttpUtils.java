@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Converts between the SDK's HTTP request and response types and those of {@link java.net.http}.
+ */
+@SdkInternalApi
+public final class JdkHttpUtils {
+    /**
+     * Headers that {@link HttpRequest.Builder} refuses to accept because the JDK client sets them itself. Their values are
+     * derived from the request URI and body publisher instead.
+     */
+    private static final Set<String> RESTRICTED_HEADERS =
+        Collections.unmodifiableSet(new HashSet<>(Arrays.asList("connection", "content-length", "expect", "host",
+                                                                          "upgrade")));
+
+    private JdkHttpUtils() {
+    }
+
+    /**
+     * Create a {@link HttpRequest} for the provided SDK request that sends the provided body.
+     *
+     * @param request The SDK request to convert.
+     * @param body The body of the request.
+     * @param readTimeout The amount of time to wait for the response headers. A duration of 0 means infinity.
+     */
+    public static HttpRequest toJdkRequest(SdkHttpRequest request, BodyPublisher body, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), body);
+
+        if (!readTimeout.isZero()) {
+            builder.timeout(readTimeout);
+        }
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+            if ("expect".equals(lowerCaseName) && values.stream().anyMatch("100-continue"::equalsIgnoreCase)) {
+                builder.expectContinue(true);
+            } else if (!RESTRICTED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * Create a {@link BodyPublisher} that sends the content of the provided publisher. The request is sent with a
+     * Content-Length when the length is known, and chunked otherwise.
+     */
+    public static BodyPublisher toBodyPublisher(Flow.Publisher<ByteBuffer> content, Optional<Long> contentLength) {
+        return contentLength.map(length -> length == 0 ? BodyPublishers.noBody() : BodyPublishers.fromPublisher(content, length))
+                            .orElseGet(() -> BodyPublishers.fromPublisher(content));
+    }
+
+    /**
+     * Return the length of the request content declared by its Content-Length header, if any.
+     */
+    public static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    /**
+     * Create an {@link SdkHttpResponse} from the status code and headers of a JDK response. HTTP/2 pseudo-headers like
+     * {@code :status} are not included.
+     */
+    public static SdkHttpResponse toSdkResponse(int statusCode, HttpHeaders headers) {
+        Map<String, List<String>> sdkHeaders = headers.map()
+                                                      .entrySet()
+                                                      .stream()
+                                                      .filter(e -> !e.getKey().startsWith(":"))
+                                                      .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return SdkHttpResponse.builder()
+                              .statusCode(statusCode)
+                              .headers(sdkHeaders)
+                              .build();
+    }
+}
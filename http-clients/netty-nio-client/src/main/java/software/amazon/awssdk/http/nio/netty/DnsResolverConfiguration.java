@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for the client's own DNS resolver, enabled with
+ * {@link NettyNioAsyncHttpClient.Builder#dnsResolverConfiguration(DnsResolverConfiguration)}.
+ *
+ * <p>By default, the Netty client resolves a hostname every time it opens a connection, with a blocking lookup on the event
+ * loop, and connects to the first address that the JVM returns. With this resolver, lookups are made off the event loop and
+ * their results are cached by the client. New connections to a hostname are spread across all of its addresses in turn,
+ * and an address that a connection attempt fails to connect to is no longer used until the hostname is resolved again.
+ */
+@SdkPublicApi
+public final class DnsResolverConfiguration
+    implements ToCopyableBuilder<DnsResolverConfiguration.Builder, DnsResolverConfiguration> {
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(30);
+
+    private final Duration cacheTtl;
+
+    private DnsResolverConfiguration(DefaultBuilder builder) {
+        this.cacheTtl = builder.cacheTtl != null ? builder.cacheTtl : DEFAULT_CACHE_TTL;
+    }
+
+    /**
+     * @return How long the addresses of a hostname are cached before it is resolved again.
+     */
+    public Duration cacheTtl() {
+        return cacheTtl;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DnsResolverConfiguration that = (DnsResolverConfiguration) o;
+        return cacheTtl.equals(that.cacheTtl);
+    }
+
+    @Override
+    public int hashCode() {
+        return cacheTtl.hashCode();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, DnsResolverConfiguration> {
+
+        /**
+         * Sets how long the addresses of a hostname are cached before it is resolved again. Lookups go through the JVM's
+         * resolver, which doesn't expose the TTL of DNS records, so this should not exceed the TTL of the records being
+         * resolved. Lookups are also subject to the JVM's own cache, configured with the {@code networkaddress.cache.ttl}
+         * security property. The default value is 30 seconds.
+         *
+         * @param cacheTtl How long resolved addresses are cached.
+         * @return This builder for method chaining.
+         */
+        Builder cacheTtl(Duration cacheTtl);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Duration cacheTtl;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(DnsResolverConfiguration dnsResolverConfiguration) {
+            this.cacheTtl = dnsResolverConfiguration.cacheTtl;
+        }
+
+        @Override
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl == null ? null : Validate.isNotNegative(cacheTtl, "cacheTtl");
+            return this;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            cacheTtl(cacheTtl);
+        }
+
+        @Override
+        public DnsResolverConfiguration build() {
+            return new DnsResolverConfiguration(this);
+        }
+    }
+}
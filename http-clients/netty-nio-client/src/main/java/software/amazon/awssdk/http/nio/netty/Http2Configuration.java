@@ -29,11 +29,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Http2StreamSchedulingStrategy streamSchedulingStrategy;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamSchedulingStrategy = builder.streamSchedulingStrategy;
     }
 
     /**
@@ -57,6 +59,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The strategy used to distribute new streams across HTTP/2 connections.
+     */
+    public Http2StreamSchedulingStrategy streamSchedulingStrategy() {
+        return streamSchedulingStrategy;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,7 +87,11 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
+
+        return streamSchedulingStrategy == that.streamSchedulingStrategy;
 
     }
 
@@ -86,6 +99,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (streamSchedulingStrategy != null ? streamSchedulingStrategy.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +141,22 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the strategy used to choose the connection on which a new stream is opened, and when additional connections
+         * are opened. The default value is {@link Http2StreamSchedulingStrategy#FIRST_AVAILABLE}.
+         *
+         * @param streamSchedulingStrategy The stream scheduling strategy.
+         * @return This builder for method chaining.
+         */
+        Builder streamSchedulingStrategy(Http2StreamSchedulingStrategy streamSchedulingStrategy);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Http2StreamSchedulingStrategy streamSchedulingStrategy;
 
         private DefaultBuilder() {
         }
@@ -141,6 +165,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.streamSchedulingStrategy = http2Configuration.streamSchedulingStrategy;
         }
 
         @Override
@@ -173,6 +198,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder streamSchedulingStrategy(Http2StreamSchedulingStrategy streamSchedulingStrategy) {
+            this.streamSchedulingStrategy = streamSchedulingStrategy;
+            return this;
+        }
+
+        public void setStreamSchedulingStrategy(Http2StreamSchedulingStrategy streamSchedulingStrategy) {
+            streamSchedulingStrategy(streamSchedulingStrategy);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
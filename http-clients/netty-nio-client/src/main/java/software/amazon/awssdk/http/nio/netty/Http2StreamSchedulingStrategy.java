@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How new HTTP/2 streams are distributed across the connections to a host.
+ *
+ * @see Http2Configuration.Builder#streamSchedulingStrategy(Http2StreamSchedulingStrategy)
+ */
+@SdkPublicApi
+public enum Http2StreamSchedulingStrategy {
+    /**
+     * Streams are opened on the first connection with spare stream capacity, and a new connection is only opened once every
+     * existing connection has reached its MAX_CONCURRENT_STREAMS limit. This uses the fewest connections.
+     */
+    FIRST_AVAILABLE,
+
+    /**
+     * Streams are opened on the connection with the fewest outstanding streams, preferring connections that are not
+     * congested. A connection is considered congested when its socket is not writable, its HTTP/2 connection flow-control
+     * window is exhausted, or its event loop is slow to open and close streams. When every connection with spare capacity is
+     * congested, a new connection is opened, up to one connection per event loop, and new connections are spread across the
+     * client's event loops.
+     *
+     * <p>This reduces head-of-line blocking for workloads with many long-lived or high-throughput streams, at the cost of
+     * opening more connections.
+     */
+    LEAST_LOADED
+}
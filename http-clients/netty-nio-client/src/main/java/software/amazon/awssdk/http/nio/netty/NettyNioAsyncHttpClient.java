@@ -43,8 +43,11 @@ import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolWarmer;
+import software.amazon.awssdk.http.nio.netty.internal.NettyClientOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -53,10 +56,14 @@ import software.amazon.awssdk.http.nio.netty.internal.SdkChannelOptions;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.dns.CachingAddressResolverGroup;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -77,21 +84,28 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private static final AttributeMap NETTY_HTTP_DEFAULTS =
         AttributeMap.builder()
                     .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, Duration.ofSeconds(5))
+                    .put(NettyClientOption.ZERO_COPY_RESPONSE_BUFFERS, false)
+                    .put(NettyClientOption.MIN_IDLE_CONNECTIONS, 0)
+                    .put(NettyClientOption.REQUEST_BODY_FLUSH_THRESHOLD, 0)
                     .build();
 
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final CachingAddressResolverGroup addressResolverGroup;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
-        this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        Http2Configuration http2Configuration = builder.http2Configuration;
+
+        this.configuration = new NettyConfiguration(http2Options(http2Configuration).merge(serviceDefaultsMap));
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
-        Http2Configuration http2Configuration = builder.http2Configuration;
-
         long maxStreams = resolveMaxHttp2Streams(builder.maxHttp2Streams, http2Configuration);
         int initialWindowSize = resolveInitialWindowSize(http2Configuration);
+        this.addressResolverGroup = builder.dnsResolverConfiguration != null
+                                    ? CachingAddressResolverGroup.create(builder.dnsResolverConfiguration)
+                                    : null;
 
         this.pools = AwaitCloseChannelPoolMap.builder()
                                              .sdkChannelOptions(builder.sdkChannelOptions)
@@ -103,6 +117,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
+                                             .addressResolverGroup(addressResolverGroup)
                                              .build();
     }
 
@@ -113,6 +128,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.pools = pools;
         this.configuration = configuration;
+        this.addressResolverGroup = null;
     }
 
     @Override
@@ -122,6 +138,37 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * Eagerly open connections to an endpoint, so that the first requests to it don't pay for establishing connections and
+     * TLS handshakes.
+     *
+     * <p>The pool for the endpoint is filled with the requested number of connections, limited by the client's
+     * {@link Builder#maxConcurrency(Integer)}. Connections that are already open count toward the requested number. For HTTP/2,
+     * connections are only guaranteed when the pool is empty: otherwise the streams may be served by connections that are
+     * already open. Warmed connections are subject to the usual idle timeouts. Use {@link Builder#minIdleConnections(Integer)}
+     * to keep them open while the client is idle.
+     *
+     * <p>The returned metrics contain the {@link software.amazon.awssdk.http.HttpMetric#CONNECTION_WARM_UP_DURATION} of every
+     * connection, and the state of the endpoint's connection pool after the warm-up.
+     *
+     * @param endpoint The endpoint to connect to. Only the scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @return A future that completes with the warm-up's metrics once the connections have been returned to the pool, or
+     * exceptionally if any of the connections could not be established.
+     */
+    public CompletableFuture<MetricCollection> warmUp(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+
+        MetricCollector metricCollector = MetricCollector.create("HttpClientWarmUp");
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        SdkChannelPool pool = pools.get(poolKey(endpoint));
+        return new ChannelPoolWarmer(pool, sdkEventLoopGroup.eventLoopGroup(), metricCollector)
+            .warmUp(Math.min(connections, configuration.maxConnections()))
+            .thenApply(r -> metricCollector.collect());
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -153,6 +200,11 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    private static URI poolKey(URI endpoint) {
+        int port = endpoint.getPort() == -1 ? SdkHttpUtils.standardPort(endpoint.getScheme()) : endpoint.getPort();
+        return invokeSafely(() -> new URI(endpoint.getScheme(), null, endpoint.getHost(), port, null, null, null));
+    }
+
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
         if (builder.sslProvider != null) {
             return builder.sslProvider;
@@ -187,6 +239,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private AttributeMap http2Options(Http2Configuration http2Configuration) {
+        AttributeMap.Builder options = AttributeMap.builder();
+        if (http2Configuration != null && http2Configuration.streamSchedulingStrategy() != null) {
+            options.put(NettyClientOption.HTTP2_STREAM_SCHEDULING_STRATEGY, http2Configuration.streamSchedulingStrategy());
+        }
+        return options.build();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -195,6 +255,9 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     @Override
     public void close() {
         runAndLogError(log, "Unable to close channel pools", pools::close);
+        if (addressResolverGroup != null) {
+            runAndLogError(log, "Unable to close DNS resolver", addressResolverGroup::close);
+        }
         runAndLogError(log, "Unable to shutdown event loop", () ->
             closeEventLoopUninterruptibly(sdkEventLoopGroup.eventLoopGroup()));
     }
@@ -455,6 +518,30 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider trustManagersProvider);
 
+        /**
+         * Configure the maximum number of TLS sessions that are cached so that new connections to the same endpoint can resume
+         * them with an abbreviated handshake. Zero means no limit. If not set, the default of the SSL provider is used.
+         *
+         * <p>Clients that use the default trust and key managers share their TLS session cache with all other such clients
+         * that have the same protocol, SSL provider and TLS session configuration.
+         *
+         * @param tlsSessionCacheSize The maximum number of cached TLS sessions.
+         * @return The builder for method chaining.
+         * @see software.amazon.awssdk.http.HttpMetric#TLS_SESSION_RESUMED
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time that a cached TLS session can be resumed for. Zero means no limit.
+         * Sessions time out in whole seconds, so a fractional value is rounded up. If not set, the default of the SSL provider
+         * is used.
+         *
+         * @param tlsSessionTimeout The amount of time a TLS session can be resumed for.
+         * @return The builder for method chaining.
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
         /**
          * Set the HTTP/2 specific configuration for this client.
          * <p>
@@ -476,6 +563,79 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Configure the client to resolve hostnames with its own caching DNS resolver.
+         *
+         * <p>By default, hostnames are resolved every time a connection is opened, with a blocking lookup on the event loop,
+         * and connections go to the first address returned by the JVM. With this resolver, lookups are made off the event
+         * loop and cached for {@link DnsResolverConfiguration#cacheTtl()}, new connections are spread across all addresses
+         * of a hostname in turn, and an address that a connection attempt fails to connect to is not used again until the
+         * hostname is resolved again. This raises the aggregate throughput to services whose hostnames resolve to many
+         * addresses.
+         *
+         * @param dnsResolverConfiguration The DNS resolver configuration, or null to use the JVM's resolution.
+         * @return the builder for method chaining.
+         */
+        Builder dnsResolverConfiguration(DnsResolverConfiguration dnsResolverConfiguration);
+
+        /**
+         * Configure the client to resolve hostnames with its own caching DNS resolver.
+         *
+         * @param dnsResolverConfigurationBuilderConsumer The consumer of the DNS resolver configuration builder object.
+         * @return the builder for method chaining.
+         * @see #dnsResolverConfiguration(DnsResolverConfiguration)
+         */
+        Builder dnsResolverConfiguration(Consumer<DnsResolverConfiguration.Builder> dnsResolverConfigurationBuilderConsumer);
+
+        /**
+         * Configure whether response bodies are delivered without copying them.
+         *
+         * <p>By default, the client copies each chunk of the response body it receives into a new heap buffer before
+         * publishing it. When enabled, subscribers that implement {@link ReleasableBufferSubscriber}, such as the ones behind
+         * {@code AsyncResponseTransformer.toFile} and {@code AsyncResponseTransformer.toBytes}, instead receive read-only views
+         * of the client's pooled, possibly direct, buffers and release them once consumed. This saves a copy and an allocation
+         * per chunk for large downloads. Other subscribers keep receiving copies.
+         *
+         * <p>Default is false.
+         *
+         * @param useZeroCopyResponseBuffers Whether to publish pooled buffers to subscribers that can release them.
+         * @return The builder for method chaining.
+         */
+        Builder useZeroCopyResponseBuffers(Boolean useZeroCopyResponseBuffers);
+
+        /**
+         * Configure the minimum number of connections per host that are kept open while they're idle.
+         *
+         * <p>Connections that have been idle for longer than {@link #connectionMaxIdleTime(Duration)} are normally closed. With
+         * this option, an idle connection is only closed if the client keeps at least this many other connections open to the
+         * same host. Combined with {@link NettyNioAsyncHttpClient#warmUp(URI, int)}, this keeps warmed connections available
+         * through quiet periods. Connections are still closed once they reach their {@link #connectionTimeToLive(Duration)},
+         * or if the server closes them.
+         *
+         * <p>Default is 0.
+         *
+         * @param minIdleConnections The number of connections per host that are not closed for being idle.
+         * @return The builder for method chaining.
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
+        /**
+         * Configure how often streamed request bodies are flushed to the connection.
+         *
+         * <p>By default, every chunk published by an {@code AsyncRequestBody} is flushed as
+         * soon as it's written, which costs a system call and, over TLS, a TLS record per chunk. When a threshold is set, chunks
+         * are still written as soon as they're published, but are only flushed once this many bytes have been written since the
+         * last flush, once enough chunks have been written that the client needs to request more from the publisher, or once
+         * the publisher stops producing chunks. This reduces the overhead of request bodies that are published in many small
+         * chunks.
+         *
+         * <p>Default is 0, which flushes every chunk.
+         *
+         * @param requestBodyFlushThresholdBytes The number of request body bytes to write between flushes.
+         * @return The builder for method chaining.
+         */
+        Builder requestBodyFlushThreshold(Integer requestBodyFlushThresholdBytes);
     }
 
     /**
@@ -491,6 +651,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
         private Integer maxHttp2Streams;
         private Http2Configuration http2Configuration;
+        private DnsResolverConfiguration dnsResolverConfiguration;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
 
@@ -700,6 +861,32 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            if (tlsSessionCacheSize != null) {
+                Validate.isNotNegative(tlsSessionCacheSize, "tlsSessionCacheSize");
+            }
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            if (tlsSessionTimeout != null) {
+                Validate.isNotNegative(tlsSessionTimeout, "tlsSessionTimeout");
+            }
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public Builder http2Configuration(Http2Configuration http2Configuration) {
             this.http2Configuration = http2Configuration;
@@ -717,6 +904,60 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             http2Configuration(http2Configuration);
         }
 
+        @Override
+        public Builder dnsResolverConfiguration(DnsResolverConfiguration dnsResolverConfiguration) {
+            this.dnsResolverConfiguration = dnsResolverConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder dnsResolverConfiguration(
+            Consumer<DnsResolverConfiguration.Builder> dnsResolverConfigurationBuilderConsumer) {
+            DnsResolverConfiguration.Builder builder = DnsResolverConfiguration.builder();
+            dnsResolverConfigurationBuilderConsumer.accept(builder);
+            return dnsResolverConfiguration(builder.build());
+        }
+
+        public void setDnsResolverConfiguration(DnsResolverConfiguration dnsResolverConfiguration) {
+            dnsResolverConfiguration(dnsResolverConfiguration);
+        }
+
+        @Override
+        public Builder useZeroCopyResponseBuffers(Boolean useZeroCopyResponseBuffers) {
+            standardOptions.put(NettyClientOption.ZERO_COPY_RESPONSE_BUFFERS, useZeroCopyResponseBuffers);
+            return this;
+        }
+
+        public void setUseZeroCopyResponseBuffers(Boolean useZeroCopyResponseBuffers) {
+            useZeroCopyResponseBuffers(useZeroCopyResponseBuffers);
+        }
+
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            if (minIdleConnections != null) {
+                Validate.isNotNegative(minIdleConnections, "minIdleConnections");
+            }
+            standardOptions.put(NettyClientOption.MIN_IDLE_CONNECTIONS, minIdleConnections);
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
+        @Override
+        public Builder requestBodyFlushThreshold(Integer requestBodyFlushThresholdBytes) {
+            if (requestBodyFlushThresholdBytes != null) {
+                Validate.isNotNegative(requestBodyFlushThresholdBytes, "requestBodyFlushThreshold");
+            }
+            standardOptions.put(NettyClientOption.REQUEST_BODY_FLUSH_THRESHOLD, requestBodyFlushThresholdBytes);
+            return this;
+        }
+
+        public void setRequestBodyFlushThreshold(Integer requestBodyFlushThresholdBytes) {
+            requestBodyFlushThreshold(requestBodyFlushThresholdBytes);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
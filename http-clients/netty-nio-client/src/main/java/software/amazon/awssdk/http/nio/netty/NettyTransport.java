@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
+
+/**
+ * The Netty transports that an {@link SdkEventLoopGroup} can be built with.
+ *
+ * <p>The native transports are only usable when their Netty native library for the current platform is on the classpath and
+ * can be loaded, which can be checked with {@link #isAvailable()}.
+ *
+ * @see SdkEventLoopGroup.Builder#transport(NettyTransport)
+ */
+@SdkPublicApi
+public enum NettyTransport {
+
+    /**
+     * The Java NIO transport. It is available on every platform, and is the default.
+     */
+    NIO,
+
+    /**
+     * The Linux epoll transport. It requires {@code io.netty:netty-transport-native-epoll} with the classifier of the
+     * current platform on the classpath.
+     */
+    EPOLL,
+
+    /**
+     * The Linux io_uring transport. It requires {@code io.netty.incubator:netty-incubator-transport-native-io_uring} with the
+     * classifier of the current platform on the classpath, and a kernel that supports io_uring.
+     */
+    IO_URING;
+
+    /**
+     * @return True if this transport can be used on the current platform, false otherwise.
+     */
+    public boolean isAvailable() {
+        return SocketChannelResolver.isAvailable(this);
+    }
+}
@@ -17,9 +17,12 @@ package software.amazon.awssdk.http.nio.netty;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -33,7 +36,8 @@ import software.amazon.awssdk.utils.Validate;
  * There are three ways to create a new instance.
  *
  * <ul>
- * <li>using {@link #builder()} to provide custom configuration of {@link EventLoopGroup}.
+ * <li>using {@link #builder()} to provide custom configuration of {@link EventLoopGroup}, including which
+ * {@link NettyTransport} it uses.
  * This is the preferred configuration method when you just want to customize the {@link EventLoopGroup}</li>
  *
  *
@@ -75,8 +79,14 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveChannelFactory();
+        NettyTransport transport = Optional.ofNullable(builder.transport).orElse(NettyTransport.NIO);
+        Validate.isTrue(transport == NettyTransport.EPOLL || (builder.busyPollMicros == null && builder.edgeTriggered == null),
+                        "busyPollMicros and edgeTriggered are only supported by the EPOLL transport.");
+        if (builder.busyPollMicros != null) {
+            Validate.isNotNegative(builder.busyPollMicros, "busyPollMicros");
+        }
+        this.eventLoopGroup = resolveEventLoopGroup(builder, transport);
+        this.channelFactory = resolveChannelFactory(builder, transport);
     }
 
     /**
@@ -123,27 +133,28 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, NettyTransport transport) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
-        /*
-        Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
-
-        }*/
+        // NIO stays the default until native transports have been proven with the SDK's retry and connection reuse
+        // behavior; native transports are only used when explicitly selected.
+        return SocketChannelResolver.createEventLoopGroup(transport, numThreads, threadFactory);
     }
 
-    private ChannelFactory<? extends Channel> resolveChannelFactory() {
-        // Currently we only support NioEventLoopGroup
-        return NioSocketChannel::new;
+    private ChannelFactory<? extends Channel> resolveChannelFactory(DefaultBuilder builder, NettyTransport transport) {
+        Map<ChannelOption<?>, Object> channelOptions = new HashMap<>();
+        if (builder.busyPollMicros != null) {
+            channelOptions.put(EpollChannelOption.SO_BUSY_POLL, builder.busyPollMicros);
+        }
+        if (builder.edgeTriggered != null) {
+            channelOptions.put(EpollChannelOption.EPOLL_MODE,
+                               builder.edgeTriggered ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED);
+        }
+        return SocketChannelResolver.withChannelOptions(SocketChannelResolver.resolveSocketChannelFactory(transport),
+                                                        channelOptions);
     }
 
     /**
@@ -172,6 +183,44 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * The {@link NettyTransport} of the {@link EventLoopGroup} and of the channels it serves. If not set,
+         * {@link NettyTransport#NIO} is used.
+         *
+         * <p>Building fails with an {@link IllegalStateException} if the transport is not available on the current
+         * platform; see {@link NettyTransport#isAvailable()}.
+         *
+         * <p>{@code TCP_NODELAY} is enabled on every transport by default, and can be changed with
+         * {@link NettyNioAsyncHttpClient.Builder#putChannelOption}.
+         *
+         * @param transport The transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transport(NettyTransport transport);
+
+        /**
+         * The number of microseconds a socket read busy polls the device queue for packets before sleeping
+         * ({@code SO_BUSY_POLL}). Busy polling lowers latency at the cost of CPU. If not set, the operating system default is
+         * used, which is normally disabled.
+         *
+         * <p>This is only supported by the {@link NettyTransport#EPOLL} transport.
+         *
+         * @param busyPollMicros The busy poll time in microseconds.
+         * @return This builder for method chaining.
+         */
+        Builder busyPollMicros(Integer busyPollMicros);
+
+        /**
+         * Whether channels are registered with epoll in edge-triggered mode (true) or level-triggered mode (false). If not set,
+         * the Netty default of edge-triggered is used.
+         *
+         * <p>This is only supported by the {@link NettyTransport#EPOLL} transport.
+         *
+         * @param edgeTriggered True for edge-triggered mode, false for level-triggered mode.
+         * @return This builder for method chaining.
+         */
+        Builder edgeTriggered(Boolean edgeTriggered);
+
         SdkEventLoopGroup build();
     }
 
@@ -179,6 +228,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
+        private NettyTransport transport;
+        private Integer busyPollMicros;
+        private Boolean edgeTriggered;
 
         private DefaultBuilder() {
         }
@@ -203,6 +255,36 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder transport(NettyTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        public void setTransport(NettyTransport transport) {
+            transport(transport);
+        }
+
+        @Override
+        public Builder busyPollMicros(Integer busyPollMicros) {
+            this.busyPollMicros = busyPollMicros;
+            return this;
+        }
+
+        public void setBusyPollMicros(Integer busyPollMicros) {
+            busyPollMicros(busyPollMicros);
+        }
+
+        @Override
+        public Builder edgeTriggered(Boolean edgeTriggered) {
+            this.edgeTriggered = edgeTriggered;
+            return this;
+        }
+
+        public void setEdgeTriggered(Boolean edgeTriggered) {
+            edgeTriggered(edgeTriggered);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
@@ -39,8 +39,10 @@ import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.dns.CachingAddressResolverGroup;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 
@@ -69,7 +71,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     // IMPORTANT: If the default bootstrap provider is changed, ensure that the new implementation is compliant with
     // DNS resolver testing in BootstrapProviderTest, specifically that no caching of hostname lookups is taking place.
     private static final Function<Builder, BootstrapProvider> DEFAULT_BOOTSTRAP_PROVIDER =
-        b -> new BootstrapProvider(b.sdkEventLoopGroup, b.configuration, b.sdkChannelOptions);
+        b -> new BootstrapProvider(b.sdkEventLoopGroup, b.configuration, b.sdkChannelOptions, b.addressResolverGroup);
 
     private final Map<URI, Boolean> shouldProxyForHostCache = new ConcurrentHashMap<>();
 
@@ -133,15 +135,20 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                                                                                         configuration,
                                                                                         key);
 
+        // Spreading connections across event loops only pays off when each connection carries many streams.
+        boolean spreadConnectionsAcrossEventLoops =
+            protocol == Protocol.HTTP2
+            && configuration.http2StreamSchedulingStrategy() == Http2StreamSchedulingStrategy.LEAST_LOADED;
+
         BetterSimpleChannelPool tcpChannelPool;
         ChannelPool baseChannelPool;
         if (shouldUseProxyForHost(key)) {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER, spreadConnectionsAcrossEventLoops);
             baseChannelPool = new Http1TunnelConnectionPool(bootstrap.config().group().next(), tcpChannelPool, sslContext,
                                             proxyAddress(key), proxyConfiguration.username(), proxyConfiguration.password(),
                                             key, pipelineInitializer, configuration);
         } else {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer, spreadConnectionsAcrossEventLoops);
             baseChannelPool = tcpChannelPool;
         }
 
@@ -278,6 +285,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private Duration healthCheckPingPeriod;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private CachingAddressResolverGroup addressResolverGroup;
 
         private Builder() {
         }
@@ -327,6 +335,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder addressResolverGroup(CachingAddressResolverGroup addressResolverGroup) {
+            this.addressResolverGroup = addressResolverGroup;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
@@ -16,21 +16,72 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
- * Extension of {@link SimpleChannelPool} to add an asynchronous close method
+ * Extension of {@link SimpleChannelPool} to add an asynchronous close method, and to optionally register new connections on
+ * the event loop with the fewest of this pool's connections.
  */
 @SdkInternalApi
 public final class BetterSimpleChannelPool extends SimpleChannelPool {
     private final CompletableFuture<Boolean> closeFuture;
+    private final Map<EventLoop, AtomicInteger> connectionsPerEventLoop;
 
     BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler) {
+        this(bootstrap, handler, false);
+    }
+
+    /**
+     * @param spreadConnectionsAcrossEventLoops Whether new connections are registered on the event loop with the fewest open
+     * connections from this pool, instead of the next event loop of the shared event loop group.
+     */
+    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler, boolean spreadConnectionsAcrossEventLoops) {
         super(bootstrap, handler);
         closeFuture = new CompletableFuture<>();
+        connectionsPerEventLoop = spreadConnectionsAcrossEventLoops ? new ConcurrentHashMap<>() : null;
+    }
+
+    @Override
+    protected ChannelFuture connectChannel(Bootstrap bs) {
+        if (connectionsPerEventLoop == null) {
+            return super.connectChannel(bs);
+        }
+
+        EventLoop eventLoop = leastUsedEventLoop(bs.config().group());
+        AtomicInteger connections = connectionsPerEventLoop.computeIfAbsent(eventLoop, e -> new AtomicInteger());
+        connections.incrementAndGet();
+
+        ChannelFuture connectFuture = bs.clone(eventLoop).connect();
+        connectFuture.channel().closeFuture().addListener(f -> connections.decrementAndGet());
+        return connectFuture;
+    }
+
+    private EventLoop leastUsedEventLoop(EventLoopGroup group) {
+        EventLoop leastUsed = null;
+        int leastUsedConnections = Integer.MAX_VALUE;
+        for (EventExecutor executor : group) {
+            if (!(executor instanceof EventLoop)) {
+                continue;
+            }
+
+            AtomicInteger connections = connectionsPerEventLoop.get(executor);
+            int connectionCount = connections == null ? 0 : connections.get();
+            if (connectionCount < leastUsedConnections) {
+                leastUsed = (EventLoop) executor;
+                leastUsedConnections = connectionCount;
+            }
+        }
+        return leastUsed != null ? leastUsed : group.next();
     }
 
     @Override
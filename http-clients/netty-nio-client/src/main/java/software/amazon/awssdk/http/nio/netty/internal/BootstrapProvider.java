@@ -16,29 +16,43 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
 import io.netty.channel.ChannelOption;
 import java.net.InetSocketAddress;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.dns.CachingAddressResolverGroup;
 
 /**
  * The primary purpose of this Bootstrap provider is to ensure that all Bootstraps created by it are 'unresolved'
  * InetSocketAddress. This is to prevent Netty from caching the resolved address of a host and then re-using it in
  * subsequent connection attempts, and instead deferring to the JVM to handle address resolution and caching.
+ *
+ * <p>When the client is configured with its own DNS resolver, the bootstraps resolve addresses with that resolver instead,
+ * which caches and rotates through the addresses of each host.
  */
 @SdkInternalApi
 public class BootstrapProvider {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final NettyConfiguration nettyConfiguration;
     private final SdkChannelOptions sdkChannelOptions;
-
+    private final CachingAddressResolverGroup addressResolverGroup;
 
     BootstrapProvider(SdkEventLoopGroup sdkEventLoopGroup,
                       NettyConfiguration nettyConfiguration,
                       SdkChannelOptions sdkChannelOptions) {
+        this(sdkEventLoopGroup, nettyConfiguration, sdkChannelOptions, null);
+    }
+
+    BootstrapProvider(SdkEventLoopGroup sdkEventLoopGroup,
+                      NettyConfiguration nettyConfiguration,
+                      SdkChannelOptions sdkChannelOptions,
+                      CachingAddressResolverGroup addressResolverGroup) {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.nettyConfiguration = nettyConfiguration;
         this.sdkChannelOptions = sdkChannelOptions;
+        this.addressResolverGroup = addressResolverGroup;
     }
 
     /**
@@ -52,12 +66,23 @@ public class BootstrapProvider {
         Bootstrap bootstrap =
             new Bootstrap()
                 .group(sdkEventLoopGroup.eventLoopGroup())
-                .channelFactory(sdkEventLoopGroup.channelFactory())
+                .channelFactory(channelFactory())
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, nettyConfiguration.connectTimeoutMillis())
                 .option(ChannelOption.SO_KEEPALIVE, nettyConfiguration.tcpKeepAlive())
                 .remoteAddress(InetSocketAddress.createUnresolved(host, port));
         sdkChannelOptions.channelOptions().forEach(bootstrap::option);
 
+        if (addressResolverGroup != null) {
+            bootstrap.resolver(addressResolverGroup);
+        }
+
         return bootstrap;
     }
+
+    private ChannelFactory<? extends Channel> channelFactory() {
+        if (addressResolverGroup == null) {
+            return sdkEventLoopGroup.channelFactory();
+        }
+        return addressResolverGroup.evictOnConnectFailure(sdkEventLoopGroup.channelFactory());
+    }
 }
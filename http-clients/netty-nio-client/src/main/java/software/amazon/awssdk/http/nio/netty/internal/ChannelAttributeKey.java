@@ -123,6 +123,25 @@ public final class ChannelAttributeKey {
     static final AttributeKey<Boolean> CLOSE_ON_RELEASE = NettyUtils.getOrCreateAttributeKey(
             "aws.http.nio.netty.async.closeOnRelease");
 
+    /**
+     * The {@link IdleConnectionFloor} of the pool that created the connection, if the client keeps a minimum number of idle
+     * connections.
+     */
+    static final AttributeKey<IdleConnectionFloor> IDLE_CONNECTION_FLOOR = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.idleConnectionFloor");
+
+    /**
+     * Whether the connection has been removed from its {@link IdleConnectionFloor}'s count.
+     */
+    static final AttributeKey<Boolean> RETIRED_FROM_IDLE_CONNECTION_FLOOR = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.retiredFromIdleConnectionFloor");
+
+    /**
+     * The {@link TlsHandshakeTracker} of a TLS connection.
+     */
+    static final AttributeKey<TlsHandshakeTracker> TLS_HANDSHAKE_TRACKER = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsHandshakeTracker");
+
     private ChannelAttributeKey() {
     }
 
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.TLS_HANDSHAKE_TRACKER;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.HTTP2_CONNECTION_PING_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.newSslHandler;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
@@ -66,6 +67,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final IdleConnectionFloor idleConnectionFloor;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
@@ -85,18 +87,27 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.idleConnectionFloor = configuration.minIdleConnections() > 0
+                                   ? new IdleConnectionFloor(configuration.minIdleConnections())
+                                   : null;
     }
 
     @Override
     public void channelCreated(Channel ch) {
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        if (idleConnectionFloor != null) {
+            idleConnectionFloor.connectionCreated(ch);
+        }
         ChannelPipeline pipeline = ch.pipeline();
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
                                                   configuration.tlsHandshakeTimeout());
 
+            TlsHandshakeTracker handshakeTracker = new TlsHandshakeTracker(sslHandler);
+            ch.attr(TLS_HANDSHAKE_TRACKER).set(handshakeTracker);
+            pipeline.addLast(handshakeTracker);
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
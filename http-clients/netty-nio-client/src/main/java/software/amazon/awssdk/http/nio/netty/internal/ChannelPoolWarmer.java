@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_WARM_UP_DURATION;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Warms up a channel pool by acquiring a number of channels at once, which forces the pool to open (and TLS-handshake) the
+ * connections it doesn't have yet, and then releasing them all back to the pool.
+ *
+ * <p>All channels are held until every acquire has completed, so that each acquire is served by a different connection.
+ */
+@SdkInternalApi
+public final class ChannelPoolWarmer {
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(ChannelPoolWarmer.class);
+
+    private final SdkChannelPool channelPool;
+    private final EventLoopGroup eventLoopGroup;
+    private final MetricCollector metricCollector;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final List<Channel> acquiredChannels = new ArrayList<>();
+    private final List<Duration> acquireDurations = new ArrayList<>();
+    private Throwable failure;
+    private int remainingAcquires;
+
+    public ChannelPoolWarmer(SdkChannelPool channelPool, EventLoopGroup eventLoopGroup, MetricCollector metricCollector) {
+        this.channelPool = channelPool;
+        this.eventLoopGroup = eventLoopGroup;
+        this.metricCollector = metricCollector;
+    }
+
+    /**
+     * Acquire and release the given number of channels. The returned future completes once the channels have been released,
+     * exceptionally if any of them couldn't be acquired.
+     */
+    public CompletableFuture<Void> warmUp(int connections) {
+        synchronized (this) {
+            remainingAcquires = connections;
+        }
+
+        for (int i = 0; i < connections; i++) {
+            long startNanos = System.nanoTime();
+            Promise<Channel> acquirePromise = eventLoopGroup.next().newPromise();
+            channelPool.acquire(acquirePromise);
+            acquirePromise.addListener(f -> {
+                if (!acquirePromise.isSuccess()) {
+                    acquireComplete(null, startNanos, acquirePromise.cause());
+                    return;
+                }
+
+                Channel channel = acquirePromise.getNow();
+                handshakeFuture(channel).addListener(h -> acquireComplete(channel, startNanos, h.cause()));
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * The TLS handshake of the connection behind the channel. For HTTP/2 the channel is a stream, and the handshake happens on
+     * its parent connection.
+     */
+    private static Future<?> handshakeFuture(Channel channel) {
+        Channel connection = channel.parent() == null ? channel : channel.parent();
+        SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+        if (sslHandler == null) {
+            return connection.eventLoop().newSucceededFuture(null);
+        }
+        return sslHandler.handshakeFuture();
+    }
+
+    private void acquireComplete(Channel channel, long startNanos, Throwable acquireFailure) {
+        boolean lastAcquire;
+        Throwable firstFailure;
+        synchronized (this) {
+            if (channel != null) {
+                acquiredChannels.add(channel);
+            }
+
+            if (acquireFailure == null) {
+                acquireDurations.add(Duration.ofNanos(System.nanoTime() - startNanos));
+            } else if (failure == null) {
+                failure = acquireFailure;
+            }
+
+            lastAcquire = --remainingAcquires == 0;
+            firstFailure = failure;
+        }
+
+        if (lastAcquire) {
+            finish(firstFailure);
+        }
+    }
+
+    private void finish(Throwable firstFailure) {
+        log.debug(null, () -> "Warmed up " + acquireDurations.size() + " connections, releasing them to the pool");
+        acquireDurations.forEach(d -> metricCollector.reportMetric(CONNECTION_WARM_UP_DURATION, d));
+
+        CompletableFuture<?>[] releases = acquiredChannels.stream().map(this::release).toArray(CompletableFuture[]::new);
+
+        // Report the pool's state once the warmed connections are back in the pool
+        CompletableFuture.allOf(releases)
+                         .thenCompose(r -> channelPool.collectChannelPoolMetrics(metricCollector))
+                         .whenComplete((r, t) -> {
+                             if (firstFailure != null) {
+                                 result.completeExceptionally(firstFailure);
+                             } else {
+                                 result.complete(null);
+                             }
+                         });
+    }
+
+    private CompletableFuture<Void> release(Channel channel) {
+        CompletableFuture<Void> released = new CompletableFuture<>();
+        channelPool.release(channel).addListener(f -> released.complete(null));
+        return released;
+    }
+}
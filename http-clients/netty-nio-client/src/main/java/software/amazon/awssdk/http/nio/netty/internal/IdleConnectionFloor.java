@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.IDLE_CONNECTION_FLOOR;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RETIRED_FROM_IDLE_CONNECTION_FLOOR;
+
+import io.netty.channel.Channel;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Tracks the open connections of a single channel pool so that the idle connection reapers leave a minimum number of them
+ * open, e.g. the connections opened by a warm-up.
+ *
+ * <p>Every connection created by the pool is counted until it is closed. A reaper must call {@link #tryRetire(Channel)} before
+ * closing an idle connection, which only succeeds while the pool has more open connections than the floor.
+ */
+@SdkInternalApi
+public final class IdleConnectionFloor {
+    private final int minConnections;
+    private final AtomicInteger openConnections = new AtomicInteger(0);
+
+    public IdleConnectionFloor(int minConnections) {
+        this.minConnections = minConnections;
+    }
+
+    /**
+     * Count a newly created connection against this floor until it is closed or retired.
+     */
+    public void connectionCreated(Channel channel) {
+        channel.attr(IDLE_CONNECTION_FLOOR).set(this);
+        openConnections.incrementAndGet();
+        channel.closeFuture().addListener(f -> {
+            if (!Boolean.TRUE.equals(channel.attr(RETIRED_FROM_IDLE_CONNECTION_FLOOR).getAndSet(true))) {
+                openConnections.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Determine whether the provided idle connection may be closed by a reaper. If so, the connection no longer counts
+     * against the floor of its pool, and the caller is expected to close it.
+     *
+     * @return true if the connection is not tracked by a floor, or if closing it leaves the floor satisfied.
+     */
+    public static boolean tryRetire(Channel channel) {
+        IdleConnectionFloor floor = channel.attr(IDLE_CONNECTION_FLOOR).get();
+        return floor == null || floor.tryRetire0(channel);
+    }
+
+    private boolean tryRetire0(Channel channel) {
+        if (Boolean.TRUE.equals(channel.attr(RETIRED_FROM_IDLE_CONNECTION_FLOOR).get())) {
+            return true;
+        }
+
+        while (true) {
+            int current = openConnections.get();
+            if (current <= minConnections) {
+                return false;
+            }
+            if (openConnections.compareAndSet(current, current - 1)) {
+                channel.attr(RETIRED_FROM_IDLE_CONNECTION_FLOOR).set(true);
+                return true;
+            }
+        }
+    }
+
+    int openConnections() {
+        return openConnections.get();
+    }
+}
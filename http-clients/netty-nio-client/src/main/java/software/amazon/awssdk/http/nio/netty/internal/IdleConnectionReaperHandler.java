@@ -41,7 +41,7 @@ public class IdleConnectionReaperHandler extends IdleStateHandler {
 
         boolean channelNotInUse = Boolean.FALSE.equals(ctx.channel().attr(ChannelAttributeKey.IN_USE).get());
 
-        if (channelNotInUse && ctx.channel().isOpen()) {
+        if (channelNotInUse && ctx.channel().isOpen() && IdleConnectionFloor.tryRetire(ctx.channel())) {
             log.debug(ctx.channel(), () -> "Closing unused connection (" + ctx.channel().id() + ") because it has been idle for "
                                           + "longer than " + maxIdleTimeMillis + " milliseconds.");
             ctx.close();
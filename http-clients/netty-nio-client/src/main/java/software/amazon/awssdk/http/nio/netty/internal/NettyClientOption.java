@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Configuration options specific to the Netty client, stored in the same {@link AttributeMap} as the
+ * {@link software.amazon.awssdk.http.SdkHttpConfigurationOption}s and read through {@link NettyConfiguration}.
+ *
+ * @param <T> The type of the option's value.
+ */
+@SdkInternalApi
+public final class NettyClientOption<T> extends AttributeMap.Key<T> {
+
+    /**
+     * Whether response bodies are published as views of the client's pooled buffers to subscribers that can release them,
+     * instead of as copies.
+     */
+    public static final NettyClientOption<Boolean> ZERO_COPY_RESPONSE_BUFFERS = new NettyClientOption<>(Boolean.class);
+
+    /**
+     * The number of connections per host that the idle connection reapers leave open.
+     */
+    public static final NettyClientOption<Integer> MIN_IDLE_CONNECTIONS = new NettyClientOption<>(Integer.class);
+
+    /**
+     * The number of streamed request body bytes written between flushes, or 0 to flush every chunk as it's written.
+     */
+    public static final NettyClientOption<Integer> REQUEST_BODY_FLUSH_THRESHOLD = new NettyClientOption<>(Integer.class);
+
+    /**
+     * How new HTTP/2 streams are distributed across the connections to a host.
+     */
+    public static final NettyClientOption<Http2StreamSchedulingStrategy> HTTP2_STREAM_SCHEDULING_STRATEGY =
+        new NettyClientOption<>(Http2StreamSchedulingStrategy.class);
+
+    private NettyClientOption(Class<T> valueClass) {
+        super(valueClass);
+    }
+}
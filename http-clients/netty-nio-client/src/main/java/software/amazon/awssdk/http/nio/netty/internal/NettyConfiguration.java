@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -107,4 +108,31 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public Integer tlsSessionCacheSize() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+    }
+
+    public Duration tlsSessionTimeout() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+    }
+
+    public boolean zeroCopyResponseBuffers() {
+        return Boolean.TRUE.equals(configuration.get(NettyClientOption.ZERO_COPY_RESPONSE_BUFFERS));
+    }
+
+    public int minIdleConnections() {
+        Integer minIdleConnections = configuration.get(NettyClientOption.MIN_IDLE_CONNECTIONS);
+        return minIdleConnections == null ? 0 : minIdleConnections;
+    }
+
+    public int requestBodyFlushThresholdBytes() {
+        Integer flushThreshold = configuration.get(NettyClientOption.REQUEST_BODY_FLUSH_THRESHOLD);
+        return flushThreshold == null ? 0 : flushThreshold;
+    }
+
+    public Http2StreamSchedulingStrategy http2StreamSchedulingStrategy() {
+        Http2StreamSchedulingStrategy strategy = configuration.get(NettyClientOption.HTTP2_STREAM_SCHEDULING_STRATEGY);
+        return strategy == null ? Http2StreamSchedulingStrategy.FIRST_AVAILABLE : strategy;
+    }
 }
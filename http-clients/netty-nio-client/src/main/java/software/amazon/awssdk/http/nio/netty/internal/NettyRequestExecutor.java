@@ -33,6 +33,8 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -40,6 +42,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.Attribute;
@@ -49,6 +52,7 @@ import io.netty.util.concurrent.Promise;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.FileSystems;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -60,10 +64,13 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.FileRegionContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2StreamExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
+import software.amazon.awssdk.http.nio.netty.internal.nrs.FileRegionHttpRequest;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpRequest;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
@@ -175,6 +182,7 @@ public final class NettyRequestExecutor {
     private void makeRequestListener(Future<Channel> channelFuture) {
         if (channelFuture.isSuccess()) {
             channel = channelFuture.getNow();
+            NettyRequestMetrics.publishTlsHandshakeMetrics(context.metricCollector(), channel);
             NettyUtils.doInEventLoop(channel.eventLoop(), () -> {
                 try {
                     configureChannel();
@@ -224,7 +232,7 @@ public final class NettyRequestExecutor {
         if (protocol == Protocol.HTTP2) {
             pipeline.addLast(FlushOnReadHandler.getInstance());
         }
-        pipeline.addLast(new HttpStreamsClientHandler());
+        pipeline.addLast(new HttpStreamsClientHandler(context.configuration().requestBodyFlushThresholdBytes()));
         pipeline.addLast(ResponseHandler.getInstance());
 
         // It's possible that the channel could become inactive between checking it out from the pool, and adding our response
@@ -243,9 +251,7 @@ public final class NettyRequestExecutor {
     private void writeRequest(HttpRequest request) {
         channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
                                                             TimeUnit.MILLISECONDS));
-        StreamedRequest streamedRequest = new StreamedRequest(request,
-                                                              context.executeRequest().requestContentPublisher());
-        channel.writeAndFlush(streamedRequest)
+        channel.writeAndFlush(toRequestMessage(request))
                .addListener(wireCall -> {
                    // Done writing so remove the idle write timeout handler
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
@@ -281,6 +287,35 @@ public final class NettyRequestExecutor {
         }
     }
 
+    private HttpRequest toRequestMessage(HttpRequest request) {
+        SdkHttpContentPublisher publisher = context.executeRequest().requestContentPublisher();
+        if (canSendFileRegion(request, publisher)) {
+            FileRegionContentPublisher fileRegion = (FileRegionContentPublisher) publisher;
+            return new FileRegionRequest(request, new DefaultFileRegion(fileRegion.path().toFile(),
+                                                                        fileRegion.position(),
+                                                                        fileRegion.contentLength().get()));
+        }
+        return new StreamedRequest(request, publisher);
+    }
+
+    /**
+     * A file region body can be handed to the transport as-is, skipping the publisher, when nothing between us and the
+     * socket needs to see the body bytes: the connection is plaintext HTTP/1.1 and the body is sent in one go, with a
+     * Content-Length matching the region.
+     */
+    private boolean canSendFileRegion(HttpRequest request, SdkHttpContentPublisher publisher) {
+        if (!(publisher instanceof FileRegionContentPublisher)) {
+            return false;
+        }
+        FileRegionContentPublisher fileRegion = (FileRegionContentPublisher) publisher;
+        return ChannelAttributeKey.getProtocolNow(channel) == Protocol.HTTP1_1
+               && channel.pipeline().get(SslHandler.class) == null
+               && !shouldExplicitlyTriggerRead()
+               && fileRegion.path().getFileSystem() == FileSystems.getDefault()
+               && fileRegion.contentLength().isPresent()
+               && fileRegion.contentLength().equals(StreamedRequest.contentLength(request));
+    }
+
     /**
      * It should explicitly trigger Read for the following situations:
      *
@@ -408,6 +443,24 @@ public final class NettyRequestExecutor {
         }
     }
 
+    /**
+     * A request whose body is a region of a file, sent by the transport without going through user space.
+     */
+    private static class FileRegionRequest extends DelegateHttpRequest implements FileRegionHttpRequest {
+
+        private final FileRegion fileRegion;
+
+        FileRegionRequest(HttpRequest request, FileRegion fileRegion) {
+            super(request);
+            this.fileRegion = fileRegion;
+        }
+
+        @Override
+        public FileRegion fileRegion() {
+            return fileRegion;
+        }
+    }
+
     /**
      * Decorator around {@link StreamedHttpRequest} to adapt a publisher of {@link ByteBuffer} (i.e. {@link
      * software.amazon.awssdk.http.async.SdkHttpContentPublisher}) to a publisher of {@link HttpContent}.
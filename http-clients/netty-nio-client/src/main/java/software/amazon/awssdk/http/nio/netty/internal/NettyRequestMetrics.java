@@ -63,6 +63,22 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish the TLS handshake metrics of the connection of the provided channel to the provided collector, if the channel is
+     * the first one acquired from a new TLS connection.
+     */
+    public static void publishTlsHandshakeMetrics(MetricCollector metricCollector, Channel channel) {
+        if (!metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        Channel connection = channel.parent() != null ? channel.parent() : channel;
+        TlsHandshakeTracker handshakeTracker = connection.attr(ChannelAttributeKey.TLS_HANDSHAKE_TRACKER).get();
+        if (handshakeTracker != null) {
+            handshakeTracker.reportTo(metricCollector);
+        }
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -82,6 +98,7 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+        metricCollector.reportMetric(Http2Metric.STREAMS_ON_CONNECTION, http2Connection.numActiveStreams());
     }
 
     /**
@@ -61,6 +61,7 @@ import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
@@ -266,6 +267,17 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         return bb;
     }
 
+    /**
+     * Returns a read-only view of the readable bytes of the buffer, or null if they are not backed by a single NIO buffer
+     * and so can't be viewed without copying.
+     */
+    private static ByteBuffer readOnlyView(ByteBuf byteBuf) {
+        if (byteBuf.nioBufferCount() != 1) {
+            return null;
+        }
+        return byteBuf.nioBuffer().asReadOnlyBuffer();
+    }
+
     private static CompletableFuture<Void> executeFuture(ChannelHandlerContext ctx) {
         return ctx.channel().attr(EXECUTE_FUTURE_KEY).get();
     }
@@ -287,6 +299,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            ReleasableBufferSubscriber releasableSubscriber =
+                subscriber instanceof ReleasableBufferSubscriber && requestContext.configuration().zeroCopyResponseBuffers()
+                ? (ReleasableBufferSubscriber) subscriber
+                : null;
+
             response.subscribe(new Subscriber<HttpContent>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
@@ -326,6 +343,20 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (releasableSubscriber != null) {
+                        ByteBuffer view = readOnlyView(httpContent.content());
+                        if (view != null) {
+                            // The subscriber now owns the content and releases it once consumed, unless onNext fails
+                            ReleaseOnce release = new ReleaseOnce(httpContent);
+                            tryCatch(() -> releasableSubscriber.onNext(view, release),
+                                     t -> {
+                                         release.run();
+                                         notifyError(t);
+                                     });
+                            return;
+                        }
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -391,6 +422,25 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
+    /**
+     * Release hook handed to a {@link ReleasableBufferSubscriber} with a view of the content, tolerating repeated calls.
+     */
+    private static final class ReleaseOnce implements Runnable {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private final HttpContent content;
+
+        private ReleaseOnce(HttpContent content) {
+            this.content = content;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                ReferenceCountUtil.release(content);
+            }
+        }
+    }
+
     /**
      * Decorator around a {@link Subscription} to notify if a cancellation occurs.
      */
@@ -486,33 +536,70 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
-            delegate.subscribe(new Subscriber<ByteBuffer>() {
-                @Override
-                public void onSubscribe(Subscription subscription) {
-                    subscriber.onSubscribe(subscription);
-                }
+            if (subscriber instanceof ReleasableBufferSubscriber) {
+                delegate.subscribe(new ReleasableDataCountingSubscriber(ctx, (ReleasableBufferSubscriber) subscriber));
+            } else {
+                delegate.subscribe(new DataCountingSubscriber(ctx, subscriber));
+            }
+        }
+    }
 
-                @Override
-                public void onNext(ByteBuffer byteBuffer) {
-                    Long responseDataSoFar = ctx.channel().attr(RESPONSE_DATA_READ).get();
-                    if (responseDataSoFar == null) {
-                        responseDataSoFar = 0L;
-                    }
+    private static class DataCountingSubscriber implements Subscriber<ByteBuffer> {
+        private final ChannelHandlerContext ctx;
+        private final Subscriber<? super ByteBuffer> subscriber;
 
-                    ctx.channel().attr(RESPONSE_DATA_READ).set(responseDataSoFar + byteBuffer.remaining());
-                    subscriber.onNext(byteBuffer);
-                }
+        private DataCountingSubscriber(ChannelHandlerContext ctx, Subscriber<? super ByteBuffer> subscriber) {
+            this.ctx = ctx;
+            this.subscriber = subscriber;
+        }
 
-                @Override
-                public void onError(Throwable throwable) {
-                    subscriber.onError(throwable);
-                }
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
 
-                @Override
-                public void onComplete() {
-                    subscriber.onComplete();
-                }
-            });
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            countData(byteBuffer);
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+
+        protected void countData(ByteBuffer byteBuffer) {
+            Long responseDataSoFar = ctx.channel().attr(RESPONSE_DATA_READ).get();
+            if (responseDataSoFar == null) {
+                responseDataSoFar = 0L;
+            }
+
+            ctx.channel().attr(RESPONSE_DATA_READ).set(responseDataSoFar + byteBuffer.remaining());
+        }
+    }
+
+    /**
+     * Counts the data of a subscriber that can consume pooled buffers, and keeps that ability visible upstream.
+     */
+    private static final class ReleasableDataCountingSubscriber extends DataCountingSubscriber
+        implements ReleasableBufferSubscriber {
+        private final ReleasableBufferSubscriber subscriber;
+
+        private ReleasableDataCountingSubscriber(ChannelHandlerContext ctx, ReleasableBufferSubscriber subscriber) {
+            super(ctx, subscriber);
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable releaseHook) {
+            countData(byteBuffer);
+            subscriber.onNext(byteBuffer, releaseHook);
         }
     }
-}
\ No newline at end of file
+}
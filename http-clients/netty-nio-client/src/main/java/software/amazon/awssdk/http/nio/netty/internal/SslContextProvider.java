@@ -21,7 +21,10 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLException;
@@ -31,31 +34,65 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * Provides the {@link SslContext} used by all connection pools of a client.
+ *
+ * <p>The TLS session cache is part of the {@code SslContext}, so connections can only resume sessions negotiated by
+ * connections that use the same context. Clients that use the default trust and key material share one context for each
+ * protocol, SSL provider and session cache configuration, so that connections made by different clients to the same endpoint
+ * can resume each other's sessions. Clients with their own trust or key material always get a context of their own.
+ */
 @SdkInternalApi
 public final class SslContextProvider {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(SslContextProvider.class);
+    private static final ConcurrentMap<SharedContextKey, SslContext> SHARED_CONTEXTS = new ConcurrentHashMap<>();
+
     private final Protocol protocol;
     private final SslProvider sslProvider;
     private final TrustManagerFactory trustManagerFactory;
     private final KeyManagerFactory keyManagerFactory;
+    private final Integer sessionCacheSize;
+    private final Duration sessionTimeout;
+    private final Lazy<SslContext> sslContext = new Lazy<>(this::resolveSslContext);
 
     public SslContextProvider(NettyConfiguration configuration, Protocol protocol, SslProvider sslProvider) {
         this.protocol = protocol;
         this.sslProvider = sslProvider;
         this.trustManagerFactory = getTrustManager(configuration);
         this.keyManagerFactory = getKeyManager(configuration);
+        this.sessionCacheSize = configuration.tlsSessionCacheSize();
+        this.sessionTimeout = configuration.tlsSessionTimeout();
     }
 
     public SslContext sslContext() {
+        return sslContext.getValue();
+    }
+
+    private SslContext resolveSslContext() {
+        if (trustManagerFactory != null || keyManagerFactory != null) {
+            return buildSslContext();
+        }
+        SharedContextKey key = new SharedContextKey(protocol, sslProvider, sessionCacheSize, sessionTimeout);
+        return SHARED_CONTEXTS.computeIfAbsent(key, k -> buildSslContext());
+    }
+
+    private SslContext buildSslContext() {
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(trustManagerFactory)
-                                    .keyManager(keyManagerFactory)
-                                    .build();
+            SslContextBuilder builder = SslContextBuilder.forClient()
+                                                         .sslProvider(sslProvider)
+                                                         .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
+                                                         .trustManager(trustManagerFactory)
+                                                         .keyManager(keyManagerFactory);
+            if (sessionCacheSize != null) {
+                builder.sessionCacheSize(sessionCacheSize);
+            }
+            if (sessionTimeout != null) {
+                builder.sessionTimeout(sessionTimeoutSeconds(sessionTimeout));
+            }
+            return builder.build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
@@ -103,4 +140,59 @@ public final class SslContextProvider {
         KeyManager[] systemPropertyKeyManagers = SystemPropertyTlsKeyManagersProvider.create().keyManagers();
         return systemPropertyKeyManagers == null ? null : StaticKeyManagerFactory.create(systemPropertyKeyManagers);
     }
+
+    /**
+     * The SSL context only supports whole seconds, and treats zero as no limit. Round sub-second values up so that a short
+     * timeout is never turned into an unlimited one.
+     */
+    private static long sessionTimeoutSeconds(Duration sessionTimeout) {
+        return sessionTimeout.getNano() == 0 ? sessionTimeout.getSeconds() : sessionTimeout.getSeconds() + 1;
+    }
+
+    private static final class SharedContextKey {
+        private final Protocol protocol;
+        private final SslProvider sslProvider;
+        private final Integer sessionCacheSize;
+        private final Duration sessionTimeout;
+
+        private SharedContextKey(Protocol protocol, SslProvider sslProvider, Integer sessionCacheSize,
+                                 Duration sessionTimeout) {
+            this.protocol = protocol;
+            this.sslProvider = sslProvider;
+            this.sessionCacheSize = sessionCacheSize;
+            this.sessionTimeout = sessionTimeout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            SharedContextKey that = (SharedContextKey) o;
+
+            if (protocol != that.protocol) {
+                return false;
+            }
+            if (sslProvider != that.sslProvider) {
+                return false;
+            }
+            if (sessionCacheSize != null ? !sessionCacheSize.equals(that.sessionCacheSize) : that.sessionCacheSize != null) {
+                return false;
+            }
+            return sessionTimeout != null ? sessionTimeout.equals(that.sessionTimeout) : that.sessionTimeout == null;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = protocol != null ? protocol.hashCode() : 0;
+            result = 31 * result + (sslProvider != null ? sslProvider.hashCode() : 0);
+            result = 31 * result + (sessionCacheSize != null ? sessionCacheSize.hashCode() : 0);
+            result = 31 * result + (sessionTimeout != null ? sessionTimeout.hashCode() : 0);
+            return result;
+        }
+    }
 }
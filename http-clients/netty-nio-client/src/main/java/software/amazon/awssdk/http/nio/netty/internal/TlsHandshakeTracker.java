@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.net.ssl.SSLSession;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Times the TLS handshake of a connection, and records whether it resumed a cached TLS session, so that the first request
+ * made on the connection can report it.
+ *
+ * <p>This handler must be added to the pipeline in front of the connection's {@link SslHandler}. It starts the timer when the
+ * connection becomes active, which is when the {@code SslHandler} starts the handshake, and then removes itself from the
+ * pipeline. It stays reachable through the {@link ChannelAttributeKey#TLS_HANDSHAKE_TRACKER} attribute of the connection.
+ */
+@SdkInternalApi
+public final class TlsHandshakeTracker extends ChannelInboundHandlerAdapter {
+    private final SslHandler sslHandler;
+    private final CompletableFuture<Handshake> handshake = new CompletableFuture<>();
+    private final AtomicBoolean reported = new AtomicBoolean(false);
+
+    public TlsHandshakeTracker(SslHandler sslHandler) {
+        this.sslHandler = sslHandler;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        // Connections tunnelled through a proxy are already active when the pipeline is set up
+        if (ctx.channel().isActive()) {
+            start(ctx);
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        start(ctx);
+        ctx.fireChannelActive();
+    }
+
+    /**
+     * Report the handshake metrics to the collector of a request made on this connection. Only the first request made on the
+     * connection reports them, once the handshake has completed.
+     */
+    public void reportTo(MetricCollector metricCollector) {
+        if (reported.compareAndSet(false, true)) {
+            handshake.thenAccept(h -> {
+                metricCollector.reportMetric(TLS_HANDSHAKE_DURATION, h.duration);
+                metricCollector.reportMetric(TLS_SESSION_RESUMED, h.resumed);
+            });
+        }
+    }
+
+    private void start(ChannelHandlerContext ctx) {
+        ctx.pipeline().remove(this);
+
+        long startNanos = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        sslHandler.handshakeFuture().addListener(f -> {
+            if (!f.isSuccess()) {
+                handshake.completeExceptionally(f.cause());
+                return;
+            }
+
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            boolean resumed = isResumed(sslHandler.engine().getSession(), startMillis);
+            handshake.complete(new Handshake(duration, resumed));
+        });
+    }
+
+    /**
+     * A resumed session keeps the creation time of the handshake that negotiated it. OpenSSL only reports it with second
+     * precision, so a session reported at a whole second must have been created in an earlier second. This misses sessions
+     * that are resumed in the second they were negotiated in.
+     */
+    private static boolean isResumed(SSLSession session, long handshakeStartMillis) {
+        long creationTime = session.getCreationTime();
+        if (creationTime % 1000 == 0) {
+            return creationTime < handshakeStartMillis - handshakeStartMillis % 1000;
+        }
+        return creationTime < handshakeStartMillis;
+    }
+
+    private static final class Handshake {
+        private final Duration duration;
+        private final boolean resumed;
+
+        private Handshake(Duration duration, boolean resumed) {
+            this.duration = duration;
+            this.resumed = resumed;
+        }
+    }
+}
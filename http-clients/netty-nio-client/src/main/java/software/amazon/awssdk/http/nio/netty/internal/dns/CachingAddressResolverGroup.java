@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.util.concurrent.EventExecutor;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.nio.netty.DnsResolverConfiguration;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * The resolver group used by a client's bootstraps when {@link DnsResolverConfiguration} is set. All event loops share one
+ * {@link HostAddressCache}, whose lookups are made on a small pool of dedicated threads.
+ *
+ * <p>Bootstraps should also use {@link #evictOnConnectFailure(ChannelFactory)}, so that addresses that can't be connected
+ * to are removed from the cache.
+ */
+@SdkInternalApi
+public final class CachingAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private static final int MAX_LOOKUP_THREADS = 4;
+
+    private final HostAddressCache cache;
+    private final ExecutorService lookupExecutor;
+
+    private CachingAddressResolverGroup(HostAddressCache cache, ExecutorService lookupExecutor) {
+        this.cache = cache;
+        this.lookupExecutor = lookupExecutor;
+    }
+
+    public static CachingAddressResolverGroup create(DnsResolverConfiguration configuration) {
+        return create(configuration, NameLookup.JVM);
+    }
+
+    @SdkTestInternalApi
+    public static CachingAddressResolverGroup create(DnsResolverConfiguration configuration, NameLookup nameLookup) {
+        ThreadPoolExecutor lookupExecutor =
+            new ThreadPoolExecutor(MAX_LOOKUP_THREADS, MAX_LOOKUP_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-netty-dns").build());
+        lookupExecutor.allowCoreThreadTimeOut(true);
+        HostAddressCache cache = new HostAddressCache(nameLookup, lookupExecutor, configuration.cacheTtl());
+        return new CachingAddressResolverGroup(cache, lookupExecutor);
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new InetSocketAddressResolver(executor, new CachingNameResolver(executor, cache));
+    }
+
+    /**
+     * Decorate a channel factory, so that the addresses its channels fail to connect to are evicted from the cache.
+     */
+    public ChannelFactory<Channel> evictOnConnectFailure(ChannelFactory<? extends Channel> delegate) {
+        return () -> {
+            Channel channel = delegate.newChannel();
+            channel.pipeline().addFirst(new EvictOnConnectFailureHandler(cache));
+            return channel;
+        };
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        lookupExecutor.shutdownNow();
+    }
+
+    /**
+     * Evicts the address a channel connects to if the connection attempt fails, then removes itself from the pipeline.
+     */
+    private static final class EvictOnConnectFailureHandler extends ChannelOutboundHandlerAdapter {
+        private final HostAddressCache cache;
+
+        private EvictOnConnectFailureHandler(HostAddressCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                            ChannelPromise promise) {
+            promise.addListener(f -> {
+                if (!f.isSuccess() && !f.isCancelled() && remoteAddress instanceof InetSocketAddress) {
+                    cache.evict((InetSocketAddress) remoteAddress);
+                }
+                if (ctx.pipeline().context(this) != null) {
+                    ctx.pipeline().remove(this);
+                }
+            });
+            ctx.connect(remoteAddress, localAddress, promise);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A Netty {@link InetNameResolver} backed by a {@link HostAddressCache}, so that it never blocks the event loop.
+ */
+@SdkInternalApi
+final class CachingNameResolver extends InetNameResolver {
+    private final HostAddressCache cache;
+
+    CachingNameResolver(EventExecutor executor, HostAddressCache cache) {
+        super(executor);
+        this.cache = cache;
+    }
+
+    @Override
+    protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+        complete(cache.resolve(inetHost), promise);
+    }
+
+    @Override
+    protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+        complete(cache.resolveAll(inetHost), promise);
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, Promise<T> promise) {
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                promise.tryFailure(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                promise.trySuccess(result);
+            }
+        });
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Caches the addresses of hostnames for a fixed time, and hands them out in turn so that new connections are spread across
+ * all addresses of a host.
+ *
+ * <p>Lookups are made on the given executor, and concurrent requests for a hostname that isn't cached share a single lookup.
+ * Failed lookups are not cached. An address that a connection failed to connect to is removed from the cached addresses of
+ * its hostname; once none are left, the hostname is looked up again.
+ */
+@SdkInternalApi
+public final class HostAddressCache {
+    private static final Logger log = Logger.loggerFor(HostAddressCache.class);
+
+    private final ConcurrentMap<String, CompletableFuture<HostAddresses>> cache = new ConcurrentHashMap<>();
+    private final NameLookup nameLookup;
+    private final Executor lookupExecutor;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    public HostAddressCache(NameLookup nameLookup, Executor lookupExecutor, Duration ttl) {
+        this(nameLookup, lookupExecutor, ttl, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    HostAddressCache(NameLookup nameLookup, Executor lookupExecutor, Duration ttl, LongSupplier nanoClock) {
+        this.nameLookup = nameLookup;
+        this.lookupExecutor = lookupExecutor;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Resolve a hostname to the next of its addresses.
+     */
+    public CompletableFuture<InetAddress> resolve(String host) {
+        return addresses(host).thenApply(HostAddresses::next);
+    }
+
+    /**
+     * Resolve a hostname to all of its addresses, starting with the next one.
+     */
+    public CompletableFuture<List<InetAddress>> resolveAll(String host) {
+        return addresses(host).thenApply(HostAddresses::all);
+    }
+
+    /**
+     * Stop handing out an address that could not be connected to, until its hostname is looked up again.
+     */
+    public void evict(InetSocketAddress failedAddress) {
+        InetAddress address = failedAddress.getAddress();
+        if (address == null) {
+            return;
+        }
+
+        String host = failedAddress.getHostString();
+        CompletableFuture<HostAddresses> cached = cache.get(host);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return;
+        }
+
+        HostAddresses remaining = cached.join().without(address);
+        if (remaining == null) {
+            return;
+        }
+
+        log.debug(() -> "Evicting address " + address + " of " + host + " after a failed connection attempt.");
+        if (remaining.isEmpty()) {
+            cache.remove(host, cached);
+        } else {
+            cache.replace(host, cached, CompletableFuture.completedFuture(remaining));
+        }
+    }
+
+    private CompletableFuture<HostAddresses> addresses(String host) {
+        while (true) {
+            CompletableFuture<HostAddresses> cached = cache.get(host);
+            if (cached != null && !isExpired(cached)) {
+                return cached;
+            }
+
+            CompletableFuture<HostAddresses> lookup = new CompletableFuture<>();
+            boolean won = cached == null ? cache.putIfAbsent(host, lookup) == null : cache.replace(host, cached, lookup);
+            if (won) {
+                startLookup(host, lookup);
+                return lookup;
+            }
+        }
+    }
+
+    private boolean isExpired(CompletableFuture<HostAddresses> cached) {
+        return cached.isDone() && !cached.isCompletedExceptionally() && cached.join().expiresAt - nanoClock.getAsLong() <= 0;
+    }
+
+    private void startLookup(String host, CompletableFuture<HostAddresses> lookup) {
+        try {
+            lookupExecutor.execute(() -> {
+                try {
+                    InetAddress[] addresses = nameLookup.lookup(host);
+                    if (addresses == null || addresses.length == 0) {
+                        throw new UnknownHostException(host);
+                    }
+                    lookup.complete(new HostAddresses(withHostName(host, addresses), new AtomicInteger(0),
+                                                      nanoClock.getAsLong() + ttlNanos));
+                } catch (Throwable t) {
+                    fail(host, lookup, t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fail(host, lookup, e);
+        }
+    }
+
+    /**
+     * Make sure every address carries the hostname it was resolved from, which is how {@link #evict(InetSocketAddress)} finds
+     * the hostname of an address that failed.
+     */
+    private static List<InetAddress> withHostName(String host, InetAddress[] addresses) throws UnknownHostException {
+        List<InetAddress> result = new ArrayList<>(addresses.length);
+        for (InetAddress address : addresses) {
+            result.add(InetAddress.getByAddress(host, address.getAddress()));
+        }
+        return result;
+    }
+
+    private void fail(String host, CompletableFuture<HostAddresses> lookup, Throwable cause) {
+        cache.remove(host, lookup);
+        lookup.completeExceptionally(cause);
+    }
+
+    /**
+     * The cached addresses of a hostname. Instances are immutable except for the position of the next address, which is
+     * shared with the copies made when evicting an address.
+     */
+    private static final class HostAddresses {
+        private final List<InetAddress> addresses;
+        private final AtomicInteger nextIndex;
+        private final long expiresAt;
+
+        private HostAddresses(List<InetAddress> addresses, AtomicInteger nextIndex, long expiresAt) {
+            this.addresses = Collections.unmodifiableList(addresses);
+            this.nextIndex = nextIndex;
+            this.expiresAt = expiresAt;
+        }
+
+        private InetAddress next() {
+            return addresses.get(Math.floorMod(nextIndex.getAndIncrement(), addresses.size()));
+        }
+
+        private List<InetAddress> all() {
+            int start = Math.floorMod(nextIndex.getAndIncrement(), addresses.size());
+            List<InetAddress> rotated = new ArrayList<>(addresses.size());
+            rotated.addAll(addresses.subList(start, addresses.size()));
+            rotated.addAll(addresses.subList(0, start));
+            return rotated;
+        }
+
+        private boolean isEmpty() {
+            return addresses.isEmpty();
+        }
+
+        /**
+         * @return A copy without the address, or null if the address is not one of these addresses.
+         */
+        private HostAddresses without(InetAddress address) {
+            if (!addresses.contains(address)) {
+                return null;
+            }
+            List<InetAddress> remaining = new ArrayList<>(addresses);
+            remaining.remove(address);
+            return new HostAddresses(remaining, nextIndex, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A blocking lookup of all addresses of a hostname. By default, this is {@link InetAddress#getAllByName(String)}; tests can
+ * substitute a stand-in for a DNS server.
+ */
+@SdkInternalApi
+@FunctionalInterface
+public interface NameLookup {
+    NameLookup JVM = InetAddress::getAllByName;
+
+    InetAddress[] lookup(String host) throws UnknownHostException;
+}
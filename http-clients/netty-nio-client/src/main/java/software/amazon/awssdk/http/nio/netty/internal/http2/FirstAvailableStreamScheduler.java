@@ -0,0 +1,41 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.Collection;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Opens new streams on the first connection with stream capacity, and only opens a new connection once every existing
+ * connection is at its MAX_CONCURRENT_STREAMS limit.
+ */
+@SdkInternalApi
+final class FirstAvailableStreamScheduler implements Http2StreamScheduler {
+    static final FirstAvailableStreamScheduler INSTANCE = new FirstAvailableStreamScheduler();
+
+    private FirstAvailableStreamScheduler() {
+    }
+
+    @Override
+    public Iterable<MultiplexedChannelRecord> candidates(Collection<MultiplexedChannelRecord> connections) {
+        return connections;
+    }
+
+    @Override
+    public boolean shouldOpenConnection(Collection<MultiplexedChannelRecord> connections, int pendingConnections) {
+        return false;
+    }
+}
@@ -49,6 +49,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
@@ -92,6 +93,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final Http2StreamScheduler streamScheduler;
+    private final AtomicInteger pendingConnections = new AtomicInteger();
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +104,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, FirstAvailableStreamScheduler.INSTANCE);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamScheduler Decides which connection new streams are opened on, and when to open additional connections.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                Http2StreamScheduler streamScheduler) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamScheduler = streamScheduler;
     }
 
     @SdkTestInternalApi
@@ -112,7 +127,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout, FirstAvailableStreamScheduler.INSTANCE);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                Http2StreamScheduler streamScheduler) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, streamScheduler);
         this.connections.addAll(connections);
     }
 
@@ -127,18 +151,54 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+        if (streamScheduler.shouldOpenConnection(connections, pendingConnections.get())) {
+            acquireStreamOnAdditionalConnection(promise);
+        } else {
+            acquireStreamOnExistingOrNewConnection(promise);
+        }
+        return promise;
+    }
+
+    private void acquireStreamOnExistingOrNewConnection(Promise<Channel> promise) {
+        for (MultiplexedChannelRecord multiplexedChannel : streamScheduler.candidates(connections)) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
-                return promise;
+                return;
             }
         }
 
         // No available streams on existing connections, establish new connection and add it to list
         acquireStreamOnNewConnection(promise);
-        return promise;
+    }
+
+    /**
+     * Acquire a stream on a new connection while the existing connections still have stream capacity. If the new connection
+     * can't be established, the stream is acquired from the existing connections instead.
+     */
+    private void acquireStreamOnAdditionalConnection(Promise<Channel> promise) {
+        Promise<Channel> additionalConnectionPromise = eventLoopGroup.next().newPromise();
+        additionalConnectionPromise.addListener(f -> {
+            if (additionalConnectionPromise.isSuccess()) {
+                promise.setSuccess(additionalConnectionPromise.getNow());
+                return;
+            }
+
+            if (closed.get()) {
+                promise.setFailure(additionalConnectionPromise.cause());
+                return;
+            }
+
+            log.debug(null, () -> "Failed to open an additional connection, using the existing connections instead.",
+                      additionalConnectionPromise.cause());
+            acquireStreamOnExistingOrNewConnection(promise);
+        });
+        acquireStreamOnNewConnection(additionalConnectionPromise);
     }
 
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
+        // Count the connection as pending until it has been added to the connections, or has failed.
+        pendingConnections.incrementAndGet();
+        promise.addListener(f -> pendingConnections.decrementAndGet());
+
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
         newConnectionAcquire.addListener(f -> {
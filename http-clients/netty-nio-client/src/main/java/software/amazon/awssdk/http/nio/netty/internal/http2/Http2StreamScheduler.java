@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.Collection;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
+
+/**
+ * Decides which connection a {@link Http2MultiplexedChannelPool} opens a new stream on, and when it opens an additional
+ * connection even though existing connections still have stream capacity.
+ */
+@SdkInternalApi
+interface Http2StreamScheduler {
+
+    /**
+     * Returns the connections to attempt to open a new stream on, most preferred first.
+     */
+    Iterable<MultiplexedChannelRecord> candidates(Collection<MultiplexedChannelRecord> connections);
+
+    /**
+     * Whether a new stream should be opened on a new connection instead of on one of the existing connections.
+     *
+     * @param connections The pool's existing connections.
+     * @param pendingConnections The number of connections the pool is currently establishing.
+     */
+    boolean shouldOpenConnection(Collection<MultiplexedChannelRecord> connections, int pendingConnections);
+
+    static Http2StreamScheduler create(Http2StreamSchedulingStrategy strategy, EventLoopGroup eventLoopGroup) {
+        switch (strategy) {
+            case FIRST_AVAILABLE:
+                return FirstAvailableStreamScheduler.INSTANCE;
+            case LEAST_LOADED:
+                int eventLoops = 0;
+                for (EventExecutor ignored : eventLoopGroup) {
+                    ++eventLoops;
+                }
+                return new LeastLoadedStreamScheduler(Math.max(eventLoops, 1));
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP/2 stream scheduling strategy: " + strategy);
+        }
+    }
+}
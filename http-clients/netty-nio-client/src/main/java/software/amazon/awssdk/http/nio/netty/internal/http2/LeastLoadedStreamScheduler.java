@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Opens new streams on the connection with the fewest outstanding streams, preferring connections that are not
+ * {@link MultiplexedChannelRecord#isCongested(long) congested}. When every connection with stream capacity is congested, an
+ * additional connection is opened, one at a time and up to {@code maxConnections}.
+ */
+@SdkInternalApi
+final class LeastLoadedStreamScheduler implements Http2StreamScheduler {
+    /**
+     * How long stream opens and closes may wait, on average, for a connection's event loop before the connection is
+     * considered congested.
+     */
+    static final long MAX_EVENT_LOOP_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static final Comparator<Candidate> LEAST_LOADED_FIRST =
+        Comparator.comparing((Candidate c) -> c.congested).thenComparingLong(c -> c.outstandingStreams);
+
+    private final int maxConnections;
+
+    LeastLoadedStreamScheduler(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public Iterable<MultiplexedChannelRecord> candidates(Collection<MultiplexedChannelRecord> connections) {
+        // Snapshot the load of each connection before sorting, because it changes concurrently.
+        List<Candidate> candidates = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            if (connection.hasAvailableStreams()) {
+                candidates.add(new Candidate(connection));
+            }
+        }
+        candidates.sort(LEAST_LOADED_FIRST);
+
+        List<MultiplexedChannelRecord> result = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            result.add(candidate.connection);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean shouldOpenConnection(Collection<MultiplexedChannelRecord> connections, int pendingConnections) {
+        if (pendingConnections > 0 || connections.size() >= maxConnections) {
+            return false;
+        }
+
+        // When no connection has capacity the pool opens a new connection anyway, so only grow early when all of the
+        // connections that do have capacity are congested.
+        boolean anyAvailable = false;
+        for (MultiplexedChannelRecord connection : connections) {
+            if (connection.hasAvailableStreams()) {
+                if (!connection.isCongested(MAX_EVENT_LOOP_DELAY_NANOS)) {
+                    return false;
+                }
+                anyAvailable = true;
+            }
+        }
+        return anyAvailable;
+    }
+
+    private static final class Candidate {
+        private final MultiplexedChannelRecord connection;
+        private final boolean congested;
+        private final long outstandingStreams;
+
+        private Candidate(MultiplexedChannelRecord connection) {
+            this.connection = connection;
+            this.congested = connection.isCongested(MAX_EVENT_LOOP_DELAY_NANOS);
+            this.outstandingStreams = connection.outstandingStreams();
+        }
+    }
+}
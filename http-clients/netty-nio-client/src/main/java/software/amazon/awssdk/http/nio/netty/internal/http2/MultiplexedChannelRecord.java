@@ -21,6 +21,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.wa
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelId;
 import io.netty.channel.ChannelOutboundInvoker;
+import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2GoAwayFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
@@ -41,6 +42,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelDiagnostics;
+import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionFloor;
 import software.amazon.awssdk.http.nio.netty.internal.UnusedChannelExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 
@@ -66,6 +68,11 @@ public class MultiplexedChannelRecord {
     // Only write in the connection.eventLoop()
     private volatile RecordState state = RecordState.OPEN;
 
+    // Moving average of how long stream opens and closes wait to run on the connection.eventLoop(), and whether the
+    // connection's outbound flow-control window was exhausted when last checked. Only write in the connection.eventLoop()
+    private volatile long eventLoopDelayNanos;
+    private volatile boolean flowControlStalled;
+
     private volatile int lastStreamId;
 
     MultiplexedChannelRecord(Channel connection, long maxConcurrencyPerConnection, Duration allowedIdleConnectionTime) {
@@ -85,6 +92,7 @@ public class MultiplexedChannelRecord {
     }
 
     void acquireClaimedStream(Promise<Channel> promise) {
+        long claimTimeNanos = System.nanoTime();
         doInEventLoop(connection.eventLoop(), () -> {
             if (state != RecordState.OPEN) {
                 String message;
@@ -114,6 +122,7 @@ public class MultiplexedChannelRecord {
                 channel.attr(ChannelAttributeKey.HTTP2_FRAME_STREAM).set(channel.stream());
                 channel.attr(ChannelAttributeKey.CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(channel));
                 childChannels.put(channel.id(), channel);
+                updateLoad(claimTimeNanos);
                 promise.setSuccess(channel);
 
                 if (closeIfIdleTask == null && allowedIdleConnectionTimeMillis != null) {
@@ -230,13 +239,27 @@ public class MultiplexedChannelRecord {
     }
 
     void closeAndReleaseChild(Channel childChannel) {
+        long releaseTimeNanos = System.nanoTime();
         childChannel.close();
         doInEventLoop(connection.eventLoop(), () -> {
             childChannels.remove(childChannel.id());
             releaseClaim();
+            updateLoad(releaseTimeNanos);
         });
     }
 
+    private void updateLoad(long taskSubmittedNanos) {
+        warnIfNotInEventLoop(connection.eventLoop());
+
+        long delayNanos = System.nanoTime() - taskSubmittedNanos;
+        long previousDelayNanos = eventLoopDelayNanos;
+        eventLoopDelayNanos = previousDelayNanos + (delayNanos - previousDelayNanos) / 4;
+
+        Http2Connection http2Connection = connection.attr(ChannelAttributeKey.HTTP2_CONNECTION).get();
+        flowControlStalled = http2Connection != null &&
+                             http2Connection.remote().flowController().windowSize(http2Connection.connectionStream()) <= 0;
+    }
+
     private void closeIfIdle() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -262,6 +285,12 @@ public class MultiplexedChannelRecord {
             return;
         }
 
+        // Keep the connection if it's needed to keep the client's minimum number of idle connections.
+        if (!IdleConnectionFloor.tryRetire(connection)) {
+            availableChildChannels.set(maxConcurrencyPerConnection);
+            return;
+        }
+
         log.debug(connection, () -> "Connection " + connection + " has been idle for " +
                                     (System.currentTimeMillis() - nonVolatileLastReserveAttemptTimeMillis) +
                                     "ms and will be shut down.");
@@ -298,6 +327,33 @@ public class MultiplexedChannelRecord {
         return false;
     }
 
+    /**
+     * @return The number of streams that are open or being opened on this connection.
+     */
+    long outstandingStreams() {
+        return maxConcurrencyPerConnection - availableChildChannels.get();
+    }
+
+    /**
+     * @return Whether a new stream could currently be acquired from this connection.
+     */
+    boolean hasAvailableStreams() {
+        return state == RecordState.OPEN && availableChildChannels.get() > 0;
+    }
+
+    /**
+     * Whether new streams on this connection are likely to be delayed by the streams already on it: the socket is not
+     * writable, the connection's outbound flow-control window is exhausted, or stream opens and closes have recently waited
+     * longer than {@code maxEventLoopDelayNanos} for the connection's event loop. The last two are only sampled when streams
+     * are opened and closed, so they are ignored once the connection has no outstanding streams.
+     */
+    boolean isCongested(long maxEventLoopDelayNanos) {
+        if (!connection.isWritable()) {
+            return true;
+        }
+        return outstandingStreams() > 0 && (flowControlStalled || eventLoopDelayNanos > maxEventLoopDelayNanos);
+    }
+
     boolean canBeClosedAndReleased() {
         return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
     }
@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.nrs;
+
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.http.HttpRequest;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An http request whose body is a {@link FileRegion}, which the transport can send straight from the file (e.g. with
+ * {@code sendfile}) instead of copying it through user space. The request must carry a {@code Content-Length} equal to the
+ * size of the region and must not go through a handler that needs to see the body bytes, such as an {@code SslHandler}.
+ */
+@SdkInternalApi
+public interface FileRegionHttpRequest extends HttpRequest {
+
+    /**
+     * @return The body of the request. Ownership passes to the channel once the request is written.
+     */
+    FileRegion fileRegion();
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http.nio.netty.internal.nrs;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -45,6 +47,7 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
     private final EventExecutor executor;
     private final long demandLowWatermark;
     private final long demandHighWatermark;
+    private final long flushThresholdBytes;
 
     private final AtomicBoolean hasSubscription = new AtomicBoolean();
 
@@ -55,6 +58,11 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
     private long outstandingDemand = 0;
     private ChannelFuture lastWriteFuture;
 
+    // Only read or write in the executor
+    private long unflushedBytes = 0;
+    private long unflushedWrites = 0;
+    private boolean flushScheduled = false;
+
     /**
      * Create a new handler subscriber.
      *
@@ -66,9 +74,31 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
      * @param demandHighWatermark The high watermark for demand. This is the maximum that will be requested.
      */
     public HandlerSubscriber(EventExecutor executor, long demandLowWatermark, long demandHighWatermark) {
+        this(executor, demandLowWatermark, demandHighWatermark, 0);
+    }
+
+    /**
+     * Create a new handler subscriber that coalesces the flushes of the messages it writes.
+     *
+     * Messages are written as soon as they're received, but only flushed once {@code flushThresholdBytes} bytes or enough
+     * messages to replenish the demand have been written since the last flush, or once the executor has run all of the
+     * writes that were queued when the first unflushed message was written (i.e. the publisher has gone idle).
+     *
+     * The supplied executor must be the same event loop as the event loop that this handler is eventually registered
+     * with, if not, an exception will be thrown when the handler is registered.
+     *
+     * @param executor The executor to execute asynchronous events from the publisher on.
+     * @param demandLowWatermark  The low watermark for demand. When demand drops below this, more will be requested.
+     * @param demandHighWatermark The high watermark for demand. This is the maximum that will be requested.
+     * @param flushThresholdBytes The number of written bytes after which the channel is flushed, or 0 to flush every message
+     * when it's written.
+     */
+    public HandlerSubscriber(EventExecutor executor, long demandLowWatermark, long demandHighWatermark,
+                             long flushThresholdBytes) {
         this.executor = executor;
         this.demandLowWatermark = demandLowWatermark;
         this.demandHighWatermark = demandHighWatermark;
+        this.flushThresholdBytes = flushThresholdBytes;
     }
 
     /**
@@ -245,7 +275,15 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
     public void onNext(T t) {
         // Publish straight to the context.
         Validate.notNull(t, "Event must not be null.");
-        lastWriteFuture = ctx.writeAndFlush(t);
+        if (flushThresholdBytes > 0) {
+            // Determine the size before writing, because the message may be released once it's written.
+            long messageBytes = messageBytes(t);
+            lastWriteFuture = ctx.write(t);
+            // Queued after the write, so that it runs after the message has been written.
+            executor.execute(() -> flushIfNeeded(messageBytes));
+        } else {
+            lastWriteFuture = ctx.writeAndFlush(t);
+        }
         lastWriteFuture.addListener(new ChannelFutureListener() {
             @Override
             public void operationComplete(ChannelFuture future) throws Exception {
@@ -255,6 +293,41 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
         });
     }
 
+    private static long messageBytes(Object message) {
+        if (message instanceof ByteBufHolder) {
+            return ((ByteBufHolder) message).content().readableBytes();
+        }
+        if (message instanceof ByteBuf) {
+            return ((ByteBuf) message).readableBytes();
+        }
+        return 0;
+    }
+
+    private void flushIfNeeded(long writtenBytes) {
+        unflushedBytes += writtenBytes;
+        unflushedWrites++;
+
+        // Written messages only complete, and so replenish the demand, once they're flushed. Flush before the publisher runs
+        // out of demand so that it isn't left waiting for the idle flush.
+        if (unflushedBytes >= flushThresholdBytes || unflushedWrites >= demandHighWatermark - demandLowWatermark) {
+            flush();
+        } else if (!flushScheduled) {
+            // Runs once the writes that the publisher has already queued have been run.
+            flushScheduled = true;
+            executor.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        if (unflushedWrites == 0) {
+            return;
+        }
+        unflushedBytes = 0;
+        unflushedWrites = 0;
+        ctx.flush();
+    }
+
     @Override
     public void onError(final Throwable error) {
         if (error == null) {
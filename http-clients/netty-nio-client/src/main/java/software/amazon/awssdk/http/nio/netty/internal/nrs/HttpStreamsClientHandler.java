@@ -67,7 +67,15 @@ public class HttpStreamsClientHandler extends HttpStreamsHandler<HttpResponse, H
     private boolean ignoreResponseBody = false;
 
     public HttpStreamsClientHandler() {
-        super(HttpResponse.class, HttpRequest.class);
+        this(0);
+    }
+
+    /**
+     * @param requestBodyFlushThresholdBytes The number of streamed request body bytes written between flushes, or 0 to flush
+     * every chunk of the request body. See {@link HandlerSubscriber}.
+     */
+    public HttpStreamsClientHandler(long requestBodyFlushThresholdBytes) {
+        super(HttpResponse.class, HttpRequest.class, requestBodyFlushThresholdBytes);
     }
 
     @Override
@@ -45,6 +45,7 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
     private final Queue<Outgoing> outgoing = new LinkedList<>();
     private final Class<InT> inClass;
     private final Class<OutT> outClass;
+    private final long bodyFlushThresholdBytes;
 
     /**
      * The incoming message that is currently being streamed out to a subscriber.
@@ -73,8 +74,13 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
     private boolean sendLastHttpContent;
 
     HttpStreamsHandler(Class<InT> inClass, Class<OutT> outClass) {
+        this(inClass, outClass, 0);
+    }
+
+    HttpStreamsHandler(Class<InT> inClass, Class<OutT> outClass, long bodyFlushThresholdBytes) {
         this.inClass = inClass;
         this.outClass = outClass;
+        this.bodyFlushThresholdBytes = bodyFlushThresholdBytes;
     }
 
     /**
@@ -294,7 +300,9 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
 
         } else if (out.message instanceof StreamedHttpMessage) {
             StreamedHttpMessage streamed = (StreamedHttpMessage) out.message;
-            HandlerSubscriber<HttpContent> subscriber = new HandlerSubscriber<HttpContent>(ctx.executor()) {
+            HandlerSubscriber<HttpContent> subscriber = new HandlerSubscriber<HttpContent>(
+                ctx.executor(), HandlerSubscriber.DEFAULT_LOW_WATERMARK, HandlerSubscriber.DEFAULT_HIGH_WATERMARK,
+                bodyFlushThresholdBytes) {
                 @Override
                 protected void error(Throwable error) {
                     out.promise.tryFailure(error);
@@ -319,6 +327,24 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
 
             ctx.pipeline().addAfter(ctx.name(), ctx.name() + "-body-subscriber", subscriber);
             subscribeSubscriberToStream(streamed, subscriber);
+        } else if (out.message instanceof FileRegionHttpRequest) {
+            // Write the head and let the transport send the body straight from the file
+            ctx.write(out.message);
+            ctx.write(((FileRegionHttpRequest) out.message).fileRegion());
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT, out.promise);
+            out.promise.addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture channelFuture) throws Exception {
+                    executeInEventLoop(ctx, new Runnable() {
+                        @Override
+                        public void run() {
+                            sentOutMessage(ctx);
+                            outgoing.remove();
+                            flushNext(ctx);
+                        }
+                    });
+                }
+            });
         }
 
     }
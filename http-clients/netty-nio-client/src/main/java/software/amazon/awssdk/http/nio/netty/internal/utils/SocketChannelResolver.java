@@ -19,23 +19,32 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.NettyTransport;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
 
 @SdkInternalApi
 public final class SocketChannelResolver {
 
+    private static final String IO_URING = "io.netty.incubator.channel.uring.IOUring";
+    private static final String IO_URING_EL_GROUP = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    private static final String IO_URING_SOCKET_CHANNEL = "io.netty.incubator.channel.uring.IOUringSocketChannel";
+
     private static final Map<String, String> KNOWN_EL_GROUPS = new HashMap<>();
 
     static {
+        KNOWN_EL_GROUPS.put(IO_URING_EL_GROUP, IO_URING_SOCKET_CHANNEL);
         KNOWN_EL_GROUPS.put("io.netty.channel.kqueue.KQueueEventLoopGroup", "io.netty.channel.kqueue.KQueueSocketChannel");
         KNOWN_EL_GROUPS.put("io.netty.channel.oio.OioEventLoopGroup", "io.netty.channel.socket.oio.OioSocketChannel");
     }
@@ -70,4 +79,103 @@ public final class SocketChannelResolver {
 
         return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(socketFqcn)));
     }
+
+    /**
+     * Determines the {@link ChannelFactory} of the socket channels of the given transport.
+     *
+     * @param transport the transport to determine the {@link ChannelFactory} for
+     * @return A {@link ChannelFactory} instance for the given transport.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends Channel> resolveSocketChannelFactory(NettyTransport transport) {
+        switch (transport) {
+            case NIO:
+                return NioSocketChannel::new;
+            case EPOLL:
+                return EpollSocketChannel::new;
+            case IO_URING:
+                return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(IO_URING_SOCKET_CHANNEL)));
+            default:
+                throw new IllegalArgumentException("Unknown transport : " + transport);
+        }
+    }
+
+    /**
+     * Determines whether the given transport can be used on the current platform. The io_uring transport is looked up
+     * reflectively, because it is an optional dependency that the SDK does not compile against.
+     *
+     * @param transport the transport to check
+     * @return True if the transport and its native library are available, false otherwise.
+     */
+    public static boolean isAvailable(NettyTransport transport) {
+        switch (transport) {
+            case NIO:
+                return true;
+            case EPOLL:
+                return Epoll.isAvailable();
+            case IO_URING:
+                return isIoUringAvailable();
+            default:
+                throw new IllegalArgumentException("Unknown transport : " + transport);
+        }
+    }
+
+    /**
+     * Creates an event loop group of the given transport.
+     *
+     * @param transport the transport of the event loop group
+     * @param numberOfThreads the number of threads, or 0 for the Netty default
+     * @param threadFactory the factory of the event loop threads
+     * @return A new event loop group.
+     * @throws IllegalStateException if the transport is not available on the current platform
+     */
+    public static EventLoopGroup createEventLoopGroup(NettyTransport transport, int numberOfThreads,
+                                                      ThreadFactory threadFactory) {
+        if (!isAvailable(transport)) {
+            throw new IllegalStateException("The " + transport + " transport is not available on this platform. Make sure "
+                                            + "its Netty native library for this platform is on the classpath.");
+        }
+
+        switch (transport) {
+            case NIO:
+                return new NioEventLoopGroup(numberOfThreads, threadFactory);
+            case EPOLL:
+                return new EpollEventLoopGroup(numberOfThreads, threadFactory);
+            case IO_URING:
+                return invokeSafely(() -> (EventLoopGroup) Class.forName(IO_URING_EL_GROUP)
+                                                                .getConstructor(int.class, ThreadFactory.class)
+                                                                .newInstance(numberOfThreads, threadFactory));
+            default:
+                throw new IllegalArgumentException("Unknown transport : " + transport);
+        }
+    }
+
+    /**
+     * Wraps a {@link ChannelFactory} so that every channel it creates is configured with the given options. Options that the
+     * channel does not support are ignored by Netty.
+     *
+     * @param channelFactory the channel factory to wrap
+     * @param channelOptions the options to apply to every new channel
+     * @return A {@link ChannelFactory} creating channels configured with the given options.
+     */
+    public static ChannelFactory<? extends Channel> withChannelOptions(ChannelFactory<? extends Channel> channelFactory,
+                                                                       Map<ChannelOption<?>, Object> channelOptions) {
+        if (channelOptions.isEmpty()) {
+            return channelFactory;
+        }
+
+        return () -> {
+            Channel channel = channelFactory.newChannel();
+            channel.config().setOptions(channelOptions);
+            return channel;
+        };
+    }
+
+    private static boolean isIoUringAvailable() {
+        try {
+            return (Boolean) Class.forName(IO_URING).getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
 }
@@ -55,6 +55,8 @@ import io.netty.util.AttributeKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -87,6 +89,7 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.FileRegionContentPublisher;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
@@ -515,6 +518,32 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(recorder.fullResponseAsString()).isEqualTo(reverse(body));
     }
 
+    @Test
+    public void requestBodyFlushThreshold_coalescedChunksAreAllSent() throws Exception {
+        String body = randomAlphabetic(50_000);
+        stubFor(any(urlEqualTo("/echo?reversed=true"))
+                        .withRequestBody(equalTo(body))
+                        .willReturn(aResponse().withBody(reverse(body))));
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+
+        SdkHttpRequest request = createRequest(uri, "/echo", body, SdkHttpMethod.POST, singletonMap("reversed", "true"));
+
+        try (SdkAsyncHttpClient coalescingClient = NettyNioAsyncHttpClient.builder()
+                                                                          .requestBodyFlushThreshold(4096)
+                                                                          .buildWithDefaults(mapWithTrustAllCerts())) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            coalescingClient.execute(AsyncExecuteRequest.builder()
+                                                        .request(request)
+                                                        .requestContentPublisher(createProvider(body))
+                                                        .responseHandler(recorder)
+                                                        .build());
+
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+            assertThat(recorder.fullResponseAsString()).isEqualTo(reverse(body));
+        }
+    }
+
     @Test
     public void requestContentOnlyEqualToContentLengthHeaderFromProvider() throws InterruptedException, ExecutionException, TimeoutException, IOException {
         final String content = randomAlphabetic(32);
@@ -538,6 +567,44 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(wiremockTrafficListener.requests().toString()).endsWith(content);
     }
 
+    @Test
+    public void fileRegionContent_plaintext_isSentFromFileWithoutSubscribing() throws Exception {
+        FileRegionProvider provider = assertCanSendFileRegion(URI.create("http://localhost:" + mockServer.port()));
+        assertThat(provider.subscribed).isFalse();
+    }
+
+    @Test
+    public void fileRegionContent_tls_isStreamedFromPublisher() throws Exception {
+        FileRegionProvider provider = assertCanSendFileRegion(URI.create("https://localhost:" + mockServer.httpsPort()));
+        assertThat(provider.subscribed).isTrue();
+    }
+
+    private FileRegionProvider assertCanSendFileRegion(URI uri) throws Exception {
+        String fileContent = randomAlphabetic(64 * 1024);
+        int position = 100;
+        String content = fileContent.substring(position, position + 40_000);
+        Path file = Files.createTempFile("file-region", ".txt");
+        try {
+            Files.write(file, fileContent.getBytes(UTF_8));
+            stubFor(any(urlEqualTo("/echo?reversed=true"))
+                        .withRequestBody(equalTo(content))
+                        .willReturn(aResponse().withBody("received")));
+
+            SdkHttpRequest request = createRequest(uri, "/echo", content, SdkHttpMethod.POST, singletonMap("reversed", "true"));
+            FileRegionProvider provider = new FileRegionProvider(file, position, content.length());
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+
+            client.execute(AsyncExecuteRequest.builder().request(request).requestContentPublisher(provider).responseHandler(recorder).build());
+
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+            assertThat(recorder.fullResponseAsString()).isEqualTo("received");
+            return provider;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     @Test
     public void closeMethodClosesOpenedChannels() throws InterruptedException, TimeoutException, ExecutionException {
         String body = randomAlphabetic(10);
@@ -661,6 +728,61 @@ public class NettyNioAsyncHttpClientWireMockTest {
         return split;
     }
 
+    private static final class FileRegionProvider implements FileRegionContentPublisher {
+        private final Path path;
+        private final long position;
+        private final long length;
+        private volatile boolean subscribed;
+
+        private FileRegionProvider(Path path, long position, long length) {
+            this.path = path;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public Path path() {
+            return path;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(length);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            subscribed = true;
+            s.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    try {
+                        byte[] bytes = Files.readAllBytes(path);
+                        s.onNext(ByteBuffer.wrap(bytes, (int) position, (int) length).slice());
+                        s.onComplete();
+                    } catch (IOException e) {
+                        s.onError(e);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
     // Needs to be a non-anon class in order to spy
     public static class CustomThreadFactory implements ThreadFactory {
         @Override
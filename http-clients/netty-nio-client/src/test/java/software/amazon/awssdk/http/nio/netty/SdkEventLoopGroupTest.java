@@ -16,8 +16,16 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
+import io.netty.channel.Channel;
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.junit.Test;
@@ -49,4 +57,55 @@ public class SdkEventLoopGroupTest {
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
     }
+
+    @Test
+    public void builder_noTransport_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void builder_unavailableTransport_throwsException() {
+        assumeFalse(NettyTransport.IO_URING.isAvailable());
+
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().transport(NettyTransport.IO_URING).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("IO_URING");
+    }
+
+    @Test
+    public void builder_epollTuningWithNioTransport_throwsException() {
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().transport(NettyTransport.NIO).busyPollMicros(50).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().edgeTriggered(false).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_epollTransport_appliesTuningToNewChannels() {
+        assumeTrue(NettyTransport.EPOLL.isAvailable());
+
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transport(NettyTransport.EPOLL)
+                                                               .busyPollMicros(50)
+                                                               .edgeTriggered(false)
+                                                               .build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+
+            Channel channel = sdkEventLoopGroup.channelFactory().newChannel();
+            assertThat(channel).isInstanceOf(EpollSocketChannel.class);
+            assertThat(channel.config().getOption(EpollChannelOption.SO_BUSY_POLL)).isEqualTo(50);
+            assertThat(channel.config().getOption(EpollChannelOption.EPOLL_MODE)).isEqualTo(EpollMode.LEVEL_TRIGGERED);
+            channel.unsafe().closeForcibly();
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
 }
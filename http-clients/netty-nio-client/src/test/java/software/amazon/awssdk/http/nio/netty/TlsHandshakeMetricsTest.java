@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.netty.handler.ssl.SslProvider;
+import java.net.URI;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.EmptyPublisher;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class TlsHandshakeMetricsTest {
+    private static final WireMockServer SERVER = new WireMockServer(new WireMockConfiguration().dynamicHttpsPort()
+                                                                                               .dynamicPort());
+
+    @BeforeAll
+    public static void setup() {
+        SERVER.start();
+        SERVER.stubFor(any(urlPathEqualTo("/keep-alive")).willReturn(aResponse().withStatus(200)));
+        SERVER.stubFor(any(urlPathEqualTo("/close")).willReturn(aResponse().withStatus(200)
+                                                                           .withHeader("Connection", "close")));
+    }
+
+    @AfterAll
+    public static void teardown() {
+        SERVER.stop();
+    }
+
+    @Test
+    public void newConnection_reportsFullHandshake_reusedConnection_reportsNothing() {
+        try (SdkAsyncHttpClient client = newClient()) {
+            MetricCollection first = execute(client, "/keep-alive");
+            assertThat(first.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(false);
+            assertThat(first.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).hasSize(1);
+            assertThat(first.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION).get(0)).isPositive();
+
+            MetricCollection second = execute(client, "/keep-alive");
+            assertThat(second.metricValues(HttpMetric.TLS_SESSION_RESUMED)).isEmpty();
+            assertThat(second.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).isEmpty();
+        }
+    }
+
+    @Test
+    public void replacedConnection_resumesCachedSession() {
+        try (SdkAsyncHttpClient client = newClient()) {
+            MetricCollection first = execute(client, "/close");
+            assertThat(first.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(false);
+
+            MetricCollection second = execute(client, "/close");
+            assertThat(second.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(true);
+            assertThat(second.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).hasSize(1);
+        }
+    }
+
+    private static SdkAsyncHttpClient newClient() {
+        // The test server is JDK based, so use the JDK provider on the client for predictable session resumption. A single
+        // connection makes the second request wait for the first connection to be released, instead of racing the release
+        // and opening a new connection.
+        return NettyNioAsyncHttpClient.builder()
+                                      .sslProvider(SslProvider.JDK)
+                                      .maxConcurrency(1)
+                                      .buildWithDefaults(AttributeMap.builder()
+                                                                     .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                     .build());
+    }
+
+    private static MetricCollection execute(SdkAsyncHttpClient client, String path) {
+        URI uri = URI.create("https://localhost:" + SERVER.httpsPort());
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(uri)
+                                                       .method(SdkHttpMethod.GET)
+                                                       .encodedPath(path)
+                                                       .putHeader("Host", uri.getHost())
+                                                       .putHeader("Content-Length", "0")
+                                                       .build();
+        MetricCollector metricCollector = MetricCollector.create("test");
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(new EmptyPublisher())
+                                          .responseHandler(new RecordingResponseHandler())
+                                          .metricCollector(metricCollector)
+                                          .build())
+              .join();
+        return metricCollector.collect();
+    }
+}
@@ -20,13 +20,19 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALIVE;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOption;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
 import java.net.SocketAddress;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.http.nio.netty.DnsResolverConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.dns.CachingAddressResolverGroup;
 import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -74,4 +80,42 @@ public class BootstrapProviderTest {
         Boolean keepAlive = (Boolean) bootstrap.config().options().get(ChannelOption.SO_KEEPALIVE);
         assertThat(keepAlive).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createBootstrap_withAddressResolverGroup_evictsAddressesThatFailToConnect() throws Exception {
+        InetAddress unreachable = InetAddress.getByAddress(new byte[] {127, 0, 0, 2});
+        InetAddress reachable = InetAddress.getByAddress(new byte[] {127, 0, 0, 1});
+        SdkEventLoopGroup eventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        CachingAddressResolverGroup resolverGroup =
+            CachingAddressResolverGroup.create(DnsResolverConfiguration.builder().build(),
+                                               host -> new InetAddress[] {unreachable, reachable});
+
+        try (ServerSocket server = new ServerSocket(0, 50, reachable)) {
+            BootstrapProvider provider = new BootstrapProvider(eventLoopGroup,
+                                                               new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                               new SdkChannelOptions(),
+                                                               resolverGroup);
+
+            ChannelFuture first = connect(provider, server.getLocalPort());
+            assertThat(first.isSuccess()).isFalse();
+
+            ChannelFuture second = connect(provider, server.getLocalPort());
+            assertThat(second.isSuccess()).isTrue();
+            assertThat(((InetSocketAddress) second.channel().remoteAddress()).getAddress()).isEqualTo(reachable);
+            second.channel().close().sync();
+
+            ChannelFuture third = connect(provider, server.getLocalPort());
+            assertThat(third.isSuccess()).isTrue();
+            third.channel().close().sync();
+        } finally {
+            resolverGroup.close();
+            eventLoopGroup.eventLoopGroup().shutdownGracefully().sync();
+        }
+    }
+
+    private static ChannelFuture connect(BootstrapProvider provider, int port) throws InterruptedException {
+        Bootstrap bootstrap = provider.createBootstrap("service.example.com", port)
+                                      .handler(new ChannelInboundHandlerAdapter());
+        return bootstrap.connect().await();
+    }
+}
@@ -38,6 +38,7 @@ import org.mockito.internal.verification.Times;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.http.ConnectionCountingTrafficListener;
 import software.amazon.awssdk.http.EmptyPublisher;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -45,6 +46,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.RecordingResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollection;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConnectionReaperTest {
@@ -121,6 +123,55 @@ public class ConnectionReaperTest {
     }
 
 
+    @Test
+    public void warmUpOpensRequestedConnections() throws InterruptedException {
+        try (NettyNioAsyncHttpClient client = (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.builder()
+                                                                                              .build()) {
+            int connectionCount = TRAFFIC_LISTENER.openedConnections();
+
+            MetricCollection metrics = client.warmUp(URI.create("http://localhost:" + mockServer.port()), 3).join();
+
+            assertThat(metrics.metricValues(HttpMetric.CONNECTION_WARM_UP_DURATION)).hasSize(3);
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(3);
+            awaitOpenedConnections(connectionCount + 3);
+
+            // Requests are served by the warmed connections
+            makeRequest(client);
+            assertThat(TRAFFIC_LISTENER.openedConnections()).isEqualTo(connectionCount + 3);
+        }
+    }
+
+    @Test
+    public void idleConnectionReaperKeepsMinIdleConnections() throws InterruptedException {
+        Duration maxIdleTime = Duration.ofMillis(500);
+
+        try (NettyNioAsyncHttpClient client = (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.builder()
+                                                                                              .connectionMaxIdleTime(maxIdleTime)
+                                                                                              .minIdleConnections(2)
+                                                                                              .build()) {
+            int connectionCount = TRAFFIC_LISTENER.openedConnections();
+            URI uri = URI.create("http://localhost:" + mockServer.port());
+
+            client.warmUp(uri, 3).join();
+            awaitOpenedConnections(connectionCount + 3);
+
+            // Do nothing for longer than the max-idle time. Only one of the connections may be closed.
+            Thread.sleep(maxIdleTime.multipliedBy(4).toMillis());
+
+            MetricCollection metrics = client.warmUp(uri, 2).join();
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(2);
+            assertThat(TRAFFIC_LISTENER.openedConnections()).isEqualTo(connectionCount + 3);
+        }
+    }
+
+    private void awaitOpenedConnections(int expected) throws InterruptedException {
+        Instant end = Instant.now().plusSeconds(5);
+        while (TRAFFIC_LISTENER.openedConnections() < expected && Instant.now().isBefore(end)) {
+            Thread.sleep(10);
+        }
+        assertThat(TRAFFIC_LISTENER.openedConnections()).isEqualTo(expected);
+    }
+
     private void makeRequest(SdkAsyncHttpClient client) {
         stubFor(WireMock.any(anyUrl()).willReturn(aResponse().withBody(randomAlphabetic(10))));
 
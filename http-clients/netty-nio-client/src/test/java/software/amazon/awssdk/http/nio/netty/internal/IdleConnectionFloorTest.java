@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+public class IdleConnectionFloorTest {
+    @Test
+    public void channelWithoutFloor_canBeRetired() {
+        assertThat(IdleConnectionFloor.tryRetire(new EmbeddedChannel())).isTrue();
+    }
+
+    @Test
+    public void tryRetire_onlySucceedsAboveTheFloor() {
+        IdleConnectionFloor floor = new IdleConnectionFloor(2);
+        EmbeddedChannel first = createdChannel(floor);
+        EmbeddedChannel second = createdChannel(floor);
+        EmbeddedChannel third = createdChannel(floor);
+
+        assertThat(IdleConnectionFloor.tryRetire(first)).isTrue();
+        assertThat(IdleConnectionFloor.tryRetire(second)).isFalse();
+        assertThat(IdleConnectionFloor.tryRetire(third)).isFalse();
+        assertThat(floor.openConnections()).isEqualTo(2);
+    }
+
+    @Test
+    public void retiredChannel_isNotCountedAgainWhenClosed() {
+        IdleConnectionFloor floor = new IdleConnectionFloor(1);
+        EmbeddedChannel first = createdChannel(floor);
+        createdChannel(floor);
+
+        assertThat(IdleConnectionFloor.tryRetire(first)).isTrue();
+        assertThat(IdleConnectionFloor.tryRetire(first)).isTrue();
+        first.close();
+
+        assertThat(floor.openConnections()).isEqualTo(1);
+    }
+
+    @Test
+    public void closedChannel_makesRoomUnderTheFloor() {
+        IdleConnectionFloor floor = new IdleConnectionFloor(1);
+        EmbeddedChannel first = createdChannel(floor);
+        EmbeddedChannel second = createdChannel(floor);
+
+        second.close();
+
+        assertThat(floor.openConnections()).isEqualTo(1);
+        assertThat(IdleConnectionFloor.tryRetire(first)).isFalse();
+    }
+
+    private static EmbeddedChannel createdChannel(IdleConnectionFloor floor) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        floor.connectionCreated(channel);
+        return channel;
+    }
+}
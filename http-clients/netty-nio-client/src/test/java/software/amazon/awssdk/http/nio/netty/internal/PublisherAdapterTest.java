@@ -26,6 +26,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,6 +41,9 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -53,9 +57,11 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -235,6 +241,122 @@ public class PublisherAdapterTest {
         }
     }
 
+    @Test
+    public void zeroCopyEnabled_releasableSubscriber_receivesReadOnlyViewAndReleasesContentOnce() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        ReleasableTestSubscriber subscriber = subscribeReleasable(true, content);
+
+        assertThat(subscriber.copies).isEmpty();
+        assertThat(subscriber.views).hasSize(1);
+        ByteBuffer view = subscriber.views.get(0);
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(view.duplicate()).toString()).isEqualTo("hello");
+        assertThat(content.refCnt()).isEqualTo(1);
+
+        subscriber.releaseHooks.get(0).run();
+        assertThat(content.refCnt()).isZero();
+
+        // Releasing again must not over-release the content
+        subscriber.releaseHooks.get(0).run();
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+    }
+
+    @Test
+    public void zeroCopyEnabled_releasableSubscriberOnNextThrows_releasesContentAndFailsResponse() {
+        RuntimeException exception = new RuntimeException("boom");
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        ReleasableTestSubscriber subscriber = new ReleasableTestSubscriber();
+        subscriber.onNextFailure = exception;
+
+        subscribeReleasable(true, content, subscriber);
+
+        assertThat(subscriber.views).hasSize(1);
+        assertThat(content.refCnt()).isZero();
+        assertThat(executeFuture).isCompletedExceptionally();
+        verify(responseHandler).onError(exception);
+
+        // A release by the subscriber after the failure must not over-release the content
+        subscriber.releaseHooks.get(0).run();
+        assertThat(content.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopyDisabled_releasableSubscriber_receivesCopy() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        ReleasableTestSubscriber subscriber = subscribeReleasable(false, content);
+
+        assertThat(subscriber.views).isEmpty();
+        assertThat(subscriber.copies).hasSize(1);
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.copies.get(0)).toString()).isEqualTo("hello");
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+    }
+
+    private ReleasableTestSubscriber subscribeReleasable(boolean zeroCopyResponseBuffers, ByteBuf content) {
+        return subscribeReleasable(zeroCopyResponseBuffers, content, new ReleasableTestSubscriber());
+    }
+
+    private ReleasableTestSubscriber subscribeReleasable(boolean zeroCopyResponseBuffers, ByteBuf content,
+                                                         ReleasableTestSubscriber subscriber) {
+        NettyConfiguration configuration =
+            new NettyConfiguration(AttributeMap.builder()
+                                               .put(NettyClientOption.ZERO_COPY_RESPONSE_BUFFERS, zeroCopyResponseBuffers)
+                                               .build());
+        RequestContext zeroCopyContext = new RequestContext(channelPool, eventLoopGroup, requestContext.executeRequest(),
+                                                            configuration);
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content)));
+
+        ResponseHandler.PublisherAdapter publisherAdapter = new ResponseHandler.PublisherAdapter(streamedHttpResponse,
+                                                                                                 ctx,
+                                                                                                 zeroCopyContext,
+                                                                                                 executeFuture);
+        publisherAdapter.subscribe(subscriber);
+        return subscriber;
+    }
+
+    static final class ReleasableTestSubscriber implements ReleasableBufferSubscriber {
+        private final List<ByteBuffer> copies = new ArrayList<>();
+        private final List<ByteBuffer> views = new ArrayList<>();
+        private final List<Runnable> releaseHooks = new ArrayList<>();
+        private Subscription subscription;
+        private boolean isCompleted = false;
+        private RuntimeException onNextFailure;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            copies.add(byteBuffer);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable releaseHook) {
+            views.add(byteBuffer);
+            releaseHooks.add(releaseHook);
+            if (onNextFailure != null) {
+                throw onNextFailure;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
@@ -17,12 +17,17 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import java.time.Duration;
 import javax.net.ssl.TrustManager;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -107,4 +112,79 @@ public class SslContextProviderTest {
                                                                                                + "set");
 
     }
+
+    @Test
+    public void sslContext_calledTwice_shouldReturnSameContext() {
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                                       Protocol.HTTP1_1,
+                                                                       SslProvider.JDK);
+
+        assertThat(sslContextProvider.sslContext()).isSameAs(sslContextProvider.sslContext());
+    }
+
+    @Test
+    public void sslContext_defaultTrustAndKeyManagers_shouldBeSharedAcrossProviders() {
+        SslContext first = new SslContextProvider(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                  Protocol.HTTP1_1,
+                                                  SslProvider.JDK).sslContext();
+        SslContext second = new SslContextProvider(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                   Protocol.HTTP1_1,
+                                                   SslProvider.JDK).sslContext();
+        SslContext http2 = new SslContextProvider(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                  Protocol.HTTP2,
+                                                  SslProvider.JDK).sslContext();
+
+        assertThat(first).isSameAs(second);
+        assertThat(first).isNotSameAs(http2);
+    }
+
+    @Test
+    public void sslContext_customTrustManagers_shouldNotBeShared() {
+        AttributeMap configuration = AttributeMap.builder()
+                                                 .put(TLS_TRUST_MANAGERS_PROVIDER, () -> new TrustManager[0])
+                                                 .build()
+                                                 .merge(GLOBAL_HTTP_DEFAULTS);
+
+        SslContext first = new SslContextProvider(new NettyConfiguration(configuration),
+                                                  Protocol.HTTP1_1,
+                                                  SslProvider.JDK).sslContext();
+        SslContext second = new SslContextProvider(new NettyConfiguration(configuration),
+                                                   Protocol.HTTP1_1,
+                                                   SslProvider.JDK).sslContext();
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    public void sslContext_sessionCacheConfigured_shouldApply() {
+        AttributeMap configuration = AttributeMap.builder()
+                                                 .put(TLS_SESSION_CACHE_SIZE, 123)
+                                                 .put(TLS_SESSION_TIMEOUT, Duration.ofMinutes(5))
+                                                 .build()
+                                                 .merge(GLOBAL_HTTP_DEFAULTS);
+
+        SslContext sslContext = new SslContextProvider(new NettyConfiguration(configuration),
+                                                       Protocol.HTTP1_1,
+                                                       SslProvider.JDK).sslContext();
+
+        assertThat(sslContext.sessionCacheSize()).isEqualTo(123);
+        assertThat(sslContext.sessionTimeout()).isEqualTo(300);
+        assertThat(sslContext).isNotSameAs(new SslContextProvider(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                                  Protocol.HTTP1_1,
+                                                                  SslProvider.JDK).sslContext());
+    }
+
+    @Test
+    public void sslContext_subSecondSessionTimeout_shouldRoundUpToOneSecond() {
+        AttributeMap configuration = AttributeMap.builder()
+                                                 .put(TLS_SESSION_TIMEOUT, Duration.ofMillis(500))
+                                                 .build()
+                                                 .merge(GLOBAL_HTTP_DEFAULTS);
+
+        SslContext sslContext = new SslContextProvider(new NettyConfiguration(configuration),
+                                                       Protocol.HTTP1_1,
+                                                       SslProvider.JDK).sslContext();
+
+        assertThat(sslContext.sessionTimeout()).isEqualTo(1);
+    }
 }
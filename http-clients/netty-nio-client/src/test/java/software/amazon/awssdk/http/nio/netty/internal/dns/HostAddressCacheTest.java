@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HostAddressCacheTest {
+    private static final String HOST = "service.example.com";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final List<Runnable> pendingLookups = new ArrayList<>();
+
+    private InetAddress[] answer;
+    private HostAddressCache cache;
+
+    @Before
+    public void setup() {
+        answer = new InetAddress[] { address(1), address(2), address(3) };
+        cache = newCache(Runnable::run);
+    }
+
+    @Test
+    public void resolve_rotatesThroughAddresses() {
+        assertThat(cache.resolve(HOST).join()).isEqualTo(address(1));
+        assertThat(cache.resolve(HOST).join()).isEqualTo(address(2));
+        assertThat(cache.resolve(HOST).join()).isEqualTo(address(3));
+        assertThat(cache.resolve(HOST).join()).isEqualTo(address(1));
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    public void resolve_addressesCarryHostName() {
+        assertThat(cache.resolve(HOST).join().getHostName()).isEqualTo(HOST);
+    }
+
+    @Test
+    public void resolveAll_startsAtNextAddress() {
+        cache.resolve(HOST).join();
+
+        assertThat(cache.resolveAll(HOST).join()).containsExactly(address(2), address(3), address(1));
+    }
+
+    @Test
+    public void resolve_afterTtl_looksUpAgain() {
+        cache.resolve(HOST).join();
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        cache.resolve(HOST).join();
+        assertThat(lookups).hasValue(1);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.resolve(HOST).join();
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    public void evict_removesAddressUntilNextLookup() {
+        cache.resolve(HOST).join();
+        cache.evict(new InetSocketAddress(cache.resolve(HOST).join(), 443));
+
+        assertThat(cache.resolveAll(HOST).join()).containsExactlyInAnyOrder(address(1), address(3));
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.resolveAll(HOST).join()).containsExactlyInAnyOrder(address(1), address(2), address(3));
+    }
+
+    @Test
+    public void evict_allAddresses_looksUpAgain() {
+        for (int i = 0; i < 3; i++) {
+            cache.evict(new InetSocketAddress(cache.resolve(HOST).join(), 443));
+        }
+        assertThat(lookups).hasValue(1);
+
+        assertThat(cache.resolve(HOST).join()).isNotNull();
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    public void evict_unknownAddress_isIgnored() throws UnknownHostException {
+        cache.resolve(HOST).join();
+        cache.evict(new InetSocketAddress(InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, 9}), 443));
+        cache.evict(InetSocketAddress.createUnresolved(HOST, 443));
+
+        assertThat(cache.resolveAll(HOST).join()).hasSize(3);
+    }
+
+    @Test
+    public void resolve_concurrentRequests_shareOneLookup() {
+        cache = newCache(pendingLookups::add);
+
+        CompletableFuture<InetAddress> first = cache.resolve(HOST);
+        CompletableFuture<InetAddress> second = cache.resolve(HOST);
+        assertThat(pendingLookups).hasSize(1);
+        assertThat(first).isNotDone();
+
+        pendingLookups.get(0).run();
+        assertThat(first.join()).isNotEqualTo(second.join());
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    public void resolve_failedLookup_isNotCached() {
+        answer = new InetAddress[0];
+
+        assertThatThrownBy(() -> cache.resolve(HOST).join()).isInstanceOf(CompletionException.class)
+                                                            .hasCauseInstanceOf(UnknownHostException.class);
+
+        answer = new InetAddress[] { address(1) };
+        assertThat(cache.resolve(HOST).join()).isEqualTo(address(1));
+        assertThat(lookups).hasValue(2);
+    }
+
+    private HostAddressCache newCache(Executor executor) {
+        NameLookup nameLookup = host -> {
+            lookups.incrementAndGet();
+            return answer;
+        };
+        return new HostAddressCache(nameLookup, executor, Duration.ofSeconds(10), clock::get);
+    }
+
+    private static InetAddress address(int lastOctet) {
+        try {
+            return InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastOctet});
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
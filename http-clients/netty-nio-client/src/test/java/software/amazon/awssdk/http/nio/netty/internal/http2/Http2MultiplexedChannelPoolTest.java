@@ -16,6 +16,8 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -80,6 +82,34 @@ public class Http2MultiplexedChannelPoolTest {
         assertThat(acquirePromise.cause()).isEqualTo(exception);
     }
 
+    @Test
+    public void failedAdditionalConnectionFallsBackToExistingConnections() throws InterruptedException {
+        IOException exception = new IOException();
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        when(connectionPool.acquire()).thenReturn(new FailedFuture<>(loopGroup.next(), exception));
+
+        Channel connection = mock(Channel.class);
+        when(connection.eventLoop()).thenReturn(loopGroup.next());
+        MultiplexedChannelRecord congestedRecord = mock(MultiplexedChannelRecord.class);
+        when(congestedRecord.getConnection()).thenReturn(connection);
+        when(congestedRecord.hasAvailableStreams()).thenReturn(true);
+        when(congestedRecord.isCongested(anyLong())).thenReturn(true);
+
+        ChannelPool pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(),
+                                                           Collections.singleton(congestedRecord), null,
+                                                           new LeastLoadedStreamScheduler(2));
+
+        Future<Channel> acquirePromise = pool.acquire().await();
+        assertThat(acquirePromise.isSuccess()).isFalse();
+        assertThat(acquirePromise.cause()).isEqualTo(exception);
+
+        // The additional connection failed, so the existing connection was tried before opening another connection.
+        InOrder inOrder = Mockito.inOrder(connectionPool, congestedRecord);
+        inOrder.verify(connectionPool).acquire();
+        inOrder.verify(congestedRecord).acquireStream(any());
+        inOrder.verify(connectionPool).acquire();
+    }
+
     @Test
     public void releaseParentChannelIfReleasingLastChildChannelOnGoAwayChannel() {
         SocketChannel channel = new NioSocketChannel();
@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class LeastLoadedStreamSchedulerTest {
+    private final LeastLoadedStreamScheduler scheduler = new LeastLoadedStreamScheduler(3);
+
+    @Test
+    public void candidates_orderedByOutstandingStreams() {
+        MultiplexedChannelRecord busy = record(5, false);
+        MultiplexedChannelRecord idle = record(0, false);
+        MultiplexedChannelRecord moderate = record(2, false);
+
+        assertThat(scheduler.candidates(Arrays.asList(busy, idle, moderate))).containsExactly(idle, moderate, busy);
+    }
+
+    @Test
+    public void candidates_congestedConnectionsLast() {
+        MultiplexedChannelRecord congested = record(0, true);
+        MultiplexedChannelRecord busy = record(5, false);
+
+        assertThat(scheduler.candidates(Arrays.asList(congested, busy))).containsExactly(busy, congested);
+    }
+
+    @Test
+    public void candidates_excludeConnectionsWithoutAvailableStreams() {
+        MultiplexedChannelRecord full = record(10, false);
+        when(full.hasAvailableStreams()).thenReturn(false);
+        MultiplexedChannelRecord busy = record(5, false);
+
+        assertThat(scheduler.candidates(Arrays.asList(full, busy))).containsExactly(busy);
+    }
+
+    @Test
+    public void shouldOpenConnection_allAvailableConnectionsCongested_true() {
+        assertThat(scheduler.shouldOpenConnection(Arrays.asList(record(1, true), record(2, true)), 0)).isTrue();
+    }
+
+    @Test
+    public void shouldOpenConnection_uncongestedConnectionAvailable_false() {
+        assertThat(scheduler.shouldOpenConnection(Arrays.asList(record(1, true), record(2, false)), 0)).isFalse();
+    }
+
+    @Test
+    public void shouldOpenConnection_connectionAlreadyPending_false() {
+        assertThat(scheduler.shouldOpenConnection(Collections.singletonList(record(1, true)), 1)).isFalse();
+    }
+
+    @Test
+    public void shouldOpenConnection_atMaxConnections_false() {
+        assertThat(scheduler.shouldOpenConnection(Arrays.asList(record(1, true), record(1, true), record(1, true)), 0))
+            .isFalse();
+    }
+
+    @Test
+    public void shouldOpenConnection_noConnections_false() {
+        // The pool opens a new connection when there are no candidates, so the scheduler doesn't need to.
+        assertThat(scheduler.shouldOpenConnection(Collections.emptyList(), 0)).isFalse();
+    }
+
+    private static MultiplexedChannelRecord record(long outstandingStreams, boolean congested) {
+        MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+        when(record.hasAvailableStreams()).thenReturn(true);
+        when(record.outstandingStreams()).thenReturn(outstandingStreams);
+        when(record.isCongested(anyLong())).thenReturn(congested);
+        return record;
+    }
+}
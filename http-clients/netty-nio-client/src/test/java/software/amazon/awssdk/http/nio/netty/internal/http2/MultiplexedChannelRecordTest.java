@@ -79,6 +79,43 @@ public class MultiplexedChannelRecordTest {
         assertThat(channel.isOpen()).isTrue();
     }
 
+    @Test
+    public void outstandingStreamsTrackAcquiredAndReleasedStreams() {
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 2, null);
+
+        Promise<Channel> streamPromise = channel.eventLoop().newPromise();
+        record.acquireStream(streamPromise);
+        channel.runPendingTasks();
+
+        assertThat(streamPromise.isSuccess()).isTrue();
+        assertThat(record.outstandingStreams()).isEqualTo(1);
+        assertThat(record.hasAvailableStreams()).isTrue();
+        assertThat(record.isCongested(Long.MAX_VALUE)).isFalse();
+
+        record.closeAndReleaseChild(streamPromise.getNow());
+        channel.runPendingTasks();
+
+        assertThat(record.outstandingStreams()).isZero();
+    }
+
+    @Test
+    public void connectionWithStreamsIsCongestedWhenEventLoopDelayExceedsMax() {
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 2, null);
+
+        Promise<Channel> streamPromise = channel.eventLoop().newPromise();
+        record.acquireStream(streamPromise);
+        channel.runPendingTasks();
+
+        assertThat(record.isCongested(-1)).isTrue();
+
+        record.closeAndReleaseChild(streamPromise.getNow());
+        channel.runPendingTasks();
+
+        assertThat(record.isCongested(-1)).isFalse();
+    }
+
     @Test
     public void recordsWithoutReservedStreamsAreClosedAfterTimeout() throws InterruptedException {
         int idleTimeoutMillis = 1000;
@@ -19,14 +19,18 @@ package software.amazon.awssdk.http.nio.netty.internal.nrs;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
@@ -93,6 +97,90 @@ public class HandlerSubscriberTest {
         assertThat(outboundMessages.poll()).isSameAs(back);
     }
 
+    @Test
+    public void onNextFlushesEveryMessageByDefault() {
+        FlushCountingHandler flushCounter = addFlushCounter();
+
+        handler.onSubscribe(doNothingSubscription());
+        handler.onNext(httpContent(10));
+        handler.onNext(httpContent(10));
+        handler.onNext(httpContent(10));
+
+        eventLoop.runTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(3);
+        assertThat(flushCounter.flushes).isEqualTo(3);
+    }
+
+    @Test
+    public void onNextWithFlushThresholdFlushesOnceWhenIdle() {
+        useFlushThreshold(100);
+        FlushCountingHandler flushCounter = addFlushCounter();
+
+        handler.onSubscribe(doNothingSubscription());
+        handler.onNext(httpContent(10));
+        handler.onNext(httpContent(10));
+        handler.onNext(httpContent(10));
+
+        eventLoop.runTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(3);
+        assertThat(flushCounter.flushes).isEqualTo(1);
+    }
+
+    @Test
+    public void onNextWithFlushThresholdFlushesWhenThresholdIsReached() {
+        useFlushThreshold(100);
+        FlushCountingHandler flushCounter = addFlushCounter();
+
+        handler.onSubscribe(doNothingSubscription());
+        handler.onNext(httpContent(60));
+        handler.onNext(httpContent(60));
+        eventLoop.runTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(2);
+        assertThat(flushCounter.flushes).isEqualTo(1);
+
+        handler.onNext(httpContent(60));
+        eventLoop.runTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(3);
+        assertThat(flushCounter.flushes).isEqualTo(2);
+    }
+
+    @Test
+    public void onNextWithFlushThresholdFlushesBeforeDemandIsExhausted() {
+        useFlushThreshold(Long.MAX_VALUE);
+        FlushCountingHandler flushCounter = addFlushCounter();
+
+        handler.onSubscribe(doNothingSubscription());
+        long writesToReplenishDemand = HandlerSubscriber.DEFAULT_HIGH_WATERMARK - HandlerSubscriber.DEFAULT_LOW_WATERMARK;
+        for (int i = 0; i < writesToReplenishDemand; i++) {
+            handler.onNext(httpContent(1));
+        }
+
+        eventLoop.runTasks();
+
+        assertThat(flushCounter.flushes).isEqualTo(1);
+    }
+
+    private void useFlushThreshold(long flushThresholdBytes) {
+        channel.pipeline().remove(handler);
+        handler = new HandlerSubscriber<>(eventLoop, HandlerSubscriber.DEFAULT_LOW_WATERMARK,
+                                          HandlerSubscriber.DEFAULT_HIGH_WATERMARK, flushThresholdBytes);
+        channel.pipeline().addLast(handler);
+    }
+
+    private FlushCountingHandler addFlushCounter() {
+        FlushCountingHandler flushCounter = new FlushCountingHandler();
+        channel.pipeline().addFirst(flushCounter);
+        return flushCounter;
+    }
+
+    private HttpContent httpContent(int size) {
+        return new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[size]));
+    }
+
     private DefaultFullHttpRequest emptyHttpRequest() {
         return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "http://fake.com");
     }
@@ -107,6 +195,16 @@ public class HandlerSubscriberTest {
         };
     }
 
+    private static class FlushCountingHandler extends ChannelOutboundHandlerAdapter {
+        private int flushes = 0;
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) throws Exception {
+            flushes++;
+            super.flush(ctx);
+        }
+    }
+
     private  static class CustomEmbeddedChannel extends EmbeddedChannel {
 
         public volatile CustomEmbeddedEventLoop loop;
@@ -18,6 +18,8 @@ package software.amazon.awssdk.http.nio.netty.internal.utils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveSocketChannelFactory;
 
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
@@ -25,8 +27,10 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.oio.OioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.socket.oio.OioSocketChannel;
+import java.util.Collections;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.NettyTransport;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
 
 public class SocketChannelResolverTest {
@@ -51,4 +55,30 @@ public class SocketChannelResolverTest {
     public void worksWithOioEventLoopGroupFactory() {
         assertThat(resolveSocketChannelFactory(new OioEventLoopGroup()).newChannel()).isInstanceOf(OioSocketChannel.class);
     }
+
+    @Test
+    public void canResolveFactoryForNioTransport() {
+        assertThat(resolveSocketChannelFactory(NettyTransport.NIO).newChannel()).isInstanceOf(NioSocketChannel.class);
+    }
+
+    @Test
+    public void canResolveFactoryForEpollTransport() {
+        Assumptions.assumeTrue(Epoll.isAvailable());
+        assertThat(resolveSocketChannelFactory(NettyTransport.EPOLL).newChannel()).isInstanceOf(EpollSocketChannel.class);
+    }
+
+    @Test
+    public void nioTransportIsAlwaysAvailable() {
+        assertThat(SocketChannelResolver.isAvailable(NettyTransport.NIO)).isTrue();
+        assertThat(SocketChannelResolver.isAvailable(NettyTransport.EPOLL)).isEqualTo(Epoll.isAvailable());
+    }
+
+    @Test
+    public void withChannelOptions_appliesOptionsToNewChannels() {
+        Channel channel = SocketChannelResolver.withChannelOptions(NioSocketChannel::new,
+                                                                   Collections.singletonMap(ChannelOption.SO_LINGER, 3))
+                                               .newChannel();
+
+        assertThat(channel.config().getOption(ChannelOption.SO_LINGER)).isEqualTo(3);
+    }
 }
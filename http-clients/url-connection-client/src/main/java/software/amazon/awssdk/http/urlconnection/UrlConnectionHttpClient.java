@@ -433,6 +433,10 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
      * .connectionTimeout(Duration.ofSeconds(1))
      * .build();
      * </pre>
+     *
+     * <p>Unlike the JDK client, this builder has no executor or virtual-thread option: requests run on the thread that
+     * calls the client and the client starts no threads of its own, so calling it from a virtual thread is enough to get
+     * virtual-thread execution.
      */
     public interface Builder extends SdkHttpClient.Builder<UrlConnectionHttpClient.Builder> {
 
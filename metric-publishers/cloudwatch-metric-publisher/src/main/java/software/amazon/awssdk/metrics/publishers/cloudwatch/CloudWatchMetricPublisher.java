@@ -60,6 +60,7 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricPublisher} that aggregates and uploads metrics to Amazon CloudWatch on a periodic basis.
@@ -78,7 +79,7 @@ import software.amazon.awssdk.utils.ThreadFactoryBuilder;
  *
  * <p>By default, all metrics are uploaded using summary statistics. This means that only count, maximum, minimum, sum and
  * average data is available in CloudWatch. Metric details (e.g. p90, p99) can be enabled on a per-metric basis using
- * {@link Builder#detailedMetrics(Collection)}.
+ * {@link Builder#detailedMetrics(Collection)}, or with bounded memory using {@link Builder#histogramMetrics(Collection)}.
  *
  * <p>See {@link Builder} for the configuration values that are available for the publisher, and how they can be used to
  * increase the functionality or decrease the cost the publisher.
@@ -189,6 +190,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
     private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
     private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
     private static final Set<SdkMetric<?>> DEFAULT_DETAILED_METRICS = Collections.emptySet();
+    private static final Set<SdkMetric<?>> DEFAULT_HISTOGRAM_METRICS = Collections.emptySet();
 
     /**
      * Whether {@link #close()} should call {@link CloudWatchAsyncClient#close()}. This is false when
@@ -226,20 +228,29 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
      */
     private final int maximumCallsPerUpload;
 
+    /**
+     * True, when collections are aggregated on the publishing thread instead of on the {@link #executor}.
+     * See {@link Builder#aggregationShards(Integer)}.
+     */
+    private final boolean aggregateOnPublishingThread;
+
     private CloudWatchMetricPublisher(Builder builder) {
         this.closeClientWithPublisher = resolveCloseClientWithPublisher(builder);
         this.metricAggregator = new MetricCollectionAggregator(resolveNamespace(builder),
                                                                resolveDimensions(builder),
                                                                resolveMetricCategories(builder),
                                                                resolveMetricLevel(builder),
-                                                               resolveDetailedMetrics(builder));
+                                                               resolveDetailedMetrics(builder),
+                                                               resolveHistogramMetrics(builder),
+                                                               resolveAggregationShards(builder));
+        this.aggregateOnPublishingThread = builder.aggregationShards != null;
         this.metricUploader = new MetricUploader(resolveClient(builder));
         this.maximumCallsPerUpload = resolveMaximumCallsPerUpload(builder);
 
         ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("cloud-watch-metric-publisher").build();
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
 
-        // Do not increase above 1 thread: access to MetricCollectionAggregator is not thread safe.
+        // Do not increase above 1 thread: uploads are expected to run one at a time, after the aggregations queued before them.
         this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
                                                new ArrayBlockingQueue<>(MAXIMUM_TASK_QUEUE_SIZE),
                                                threadFactory);
@@ -261,6 +272,14 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         return builder.detailedMetrics == null ? DEFAULT_DETAILED_METRICS : new HashSet<>(builder.detailedMetrics);
     }
 
+    private Set<SdkMetric<?>> resolveHistogramMetrics(Builder builder) {
+        return builder.histogramMetrics == null ? DEFAULT_HISTOGRAM_METRICS : new HashSet<>(builder.histogramMetrics);
+    }
+
+    private int resolveAggregationShards(Builder builder) {
+        return builder.aggregationShards == null ? 1 : Validate.isPositive(builder.aggregationShards, "aggregationShards");
+    }
+
     private Set<SdkMetric<String>> resolveDimensions(Builder builder) {
         return builder.dimensions == null ? DEFAULT_DIMENSIONS : new HashSet<>(builder.dimensions);
     }
@@ -287,6 +306,16 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
 
     @Override
     public void publish(MetricCollection metricCollection) {
+        if (aggregateOnPublishingThread) {
+            if (executor.isShutdown()) {
+                METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because they were published after "
+                                         + "the publisher was shut down.");
+                return;
+            }
+            metricAggregator.addCollection(metricCollection);
+            return;
+        }
+
         try {
             executor.submit(new AggregateMetricsTask(metricAggregator, metricCollection));
         } catch (RejectedExecutionException e) {
@@ -395,6 +424,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private Collection<SdkMetric<?>> detailedMetrics;
+        private Collection<SdkMetric<?>> histogramMetrics;
+        private Integer aggregationShards;
 
         private Builder() {
         }
@@ -580,6 +611,46 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
             return detailedMetrics(Arrays.asList(detailedMetrics));
         }
 
+        /**
+         * Configure the set of metrics for which approximate values and counts are uploaded to CloudWatch, instead of
+         * summaries.
+         *
+         * <p>Like {@link #detailedMetrics(Collection)}, this publishes {@link MetricDatum#values()} and
+         * {@link MetricDatum#counts()}, which enables metrics like p90 and p99 to be queried in CloudWatch. Instead of storing
+         * every unique value, the values are counted in a histogram whose buckets are less than 1% wide, and each bucket is
+         * uploaded as a single value. This bounds the heap memory used per metric and dimension, and the number of values
+         * uploaded for it, no matter how many different values are published, at the cost of that 1% of precision.
+         *
+         * <p>If a metric is configured as both a {@code histogramMetric} and a {@code detailedMetric}, it is uploaded as a
+         * histogram.
+         */
+        public Builder histogramMetrics(Collection<SdkMetric<?>> histogramMetrics) {
+            this.histogramMetrics = new ArrayList<>(histogramMetrics);
+            return this;
+        }
+
+        /**
+         * @see #histogramMetrics(Collection)
+         */
+        public Builder histogramMetrics(SdkMetric<?>... histogramMetrics) {
+            return histogramMetrics(Arrays.asList(histogramMetrics));
+        }
+
+        /**
+         * Configure the publisher to aggregate published metrics on the publishing thread, into the given number of
+         * independently locked shards.
+         *
+         * <p>By default, every published {@link MetricCollection} is handed off to a single internal thread to be aggregated,
+         * through a bounded queue. When many threads publish metrics at a high rate, that thread can fall behind and metrics are
+         * dropped once the queue is full. With this setting, each publishing thread aggregates its own collections, waiting only
+         * for other threads that use the same shard, and the shards are merged when metrics are uploaded. A number of shards
+         * close to the number of threads that publish metrics concurrently minimizes that waiting.
+         */
+        public Builder aggregationShards(Integer aggregationShards) {
+            this.aggregationShards = aggregationShards;
+            return this;
+        }
+
         /**
          * Build a {@link CloudWatchMetricPublisher} using the configuration currently configured on this publisher.
          */
@@ -25,6 +25,7 @@ import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
@@ -56,7 +57,16 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value, 0)).metricCount++;
+    }
+
+    @Override
+    public void merge(MetricAggregator other) {
+        DetailedMetricAggregator detailed = Validate.isInstanceOf(DetailedMetricAggregator.class, other,
+                                                                  "Cannot merge %s into a detailed metric aggregator", other);
+        for (DetailedMetrics details : detailed.metricDetails.values()) {
+            metricDetails.computeIfAbsent(details.metricValue, v -> new DetailedMetrics(v, 0)).metricCount += details.metricCount;
+        }
     }
 
     @Override
@@ -70,10 +80,11 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     public static class DetailedMetrics {
         private final double metricValue;
-        private int metricCount = 0;
+        private int metricCount;
 
-        private DetailedMetrics(double metricValue) {
+        DetailedMetrics(double metricValue, int metricCount) {
             this.metricValue = metricValue;
+            this.metricCount = metricCount;
         }
 
         public double metricValue() {
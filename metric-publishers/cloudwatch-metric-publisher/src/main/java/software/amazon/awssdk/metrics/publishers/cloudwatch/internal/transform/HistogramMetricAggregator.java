@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.DetailedMetricAggregator.DetailedMetrics;
+import software.amazon.awssdk.services.cloudwatch.model.Dimension;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link MetricAggregator} that counts the values for a given metric/dimension pair in a log-linear
+ * histogram, until the non-empty buckets can be added to a {@link MetricDatum} as its values and counts.
+ *
+ * <p>Unlike {@link DetailedMetricAggregator}, the memory used does not grow with the number of distinct values: every
+ * power-of-two range of magnitudes is split into {@value #SUB_BUCKETS} equal buckets, which are only allocated once a value
+ * falls into that range. Each bucket is exported as a single value that is within 1% of the values counted in it.
+ */
+@SdkInternalApi
+class HistogramMetricAggregator implements MetricAggregator {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The smallest magnitude with its own buckets, below {@link MetricValueNormalizer}'s zero threshold. Smaller magnitudes are
+     * counted in the lowest bucket.
+     */
+    private static final int MIN_EXPONENT = -14;
+
+    /**
+     * The largest magnitude with its own buckets. Larger magnitudes are counted in the highest bucket.
+     */
+    private static final int MAX_EXPONENT = 63;
+
+    private final SdkMetric<?> metric;
+    private final List<Dimension> dimensions;
+    private final StandardUnit unit;
+
+    private final int[][] positiveCounts = new int[MAX_EXPONENT - MIN_EXPONENT + 1][];
+    private final int[][] negativeCounts = new int[MAX_EXPONENT - MIN_EXPONENT + 1][];
+    private int zeroCount = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    HistogramMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
+        this.metric = key.metric();
+        this.dimensions = key.dimensions();
+        this.unit = unit;
+    }
+
+    @Override
+    public SdkMetric<?> metric() {
+        return metric;
+    }
+
+    @Override
+    public List<Dimension> dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public StandardUnit unit() {
+        return unit;
+    }
+
+    @Override
+    public void addMetricValue(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+
+        min = Double.min(value, min);
+        max = Double.max(value, max);
+
+        if (value == 0) {
+            zeroCount++;
+            return;
+        }
+
+        int[][] counts = value > 0 ? positiveCounts : negativeCounts;
+        double magnitude = Math.abs(value);
+        int exponent = Math.getExponent(magnitude);
+        int subBucket;
+        if (exponent < MIN_EXPONENT) {
+            exponent = MIN_EXPONENT;
+            subBucket = 0;
+        } else if (exponent > MAX_EXPONENT) {
+            exponent = MAX_EXPONENT;
+            subBucket = SUB_BUCKETS - 1;
+        } else {
+            subBucket = (int) (Double.doubleToRawLongBits(magnitude) >>> (52 - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        }
+
+        int[] exponentCounts = counts[exponent - MIN_EXPONENT];
+        if (exponentCounts == null) {
+            exponentCounts = new int[SUB_BUCKETS];
+            counts[exponent - MIN_EXPONENT] = exponentCounts;
+        }
+        exponentCounts[subBucket]++;
+    }
+
+    @Override
+    public void merge(MetricAggregator other) {
+        HistogramMetricAggregator histogram = Validate.isInstanceOf(HistogramMetricAggregator.class, other,
+                                                         "Cannot merge %s into a histogram metric aggregator", other);
+        min = Double.min(histogram.min, min);
+        max = Double.max(histogram.max, max);
+        zeroCount += histogram.zeroCount;
+        mergeCounts(histogram.positiveCounts, positiveCounts);
+        mergeCounts(histogram.negativeCounts, negativeCounts);
+    }
+
+    /**
+     * The value and count of every non-empty bucket, ordered from the lowest to the highest value.
+     */
+    public Collection<DetailedMetrics> detailedMetrics() {
+        List<DetailedMetrics> result = new ArrayList<>();
+        for (int i = negativeCounts.length - 1; i >= 0; i--) {
+            addBuckets(negativeCounts[i], i + MIN_EXPONENT, -1, result);
+        }
+        if (zeroCount > 0) {
+            result.add(new DetailedMetrics(0, zeroCount));
+        }
+        for (int i = 0; i < positiveCounts.length; i++) {
+            addBuckets(positiveCounts[i], i + MIN_EXPONENT, 1, result);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private void addBuckets(int[] exponentCounts, int exponent, int sign, List<DetailedMetrics> result) {
+        if (exponentCounts == null) {
+            return;
+        }
+
+        for (int j = 0; j < SUB_BUCKETS; j++) {
+            int subBucket = sign > 0 ? j : SUB_BUCKETS - 1 - j;
+            if (exponentCounts[subBucket] > 0) {
+                // Keep the value within the observed extremes, so that they are exact when they are alone in their buckets.
+                double value = Math.min(Math.max(sign * bucketMagnitude(exponent, subBucket), min), max);
+                result.add(new DetailedMetrics(value, exponentCounts[subBucket]));
+            }
+        }
+    }
+
+    /**
+     * The magnitude a bucket is exported as: its midpoint, or its lower bound when that is a whole number and the bucket is no
+     * wider than one, so that whole-number values such as counts are exported exactly.
+     */
+    private static double bucketMagnitude(int exponent, int subBucket) {
+        double lowerBound = Math.scalb(1.0 + (double) subBucket / SUB_BUCKETS, exponent);
+        double width = Math.scalb(1.0 / SUB_BUCKETS, exponent);
+        return width <= 1 && lowerBound == Math.rint(lowerBound) ? lowerBound : lowerBound + width / 2;
+    }
+
+    private static void mergeCounts(int[][] from, int[][] to) {
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] == null) {
+                continue;
+            }
+            if (to[i] == null) {
+                to[i] = from[i].clone();
+                continue;
+            }
+            for (int j = 0; j < SUB_BUCKETS; j++) {
+                to[i][j] += from[i][j];
+            }
+        }
+    }
+}
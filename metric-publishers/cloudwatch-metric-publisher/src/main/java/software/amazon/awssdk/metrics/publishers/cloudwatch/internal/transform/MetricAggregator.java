@@ -30,8 +30,9 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
  * Used by {@link MetricCollectionAggregator} to aggregate metrics in memory until they are ready to be added to a
  * {@link MetricDatum}.
  *
- * <p>This is either a {@link SummaryMetricAggregator} or a {@link DetailedMetricAggregator}, depending on the configured
- * {@link CloudWatchMetricPublisher.Builder#detailedMetrics(Collection)} setting.
+ * <p>This is a {@link SummaryMetricAggregator}, a {@link DetailedMetricAggregator} or a {@link HistogramMetricAggregator},
+ * depending on the configured {@link CloudWatchMetricPublisher.Builder#detailedMetrics(Collection)} and
+ * {@link CloudWatchMetricPublisher.Builder#histogramMetrics(Collection)} settings.
  */
 @SdkInternalApi
 interface MetricAggregator {
@@ -58,6 +59,11 @@ interface MetricAggregator {
      */
     void addMetricValue(double value);
 
+    /**
+     * Add the values of another aggregator of the same type, metric and dimensions to this aggregator.
+     */
+    void merge(MetricAggregator other);
+
     /**
      * Execute the provided consumer if this {@code MetricAggregator} is a {@link SummaryMetricAggregator}.
      */
@@ -75,4 +81,13 @@ interface MetricAggregator {
             detailsConsumer.accept((DetailedMetricAggregator) this);
         }
     }
+
+    /**
+     * Execute the provided consumer if this {@code MetricAggregator} is a {@link HistogramMetricAggregator}.
+     */
+    default void ifHistogram(Consumer<HistogramMetricAggregator> histogramConsumer) {
+        if (this instanceof HistogramMetricAggregator) {
+            histogramConsumer.accept((HistogramMetricAggregator) this);
+        }
+    }
 }
@@ -18,12 +18,14 @@ package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
-import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollection;
@@ -41,10 +43,11 @@ import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
  * <p>It would be too expensive to upload every {@code MetricCollection} as a unique {@code PutMetricDataRequest}, so this
  * class aggregates the data so that multiple {@code MetricCollection}s can be placed in the same {@code PutMetricDataRequest}.
  *
- * <p><b>Warning:</b> This class is *not* thread-safe.
+ * <p>Collections are aggregated into one of a fixed number of shards, chosen by the adding thread, so that threads adding
+ * collections concurrently rarely wait for each other. The shards are merged when the requests are retrieved.
  */
 @SdkInternalApi
-@NotThreadSafe
+@ThreadSafe
 public class MetricCollectionAggregator {
     /**
      * The maximum number of {@link MetricDatum}s allowed in {@link PutMetricDataRequest#metricData()}. This limit is imposed by
@@ -71,25 +74,42 @@ public class MetricCollectionAggregator {
     private final String namespace;
 
     /**
-     * The {@link TimeBucketedMetrics} that actually performs the data aggregation whenever
-     * {@link #addCollection(MetricCollection)} is called.
+     * The {@link TimeBucketedMetrics} shards that actually perform the data aggregation whenever
+     * {@link #addCollection(MetricCollection)} is called. Each shard is guarded by its own monitor.
      */
-    private final TimeBucketedMetrics timeBucketedMetrics;
+    private final TimeBucketedMetrics[] shards;
 
     public MetricCollectionAggregator(String namespace,
                                       Set<SdkMetric<String>> dimensions,
                                       Set<MetricCategory> metricCategories,
                                       MetricLevel metricLevel,
                                       Set<SdkMetric<?>> detailedMetrics) {
+        this(namespace, dimensions, metricCategories, metricLevel, detailedMetrics, Collections.emptySet(), 1);
+    }
+
+    public MetricCollectionAggregator(String namespace,
+                                      Set<SdkMetric<String>> dimensions,
+                                      Set<MetricCategory> metricCategories,
+                                      MetricLevel metricLevel,
+                                      Set<SdkMetric<?>> detailedMetrics,
+                                      Set<SdkMetric<?>> histogramMetrics,
+                                      int shardCount) {
         this.namespace = namespace;
-        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics);
+        this.shards = new TimeBucketedMetrics[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics,
+                                                     histogramMetrics);
+        }
     }
 
     /**
      * Add a collection to this aggregator.
      */
     public void addCollection(MetricCollection collection) {
-        timeBucketedMetrics.addMetrics(collection);
+        TimeBucketedMetrics shard = shards[(int) (Thread.currentThread().getId() % shards.length)];
+        synchronized (shard) {
+            shard.addMetrics(collection);
+        }
     }
 
     /**
@@ -102,7 +122,7 @@ public class MetricCollectionAggregator {
         List<MetricDatum> requestMetricDatums = new ArrayList<>();
         ValuesInRequestCounter valuesInRequestCounter = new ValuesInRequestCounter();
 
-        Map<Instant, Collection<MetricAggregator>> metrics = timeBucketedMetrics.timeBucketedMetrics();
+        Map<Instant, Collection<MetricAggregator>> metrics = drainShards();
 
         for (Map.Entry<Instant, Collection<MetricAggregator>> entry : metrics.entrySet()) {
             Instant timeBucket = entry.getKey();
@@ -114,25 +134,15 @@ public class MetricCollectionAggregator {
 
                 metric.ifSummary(summaryAggregator -> requestMetricDatums.add(summaryMetricDatum(timeBucket, summaryAggregator)));
 
-                metric.ifDetailed(detailedAggregator -> {
-                    int startIndex = 0;
-                    Collection<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
-
-                    while (startIndex < detailedMetrics.size()) {
-                        if (valuesInRequestCounter.get() >= MAX_VALUES_PER_REQUEST) {
-                            requests.add(newPutRequest(requestMetricDatums));
-                            requestMetricDatums.clear();
-                            valuesInRequestCounter.reset();
-                        }
-
-                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator,
-                                                               startIndex, MAX_VALUES_PER_REQUEST - valuesInRequestCounter.get());
-                        int valuesAdded = data.values().size();
-                        startIndex += valuesAdded;
-                        valuesInRequestCounter.add(valuesAdded);
-                        requestMetricDatums.add(data);
-                    }
-                });
+                metric.ifDetailed(detailedAggregator -> addDetailedMetricDatums(timeBucket, detailedAggregator,
+                                                                                detailedAggregator.detailedMetrics(),
+                                                                                requests, requestMetricDatums,
+                                                                                valuesInRequestCounter));
+
+                metric.ifHistogram(histogramAggregator -> addDetailedMetricDatums(timeBucket, histogramAggregator,
+                                                                                  histogramAggregator.detailedMetrics(),
+                                                                                  requests, requestMetricDatums,
+                                                                                  valuesInRequestCounter));
             }
         }
 
@@ -140,26 +150,83 @@ public class MetricCollectionAggregator {
             requests.add(newPutRequest(requestMetricDatums));
         }
 
-        timeBucketedMetrics.reset();
-
         return requests;
     }
 
+    /**
+     * Drain the values of every shard, merging the aggregators for the same time, metric and dimensions.
+     */
+    private Map<Instant, Collection<MetricAggregator>> drainShards() {
+        if (shards.length == 1) {
+            synchronized (shards[0]) {
+                return shards[0].drain();
+            }
+        }
+
+        Map<Instant, Map<MetricAggregatorKey, MetricAggregator>> merged = new HashMap<>();
+        for (TimeBucketedMetrics shard : shards) {
+            Map<Instant, Collection<MetricAggregator>> shardMetrics;
+            synchronized (shard) {
+                shardMetrics = shard.drain();
+            }
+
+            shardMetrics.forEach((timeBucket, aggregators) -> {
+                Map<MetricAggregatorKey, MetricAggregator> mergedBucket =
+                    merged.computeIfAbsent(timeBucket, t -> new HashMap<>());
+                for (MetricAggregator aggregator : aggregators) {
+                    mergedBucket.merge(new MetricAggregatorKey(aggregator.metric(), aggregator.dimensions()), aggregator,
+                                       (existing, added) -> {
+                                           existing.merge(added);
+                                           return existing;
+                                       });
+                }
+            });
+        }
+
+        Map<Instant, Collection<MetricAggregator>> result = new HashMap<>();
+        merged.forEach((timeBucket, aggregators) -> result.put(timeBucket, aggregators.values()));
+        return result;
+    }
+
+    private void addDetailedMetricDatums(Instant timeBucket,
+                                         MetricAggregator metric,
+                                         Collection<DetailedMetrics> detailedMetrics,
+                                         List<PutMetricDataRequest> requests,
+                                         List<MetricDatum> requestMetricDatums,
+                                         ValuesInRequestCounter valuesInRequestCounter) {
+        int startIndex = 0;
+
+        while (startIndex < detailedMetrics.size()) {
+            if (valuesInRequestCounter.get() >= MAX_VALUES_PER_REQUEST) {
+                requests.add(newPutRequest(requestMetricDatums));
+                requestMetricDatums.clear();
+                valuesInRequestCounter.reset();
+            }
+
+            MetricDatum data = detailedMetricDatum(timeBucket, metric, detailedMetrics,
+                                                   startIndex, MAX_VALUES_PER_REQUEST - valuesInRequestCounter.get());
+            int valuesAdded = data.values().size();
+            startIndex += valuesAdded;
+            valuesInRequestCounter.add(valuesAdded);
+            requestMetricDatums.add(data);
+        }
+    }
+
     private MetricDatum detailedMetricDatum(Instant timeBucket,
-                                            DetailedMetricAggregator metric,
+                                            MetricAggregator metric,
+                                            Collection<DetailedMetrics> detailedMetrics,
                                             int metricStartIndex,
                                             int maxElements) {
         List<Double> values = new ArrayList<>();
         List<Double> counts = new ArrayList<>();
 
-        Stream<DetailedMetrics> boundedMetrics = metric.detailedMetrics()
-                                                       .stream()
-                                                       .skip(metricStartIndex)
-                                                       .limit(maxElements);
+        Stream<DetailedMetrics> boundedMetrics = detailedMetrics.stream()
+                                                                .skip(metricStartIndex)
+                                                                .limit(maxElements);
 
-        boundedMetrics.forEach(detailedMetrics -> {
-            values.add(MetricValueNormalizer.normalize(detailedMetrics.metricValue()));
-            counts.add((double) detailedMetrics.metricCount());
+        boundedMetrics.forEach(details -> {
+            values.add(MetricValueNormalizer.normalize(details.metricValue()));
+            counts.add((double) details.metricCount());
         });
 
         return MetricDatum.builder()
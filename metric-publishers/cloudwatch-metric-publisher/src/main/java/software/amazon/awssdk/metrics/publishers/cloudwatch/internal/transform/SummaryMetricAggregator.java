@@ -21,6 +21,7 @@ import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricAggregator} that stores summary statistics for a given metric/dimension pair until the
@@ -61,6 +62,16 @@ class SummaryMetricAggregator implements MetricAggregator {
         ++count;
     }
 
+    @Override
+    public void merge(MetricAggregator other) {
+        SummaryMetricAggregator summary = Validate.isInstanceOf(SummaryMetricAggregator.class, other,
+                                                       "Cannot merge %s into a summary metric aggregator", other);
+        min = Double.min(summary.min, min);
+        max = Double.max(summary.max, max);
+        sum += summary.sum;
+        count += summary.count;
+    }
+
     @Override
     public StandardUnit unit() {
         return unit;
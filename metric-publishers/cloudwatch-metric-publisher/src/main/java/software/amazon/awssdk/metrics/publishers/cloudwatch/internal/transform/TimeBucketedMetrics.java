@@ -62,6 +62,12 @@ class TimeBucketedMetrics {
      */
     private final Set<SdkMetric<?>> detailedMetrics;
 
+    /**
+     * The set of metrics for which {@link HistogramMetricAggregator}s should be used for aggregation. This takes precedence
+     * over {@link #detailedMetrics}.
+     */
+    private final Set<SdkMetric<?>> histogramMetrics;
+
     /**
      * The metric categories for which we should aggregate values. Any categories outside of this set will have their values
      * ignored/dropped.
@@ -84,9 +90,11 @@ class TimeBucketedMetrics {
     TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
                         Set<MetricCategory> metricCategories,
                         MetricLevel metricLevel,
-                        Set<SdkMetric<?>> detailedMetrics) {
+                        Set<SdkMetric<?>> detailedMetrics,
+                        Set<SdkMetric<?>> histogramMetrics) {
         this.dimensions = dimensions;
         this.detailedMetrics = detailedMetrics;
+        this.histogramMetrics = histogramMetrics;
         this.metricCategories = metricCategories;
         this.metricLevel = metricLevel;
         this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
@@ -117,6 +125,15 @@ class TimeBucketedMetrics {
                                   .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue().values()));
     }
 
+    /**
+     * Retrieve all values in this collection, as {@link #timeBucketedMetrics()} does, and {@link #reset()} it.
+     */
+    public Map<Instant, Collection<MetricAggregator>> drain() {
+        Map<Instant, Collection<MetricAggregator>> result = timeBucketedMetrics();
+        reset();
+        return result;
+    }
+
     private Instant getBucket(MetricCollection metrics) {
         return metrics.creationTime().truncatedTo(MINUTES);
     }
@@ -169,7 +186,9 @@ class TimeBucketedMetrics {
     private MetricAggregator newAggregator(MetricAggregatorKey aggregatorKey) {
         SdkMetric<?> metric = aggregatorKey.metric();
         StandardUnit metricUnit = unitFor(metric);
-        if (detailedMetrics.contains(metric)) {
+        if (histogramMetrics.contains(metric)) {
+            return new HistogramMetricAggregator(aggregatorKey, metricUnit);
+        } else if (detailedMetrics.contains(metric)) {
             return new DetailedMetricAggregator(aggregatorKey, metricUnit);
         } else {
             return new SummaryMetricAggregator(aggregatorKey, metricUnit);
@@ -23,6 +23,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -268,6 +271,49 @@ public class CloudWatchMetricPublisherTest {
         assertThat(availableConcurrency.statisticValues()).isNull();
     }
 
+    @Test
+    public void histogramMetricsSettingIsHonored() {
+        try (CloudWatchMetricPublisher publisher = publisherBuilder.histogramMetrics(HttpMetric.AVAILABLE_CONCURRENCY).build()) {
+            for (int i = 0; i < 10; ++i) {
+                MetricCollector collector = newCollector();
+                collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 10);
+                collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, i);
+                publisher.publish(new FixedTimeMetricCollection(collector.collect()));
+            }
+        }
+
+        PutMetricDataRequest call = getPutMetricCall();
+        MetricDatum concurrencyMetric = getDatum(call, HttpMetric.MAX_CONCURRENCY);
+        MetricDatum availableConcurrency = getDatum(call, HttpMetric.AVAILABLE_CONCURRENCY);
+
+        assertThat(concurrencyMetric.values()).isEmpty();
+        assertThat(concurrencyMetric.statisticValues()).isNotNull();
+
+        assertThat(availableConcurrency.values()).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+        assertThat(availableConcurrency.counts()).containsOnly(1.0);
+        assertThat(availableConcurrency.statisticValues()).isNull();
+    }
+
+    @Test
+    public void aggregationShardsSettingIsHonored() throws InterruptedException {
+        ExecutorService publishingThreads = Executors.newFixedThreadPool(4);
+        try (CloudWatchMetricPublisher publisher = publisherBuilder.aggregationShards(4).build()) {
+            for (int i = 0; i < 1000; ++i) {
+                publishingThreads.execute(() -> {
+                    MetricCollector collector = newCollector();
+                    collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 5);
+                    publisher.publish(new FixedTimeMetricCollection(collector.collect()));
+                });
+            }
+            publishingThreads.shutdown();
+            assertThat(publishingThreads.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        MetricDatum availableConcurrency = getDatum(getPutMetricCall(), HttpMetric.AVAILABLE_CONCURRENCY);
+        assertThat(availableConcurrency.statisticValues().sampleCount()).isEqualTo(1000.0);
+        assertThat(availableConcurrency.statisticValues().sum()).isEqualTo(5000.0);
+    }
+
     private MetricDatum getDatum(PutMetricDataRequest call, SdkMetric<?> metric) {
         return call.metricData().stream().filter(m -> m.metricName().equals(metric.name())).findAny().get();
     }
@@ -25,8 +25,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.assertj.core.data.Percentage;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
@@ -36,6 +40,7 @@ import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.FixedTimeMetricCollection;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 
@@ -336,6 +341,82 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void histogramMetricsAreCorrect() {
+        MetricCollectionAggregator aggregator = aggregatorWithHistogramMetrics(1, HttpMetric.MAX_CONCURRENCY);
+        MetricCollector collector = collector();
+        collector.reportMetric(CoreMetric.SERVICE_ID, "ServiceId");
+        Stream.of(2, 1, 4, 4, 3, 0, -3, 1000, 1001, 1003)
+              .forEach(value -> collector.reportMetric(HttpMetric.MAX_CONCURRENCY, value));
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.statisticValues()).isNull();
+                // Small whole numbers are exact, and 1000 to 1003 share a bucket exported as its midpoint.
+                assertThat(metricData.values()).containsExactly(-3.0, 0.0, 1.0, 2.0, 3.0, 4.0, 1002.0);
+                assertThat(metricData.counts()).containsExactly(1.0, 1.0, 1.0, 1.0, 1.0, 2.0, 3.0);
+            });
+        });
+    }
+
+    @Test
+    public void histogramMetricsHaveBoundedValuesWithinOnePercent() {
+        SdkMetric<Duration> metric = someMetric(Duration.class);
+        MetricCollectionAggregator aggregator = aggregatorWithHistogramMetrics(1, metric);
+        MetricCollector collector = collector();
+        for (int i = 1; i <= 100_000; i++) {
+            collector.reportMetric(metric, Duration.ofMillis(i));
+        }
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        List<MetricDatum> metricData = aggregator.getRequests().stream()
+                                                 .flatMap(r -> r.metricData().stream())
+                                                 .collect(Collectors.toList());
+        List<Double> values = metricData.stream().flatMap(m -> m.values().stream()).collect(Collectors.toList());
+        double totalCount = metricData.stream().flatMap(m -> m.counts().stream()).mapToDouble(Double::doubleValue).sum();
+
+        assertThat(totalCount).isEqualTo(100_000.0);
+        assertThat(values).hasSizeLessThan(1_500);
+        assertThat(values).isSorted();
+        assertThat(values.get(values.size() - 1)).isCloseTo(100_000.0, Percentage.withPercentage(1));
+    }
+
+    @Test
+    public void shardedAggregatorMergesValuesAddedByDifferentThreads() throws InterruptedException {
+        MetricCollectionAggregator aggregator = aggregatorWithHistogramMetrics(4, HttpMetric.AVAILABLE_CONCURRENCY);
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            int value = i % 10;
+            threads.execute(() -> {
+                MetricCollector collector = collector();
+                collector.reportMetric(HttpMetric.MAX_CONCURRENCY, value);
+                collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, value);
+                aggregator.addCollection(collectToFixedTime(collector));
+            });
+        }
+        threads.shutdown();
+        assertThat(threads.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            MetricDatum summary = request.metricData().stream()
+                                         .filter(m -> m.metricName().equals(HttpMetric.MAX_CONCURRENCY.name()))
+                                         .findAny().get();
+            assertThat(summary.statisticValues()).isEqualTo(StatisticSet.builder()
+                                                                        .minimum(0.0)
+                                                                        .maximum(9.0)
+                                                                        .sum(4500.0)
+                                                                        .sampleCount(1000.0)
+                                                                        .build());
+
+            MetricDatum histogram = request.metricData().stream()
+                                           .filter(m -> m.metricName().equals(HttpMetric.AVAILABLE_CONCURRENCY.name()))
+                                           .findAny().get();
+            assertThat(histogram.values()).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+            assertThat(histogram.counts()).containsOnly(100.0);
+        });
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -427,6 +508,16 @@ public class MetricCollectionAggregatorTest {
                                               Stream.of(detailedMetrics).collect(Collectors.toSet()));
     }
 
+    private MetricCollectionAggregator aggregatorWithHistogramMetrics(int shards, SdkMetric<?>... histogramMetrics) {
+        return new MetricCollectionAggregator(DEFAULT_NAMESPACE,
+                                              DEFAULT_DIMENSIONS,
+                                              DEFAULT_CATEGORIES,
+                                              DEFAULT_METRIC_LEVEL,
+                                              DEFAULT_DETAILED_METRICS,
+                                              Stream.of(histogramMetrics).collect(Collectors.toSet()),
+                                              shards);
+    }
+
     private MetricCollector collector() {
         return MetricCollector.create("test");
     }
@@ -0,0 +1,328 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.publishers.local.internal.OpenMetricsWriter;
+import software.amazon.awssdk.metrics.publishers.local.internal.OperationMetrics;
+import software.amazon.awssdk.metrics.publishers.local.internal.OperationMetricsAggregator;
+import software.amazon.awssdk.metrics.publishers.local.internal.OperationMetricsMBean;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link MetricPublisher} that aggregates metrics in memory, so that they can be read locally: scraped in
+ * the OpenMetrics text format (e.g. by Prometheus) or read through JMX.
+ *
+ * <p><b>Overview</b>
+ *
+ * <p>Metrics are aggregated per service ({@link CoreMetric#SERVICE_ID}) and operation ({@link CoreMetric#OPERATION_NAME}) on
+ * the thread that publishes them. Recording a value does not lock and, once the metric has been seen for the operation, does not
+ * allocate.
+ * Unlike the aggregates of a periodically uploading publisher, these aggregates are never reset: counters only increase, and
+ * percentiles are calculated over all values published since the publisher was created.
+ *
+ * <ul>
+ *     <li>{@link java.time.Duration}, {@link Integer} and {@link Long} metrics (e.g. {@link CoreMetric#API_CALL_DURATION},
+ *     {@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION}, {@link HttpMetric#LEASED_CONCURRENCY}) are aggregated into fixed-size
+ *     histograms, from which the count, sum, maximum and the 50th, 90th and 99th percentiles are reported. Percentiles are
+ *     accurate to within about 3%.</li>
+ *     <li>{@link Boolean} metrics (e.g. {@link CoreMetric#API_CALL_SUCCESSFUL}) are counted by value.</li>
+ *     <li>{@link HttpMetric#HTTP_STATUS_CODE} is counted by status code.</li>
+ *     <li>The number of API call attempts is counted.</li>
+ * </ul>
+ *
+ * <p>Metrics of other types, like {@link HttpMetric#HTTP_CLIENT_NAME}, are ignored.
+ *
+ * <p><b>Configuring AWS SDK clients to publish client metrics</b>
+ *
+ * <pre>
+ *     LocalMetricPublisher localMetricPublisher = LocalMetricPublisher.builder()
+ *                                                                     .jmxEnabled(true)
+ *                                                                     .build();
+ *     S3Client s3 = S3Client.builder()
+ *                           .overrideConfiguration(o -> o.addMetricPublisher(localMetricPublisher))
+ *                           .build();
+ * </pre>
+ *
+ * <p>Serve {@link #scrape()} (with the {@link #OPEN_METRICS_CONTENT_TYPE} content type) from the HTTP endpoint that Prometheus
+ * scrapes, or write the metrics to an existing response with {@link #writeOpenMetrics(Appendable)}.
+ *
+ * <p>A {@code LocalMetricPublisher} should be created once and shared by all clients: each publisher keeps its own aggregates,
+ * and MBeans registered by one publisher prevent another publisher from registering MBeans under the same names.
+ *
+ * @see ClientOverrideConfiguration.Builder#addMetricPublisher(MetricPublisher)
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class LocalMetricPublisher implements MetricPublisher {
+    /**
+     * The content type of the metrics returned by {@link #scrape()}.
+     */
+    public static final String OPEN_METRICS_CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static final Logger METRIC_LOGGER = Logger.loggerFor("software.amazon.awssdk.metrics.publishers.local");
+
+    private static final String DEFAULT_NAMESPACE = "aws_sdk";
+    private static final String DEFAULT_JMX_DOMAIN = "software.amazon.awssdk.metrics";
+    private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
+    private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
+
+    private final OperationMetricsAggregator aggregator;
+    private final OpenMetricsWriter openMetricsWriter;
+
+    /**
+     * The domain under which the MBean of each service and operation is registered, or null if MBeans should not be registered.
+     */
+    private final String jmxDomain;
+
+    /**
+     * Guards {@link #registeredMBeans} and the transition to {@link #closed}, so that no MBean is registered once
+     * {@link #close()} has started unregistering them.
+     */
+    private final Object mBeanLock = new Object();
+
+    /**
+     * The MBeans registered by this publisher, which are unregistered when it is closed.
+     */
+    private final Set<ObjectName> registeredMBeans = new HashSet<>();
+
+    private volatile boolean closed = false;
+
+    private LocalMetricPublisher(Builder builder) {
+        this.aggregator = new OperationMetricsAggregator(resolveMetricCategories(builder),
+                                                         resolveMetricLevel(builder),
+                                                         this::registerMBean);
+        this.openMetricsWriter = new OpenMetricsWriter(resolveNamespace(builder));
+        this.jmxDomain = resolveJmxDomain(builder);
+    }
+
+    private Set<MetricCategory> resolveMetricCategories(Builder builder) {
+        return builder.metricCategories == null ? DEFAULT_METRIC_CATEGORIES : new HashSet<>(builder.metricCategories);
+    }
+
+    private MetricLevel resolveMetricLevel(Builder builder) {
+        return builder.metricLevel == null ? DEFAULT_METRIC_LEVEL : builder.metricLevel;
+    }
+
+    private String resolveNamespace(Builder builder) {
+        if (builder.namespace == null) {
+            return DEFAULT_NAMESPACE;
+        }
+        Validate.isTrue(builder.namespace.matches("[a-zA-Z_][a-zA-Z0-9_]*"),
+                        "namespace must only contain letters, digits and underscores, and must not start with a digit: %s",
+                        builder.namespace);
+        return builder.namespace;
+    }
+
+    private String resolveJmxDomain(Builder builder) {
+        if (!Boolean.TRUE.equals(builder.jmxEnabled)) {
+            return null;
+        }
+        return builder.jmxDomain == null ? DEFAULT_JMX_DOMAIN : builder.jmxDomain;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        if (closed) {
+            return;
+        }
+        aggregator.addCollection(metricCollection);
+    }
+
+    /**
+     * Render the metrics aggregated so far in the OpenMetrics text format, which has the
+     * {@link #OPEN_METRICS_CONTENT_TYPE} content type.
+     */
+    public String scrape() {
+        StringBuilder result = new StringBuilder();
+        try {
+            writeOpenMetrics(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Write the metrics aggregated so far in the OpenMetrics text format, which has the {@link #OPEN_METRICS_CONTENT_TYPE}
+     * content type, to the provided output.
+     */
+    public void writeOpenMetrics(Appendable output) throws IOException {
+        openMetricsWriter.write(aggregator.operationMetrics(), output);
+    }
+
+    private void registerMBean(OperationMetrics operationMetrics) {
+        if (jmxDomain == null) {
+            return;
+        }
+
+        OperationMetricsMBean mBean = new OperationMetricsMBean(operationMetrics);
+        synchronized (mBeanLock) {
+            if (closed) {
+                return;
+            }
+            try {
+                ObjectName objectName = mBean.objectName(jmxDomain);
+                mBeanServer().registerMBean(mBean, objectName);
+                registeredMBeans.add(objectName);
+            } catch (JMException | RuntimeException e) {
+                METRIC_LOGGER.warn(() -> "Failed to register the JMX MBean for the metrics of " + operationMetrics.serviceId()
+                                         + " " + operationMetrics.operationName() + ".", e);
+            }
+        }
+    }
+
+    private static MBeanServer mBeanServer() {
+        return ManagementFactory.getPlatformMBeanServer();
+    }
+
+    /**
+     * Stop aggregating metrics and unregister the JMX MBeans registered by this publisher. The metrics aggregated so far can
+     * still be scraped.
+     */
+    @Override
+    public void close() {
+        synchronized (mBeanLock) {
+            closed = true;
+            for (ObjectName objectName : registeredMBeans) {
+                try {
+                    mBeanServer().unregisterMBean(objectName);
+                } catch (JMException | RuntimeException e) {
+                    METRIC_LOGGER.warn(() -> "Failed to unregister the JMX MBean " + objectName + ".", e);
+                }
+            }
+            registeredMBeans.clear();
+        }
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link LocalMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link LocalMetricPublisher} using all default values.
+     */
+    public static LocalMetricPublisher create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder class to construct {@link LocalMetricPublisher} instances. See the individual properties for which
+     * configuration settings are available.
+     */
+    public static final class Builder {
+        private String namespace;
+        private Collection<MetricCategory> metricCategories;
+        private MetricLevel metricLevel;
+        private Boolean jmxEnabled;
+        private String jmxDomain;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the prefix of the OpenMetrics metric family names, e.g. {@code <namespace>_api_call_duration_seconds}. It
+         * must only contain letters, digits and underscores.
+         *
+         * <p>If this is not specified, {@code aws_sdk} will be used.
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        /**
+         * Configure the {@link MetricCategory}s that should be aggregated.
+         *
+         * <p>If this is not specified, {@link MetricCategory#ALL} is used.
+         *
+         * <p>All {@link MetricCategory}s are aggregated if any of the provided categories is {@link MetricCategory#ALL}.
+         */
+        public Builder metricCategories(Collection<MetricCategory> metricCategories) {
+            this.metricCategories = new HashSet<>(metricCategories);
+            return this;
+        }
+
+        /**
+         * @see #metricCategories(Collection)
+         */
+        public Builder metricCategories(MetricCategory... metricCategories) {
+            return metricCategories(Arrays.asList(metricCategories));
+        }
+
+        /**
+         * Configure the {@link MetricLevel} that should be aggregated.
+         *
+         * <p>If this is not specified, {@link MetricLevel#INFO} is used.
+         */
+        public Builder metricLevel(MetricLevel metricLevel) {
+            this.metricLevel = metricLevel;
+            return this;
+        }
+
+        /**
+         * Configure whether the metrics of each service and operation should be exposed as a JMX MBean in the platform
+         * {@link MBeanServer}, named {@code <jmxDomain>:type=OperationMetrics,service="<service>",operation="<operation>"}.
+         * The MBeans are unregistered when the publisher is closed.
+         *
+         * <p>If this is not specified, MBeans are not registered.
+         */
+        public Builder jmxEnabled(Boolean jmxEnabled) {
+            this.jmxEnabled = jmxEnabled;
+            return this;
+        }
+
+        /**
+         * Configure the JMX domain under which MBeans are registered when {@link #jmxEnabled(Boolean)} is true.
+         *
+         * <p>If this is not specified, {@code software.amazon.awssdk.metrics} is used.
+         */
+        public Builder jmxDomain(String jmxDomain) {
+            this.jmxDomain = jmxDomain;
+            return this;
+        }
+
+        /**
+         * Build a {@link LocalMetricPublisher} using the configuration currently configured on this builder.
+         */
+        public LocalMetricPublisher build() {
+            return new LocalMetricPublisher(this);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A lock-free distribution of {@code long} values, used to calculate percentiles in-process.
+ *
+ * <p>Values are counted in log-linear buckets: every power of two is split into {@value #SUB_BUCKET_COUNT} equally sized
+ * buckets, and values below {@value #SUB_BUCKET_COUNT} get a bucket each. This means that the memory used by a distribution
+ * is fixed, that recording a value never allocates, and that percentiles are accurate to within about 3% of the recorded
+ * values. Negative values are counted as zero.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class Distribution {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Add a value to this distribution.
+     */
+    public void record(long value) {
+        // Update the bucket last: a snapshot that sees the value counted will also see it in the sum and maximum.
+        max.accumulate(value);
+        sum.add(value);
+        buckets.incrementAndGet(bucketIndex(value));
+    }
+
+    /**
+     * Capture the current state of this distribution, so that multiple percentiles can be calculated consistently from it.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, sum.sum(), max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & SUB_BUCKET_MASK);
+    }
+
+    /**
+     * The value that represents the given bucket: the exact value for buckets that hold a single value, and the middle of the
+     * bucket otherwise.
+     */
+    static long bucketValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << shift;
+        return shift == 0 ? lowerBound : lowerBound + (1L << (shift - 1));
+    }
+
+    /**
+     * A point-in-time copy of a {@link Distribution}.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * The number of values in the distribution.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The sum of the values in the distribution.
+         */
+        public long sum() {
+            return sum;
+        }
+
+        /**
+         * The largest value in the distribution, or 0 if it is empty.
+         */
+        public long max() {
+            return count == 0 ? 0 : max;
+        }
+
+        /**
+         * The value below which the given fraction (between 0 and 1) of the values in the distribution fall, or 0 if it is empty.
+         * This is exact when it falls in the same bucket as the maximum.
+         */
+        public long valueAtQuantile(double quantile) {
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            int maxIndex = bucketIndex(max);
+            long seen = 0;
+            for (int i = 0; i < maxIndex; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketValue(i);
+                }
+            }
+            return max();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local.internal;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.local.internal.OperationMetrics.BooleanCounter;
+
+/**
+ * Renders {@link OperationMetrics} in the OpenMetrics text exposition format, which can be scraped by Prometheus.
+ *
+ * <ul>
+ *     <li>Attempts are rendered as the counter {@code <namespace>_api_call_attempts}.</li>
+ *     <li>Distributions are rendered as summaries named after the metric in snake case, with the
+ *     {@link OperationMetrics#REPORTED_QUANTILES} as quantiles. {@link Duration} metrics are rendered in seconds.</li>
+ *     <li>Boolean metrics are rendered as counters with a {@code value} label.</li>
+ *     <li>Status codes are rendered as the counter {@code <namespace>_http_status_code} with a {@code code} label.</li>
+ * </ul>
+ *
+ * Every sample has a {@code service} and {@code operation} label.
+ */
+@SdkInternalApi
+public final class OpenMetricsWriter {
+    private static final double NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final String namespace;
+
+    public OpenMetricsWriter(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public void write(List<OperationMetrics> operations, Appendable out) throws IOException {
+        writeApiCallAttempts(operations, out);
+        writeDistributions(operations, out);
+        writeBooleanCounters(operations, out);
+        writeStatusCodes(operations, out);
+        out.append("# EOF\n");
+    }
+
+    private void writeApiCallAttempts(List<OperationMetrics> operations, Appendable out) throws IOException {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        String family = familyName("ApiCallAttempts");
+        writeType(family, "counter", out);
+        for (OperationMetrics operation : operations) {
+            writeSample(family + "_total", operation, null, null, Long.toString(operation.apiCallAttempts()), out);
+        }
+    }
+
+    private void writeDistributions(List<OperationMetrics> operations, Appendable out) throws IOException {
+        for (Map.Entry<String, SdkMetric<?>> entry : families(operations, true).entrySet()) {
+            String family = entry.getKey();
+            SdkMetric<?> metric = entry.getValue();
+            boolean duration = isDuration(metric);
+
+            writeType(family, "summary", out);
+            if (duration) {
+                out.append("# UNIT ").append(family).append(" seconds\n");
+            }
+
+            for (OperationMetrics operation : operations) {
+                Distribution distribution = operation.distributions().get(metric);
+                if (distribution == null) {
+                    continue;
+                }
+
+                Distribution.Snapshot snapshot = distribution.snapshot();
+                for (double quantile : OperationMetrics.REPORTED_QUANTILES) {
+                    writeSample(family, operation, "quantile", Double.toString(quantile),
+                                formatValue(snapshot.valueAtQuantile(quantile), duration), out);
+                }
+                writeSample(family + "_sum", operation, null, null, formatValue(snapshot.sum(), duration), out);
+                writeSample(family + "_count", operation, null, null, Long.toString(snapshot.count()), out);
+            }
+        }
+    }
+
+    private void writeBooleanCounters(List<OperationMetrics> operations, Appendable out) throws IOException {
+        for (Map.Entry<String, SdkMetric<?>> entry : families(operations, false).entrySet()) {
+            String family = entry.getKey();
+            writeType(family, "counter", out);
+
+            for (OperationMetrics operation : operations) {
+                BooleanCounter counter = operation.booleanCounters().get(entry.getValue());
+                if (counter != null) {
+                    writeSample(family + "_total", operation, "value", "true", Long.toString(counter.trueCount()), out);
+                    writeSample(family + "_total", operation, "value", "false", Long.toString(counter.falseCount()), out);
+                }
+            }
+        }
+    }
+
+    private void writeStatusCodes(List<OperationMetrics> operations, Appendable out) throws IOException {
+        String family = familyName("HttpStatusCode");
+        boolean typeWritten = false;
+        for (OperationMetrics operation : operations) {
+            for (Map.Entry<Integer, Long> entry : operation.statusCodeCounts().entrySet()) {
+                if (!typeWritten) {
+                    writeType(family, "counter", out);
+                    typeWritten = true;
+                }
+                writeSample(family + "_total", operation, "code", entry.getKey().toString(), entry.getValue().toString(), out);
+            }
+        }
+    }
+
+    /**
+     * The distribution (or boolean counter) metrics of all operations, keyed and ordered by their family name.
+     */
+    private SortedMap<String, SdkMetric<?>> families(List<OperationMetrics> operations, boolean distributions) {
+        SortedMap<String, SdkMetric<?>> families = new TreeMap<>();
+        for (OperationMetrics operation : operations) {
+            Map<SdkMetric<?>, ?> metrics = distributions ? operation.distributions() : operation.booleanCounters();
+            for (SdkMetric<?> metric : metrics.keySet()) {
+                families.put(familyName(metric.name()) + (isDuration(metric) ? "_seconds" : ""), metric);
+            }
+        }
+        return families;
+    }
+
+    private static void writeType(String family, String type, Appendable out) throws IOException {
+        out.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(String name, OperationMetrics operation, String labelName, String labelValue,
+                                    String value, Appendable out) throws IOException {
+        out.append(name).append("{service=\"");
+        appendEscaped(operation.serviceId(), out);
+        out.append("\",operation=\"");
+        appendEscaped(operation.operationName(), out);
+        out.append('"');
+        if (labelName != null) {
+            out.append(',').append(labelName).append("=\"");
+            appendEscaped(labelValue, out);
+            out.append('"');
+        }
+        out.append("} ").append(value).append('\n');
+    }
+
+    private static void appendEscaped(String labelValue, Appendable out) throws IOException {
+        for (int i = 0; i < labelValue.length(); i++) {
+            char c = labelValue.charAt(i);
+            if (c == '\\' || c == '"') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static String formatValue(long value, boolean duration) {
+        return duration ? Double.toString(value / NANOS_PER_SECOND) : Long.toString(value);
+    }
+
+    private static boolean isDuration(SdkMetric<?> metric) {
+        return Duration.class.equals(metric.valueClass());
+    }
+
+    /**
+     * Convert a metric name like {@code ApiCallDuration} to a family name like {@code <namespace>_api_call_duration}.
+     */
+    private String familyName(String metricName) {
+        StringBuilder result = new StringBuilder(namespace).append('_');
+        for (int i = 0; i < metricName.length(); i++) {
+            char c = metricName.charAt(i);
+            if (Character.isUpperCase(c)) {
+                char previous = i > 0 ? metricName.charAt(i - 1) : '_';
+                boolean nextIsLower = i + 1 < metricName.length() && Character.isLowerCase(metricName.charAt(i + 1));
+                if (Character.isLowerCase(previous) || Character.isDigit(previous)
+                    || Character.isUpperCase(previous) && nextIsLower) {
+                    result.append('_');
+                }
+                result.append(Character.toLowerCase(c));
+            } else if (Character.isLetterOrDigit(c) && c < 128) {
+                result.append(c);
+            } else {
+                result.append('_');
+            }
+        }
+        return result.toString();
+    }
+}
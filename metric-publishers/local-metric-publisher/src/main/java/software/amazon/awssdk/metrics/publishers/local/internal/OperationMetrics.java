@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The metrics aggregated for a single service and operation.
+ *
+ * <p>{@link Duration} metrics (recorded in nanoseconds) and {@link Integer} or {@link Long} metrics are aggregated into
+ * {@link Distribution}s, {@link Boolean} metrics are counted by value and {@link HttpMetric#HTTP_STATUS_CODE} is counted by
+ * status code. Metrics of any other type are ignored. Once the first value of a metric has been recorded, recording further
+ * values does not lock or allocate.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class OperationMetrics {
+    /**
+     * The quantiles of each {@link Distribution} that are reported.
+     */
+    static final double[] REPORTED_QUANTILES = {0.5, 0.9, 0.99};
+
+    private static final int MAX_STATUS_CODE = 599;
+
+    private final String serviceId;
+    private final String operationName;
+    private final LongAdder apiCallAttempts = new LongAdder();
+    private final AtomicLongArray statusCodes = new AtomicLongArray(MAX_STATUS_CODE + 1);
+    private final ConcurrentMap<SdkMetric<?>, Distribution> distributions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SdkMetric<?>, BooleanCounter> booleanCounters = new ConcurrentHashMap<>();
+
+    public OperationMetrics(String serviceId, String operationName) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+    }
+
+    public String serviceId() {
+        return serviceId;
+    }
+
+    public String operationName() {
+        return operationName;
+    }
+
+    public void recordApiCallAttempt() {
+        apiCallAttempts.increment();
+    }
+
+    public void record(SdkMetric<?> metric, Object value) {
+        if (metric == HttpMetric.HTTP_STATUS_CODE) {
+            int statusCode = (Integer) value;
+            if (statusCode >= 0 && statusCode <= MAX_STATUS_CODE) {
+                statusCodes.incrementAndGet(statusCode);
+            }
+        } else if (value instanceof Duration) {
+            distribution(metric).record(((Duration) value).toNanos());
+        } else if (value instanceof Integer || value instanceof Long) {
+            distribution(metric).record(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            booleanCounter(metric).record((Boolean) value);
+        }
+    }
+
+    public long apiCallAttempts() {
+        return apiCallAttempts.sum();
+    }
+
+    /**
+     * The number of responses received with each HTTP status code, ordered by status code.
+     */
+    public SortedMap<Integer, Long> statusCodeCounts() {
+        SortedMap<Integer, Long> result = new TreeMap<>();
+        for (int i = 0; i <= MAX_STATUS_CODE; i++) {
+            long count = statusCodes.get(i);
+            if (count > 0) {
+                result.put(i, count);
+            }
+        }
+        return result;
+    }
+
+    public Map<SdkMetric<?>, Distribution> distributions() {
+        return Collections.unmodifiableMap(distributions);
+    }
+
+    public Map<SdkMetric<?>, BooleanCounter> booleanCounters() {
+        return Collections.unmodifiableMap(booleanCounters);
+    }
+
+    private Distribution distribution(SdkMetric<?> metric) {
+        // ConcurrentHashMap#computeIfAbsent locks even when the key is present, so check without locking first.
+        Distribution distribution = distributions.get(metric);
+        return distribution != null ? distribution : distributions.computeIfAbsent(metric, m -> new Distribution());
+    }
+
+    private BooleanCounter booleanCounter(SdkMetric<?> metric) {
+        BooleanCounter counter = booleanCounters.get(metric);
+        return counter != null ? counter : booleanCounters.computeIfAbsent(metric, m -> new BooleanCounter());
+    }
+
+    /**
+     * Counts the number of times a {@link Boolean} metric was reported with each value.
+     */
+    public static final class BooleanCounter {
+        private final LongAdder trueCount = new LongAdder();
+        private final LongAdder falseCount = new LongAdder();
+
+        void record(boolean value) {
+            (value ? trueCount : falseCount).increment();
+        }
+
+        public long trueCount() {
+            return trueCount.sum();
+        }
+
+        public long falseCount() {
+            return falseCount.sum();
+        }
+    }
+}
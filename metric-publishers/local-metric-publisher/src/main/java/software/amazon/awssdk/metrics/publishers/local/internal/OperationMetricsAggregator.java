@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Aggregates {@link MetricCollection}s into {@link OperationMetrics}, keyed by the {@link CoreMetric#SERVICE_ID} and
+ * {@link CoreMetric#OPERATION_NAME} of the collection.
+ *
+ * <p>The metrics of a collection and all of its children are aggregated under the service and operation of the top-level
+ * collection, and every child collection named {@value #API_CALL_ATTEMPT_COLLECTION} counts as one attempt.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class OperationMetricsAggregator {
+    static final String API_CALL_ATTEMPT_COLLECTION = "ApiCallAttempt";
+
+    private final ConcurrentMap<String, ConcurrentMap<String, OperationMetrics>> operationMetrics = new ConcurrentHashMap<>();
+    private final Set<MetricCategory> metricCategories;
+    private final MetricLevel metricLevel;
+    private final Consumer<OperationMetrics> newOperationListener;
+
+    /**
+     * @param metricCategories The categories of metrics that should be aggregated.
+     * @param metricLevel The most verbose level of metrics that should be aggregated.
+     * @param newOperationListener Invoked once for every service and operation, after its first collection was aggregated.
+     */
+    public OperationMetricsAggregator(Set<MetricCategory> metricCategories,
+                                      MetricLevel metricLevel,
+                                      Consumer<OperationMetrics> newOperationListener) {
+        this.metricCategories = metricCategories;
+        this.metricLevel = metricLevel;
+        this.newOperationListener = newOperationListener;
+    }
+
+    public void addCollection(MetricCollection collection) {
+        String serviceId = firstValue(collection, CoreMetric.SERVICE_ID);
+        String operationName = firstValue(collection, CoreMetric.OPERATION_NAME);
+
+        ConcurrentMap<String, OperationMetrics> serviceMetrics = operationMetrics.get(serviceId);
+        if (serviceMetrics == null) {
+            serviceMetrics = operationMetrics.computeIfAbsent(serviceId, s -> new ConcurrentHashMap<>());
+        }
+
+        OperationMetrics metrics = serviceMetrics.get(operationName);
+        boolean newOperation = false;
+        if (metrics == null) {
+            OperationMetrics created = new OperationMetrics(serviceId, operationName);
+            metrics = serviceMetrics.putIfAbsent(operationName, created);
+            if (metrics == null) {
+                metrics = created;
+                newOperation = true;
+            }
+        }
+
+        addCollection(metrics, collection);
+
+        if (newOperation) {
+            newOperationListener.accept(metrics);
+        }
+    }
+
+    /**
+     * All services and operations that have been aggregated so far, ordered by service and operation.
+     */
+    public List<OperationMetrics> operationMetrics() {
+        List<OperationMetrics> result = new ArrayList<>();
+        operationMetrics.values().forEach(serviceMetrics -> result.addAll(serviceMetrics.values()));
+        result.sort(Comparator.comparing(OperationMetrics::serviceId).thenComparing(OperationMetrics::operationName));
+        return result;
+    }
+
+    private void addCollection(OperationMetrics metrics, MetricCollection collection) {
+        if (API_CALL_ATTEMPT_COLLECTION.equals(collection.name())) {
+            metrics.recordApiCallAttempt();
+        }
+
+        for (MetricRecord<?> record : collection) {
+            if (isSupported(record.metric())) {
+                metrics.record(record.metric(), record.value());
+            }
+        }
+
+        for (MetricCollection child : collection.children()) {
+            addCollection(metrics, child);
+        }
+    }
+
+    private boolean isSupported(SdkMetric<?> metric) {
+        if (!metricLevel.includesLevel(metric.level())) {
+            return false;
+        }
+        if (metricCategories.contains(MetricCategory.ALL)) {
+            return true;
+        }
+        for (MetricCategory category : metric.categories()) {
+            if (metricCategories.contains(category)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String firstValue(MetricCollection collection, SdkMetric<String> metric) {
+        List<String> values = collection.metricValues(metric);
+        return values.isEmpty() || values.get(0) == null ? "" : values.get(0);
+    }
+}
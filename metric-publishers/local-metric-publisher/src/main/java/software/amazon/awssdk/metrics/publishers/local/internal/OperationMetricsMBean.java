@@ -0,0 +1,186 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local.internal;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.local.internal.OperationMetrics.BooleanCounter;
+
+/**
+ * Exposes the {@link OperationMetrics} of a single service and operation as read-only JMX attributes.
+ *
+ * <p>The attributes are derived from the metrics that have been recorded when they are read, so new attributes appear as new
+ * metrics are reported:
+ * <ul>
+ *     <li>{@code ApiCallAttempts}: the number of attempts.</li>
+ *     <li>{@code <Metric>Count}, {@code <Metric>Mean}, {@code <Metric>Max} and {@code <Metric>P50} (and the other
+ *     {@link OperationMetrics#REPORTED_QUANTILES}) for every distribution. {@link Duration} metrics are in milliseconds.</li>
+ *     <li>{@code <Metric>True} and {@code <Metric>False} for every boolean metric.</li>
+ *     <li>{@code HttpStatusCode<code>} for every HTTP status code that was received.</li>
+ * </ul>
+ */
+@SdkInternalApi
+public final class OperationMetricsMBean implements DynamicMBean {
+    private static final double NANOS_PER_MILLI = Duration.ofMillis(1).toNanos();
+
+    private final OperationMetrics metrics;
+
+    public OperationMetricsMBean(OperationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * The name of this MBean: {@code <domain>:type=OperationMetrics,service=<service>,operation=<operation>}.
+     */
+    public ObjectName objectName(String domain) throws MalformedObjectNameException {
+        Hashtable<String, String> properties = new Hashtable<>();
+        properties.put("type", "OperationMetrics");
+        properties.put("service", ObjectName.quote(metrics.serviceId()));
+        properties.put("operation", ObjectName.quote(metrics.operationName()));
+        return new ObjectName(domain, properties);
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        AttributeValue value = attributes().get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value.value;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException(attribute.getName() + " is read-only.");
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        Map<String, AttributeValue> values = attributes();
+        AttributeList result = new AttributeList();
+        for (String attribute : attributes) {
+            AttributeValue value = values.get(attribute);
+            if (value != null) {
+                result.add(new Attribute(attribute, value.value));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] attributeInfos = attributes().entrySet().stream().map(e -> {
+            AttributeValue value = e.getValue();
+            return new MBeanAttributeInfo(e.getKey(), value.value.getClass().getName(), value.description, true, false, false);
+        }).toArray(MBeanAttributeInfo[]::new);
+
+        return new MBeanInfo(getClass().getName(),
+                             "AWS SDK metrics of " + metrics.serviceId() + " " + metrics.operationName() + " calls.",
+                             attributeInfos, null, null, null);
+    }
+
+    private Map<String, AttributeValue> attributes() {
+        Map<String, AttributeValue> attributes = new LinkedHashMap<>();
+        attributes.put("ApiCallAttempts", new AttributeValue("The number of API call attempts.", metrics.apiCallAttempts()));
+
+        metrics.distributions().entrySet().stream()
+               .sorted(Comparator.comparing(e -> e.getKey().name()))
+               .forEach(e -> addDistribution(e.getKey(), e.getValue().snapshot(), attributes));
+
+        metrics.booleanCounters().entrySet().stream()
+               .sorted(Comparator.comparing(e -> e.getKey().name()))
+               .forEach(e -> addBooleanCounter(e.getKey(), e.getValue(), attributes));
+
+        metrics.statusCodeCounts().forEach((code, count) -> {
+            String description = "The number of responses with HTTP status code " + code + ".";
+            attributes.put("HttpStatusCode" + code, new AttributeValue(description, count));
+        });
+
+        return attributes;
+    }
+
+    private static void addDistribution(SdkMetric<?> metric, Distribution.Snapshot snapshot,
+                                        Map<String, AttributeValue> attributes) {
+        boolean duration = Duration.class.equals(metric.valueClass());
+        String unit = duration ? ", in milliseconds." : ".";
+        String name = metric.name();
+
+        attributes.put(name + "Count", new AttributeValue("The number of " + name + " values.", snapshot.count()));
+        double mean = snapshot.count() == 0 ? 0 : (double) snapshot.sum() / snapshot.count();
+        attributes.put(name + "Mean", new AttributeValue("The mean " + name + unit, value(mean, duration)));
+        attributes.put(name + "Max", new AttributeValue("The maximum " + name + unit, value(snapshot.max(), duration)));
+
+        for (double quantile : OperationMetrics.REPORTED_QUANTILES) {
+            String percentile = percentile(quantile);
+            attributes.put(name + "P" + percentile,
+                           new AttributeValue("The " + percentile + "th percentile " + name + unit,
+                                              value(snapshot.valueAtQuantile(quantile), duration)));
+        }
+    }
+
+    private static void addBooleanCounter(SdkMetric<?> metric, BooleanCounter counter, Map<String, AttributeValue> attributes) {
+        String name = metric.name();
+        attributes.put(name + "True", new AttributeValue("The number of times " + name + " was true.", counter.trueCount()));
+        attributes.put(name + "False", new AttributeValue("The number of times " + name + " was false.", counter.falseCount()));
+    }
+
+    private static Number value(double value, boolean duration) {
+        return duration ? value / NANOS_PER_MILLI : value;
+    }
+
+    private static Number value(long value, boolean duration) {
+        return duration ? (Number) (value / NANOS_PER_MILLI) : (Number) value;
+    }
+
+    private static String percentile(double quantile) {
+        String percentile = Double.toString(quantile * 100);
+        return percentile.endsWith(".0") ? percentile.substring(0, percentile.length() - 2) : percentile;
+    }
+
+    private static final class AttributeValue {
+        private final String description;
+        private final Object value;
+
+        private AttributeValue(String description, Object value) {
+            this.description = description;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+
+public class LocalMetricPublisherTest {
+    private static final String JMX_DOMAIN = "software.amazon.awssdk.metrics.test";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private LocalMetricPublisher publisher;
+
+    @AfterEach
+    public void teardown() {
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    public void scrape_rendersOpenMetrics() {
+        publisher = LocalMetricPublisher.builder().metricLevel(MetricLevel.TRACE).build();
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 10, 200));
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 20, 200));
+        publisher.publish(apiCall("DynamoDB", "GetItem", false, 30, 500));
+
+        assertThat(publisher.scrape()).contains(
+            "# TYPE aws_sdk_api_call_attempts counter\n"
+            + "aws_sdk_api_call_attempts_total{service=\"DynamoDB\",operation=\"GetItem\"} 3\n",
+
+            "# TYPE aws_sdk_api_call_duration_seconds summary\n"
+            + "# UNIT aws_sdk_api_call_duration_seconds seconds\n"
+            + "aws_sdk_api_call_duration_seconds{service=\"DynamoDB\",operation=\"GetItem\",quantile=\"0.5\"} 0.020447232\n"
+            + "aws_sdk_api_call_duration_seconds{service=\"DynamoDB\",operation=\"GetItem\",quantile=\"0.9\"} 0.03\n"
+            + "aws_sdk_api_call_duration_seconds{service=\"DynamoDB\",operation=\"GetItem\",quantile=\"0.99\"} 0.03\n"
+            + "aws_sdk_api_call_duration_seconds_sum{service=\"DynamoDB\",operation=\"GetItem\"} 0.06\n"
+            + "aws_sdk_api_call_duration_seconds_count{service=\"DynamoDB\",operation=\"GetItem\"} 3\n",
+
+            "# TYPE aws_sdk_leased_concurrency summary\n"
+            + "aws_sdk_leased_concurrency{service=\"DynamoDB\",operation=\"GetItem\",quantile=\"0.5\"} 5\n",
+
+            "# TYPE aws_sdk_api_call_successful counter\n"
+            + "aws_sdk_api_call_successful_total{service=\"DynamoDB\",operation=\"GetItem\",value=\"true\"} 2\n"
+            + "aws_sdk_api_call_successful_total{service=\"DynamoDB\",operation=\"GetItem\",value=\"false\"} 1\n",
+
+            "# TYPE aws_sdk_http_status_code counter\n"
+            + "aws_sdk_http_status_code_total{service=\"DynamoDB\",operation=\"GetItem\",code=\"200\"} 2\n"
+            + "aws_sdk_http_status_code_total{service=\"DynamoDB\",operation=\"GetItem\",code=\"500\"} 1\n");
+
+        assertThat(publisher.scrape()).endsWith("# EOF\n")
+                                      .doesNotContain("http_client_name")
+                                      .doesNotContain("http_status_code_seconds");
+    }
+
+    @Test
+    public void scrape_separatesOperations() {
+        publisher = LocalMetricPublisher.builder().namespace("my_app").build();
+        publisher.publish(apiCall("S3", "PutObject", true, 10, 200));
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 10, 200));
+
+        assertThat(publisher.scrape()).contains(
+            "# TYPE my_app_api_call_attempts counter\n"
+            + "my_app_api_call_attempts_total{service=\"DynamoDB\",operation=\"GetItem\"} 1\n"
+            + "my_app_api_call_attempts_total{service=\"S3\",operation=\"PutObject\"} 1\n");
+    }
+
+    @Test
+    public void scrape_escapesLabelValues() {
+        publisher = LocalMetricPublisher.create();
+        publisher.publish(apiCall("My\"Service\\", "Get\nItem", true, 10, 200));
+
+        assertThat(publisher.scrape()).contains("{service=\"My\\\"Service\\\\\",operation=\"Get\\nItem\"}");
+    }
+
+    @Test
+    public void metricLevelAndCategories_areHonored() {
+        publisher = LocalMetricPublisher.builder()
+                                        .metricLevel(MetricLevel.ERROR)
+                                        .metricCategories(MetricCategory.CORE)
+                                        .build();
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 10, 200));
+
+        assertThat(publisher.scrape()).doesNotContain("api_call_duration")
+                                      .doesNotContain("leased_concurrency")
+                                      .contains("aws_sdk_api_call_attempts_total{service=\"DynamoDB\",operation=\"GetItem\"} 1");
+    }
+
+    @Test
+    public void emptyPublisher_rendersOnlyEof() {
+        publisher = LocalMetricPublisher.create();
+        assertThat(publisher.scrape()).isEqualTo("# EOF\n");
+    }
+
+    @Test
+    public void invalidNamespace_isRejected() {
+        assertThatThrownBy(() -> LocalMetricPublisher.builder().namespace("my-app").build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void jmxEnabled_registersMBeanPerOperation() throws Exception {
+        publisher = LocalMetricPublisher.builder().metricLevel(MetricLevel.TRACE).jmxEnabled(true).jmxDomain(JMX_DOMAIN).build();
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 10, 200));
+        publisher.publish(apiCall("DynamoDB", "GetItem", false, 30, 500));
+
+        ObjectName name = new ObjectName(JMX_DOMAIN + ":type=OperationMetrics,service=\"DynamoDB\",operation=\"GetItem\"");
+        assertThat(mBeanServer.getAttribute(name, "ApiCallAttempts")).isEqualTo(2L);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallDurationCount")).isEqualTo(2L);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallDurationMean")).isEqualTo(20.0);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallDurationMax")).isEqualTo(30.0);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallDurationP99")).isEqualTo(30.0);
+        assertThat(mBeanServer.getAttribute(name, "LeasedConcurrencyP50")).isEqualTo(5L);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallSuccessfulFalse")).isEqualTo(1L);
+        assertThat(mBeanServer.getAttribute(name, "HttpStatusCode500")).isEqualTo(1L);
+        assertThat(mBeanServer.getMBeanInfo(name).getAttributes()).isNotEmpty();
+
+        publisher.close();
+        assertThat(mBeanServer.isRegistered(name)).isFalse();
+    }
+
+    @Test
+    public void jmxDisabled_registersNoMBeans() throws Exception {
+        publisher = LocalMetricPublisher.builder().jmxDomain(JMX_DOMAIN).build();
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 10, 200));
+
+        assertThat(mBeanServer.queryNames(new ObjectName(JMX_DOMAIN + ":*"), null)).isEmpty();
+    }
+
+    @Test
+    public void closedPublisher_ignoresPublishedMetrics() {
+        publisher = LocalMetricPublisher.create();
+        publisher.close();
+        publisher.publish(apiCall("DynamoDB", "GetItem", true, 10, 200));
+
+        assertThat(publisher.scrape()).doesNotContain("DynamoDB");
+    }
+
+    @Test
+    public void closeWhilePublishing_leavesNoMBeansRegistered() throws Exception {
+        publisher = LocalMetricPublisher.builder().jmxEnabled(true).jmxDomain(JMX_DOMAIN).build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch started = new CountDownLatch(4);
+            List<Future<?>> publishers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int thread = i;
+                publishers.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int operation = 0; operation < 500; operation++) {
+                        publisher.publish(apiCall("DynamoDB", "Operation" + thread + "_" + operation, true, 10, 200));
+                    }
+                }));
+            }
+
+            started.await();
+            publisher.close();
+            for (Future<?> future : publishers) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(mBeanServer.queryNames(new ObjectName(JMX_DOMAIN + ":*"), null)).isEmpty();
+    }
+
+    private static MetricCollection apiCall(String serviceId, String operationName, boolean successful, long durationMillis,
+                                            int statusCode) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(durationMillis));
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, statusCode);
+
+        MetricCollector http = attempt.createChild("HttpClient");
+        http.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, 5);
+
+        return apiCall.collect();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.local.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+public class DistributionTest {
+    @Test
+    public void emptyDistribution_reportsZeros() {
+        Distribution.Snapshot snapshot = new Distribution().snapshot();
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.sum()).isZero();
+        assertThat(snapshot.max()).isZero();
+        assertThat(snapshot.valueAtQuantile(0.99)).isZero();
+    }
+
+    @Test
+    public void smallValues_areExact() {
+        Distribution distribution = new Distribution();
+        for (int i = 0; i < 32; i++) {
+            distribution.record(i);
+        }
+
+        Distribution.Snapshot snapshot = distribution.snapshot();
+        assertThat(snapshot.count()).isEqualTo(32);
+        assertThat(snapshot.sum()).isEqualTo(496);
+        assertThat(snapshot.max()).isEqualTo(31);
+        assertThat(snapshot.valueAtQuantile(0.5)).isEqualTo(15);
+        assertThat(snapshot.valueAtQuantile(1)).isEqualTo(31);
+    }
+
+    @Test
+    public void largeValues_areWithinThreePercent() {
+        Distribution distribution = new Distribution();
+        for (long i = 1; i <= 100_000; i++) {
+            distribution.record(i * 1_000);
+        }
+
+        Distribution.Snapshot snapshot = distribution.snapshot();
+        assertThat(snapshot.valueAtQuantile(0.5)).isCloseTo(50_000_000L, Percentage.withPercentage(3));
+        assertThat(snapshot.valueAtQuantile(0.9)).isCloseTo(90_000_000L, Percentage.withPercentage(3));
+        assertThat(snapshot.valueAtQuantile(0.99)).isCloseTo(99_000_000L, Percentage.withPercentage(3));
+        assertThat(snapshot.max()).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    public void quantilesInMaximumBucket_areMaximum() {
+        Distribution distribution = new Distribution();
+        distribution.record(1_000_001);
+
+        assertThat(distribution.snapshot().valueAtQuantile(0.5)).isEqualTo(1_000_001);
+    }
+
+    @Test
+    public void extremeValues_areCounted() {
+        Distribution distribution = new Distribution();
+        distribution.record(-5);
+        distribution.record(Long.MAX_VALUE);
+
+        Distribution.Snapshot snapshot = distribution.snapshot();
+        assertThat(snapshot.count()).isEqualTo(2);
+        assertThat(snapshot.valueAtQuantile(0.5)).isZero();
+        assertThat(snapshot.valueAtQuantile(1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void bucketValue_isWithinBucket() {
+        for (long value : new long[] {0, 15, 16, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = Distribution.bucketIndex(value);
+            assertThat((double) Distribution.bucketValue(index)).isCloseTo(value, Percentage.withPercentage(3.2));
+        }
+    }
+
+    @Test
+    public void concurrentRecording_countsAllValues() throws InterruptedException {
+        Distribution distribution = new Distribution();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    distribution.record(j);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Distribution.Snapshot snapshot = distribution.snapshot();
+        assertThat(snapshot.count()).isEqualTo(40_000);
+        assertThat(snapshot.sum()).isEqualTo(4 * 49_995_000L);
+        assertThat(snapshot.max()).isEqualTo(9_999);
+    }
+}
@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -527,6 +528,27 @@ public interface S3TransferManager extends SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * Configure an {@link S3AsyncClient} to perform transfers with, instead of the CRT-based S3 client that the
+         * {@link S3TransferManager} creates by default. This allows the {@link S3TransferManager} to be used where the
+         * native CRT library is not available.
+         *
+         * <p>
+         * With a configured client, uploads are split into parts that are uploaded concurrently with multipart upload, and
+         * file downloads are performed with concurrent ranged GETs. The part size and the maximum number of concurrent part
+         * requests per transfer are taken from {@link S3ClientConfiguration#minimumPartSizeInBytes()} (8MB by default) and
+         * {@link S3ClientConfiguration#maxConcurrency()} (10 by default); the remaining {@link S3ClientConfiguration} values
+         * are ignored in favor of the configuration of the client. An upload buffers at most roughly
+         * {@code (maxConcurrency + 1) * minimumPartSizeInBytes} bytes in memory.
+         *
+         * <p>
+         * The client is not closed when the {@link S3TransferManager} is closed.
+         *
+         * @param s3AsyncClient the client to perform transfers with
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder s3AsyncClient(S3AsyncClient s3AsyncClient);
+
         /**
          * Configuration settings for how {@link S3TransferManager} should process the request. The
          * {@link S3TransferManager} already provides sensible defaults. All values are optional.
@@ -25,12 +25,14 @@ import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
 import software.amazon.awssdk.services.s3.internal.resource.S3ArnConverter;
 import software.amazon.awssdk.services.s3.internal.resource.S3Resource;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.transfer.s3.CompletedCopy;
 import software.amazon.awssdk.transfer.s3.CompletedDownload;
@@ -65,16 +67,40 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultS3TransferManager implements S3TransferManager {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
-    private final S3CrtAsyncClient s3CrtAsyncClient;
+    private static final long DEFAULT_PART_SIZE_IN_BYTES = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final boolean closeS3AsyncClient;
     private final TransferManagerConfiguration transferConfiguration;
     private final UploadDirectoryHelper uploadDirectoryHelper;
     private final DownloadDirectoryHelper downloadDirectoryHelper;
 
+    /**
+     * The helpers performing multipart transfers with a configured {@link S3AsyncClient}, or null when the CRT-based
+     * client performs them itself.
+     */
+    private final MultipartUploadHelper multipartUploadHelper;
+    private final MultipartDownloadHelper multipartDownloadHelper;
+
     public DefaultS3TransferManager(DefaultBuilder tmBuilder) {
         transferConfiguration = resolveTransferManagerConfiguration(tmBuilder);
-        s3CrtAsyncClient = initializeS3CrtClient(tmBuilder);
+        if (tmBuilder.s3AsyncClient != null) {
+            s3AsyncClient = tmBuilder.s3AsyncClient;
+            closeS3AsyncClient = false;
+            long partSizeInBytes = tmBuilder.s3ClientConfiguration.minimumPartSizeInBytes()
+                                                                  .orElse(DEFAULT_PART_SIZE_IN_BYTES);
+            int maxConcurrency = tmBuilder.s3ClientConfiguration.maxConcurrency().orElse(DEFAULT_MAX_CONCURRENCY);
+            multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, maxConcurrency);
+            multipartDownloadHelper = new MultipartDownloadHelper(s3AsyncClient, partSizeInBytes, maxConcurrency);
+        } else {
+            s3AsyncClient = initializeS3CrtClient(tmBuilder);
+            closeS3AsyncClient = true;
+            multipartUploadHelper = null;
+            multipartDownloadHelper = null;
+        }
         uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
-        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3CrtAsyncClient::listObjectsV2);
+        ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
                                                               this::downloadFile);
@@ -85,7 +111,10 @@ public final class DefaultS3TransferManager implements S3TransferManager {
                              UploadDirectoryHelper uploadDirectoryHelper,
                              TransferManagerConfiguration configuration,
                              DownloadDirectoryHelper downloadDirectoryHelper) {
-        this.s3CrtAsyncClient = s3CrtAsyncClient;
+        this.s3AsyncClient = s3CrtAsyncClient;
+        this.closeS3AsyncClient = true;
+        this.multipartUploadHelper = null;
+        this.multipartDownloadHelper = null;
         this.transferConfiguration = configuration;
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
@@ -127,8 +156,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(uploadRequest.putObjectRequest().bucket(), "upload");
 
-            CompletableFuture<PutObjectResponse> crtFuture =
-                s3CrtAsyncClient.putObject(uploadRequest.putObjectRequest(), requestBody);
+            CompletableFuture<PutObjectResponse> crtFuture = putObject(uploadRequest.putObjectRequest(), requestBody);
 
             // Forward upload cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -160,8 +188,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(uploadFileRequest.putObjectRequest().bucket(), "upload");
 
-            CompletableFuture<PutObjectResponse> crtFuture =
-                s3CrtAsyncClient.putObject(uploadFileRequest.putObjectRequest(), requestBody);
+            CompletableFuture<PutObjectResponse> crtFuture = putObject(uploadFileRequest.putObjectRequest(), requestBody);
 
             // Forward upload cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -177,6 +204,13 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         return new DefaultFileUpload(returnFuture, progressUpdater.progress());
     }
 
+    private CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
+        if (multipartUploadHelper != null) {
+            return multipartUploadHelper.uploadObject(putObjectRequest, requestBody);
+        }
+        return s3AsyncClient.putObject(putObjectRequest, requestBody);
+    }
+
     @Override
     public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
         Validate.paramNotNull(uploadDirectoryRequest, "uploadDirectoryRequest");
@@ -208,7 +242,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
             CompletableFuture<ResultT> crtFuture =
-                s3CrtAsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
+                s3AsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
 
             // Forward download cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -228,12 +262,16 @@ public final class DefaultS3TransferManager implements S3TransferManager {
     public FileDownload downloadFile(DownloadFileRequest downloadRequest) {
         Validate.paramNotNull(downloadRequest, "downloadFileRequest");
 
-        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
-            AsyncResponseTransformer.toFile(downloadRequest.destination(),
-                                            FileTransformerConfiguration.defaultCreateOrReplaceExisting());
-
         CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
-        TransferProgressUpdater progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture);
+        TransferProgressUpdater progressUpdater;
+        if (multipartDownloadHelper != null) {
+            progressUpdater = doMultipartDownloadFile(downloadRequest, returnFuture);
+        } else {
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
+                AsyncResponseTransformer.toFile(downloadRequest.destination(),
+                                                FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+            progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture);
+        }
 
         return new DefaultFileDownload(returnFuture, CompletableFuture.completedFuture(progressUpdater.progress()),
                                        CompletableFuture.completedFuture(downloadRequest));
@@ -252,8 +290,8 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
             CompletableFuture<GetObjectResponse> crtFuture =
-                s3CrtAsyncClient.getObject(downloadRequest.getObjectRequest(),
-                                           responseTransformer);
+                s3AsyncClient.getObject(downloadRequest.getObjectRequest(),
+                                        responseTransformer);
 
             // Forward download cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -268,6 +306,33 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         return progressUpdater;
     }
 
+    private TransferProgressUpdater doMultipartDownloadFile(DownloadFileRequest downloadRequest,
+                                                            CompletableFuture<CompletedFileDownload> returnFuture) {
+        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
+        try {
+            progressUpdater.transferInitiated();
+            progressUpdater.registerCompletion(returnFuture);
+
+            assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
+
+            CompletableFuture<GetObjectResponse> future =
+                multipartDownloadHelper.downloadToFile(downloadRequest.getObjectRequest(),
+                                                       downloadRequest.destination(),
+                                                       progressUpdater);
+
+            // Forward download cancellation to the multipart download
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+
+            CompletableFutureUtils.forwardTransformedResultTo(future, returnFuture,
+                                                              res -> CompletedFileDownload.builder()
+                                                                                          .response(res)
+                                                                                          .build());
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+        return progressUpdater;
+    }
+
     @Override
     public FileDownload resumeDownloadFile(ResumableFileDownload resumableFileDownload) {
         Validate.paramNotNull(resumableFileDownload, "resumableFileDownload");
@@ -277,24 +342,24 @@ public final class DefaultS3TransferManager implements S3TransferManager {
         CompletableFuture<TransferProgress> progressFuture = new CompletableFuture<>();
         CompletableFuture<DownloadFileRequest> newDownloadFileRequestFuture = new CompletableFuture<>();
 
-        s3CrtAsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()))
-                        .thenAccept(headObjectResponse -> {
-                            Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
-                                requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
-                                                                                  originalDownloadRequest);
-
-                            DownloadFileRequest newDownloadFileRequest = requestPair.left();
-                            newDownloadFileRequestFuture.complete(newDownloadFileRequest);
-                            log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
-
-                            TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
-                                                                                     requestPair.right(),
-                                                                                     returnFuture);
-                            progressFuture.complete(progressUpdater.progress());
-                        }).exceptionally(throwable -> {
-                            handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
-                            return null;
-                        });
+        s3AsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()))
+                     .thenAccept(headObjectResponse -> {
+                         Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
+                             requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
+                                                                               originalDownloadRequest);
+
+                         DownloadFileRequest newDownloadFileRequest = requestPair.left();
+                         newDownloadFileRequestFuture.complete(newDownloadFileRequest);
+                         log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
+
+                         TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
+                                                                                  requestPair.right(),
+                                                                                  returnFuture);
+                         progressFuture.complete(progressUpdater.progress());
+                     }).exceptionally(throwable -> {
+                         handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
+                         return null;
+                     });
 
         return new DefaultFileDownload(returnFuture, progressFuture, newDownloadFileRequestFuture);
     }
@@ -337,7 +402,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             assertNotUnsupportedArn(copyRequest.copyObjectRequest().destinationBucket(), "copy destinationBucket");
 
             CompletableFuture<CopyObjectResponse> crtFuture =
-                s3CrtAsyncClient.copyObject(copyRequest.copyObjectRequest());
+                s3AsyncClient.copyObject(copyRequest.copyObjectRequest());
 
             // Forward transfer cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -355,7 +420,9 @@ public final class DefaultS3TransferManager implements S3TransferManager {
 
     @Override
     public void close() {
-        s3CrtAsyncClient.close();
+        if (closeS3AsyncClient) {
+            s3AsyncClient.close();
+        }
         transferConfiguration.close();
     }
 
@@ -402,6 +469,7 @@ public final class DefaultS3TransferManager implements S3TransferManager {
 
     private static final class DefaultBuilder implements S3TransferManager.Builder {
         private S3ClientConfiguration s3ClientConfiguration = S3ClientConfiguration.builder().build();
+        private S3AsyncClient s3AsyncClient;
         private S3TransferManagerOverrideConfiguration transferManagerConfiguration =
             S3TransferManagerOverrideConfiguration.builder().build();
 
@@ -414,6 +482,12 @@ public final class DefaultS3TransferManager implements S3TransferManager {
             return this;
         }
 
+        @Override
+        public Builder s3AsyncClient(S3AsyncClient s3AsyncClient) {
+            this.s3AsyncClient = s3AsyncClient;
+            return this;
+        }
+
         @Override
         public Builder transferConfiguration(S3TransferManagerOverrideConfiguration transferManagerConfiguration) {
             this.transferManagerConfiguration = transferManagerConfiguration;
@@ -0,0 +1,371 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An internal helper class that downloads an object to a file with concurrent ranged GETs using an {@link S3AsyncClient}.
+ *
+ * <p>The first part is requested with a range of {@code partSizeInBytes}, and its {@code Content-Range} determines the size
+ * of the object. The remaining parts are then requested, at most {@code maxConcurrency} at a time, conditional on the
+ * {@code ETag} of the first part so that an object replaced during the download fails it instead of producing a mix of
+ * both versions. Each part is streamed into its region of the file with positional {@link AsynchronousFileChannel} writes,
+ * so no part is buffered in memory and the HTTP client's threads never block on disk I/O.
+ */
+@SdkInternalApi
+public final class MultipartDownloadHelper {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int INVALID_RANGE_STATUS_CODE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxConcurrency;
+
+    public MultipartDownloadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxConcurrency) {
+        this.s3AsyncClient = Validate.paramNotNull(s3AsyncClient, "s3AsyncClient");
+        this.partSizeInBytes = Validate.isPositive(partSizeInBytes, "partSizeInBytes");
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+    }
+
+    public CompletableFuture<GetObjectResponse> downloadToFile(GetObjectRequest getObjectRequest, Path destination,
+                                                               TransferProgressUpdater progressUpdater) {
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
+                AsyncResponseTransformer.toFile(destination, FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+            return s3AsyncClient.getObject(getObjectRequest, progressUpdater.wrapResponseTransformer(responseTransformer));
+        }
+
+        AsynchronousFileChannel fileChannel;
+        try {
+            fileChannel = AsynchronousFileChannel.open(destination, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                       StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            return CompletableFutureUtils.failedFuture(SdkClientException.create("Failed to open " + destination, e));
+        }
+
+        CompletableFuture<GetObjectResponse> returnFuture =
+            new MultipartDownload(getObjectRequest, fileChannel, progressUpdater).start();
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                invokeSafely(fileChannel::close);
+                invokeSafely(() -> Files.deleteIfExists(destination));
+            }
+        });
+        return returnFuture;
+    }
+
+    /**
+     * Parses the size of the object from the {@code Content-Range} of a ranged GET, e.g. {@code bytes 0-8388607/67108864}.
+     */
+    static long objectSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            // The whole object was returned.
+            return response.contentLength();
+        }
+
+        int separator = contentRange.lastIndexOf('/');
+        if (separator < 0 || separator == contentRange.length() - 1 || contentRange.charAt(separator + 1) == '*') {
+            throw SdkClientException.create("Unable to determine the object size from Content-Range: " + contentRange);
+        }
+        return Long.parseLong(contentRange.substring(separator + 1));
+    }
+
+    private static boolean isInvalidRange(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        return cause instanceof S3Exception && ((S3Exception) cause).statusCode() == INVALID_RANGE_STATUS_CODE;
+    }
+
+    private final class MultipartDownload {
+        private final GetObjectRequest getObjectRequest;
+        private final AsynchronousFileChannel fileChannel;
+        private final TransferProgressUpdater progressUpdater;
+        private final CompletableFuture<GetObjectResponse> returnFuture = new CompletableFuture<>();
+        private final Set<CompletableFuture<?>> inFlightParts = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger nextPart = new AtomicInteger(1);
+        private final AtomicInteger remainingParts = new AtomicInteger();
+
+        private volatile GetObjectResponse objectResponse;
+        private volatile long objectSize;
+        private volatile int totalParts;
+
+        private MultipartDownload(GetObjectRequest getObjectRequest, AsynchronousFileChannel fileChannel,
+                                  TransferProgressUpdater progressUpdater) {
+            this.getObjectRequest = getObjectRequest;
+            this.fileChannel = fileChannel;
+            this.progressUpdater = progressUpdater;
+        }
+
+        private CompletableFuture<GetObjectResponse> start() {
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    inFlightParts.forEach(f -> f.cancel(true));
+                }
+            });
+
+            GetObjectRequest firstPartRequest = getObjectRequest.toBuilder()
+                                                                .range(range(0, partSizeInBytes))
+                                                                .build();
+            downloadPart(firstPartRequest, 0).whenComplete((response, throwable) -> {
+                if (throwable == null) {
+                    onFirstPart(response);
+                } else if (isInvalidRange(throwable)) {
+                    // Ranged GETs of an empty object are not satisfiable.
+                    downloadPart(getObjectRequest, 0).whenComplete((r, t) -> {
+                        if (t == null) {
+                            objectSizeDetermined(r, r.contentLength());
+                            complete();
+                        } else {
+                            returnFuture.completeExceptionally(t);
+                        }
+                    });
+                } else {
+                    returnFuture.completeExceptionally(throwable);
+                }
+            });
+            return returnFuture;
+        }
+
+        private void onFirstPart(GetObjectResponse response) {
+            try {
+                objectSizeDetermined(response, objectSize(response));
+            } catch (RuntimeException e) {
+                returnFuture.completeExceptionally(e);
+                return;
+            }
+            totalParts = (int) ((objectSize + partSizeInBytes - 1) / partSizeInBytes);
+            log.debug(() -> "Downloading " + getObjectRequest.key() + " (" + objectSize + " bytes) in " + totalParts
+                            + " parts");
+
+            if (totalParts <= 1 || response.contentRange() == null) {
+                complete();
+                return;
+            }
+
+            remainingParts.set(totalParts - 1);
+            int initialParts = Math.min(maxConcurrency, totalParts - 1);
+            for (int i = 0; i < initialParts; i++) {
+                downloadNextPart();
+            }
+        }
+
+        private void objectSizeDetermined(GetObjectResponse firstPartResponse, long size) {
+            objectSize = size;
+            objectResponse = firstPartResponse.toBuilder()
+                                              .contentLength(size)
+                                              .contentRange(null)
+                                              .build();
+            progressUpdater.transferSizeDetermined(objectResponse);
+        }
+
+        private void downloadNextPart() {
+            int partIndex = nextPart.getAndIncrement();
+            if (partIndex >= totalParts || returnFuture.isDone()) {
+                return;
+            }
+
+            long start = partIndex * partSizeInBytes;
+            GetObjectRequest.Builder partRequest = getObjectRequest.toBuilder()
+                                                                   .range(range(start, Math.min(partSizeInBytes,
+                                                                                                objectSize - start)));
+            if (getObjectRequest.ifMatch() == null && objectResponse.eTag() != null) {
+                partRequest.ifMatch(objectResponse.eTag());
+            }
+
+            downloadPart(partRequest.build(), start).whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    returnFuture.completeExceptionally(throwable);
+                } else if (remainingParts.decrementAndGet() == 0) {
+                    complete();
+                } else {
+                    downloadNextPart();
+                }
+            });
+        }
+
+        private CompletableFuture<GetObjectResponse> downloadPart(GetObjectRequest partRequest, long position) {
+            CompletableFuture<GetObjectResponse> partFuture =
+                s3AsyncClient.getObject(partRequest,
+                                        progressUpdater.wrapPartResponseTransformer(
+                                            new PositionalFileWriter(fileChannel, position)));
+            inFlightParts.add(partFuture);
+            partFuture.whenComplete((r, t) -> inFlightParts.remove(partFuture));
+            return partFuture;
+        }
+
+        private void complete() {
+            try {
+                fileChannel.close();
+            } catch (IOException e) {
+                returnFuture.completeExceptionally(SdkClientException.create("Failed to close the file", e));
+                return;
+            }
+
+            progressUpdater.endOfStreamReached();
+            returnFuture.complete(objectResponse);
+        }
+
+        private String range(long start, long length) {
+            return "bytes=" + start + "-" + (start + length - 1);
+        }
+    }
+
+    /**
+     * An {@link AsyncResponseTransformer} that writes a response body into an {@link AsynchronousFileChannel}, starting at a
+     * fixed position. The channel is shared with the transformers of the other parts, and is not closed by this transformer.
+     */
+    private static final class PositionalFileWriter implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+        private final AsynchronousFileChannel fileChannel;
+        private final long startingPosition;
+        private volatile CompletableFuture<Void> future;
+        private volatile GetObjectResponse response;
+
+        private PositionalFileWriter(AsynchronousFileChannel fileChannel, long startingPosition) {
+            this.fileChannel = fileChannel;
+            this.startingPosition = startingPosition;
+        }
+
+        @Override
+        public CompletableFuture<GetObjectResponse> prepare() {
+            future = new CompletableFuture<>();
+            return future.thenApply(ignored -> response);
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            // onStream may be called multiple times, so every attempt writes from the starting position
+            publisher.subscribe(new PositionalWriteSubscriber(startingPosition));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+
+        /**
+         * Writes each buffer off the thread that delivers it, and only requests the next buffer once the write has finished.
+         */
+        private final class PositionalWriteSubscriber implements Subscriber<ByteBuffer> {
+            private volatile long position;
+            private Subscription subscription;
+
+            private boolean writeInProgress = false;
+            private boolean completeOnLastWrite = false;
+
+            private PositionalWriteSubscriber(long position) {
+                this.position = position;
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                if (subscription != null) {
+                    s.cancel();
+                    return;
+                }
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                synchronized (this) {
+                    writeInProgress = true;
+                }
+                performWrite(byteBuffer);
+            }
+
+            private void performWrite(ByteBuffer byteBuffer) {
+                fileChannel.write(byteBuffer, position, byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
+                    @Override
+                    public void completed(Integer result, ByteBuffer attachment) {
+                        position += result;
+
+                        if (byteBuffer.hasRemaining()) {
+                            performWrite(byteBuffer);
+                            return;
+                        }
+
+                        synchronized (PositionalWriteSubscriber.this) {
+                            writeInProgress = false;
+                            if (completeOnLastWrite) {
+                                future.complete(null);
+                                return;
+                            }
+                        }
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void failed(Throwable exc, ByteBuffer attachment) {
+                        subscription.cancel();
+                        future.completeExceptionally(exc);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (this) {
+                    if (writeInProgress) {
+                        completeOnLastWrite = true;
+                        return;
+                    }
+                }
+                future.complete(null);
+            }
+        }
+    }
+}
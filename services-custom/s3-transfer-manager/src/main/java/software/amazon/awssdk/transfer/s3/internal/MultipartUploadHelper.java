@@ -0,0 +1,557 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.MultipartChecksumCalculator;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An internal helper class that uploads an object through multipart upload using an {@link S3AsyncClient}.
+ *
+ * <p>The request body is split into parts of {@code partSizeInBytes} that are uploaded concurrently, at most
+ * {@code maxConcurrency} at a time. Demand is only signalled to the request body while fewer than {@code maxConcurrency}
+ * parts are in flight, which bounds the memory buffered by an upload to roughly {@code (maxConcurrency + 1) *
+ * partSizeInBytes} plus the size of one buffer of the body. Bodies that fit in a single part are
+ * uploaded with {@link S3AsyncClient#putObject(PutObjectRequest, AsyncRequestBody)}.
+ *
+ * <p>S3 accepts at most {@value #MAX_PARTS} parts per upload. When the content length is known, the part size is raised as
+ * far as needed to stay within that limit. Otherwise the upload fails once the body needs more parts.
+ *
+ * <p>When the request has a checksum algorithm, the checksum of each part is computed by a
+ * {@link MultipartChecksumCalculator}, in parallel with the other parts, and sent with the part instead of being computed
+ * while the part is streamed. The composite checksum that S3 returns for the object is checked against the one composed
+ * from the part checksums.
+ */
+@SdkInternalApi
+public final class MultipartUploadHelper {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxConcurrency;
+
+    public MultipartUploadHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, int maxConcurrency) {
+        this.s3AsyncClient = Validate.paramNotNull(s3AsyncClient, "s3AsyncClient");
+        this.partSizeInBytes = Validate.isPositive(partSizeInBytes, "partSizeInBytes");
+        Validate.isTrue(partSizeInBytes <= Integer.MAX_VALUE, "partSizeInBytes must not exceed %s", Integer.MAX_VALUE);
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+    }
+
+    public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
+        Optional<Long> contentLength = requestBody.contentLength();
+        if (contentLength.isPresent() && contentLength.get() <= partSizeInBytes) {
+            return s3AsyncClient.putObject(putObjectRequest, requestBody);
+        }
+
+        long partSize = partSizeFor(contentLength.orElse(null));
+        if (partSize > Integer.MAX_VALUE) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create(String.format("An object of %s bytes cannot be uploaded in %s parts.",
+                                                        contentLength.get(), MAX_PARTS)));
+        }
+
+        CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
+        CompletableFuture<?> createFuture =
+            s3AsyncClient.createMultipartUpload(toCreateMultipartUploadRequest(putObjectRequest))
+                         .thenAccept(response -> {
+                             log.debug(() -> "Initiated multipart upload " + response.uploadId() + " of "
+                                             + putObjectRequest.key());
+                             requestBody.subscribe(new UploadPartSubscriber(putObjectRequest, response.uploadId(),
+                                                                            contentLength.orElse(null), (int) partSize,
+                                                                            returnFuture));
+                         })
+                         .exceptionally(throwable -> {
+                             returnFuture.completeExceptionally(throwable);
+                             return null;
+                         });
+
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, createFuture);
+        return returnFuture;
+    }
+
+    private long partSizeFor(Long contentLength) {
+        if (contentLength == null) {
+            return partSizeInBytes;
+        }
+        return Math.max(partSizeInBytes, (contentLength + MAX_PARTS - 1) / MAX_PARTS);
+    }
+
+    private static CreateMultipartUploadRequest toCreateMultipartUploadRequest(PutObjectRequest request) {
+        return CreateMultipartUploadRequest.builder()
+                                           .bucket(request.bucket())
+                                           .key(request.key())
+                                           .acl(request.aclAsString())
+                                           .cacheControl(request.cacheControl())
+                                           .contentDisposition(request.contentDisposition())
+                                           .contentEncoding(request.contentEncoding())
+                                           .contentLanguage(request.contentLanguage())
+                                           .contentType(request.contentType())
+                                           .expires(request.expires())
+                                           .grantFullControl(request.grantFullControl())
+                                           .grantRead(request.grantRead())
+                                           .grantReadACP(request.grantReadACP())
+                                           .grantWriteACP(request.grantWriteACP())
+                                           .metadata(request.hasMetadata() ? request.metadata() : null)
+                                           .serverSideEncryption(request.serverSideEncryptionAsString())
+                                           .storageClass(request.storageClassAsString())
+                                           .websiteRedirectLocation(request.websiteRedirectLocation())
+                                           .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                           .sseCustomerKey(request.sseCustomerKey())
+                                           .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                           .ssekmsKeyId(request.ssekmsKeyId())
+                                           .ssekmsEncryptionContext(request.ssekmsEncryptionContext())
+                                           .bucketKeyEnabled(request.bucketKeyEnabled())
+                                           .requestPayer(request.requestPayerAsString())
+                                           .tagging(request.tagging())
+                                           .objectLockMode(request.objectLockModeAsString())
+                                           .objectLockRetainUntilDate(request.objectLockRetainUntilDate())
+                                           .objectLockLegalHoldStatus(request.objectLockLegalHoldStatusAsString())
+                                           .expectedBucketOwner(request.expectedBucketOwner())
+                                           .checksumAlgorithm(request.checksumAlgorithmAsString())
+                                           .overrideConfiguration(request.overrideConfiguration().orElse(null))
+                                           .build();
+    }
+
+    private static UploadPartRequest toUploadPartRequest(PutObjectRequest request, String uploadId, int partNumber,
+                                                         long contentLength, Algorithm checksumAlgorithm,
+                                                         String checksum) {
+        UploadPartRequest.Builder builder = UploadPartRequest.builder();
+        if (checksum != null) {
+            switch (checksumAlgorithm) {
+                case CRC32:
+                    builder.checksumCRC32(checksum);
+                    break;
+                case CRC32C:
+                    builder.checksumCRC32C(checksum);
+                    break;
+                case SHA1:
+                    builder.checksumSHA1(checksum);
+                    break;
+                case SHA256:
+                    builder.checksumSHA256(checksum);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported checksum algorithm " + checksumAlgorithm);
+            }
+        }
+        return builder.bucket(request.bucket())
+                                .key(request.key())
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength(contentLength)
+                                .checksumAlgorithm(request.checksumAlgorithmAsString())
+                                .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                .sseCustomerKey(request.sseCustomerKey())
+                                .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                .requestPayer(request.requestPayerAsString())
+                                .expectedBucketOwner(request.expectedBucketOwner())
+                                .overrideConfiguration(request.overrideConfiguration().orElse(null))
+                                .build();
+    }
+
+    private static Algorithm checksumAlgorithm(PutObjectRequest request) {
+        ChecksumAlgorithm checksumAlgorithm = request.checksumAlgorithm();
+        if (checksumAlgorithm == null || checksumAlgorithm == ChecksumAlgorithm.UNKNOWN_TO_SDK_VERSION) {
+            return null;
+        }
+        return Algorithm.fromValue(checksumAlgorithm.toString());
+    }
+
+    private static String objectChecksum(Algorithm checksumAlgorithm, CompleteMultipartUploadResponse response) {
+        switch (checksumAlgorithm) {
+            case CRC32:
+                return response.checksumCRC32();
+            case CRC32C:
+                return response.checksumCRC32C();
+            case SHA1:
+                return response.checksumSHA1();
+            case SHA256:
+                return response.checksumSHA256();
+            default:
+                throw new IllegalArgumentException("Unsupported checksum algorithm " + checksumAlgorithm);
+        }
+    }
+
+    private static CompletedPart toCompletedPart(int partNumber, UploadPartResponse response) {
+        return CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .checksumCRC32(response.checksumCRC32())
+                            .checksumCRC32C(response.checksumCRC32C())
+                            .checksumSHA1(response.checksumSHA1())
+                            .checksumSHA256(response.checksumSHA256())
+                            .build();
+    }
+
+    private static PutObjectResponse toPutObjectResponse(CompleteMultipartUploadResponse response) {
+        return PutObjectResponse.builder()
+                                .eTag(response.eTag())
+                                .expiration(response.expiration())
+                                .versionId(response.versionId())
+                                .serverSideEncryption(response.serverSideEncryptionAsString())
+                                .ssekmsKeyId(response.ssekmsKeyId())
+                                .bucketKeyEnabled(response.bucketKeyEnabled())
+                                .requestCharged(response.requestChargedAsString())
+                                .checksumCRC32(response.checksumCRC32())
+                                .checksumCRC32C(response.checksumCRC32C())
+                                .checksumSHA1(response.checksumSHA1())
+                                .checksumSHA256(response.checksumSHA256())
+                                .build();
+    }
+
+    /**
+     * Buffers the request body into parts and uploads each part as soon as it is full.
+     */
+    private final class UploadPartSubscriber implements Subscriber<ByteBuffer> {
+        private final PutObjectRequest putObjectRequest;
+        private final String uploadId;
+        private final Long contentLength;
+        private final int partSize;
+        private final CompletableFuture<PutObjectResponse> returnFuture;
+        private final MultipartChecksumCalculator checksumCalculator;
+        private final Map<Integer, CompletedPart> completedParts = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlightParts = new AtomicInteger();
+        private final AtomicBoolean demandPending = new AtomicBoolean();
+        private final AtomicBoolean completing = new AtomicBoolean();
+
+        private Subscription subscription;
+        private ByteBuffer currentPart;
+        private long bytesBuffered;
+        private int partCount;
+        private volatile boolean bodyComplete;
+        private volatile boolean uploadCompleted;
+
+        /**
+         * Filled parts that are waiting for fewer than {@code maxConcurrency} parts to be in flight. A single buffer of the
+         * body can fill several parts, and the body can complete without demand, so parts can be filled while the maximum
+         * number is in flight. Guarded by this subscriber, together with updates of {@link #inFlightParts}.
+         */
+        private final Queue<PendingPart> pendingParts = new ArrayDeque<>();
+
+        private UploadPartSubscriber(PutObjectRequest putObjectRequest, String uploadId, Long contentLength, int partSize,
+                                     CompletableFuture<PutObjectResponse> returnFuture) {
+            this.putObjectRequest = putObjectRequest;
+            this.uploadId = uploadId;
+            this.contentLength = contentLength;
+            this.partSize = partSize;
+            this.returnFuture = returnFuture;
+            Algorithm checksumAlgorithm = checksumAlgorithm(putObjectRequest);
+            this.checksumCalculator = checksumAlgorithm == null
+                                      ? null
+                                      : MultipartChecksumCalculator.builder().algorithm(checksumAlgorithm).build();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    subscription.cancel();
+                    if (!uploadCompleted) {
+                        abortMultipartUpload(t);
+                    }
+                }
+            });
+            requestMore();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            ByteBuffer source = byteBuffer.duplicate();
+            while (source.hasRemaining()) {
+                if (currentPart == null) {
+                    if (partCount == MAX_PARTS) {
+                        returnFuture.completeExceptionally(SdkClientException.create(
+                            String.format("The request body is larger than %s parts of %s bytes. Increase the part size to "
+                                          + "upload it.", MAX_PARTS, partSize)));
+                        return;
+                    }
+                    currentPart = ByteBuffer.allocate(nextPartSize());
+                }
+
+                int bytesToCopy = Math.min(currentPart.remaining(), source.remaining());
+                ByteBuffer slice = source.duplicate();
+                slice.limit(slice.position() + bytesToCopy);
+                currentPart.put(slice);
+                source.position(source.position() + bytesToCopy);
+                bytesBuffered += bytesToCopy;
+
+                if (!currentPart.hasRemaining()) {
+                    uploadPart(currentPart);
+                    currentPart = null;
+                }
+            }
+            requestMore();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            returnFuture.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (currentPart != null || partCount == 0) {
+                uploadPart(currentPart == null ? ByteBuffer.allocate(0) : currentPart);
+                currentPart = null;
+            }
+            bodyComplete = true;
+            completeIfDone();
+        }
+
+
+        private int nextPartSize() {
+            if (contentLength == null) {
+                return partSize;
+            }
+            return (int) Math.max(1, Math.min(partSize, contentLength - bytesBuffered));
+        }
+
+        private void requestMore() {
+            demandPending.set(true);
+            requestMoreIfPossible();
+        }
+
+        /**
+         * Signals demand to the request body unless the maximum number of parts is already in flight, in which case the
+         * completion of an in-flight part signals it instead.
+         */
+        private void requestMoreIfPossible() {
+            if (inFlightParts.get() < maxConcurrency && !returnFuture.isDone() && demandPending.compareAndSet(true, false)) {
+                subscription.request(1);
+            }
+        }
+
+        private void uploadPart(ByteBuffer part) {
+            part.flip();
+            int partNumber = ++partCount;
+            synchronized (this) {
+                pendingParts.add(new PendingPart(partNumber, part));
+            }
+            sendPendingParts();
+        }
+
+        private void sendPendingParts() {
+            List<PendingPart> partsToSend = new ArrayList<>();
+            synchronized (this) {
+                while (inFlightParts.get() < maxConcurrency && !pendingParts.isEmpty()) {
+                    inFlightParts.incrementAndGet();
+                    partsToSend.add(pendingParts.poll());
+                }
+            }
+            partsToSend.forEach(p -> sendPart(p.partNumber, p.part));
+        }
+
+        private void sendPart(int partNumber, ByteBuffer part) {
+            CompletableFuture<UploadPartResponse> partFuture;
+            if (checksumCalculator == null) {
+                partFuture = uploadPart(partNumber, part, null);
+            } else {
+                partFuture = checksumCalculator.calculatePartChecksum(partNumber, part)
+                                               .thenCompose(checksum -> uploadPart(partNumber, part, checksum));
+            }
+            partFuture.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    returnFuture.completeExceptionally(throwable);
+                    return;
+                }
+                completedParts.put(partNumber, toCompletedPart(partNumber, response));
+                synchronized (this) {
+                    inFlightParts.decrementAndGet();
+                }
+                sendPendingParts();
+                requestMoreIfPossible();
+                completeIfDone();
+            });
+        }
+
+        private CompletableFuture<UploadPartResponse> uploadPart(int partNumber, ByteBuffer part, String checksum) {
+            Algorithm checksumAlgorithm = checksumCalculator == null ? null : checksumCalculator.algorithm();
+            UploadPartRequest request = toUploadPartRequest(putObjectRequest, uploadId, partNumber, part.remaining(),
+                                                            checksumAlgorithm, checksum);
+            CompletableFuture<UploadPartResponse> partFuture = s3AsyncClient.uploadPart(request, new PartRequestBody(part));
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, partFuture);
+            return partFuture;
+        }
+
+        private void completeIfDone() {
+            synchronized (this) {
+                if (!bodyComplete || inFlightParts.get() != 0 || !pendingParts.isEmpty()) {
+                    return;
+                }
+            }
+            if (returnFuture.isDone() || !completing.compareAndSet(false, true)) {
+                return;
+            }
+
+            List<CompletedPart> parts = completedParts.values()
+                                                      .stream()
+                                                      .sorted(Comparator.comparing(CompletedPart::partNumber))
+                                                      .collect(Collectors.toList());
+            CompleteMultipartUploadRequest request =
+                CompleteMultipartUploadRequest.builder()
+                                              .bucket(putObjectRequest.bucket())
+                                              .key(putObjectRequest.key())
+                                              .uploadId(uploadId)
+                                              .multipartUpload(u -> u.parts(parts))
+                                              .requestPayer(putObjectRequest.requestPayerAsString())
+                                              .expectedBucketOwner(putObjectRequest.expectedBucketOwner())
+                                              .overrideConfiguration(putObjectRequest.overrideConfiguration().orElse(null))
+                                              .build();
+
+            CompletableFuture<CompleteMultipartUploadResponse> completeFuture =
+                s3AsyncClient.completeMultipartUpload(request);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, completeFuture);
+            CompletableFutureUtils.forwardTransformedResultTo(completeFuture.thenApply(this::validateObjectChecksum),
+                                                              returnFuture,
+                                                              MultipartUploadHelper::toPutObjectResponse);
+        }
+
+        /**
+         * Checks the composite checksum S3 computed for the object, if it returned one, against the one composed from the
+         * checksums sent with the parts.
+         */
+        private CompleteMultipartUploadResponse validateObjectChecksum(CompleteMultipartUploadResponse response) {
+            uploadCompleted = true;
+            if (checksumCalculator == null) {
+                return response;
+            }
+            String actual = objectChecksum(checksumCalculator.algorithm(), response);
+            String expected = checksumCalculator.compositeChecksum();
+            if (actual != null && !actual.equals(expected)) {
+                throw SdkClientException.create(String.format("The %s checksum of object %s returned by S3 (%s) does not "
+                                                              + "match the checksum computed from its parts (%s).",
+                                                              checksumCalculator.algorithm(), putObjectRequest.key(),
+                                                              actual, expected));
+            }
+            return response;
+        }
+
+        private void abortMultipartUpload(Throwable cause) {
+            log.debug(() -> "Aborting multipart upload " + uploadId + " of " + putObjectRequest.key(), cause);
+            AbortMultipartUploadRequest request =
+                AbortMultipartUploadRequest.builder()
+                                           .bucket(putObjectRequest.bucket())
+                                           .key(putObjectRequest.key())
+                                           .uploadId(uploadId)
+                                           .requestPayer(putObjectRequest.requestPayerAsString())
+                                           .expectedBucketOwner(putObjectRequest.expectedBucketOwner())
+                                           .overrideConfiguration(putObjectRequest.overrideConfiguration().orElse(null))
+                                           .build();
+            s3AsyncClient.abortMultipartUpload(request)
+                         .exceptionally(t -> {
+                             log.warn(() -> "Failed to abort multipart upload " + uploadId + " of "
+                                            + putObjectRequest.key(), t);
+                             return null;
+                         });
+        }
+    }
+
+    /**
+     * An {@link AsyncRequestBody} over a buffered part. Unlike {@link AsyncRequestBody#fromByteBuffer(ByteBuffer)}, the part
+     * is not copied; every subscription, including those of retried attempts, reads it from the start.
+     */
+    private static final class PendingPart {
+        private final int partNumber;
+        private final ByteBuffer part;
+
+        private PendingPart(int partNumber, ByteBuffer part) {
+            this.partNumber = partNumber;
+            this.part = part;
+        }
+    }
+
+    private static final class PartRequestBody implements AsyncRequestBody {
+        private final ByteBuffer part;
+
+        private PartRequestBody(ByteBuffer part) {
+            this.part = part;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of((long) part.remaining());
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            if (s == null) {
+                throw new NullPointerException("Subscription MUST NOT be null.");
+            }
+
+            s.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    if (n > 0) {
+                        s.onNext(part.duplicate());
+                        s.onComplete();
+                    } else {
+                        s.onError(new IllegalArgumentException("§3.9: non-positive requests are not allowed!"));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -133,6 +134,42 @@ public class TransferProgressUpdater {
             });
     }
 
+    /**
+     * Wraps the response transformer of one ranged GET of a multipart download. The bytes of all parts add up to the
+     * progress of the transfer, whose size and end of stream are reported for the whole object through
+     * {@link #transferSizeDetermined(GetObjectResponse)} and {@link #endOfStreamReached()}. When the GET is retried, the
+     * bytes of the failed attempt are taken off the progress again.
+     */
+    public <ResultT> AsyncResponseTransformer<GetObjectResponse, ResultT> wrapPartResponseTransformer(
+        AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer) {
+        AtomicLong partBytesTransferred = new AtomicLong();
+        return AsyncResponseTransformerListener.wrap(
+            responseTransformer,
+            new AsyncResponseTransformerListener<GetObjectResponse>() {
+                @Override
+                public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
+                    long previousAttemptBytes = partBytesTransferred.getAndSet(0);
+                    if (previousAttemptBytes > 0) {
+                        progress.updateAndGet(b -> b.bytesTransferred(b.getBytesTransferred() - previousAttemptBytes));
+                    }
+                }
+
+                @Override
+                public void subscriberOnNext(ByteBuffer byteBuffer) {
+                    partBytesTransferred.addAndGet(byteBuffer.limit());
+                    incrementBytesTransferred(byteBuffer.limit());
+                }
+            });
+    }
+
+    public void transferSizeDetermined(GetObjectResponse objectResponse) {
+        progress.updateAndGet(b -> b.transferSizeInBytes(objectResponse.contentLength()).sdkResponse(objectResponse));
+    }
+
+    public void endOfStreamReached() {
+        endOfStreamFuture.complete(null);
+    }
+
     private void resetBytesTransferred() {
         progress.updateAndGet(b -> b.bytesTransferred(0));
     }
@@ -0,0 +1,331 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * A local stand-in for S3 that keeps objects in memory. It implements the operations used by multipart transfers,
+ * completes them asynchronously on its own threads, and records the requests it receives and the highest number of
+ * concurrent part requests. Like S3, it validates the CRC32 checksums sent with parts and returns the composite CRC32
+ * checksum of a multipart object.
+ */
+class InMemoryS3AsyncClient implements S3AsyncClient {
+    private static final int RESPONSE_CHUNK_SIZE = 4096;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final Map<String, ChecksumAlgorithm> multipartChecksumAlgorithms = new ConcurrentHashMap<>();
+    private final List<Object> requests = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger concurrentPartRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentPartRequests = new AtomicInteger();
+    private volatile Predicate<Object> failingRequests = r -> false;
+    private volatile boolean corruptObjectChecksums;
+    private volatile Duration partLatency = Duration.ZERO;
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    void putStoredObject(String bucket, String key, byte[] content) {
+        objects.put(bucket + "/" + key, new StoredObject(content, UUID.randomUUID().toString()));
+    }
+
+    byte[] storedObject(String bucket, String key) {
+        StoredObject object = objects.get(bucket + "/" + key);
+        return object == null ? null : object.content;
+    }
+
+    /**
+     * Makes the requests matching the predicate fail with an internal error.
+     */
+    void failRequests(Predicate<Object> predicate) {
+        this.failingRequests = predicate;
+    }
+
+    /**
+     * Makes completed multipart uploads return a wrong object checksum.
+     */
+    void corruptObjectChecksums() {
+        this.corruptObjectChecksums = true;
+    }
+
+    /**
+     * Makes every part request take at least the given time, so that tests of concurrency do not depend on how quickly the
+     * previous part completes.
+     */
+    void partLatency(Duration partLatency) {
+        this.partLatency = partLatency;
+    }
+
+    <T> List<T> requests(Class<T> requestType) {
+        List<T> result = new ArrayList<>();
+        synchronized (requests) {
+            requests.stream().filter(requestType::isInstance).map(requestType::cast).forEach(result::add);
+        }
+        return result;
+    }
+
+    int maxConcurrentPartRequests() {
+        return maxConcurrentPartRequests.get();
+    }
+
+    int openMultipartUploads() {
+        return multipartUploads.size();
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody requestBody) {
+        return handle(request, () -> {
+            String eTag = UUID.randomUUID().toString();
+            objects.put(request.bucket() + "/" + request.key(), new StoredObject(readFully(requestBody), eTag));
+            return PutObjectResponse.builder().eTag(eTag).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        return handle(request, () -> {
+            String uploadId = UUID.randomUUID().toString();
+            multipartUploads.put(uploadId, new ConcurrentHashMap<>());
+            if (request.checksumAlgorithm() != null) {
+                multipartChecksumAlgorithms.put(uploadId, request.checksumAlgorithm());
+            }
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody requestBody) {
+        partRequestStarted();
+        CompletableFuture<UploadPartResponse> future = handle(request, () -> {
+            simulatePartLatency();
+            byte[] part = readFully(requestBody);
+            if (part.length != request.contentLength()) {
+                throw error(400, "IncompleteBody");
+            }
+            Map<Integer, byte[]> parts = multipartUploads.get(request.uploadId());
+            if (parts == null) {
+                throw error(404, "NoSuchUpload");
+            }
+            String checksum = null;
+            if (request.checksumCRC32() != null) {
+                checksum = crc32(part);
+                if (!checksum.equals(request.checksumCRC32())) {
+                    throw error(400, "BadDigest");
+                }
+            }
+            parts.put(request.partNumber(), part);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).checksumCRC32(checksum).build();
+        });
+        return future.whenComplete((r, t) -> concurrentPartRequests.decrementAndGet());
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        return handle(request, () -> {
+            Map<Integer, byte[]> parts = multipartUploads.remove(request.uploadId());
+            if (parts == null) {
+                throw error(404, "NoSuchUpload");
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            SdkChecksum objectChecksum = SdkChecksum.forAlgorithm(Algorithm.CRC32);
+            boolean hasPartChecksums = multipartChecksumAlgorithms.remove(request.uploadId()) == ChecksumAlgorithm.CRC32;
+            int expectedPartNumber = 1;
+            for (CompletedPart completedPart : request.multipartUpload().parts()) {
+                if (completedPart.partNumber() != expectedPartNumber++ || !parts.containsKey(completedPart.partNumber())) {
+                    throw error(400, "InvalidPartOrder");
+                }
+                byte[] part = parts.get(completedPart.partNumber());
+                content.write(part, 0, part.length);
+                hasPartChecksums &= completedPart.checksumCRC32() != null;
+                if (hasPartChecksums) {
+                    objectChecksum.update(BinaryUtils.fromBase64(completedPart.checksumCRC32()));
+                }
+            }
+            if (corruptObjectChecksums) {
+                objectChecksum.update(0);
+            }
+            String eTag = UUID.randomUUID() + "-" + parts.size();
+            objects.put(request.bucket() + "/" + request.key(), new StoredObject(content.toByteArray(), eTag));
+            return CompleteMultipartUploadResponse.builder()
+                                                  .eTag(eTag)
+                                                  .checksumCRC32(hasPartChecksums
+                                                                 ? BinaryUtils.toBase64(objectChecksum.getChecksumBytes())
+                                                                   + "-" + parts.size()
+                                                                 : null)
+                                                  .build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        return handle(request, () -> {
+            multipartUploads.remove(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        });
+    }
+
+    @Override
+    public <ReturnT> CompletableFuture<ReturnT> getObject(
+        GetObjectRequest request, AsyncResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        partRequestStarted();
+        CompletableFuture<ReturnT> future = responseTransformer.prepare();
+        handle(request, () -> {
+            simulatePartLatency();
+            StoredObject object = objects.get(request.bucket() + "/" + request.key());
+            if (object == null) {
+                throw error(404, "NoSuchKey");
+            }
+            if (request.ifMatch() != null && !request.ifMatch().equals(object.eTag)) {
+                throw error(412, "PreconditionFailed");
+            }
+
+            int size = object.content.length;
+            GetObjectResponse.Builder response = GetObjectResponse.builder().eTag(object.eTag);
+            int start = 0;
+            int end = size - 1;
+            if (request.range() != null) {
+                String[] range = request.range().substring("bytes=".length()).split("-");
+                start = Integer.parseInt(range[0]);
+                end = Math.min(end, Integer.parseInt(range[1]));
+                if (start >= size) {
+                    throw error(416, "InvalidRange");
+                }
+                response.contentRange("bytes " + start + "-" + end + "/" + size);
+            }
+            response.contentLength((long) end - start + 1);
+
+            List<ByteBuffer> chunks = new ArrayList<>();
+            for (int i = start; i <= end; i += RESPONSE_CHUNK_SIZE) {
+                chunks.add(ByteBuffer.wrap(Arrays.copyOfRange(object.content, i, Math.min(end + 1, i + RESPONSE_CHUNK_SIZE))));
+            }
+            responseTransformer.onResponse(response.build());
+            responseTransformer.onStream(SdkPublisher.adapt(Flowable.fromIterable(chunks)));
+            return null;
+        }).whenComplete((r, t) -> {
+            if (t != null) {
+                responseTransformer.exceptionOccurred(t);
+            }
+        });
+        return future.whenComplete((r, t) -> concurrentPartRequests.decrementAndGet());
+    }
+
+    private void partRequestStarted() {
+        int concurrent = concurrentPartRequests.incrementAndGet();
+        maxConcurrentPartRequests.accumulateAndGet(concurrent, Math::max);
+    }
+
+    private void simulatePartLatency() throws InterruptedException {
+        if (!partLatency.isZero()) {
+            Thread.sleep(partLatency.toMillis());
+        }
+    }
+
+    private <T> CompletableFuture<T> handle(Object request, ThrowingSupplier<T> operation) {
+        requests.add(request);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                if (failingRequests.test(request)) {
+                    throw error(500, "InternalError");
+                }
+                future.complete(operation.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private static byte[] readFully(AsyncRequestBody requestBody) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Flowable.fromPublisher(requestBody).blockingForEach(buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            content.write(bytes, 0, bytes.length);
+        });
+        return content.toByteArray();
+    }
+
+    private static String crc32(byte[] data) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32);
+        checksum.update(data);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+
+    private static S3Exception error(int statusCode, String message) {
+        return (S3Exception) S3Exception.builder().statusCode(statusCode).message(message).build();
+    }
+
+    private interface ThrowingSupplier<T> {
+        T get() throws Exception;
+    }
+
+    private static final class StoredObject {
+        private final byte[] content;
+        private final String eTag;
+
+        private StoredObject(byte[] content, String eTag) {
+            this.content = content;
+            this.eTag = eTag;
+        }
+    }
+}
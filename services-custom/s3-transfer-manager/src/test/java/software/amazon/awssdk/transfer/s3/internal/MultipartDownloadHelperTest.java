@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.transfer.s3.DownloadFileRequest;
+import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
+
+public class MultipartDownloadHelperTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PART_SIZE = 64 * 1024;
+    private static final int MAX_CONCURRENCY = 4;
+
+    private FileSystem jimfs;
+    private Path destination;
+    private InMemoryS3AsyncClient s3;
+    private MultipartDownloadHelper helper;
+    private TransferProgressUpdater progressUpdater;
+
+    @BeforeEach
+    public void setUp() {
+        jimfs = Jimfs.newFileSystem();
+        destination = jimfs.getPath("destination");
+        s3 = new InMemoryS3AsyncClient();
+        helper = new MultipartDownloadHelper(s3, PART_SIZE, MAX_CONCURRENCY);
+        progressUpdater = new TransferProgressUpdater(DownloadFileRequest.builder()
+                                                                         .getObjectRequest(getObjectRequest())
+                                                                         .destination(destination)
+                                                                         .build(), null);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        s3.close();
+        jimfs.close();
+    }
+
+    @Test
+    public void downloadToFile_largerThanPartSize_downloadsRangesConcurrently() throws IOException {
+        s3.partLatency(Duration.ofMillis(20));
+        byte[] content = randomBytes(16 * PART_SIZE + 123);
+        s3.putStoredObject(BUCKET, KEY, content);
+
+        GetObjectResponse response = helper.downloadToFile(getObjectRequest(), destination, progressUpdater).join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(response.contentLength()).isEqualTo(content.length);
+        assertThat(response.contentRange()).isNull();
+        assertThat(progressUpdater.progress().snapshot().bytesTransferred()).isEqualTo(content.length);
+        assertThat(progressUpdater.progress().snapshot().transferSizeInBytes()).hasValue((long) content.length);
+        assertThat(s3.maxConcurrentPartRequests()).isGreaterThan(1).isLessThanOrEqualTo(MAX_CONCURRENCY);
+
+        List<GetObjectRequest> requests = s3.requests(GetObjectRequest.class);
+        assertThat(requests).hasSize(17);
+        assertThat(requests.get(0).range()).isEqualTo("bytes=0-" + (PART_SIZE - 1));
+        assertThat(requests.get(0).ifMatch()).isNull();
+        assertThat(requests.subList(1, requests.size())).extracting(GetObjectRequest::ifMatch)
+                                                        .containsOnly(response.eTag());
+    }
+
+    @Test
+    public void downloadToFile_fitsInOnePart_sendsSingleRequest() throws IOException {
+        byte[] content = randomBytes(PART_SIZE / 2);
+        s3.putStoredObject(BUCKET, KEY, content);
+
+        helper.downloadToFile(getObjectRequest(), destination, progressUpdater).join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(s3.requests(GetObjectRequest.class)).hasSize(1);
+    }
+
+    @Test
+    public void downloadToFile_emptyObject_createsEmptyFile() throws IOException {
+        s3.putStoredObject(BUCKET, KEY, new byte[0]);
+
+        GetObjectResponse response = helper.downloadToFile(getObjectRequest(), destination, progressUpdater).join();
+
+        assertThat(response.contentLength()).isZero();
+        assertThat(Files.size(destination)).isZero();
+    }
+
+    @Test
+    public void downloadToFile_existingFile_isReplaced() throws IOException {
+        byte[] content = randomBytes(2 * PART_SIZE);
+        s3.putStoredObject(BUCKET, KEY, content);
+        Files.write(destination, randomBytes(5 * PART_SIZE));
+
+        helper.downloadToFile(getObjectRequest(), destination, progressUpdater).join();
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+    }
+
+    @Test
+    public void downloadToFile_partFails_deletesFile() {
+        s3.putStoredObject(BUCKET, KEY, randomBytes(8 * PART_SIZE));
+        s3.failRequests(r -> r instanceof GetObjectRequest && ((GetObjectRequest) r).range().startsWith("bytes=" + 3 * PART_SIZE));
+
+        assertThatThrownBy(() -> helper.downloadToFile(getObjectRequest(), destination, progressUpdater).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(S3Exception.class);
+        assertThat(destination).doesNotExist();
+    }
+
+    @Test
+    public void objectSize_parsesContentRange() {
+        GetObjectResponse response = GetObjectResponse.builder()
+                                                      .contentLength(100L)
+                                                      .contentRange("bytes 0-99/12345678901")
+                                                      .build();
+        assertThat(MultipartDownloadHelper.objectSize(response)).isEqualTo(12345678901L);
+        assertThat(MultipartDownloadHelper.objectSize(response.toBuilder().contentRange(null).build())).isEqualTo(100L);
+    }
+
+    private static GetObjectRequest getObjectRequest() {
+        return GetObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
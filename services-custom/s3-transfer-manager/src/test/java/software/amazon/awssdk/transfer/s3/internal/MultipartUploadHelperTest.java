@@ -0,0 +1,238 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class MultipartUploadHelperTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PART_SIZE = 64 * 1024;
+    private static final int MAX_CONCURRENCY = 4;
+
+    private InMemoryS3AsyncClient s3;
+    private MultipartUploadHelper helper;
+
+    @BeforeEach
+    public void setUp() {
+        s3 = new InMemoryS3AsyncClient();
+        helper = new MultipartUploadHelper(s3, PART_SIZE, MAX_CONCURRENCY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        s3.close();
+    }
+
+    @Test
+    public void uploadObject_largerThanPartSize_uploadsPartsConcurrently() {
+        s3.partLatency(Duration.ofMillis(20));
+        byte[] content = randomBytes(16 * PART_SIZE + 123);
+
+        PutObjectResponse response = helper.uploadObject(putObjectRequest(), inChunks(content, 1000, true))
+                                           .join();
+
+        assertThat(response.eTag()).endsWith("-17");
+        assertThat(s3.storedObject(BUCKET, KEY)).isEqualTo(content);
+        assertThat(s3.requests(CreateMultipartUploadRequest.class)).hasSize(1);
+        assertThat(s3.requests(UploadPartRequest.class)).hasSize(17);
+        assertThat(s3.requests(CompleteMultipartUploadRequest.class)).hasSize(1);
+        assertThat(s3.maxConcurrentPartRequests()).isGreaterThan(1).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void uploadObject_bufferSpanningManyParts_staysWithinMaxConcurrency() {
+        s3.partLatency(Duration.ofMillis(20));
+        byte[] content = randomBytes(10 * PART_SIZE + 123);
+
+        helper.uploadObject(putObjectRequest(), inChunks(content, content.length, true)).join();
+
+        assertThat(s3.storedObject(BUCKET, KEY)).isEqualTo(content);
+        assertThat(s3.requests(UploadPartRequest.class)).hasSize(11);
+        assertThat(s3.maxConcurrentPartRequests()).isEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void uploadObject_unknownContentLength_usesMultipartUpload() {
+        byte[] content = randomBytes(3 * PART_SIZE + 1);
+
+        helper.uploadObject(putObjectRequest(), inChunks(content, 7777, false)).join();
+
+        assertThat(s3.storedObject(BUCKET, KEY)).isEqualTo(content);
+        assertThat(s3.requests(UploadPartRequest.class)).extracting(UploadPartRequest::contentLength)
+                                                        .containsExactlyInAnyOrder((long) PART_SIZE, (long) PART_SIZE,
+                                                                                   (long) PART_SIZE, 1L);
+    }
+
+    @Test
+    public void uploadObject_fitsInOnePart_usesPutObject() {
+        byte[] content = randomBytes(PART_SIZE);
+
+        helper.uploadObject(putObjectRequest(), AsyncRequestBody.fromBytes(content)).join();
+
+        assertThat(s3.storedObject(BUCKET, KEY)).isEqualTo(content);
+        assertThat(s3.requests(PutObjectRequest.class)).hasSize(1);
+        assertThat(s3.requests(CreateMultipartUploadRequest.class)).isEmpty();
+    }
+
+    @Test
+    public void uploadObject_partFails_abortsUpload() throws InterruptedException {
+        s3.failRequests(r -> r instanceof UploadPartRequest && ((UploadPartRequest) r).partNumber() == 3);
+
+        assertThatThrownBy(() -> helper.uploadObject(putObjectRequest(), inChunks(randomBytes(8 * PART_SIZE), 1000, true))
+                                       .join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(S3Exception.class);
+
+        waitForAbort();
+        assertThat(s3.requests(AbortMultipartUploadRequest.class)).hasSize(1);
+        assertThat(s3.requests(CompleteMultipartUploadRequest.class)).isEmpty();
+        assertThat(s3.openMultipartUploads()).isZero();
+        assertThat(s3.storedObject(BUCKET, KEY)).isNull();
+    }
+
+    @Test
+    public void uploadObject_withChecksumAlgorithm_sendsPrecomputedPartChecksums() {
+        byte[] content = randomBytes(5 * PART_SIZE + 17);
+        PutObjectRequest request = putObjectRequest().toBuilder().checksumAlgorithm(ChecksumAlgorithm.CRC32).build();
+
+        PutObjectResponse response = helper.uploadObject(request, inChunks(content, 1000, true)).join();
+
+        assertThat(s3.storedObject(BUCKET, KEY)).isEqualTo(content);
+        List<UploadPartRequest> partRequests = s3.requests(UploadPartRequest.class);
+        assertThat(partRequests).hasSize(6);
+        for (UploadPartRequest partRequest : partRequests) {
+            int offset = (partRequest.partNumber() - 1) * PART_SIZE;
+            assertThat(partRequest.checksumCRC32())
+                .isEqualTo(crc32(content, offset, Math.min(PART_SIZE, content.length - offset)));
+        }
+        assertThat(response.checksumCRC32()).endsWith("-6");
+    }
+
+    @Test
+    public void uploadObject_objectChecksumDoesNotMatchParts_fails() {
+        s3.corruptObjectChecksums();
+        PutObjectRequest request = putObjectRequest().toBuilder().checksumAlgorithm(ChecksumAlgorithm.CRC32).build();
+
+        assertThatThrownBy(() -> helper.uploadObject(request, inChunks(randomBytes(3 * PART_SIZE), 1000, true)).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("does not match the checksum computed from its parts");
+        assertThat(s3.requests(AbortMultipartUploadRequest.class)).isEmpty();
+    }
+
+    @Test
+    public void uploadObject_knownLengthNeedsMoreThanMaxParts_raisesPartSize() {
+        MultipartUploadHelper onePerByteHelper = new MultipartUploadHelper(s3, 1, 16);
+        byte[] content = randomBytes(10_001);
+
+        onePerByteHelper.uploadObject(putObjectRequest(), inChunks(content, 1000, true)).join();
+
+        assertThat(s3.storedObject(BUCKET, KEY)).isEqualTo(content);
+        assertThat(s3.requests(UploadPartRequest.class)).hasSize(5001)
+                                                        .allSatisfy(r -> assertThat(r.contentLength()).isLessThanOrEqualTo(2));
+    }
+
+    @Test
+    public void uploadObject_unknownLengthNeedsMoreThanMaxParts_failsAndAborts() throws InterruptedException {
+        MultipartUploadHelper onePerByteHelper = new MultipartUploadHelper(s3, 1, 16);
+
+        assertThatThrownBy(() -> onePerByteHelper.uploadObject(putObjectRequest(), inChunks(randomBytes(10_001), 1000, false))
+                                                 .join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("larger than 10000 parts of 1 bytes");
+
+        waitForAbort();
+        assertThat(s3.requests(AbortMultipartUploadRequest.class)).hasSize(1);
+        assertThat(s3.requests(UploadPartRequest.class)).hasSizeLessThanOrEqualTo(10_000);
+        assertThat(s3.requests(CompleteMultipartUploadRequest.class)).isEmpty();
+    }
+
+    private void waitForAbort() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (s3.openMultipartUploads() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static PutObjectRequest putObjectRequest() {
+        return PutObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+
+    private static AsyncRequestBody inChunks(byte[] content, int chunkSize, boolean knownLength) {
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < content.length; i += chunkSize) {
+            chunks.add(ByteBuffer.wrap(content, i, Math.min(chunkSize, content.length - i)).slice());
+        }
+        AsyncRequestBody body = AsyncRequestBody.fromPublisher(Flowable.fromIterable(chunks));
+        if (!knownLength) {
+            return body;
+        }
+        return new AsyncRequestBody() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of((long) content.length);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                body.subscribe(s);
+            }
+        };
+    }
+
+    private static String crc32(byte[] data, int offset, int length) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(data, offset, length);
+        long value = crc32.getValue();
+        return BinaryUtils.toBase64(new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8),
+                                                (byte) value});
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -22,7 +22,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.jimfs.Jimfs;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,10 +37,12 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.transfer.s3.CompletedCopy;
 import software.amazon.awssdk.transfer.s3.CompletedDownload;
 import software.amazon.awssdk.transfer.s3.CompletedFileDownload;
@@ -90,6 +97,39 @@ class S3TransferManagerTest {
         assertThat(completedFileUpload.response()).isEqualTo(response);
     }
 
+    @Test
+    void customS3AsyncClient_uploadAndDownloadFile_transfersInParts() throws Exception {
+        byte[] content = new byte[5 * 1024 * 1024 + 1];
+        new Random().nextBytes(content);
+
+        try (FileSystem jimfs = Jimfs.newFileSystem();
+             InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient();
+             S3TransferManager transferManager =
+                 S3TransferManager.builder()
+                                  .s3AsyncClient(s3)
+                                  .s3ClientConfiguration(b -> b.minimumPartSizeInBytes(1024L * 1024).maxConcurrency(3))
+                                  .build()) {
+            Path source = jimfs.getPath("source");
+            Path destination = jimfs.getPath("destination");
+            Files.write(source, content);
+
+            transferManager.uploadFile(u -> u.putObjectRequest(p -> p.bucket("bucket").key("key")).source(source))
+                           .completionFuture()
+                           .join();
+            CompletedFileDownload download =
+                transferManager.downloadFile(d -> d.getObjectRequest(g -> g.bucket("bucket").key("key"))
+                                                   .destination(destination))
+                               .completionFuture()
+                               .join();
+
+            assertThat(s3.requests(CreateMultipartUploadRequest.class)).hasSize(1);
+            assertThat(s3.requests(UploadPartRequest.class)).hasSize(6);
+            assertThat(s3.requests(GetObjectRequest.class)).hasSize(6);
+            assertThat(download.response().contentLength()).isEqualTo(content.length);
+            assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        }
+    }
+
     @Test
     public void upload_returnsResponse() {
         PutObjectResponse response = PutObjectResponse.builder().build();
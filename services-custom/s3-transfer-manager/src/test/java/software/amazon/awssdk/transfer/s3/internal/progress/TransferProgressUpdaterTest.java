@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.progress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.transfer.s3.DownloadFileRequest;
+
+public class TransferProgressUpdaterTest {
+
+    @Test
+    public void wrapPartResponseTransformer_retriedAttempt_countsBytesOfLastAttemptOnly() {
+        TransferProgressUpdater progressUpdater = progressUpdater();
+        AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> firstPart =
+            progressUpdater.wrapPartResponseTransformer(AsyncResponseTransformer.toBytes());
+        AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> secondPart =
+            progressUpdater.wrapPartResponseTransformer(AsyncResponseTransformer.toBytes());
+
+        firstPart.prepare();
+        firstPart.onResponse(GetObjectResponse.builder().build());
+        firstPart.onStream(publisher(100, 200));
+        secondPart.prepare();
+        secondPart.onResponse(GetObjectResponse.builder().build());
+        secondPart.onStream(SdkPublisher.adapt(Flowable.just(ByteBuffer.allocate(50))
+                                                       .concatWith(Flowable.error(new IOException("Connection reset")))));
+
+        assertThat(progressUpdater.progress().snapshot().bytesTransferred()).isEqualTo(350);
+
+        // The retry of the second part replaces the bytes of its failed attempt.
+        secondPart.prepare();
+        secondPart.onResponse(GetObjectResponse.builder().build());
+        secondPart.onStream(publisher(300));
+
+        assertThat(progressUpdater.progress().snapshot().bytesTransferred()).isEqualTo(600);
+    }
+
+    private static TransferProgressUpdater progressUpdater() {
+        return new TransferProgressUpdater(DownloadFileRequest.builder()
+                                                              .getObjectRequest(r -> r.bucket("bucket").key("key"))
+                                                              .destination(Paths.get("destination"))
+                                                              .build(), null);
+    }
+
+    private static SdkPublisher<ByteBuffer> publisher(Integer... chunkSizes) {
+        return SdkPublisher.adapt(Flowable.fromArray(chunkSizes).map(ByteBuffer::allocate));
+    }
+}
@@ -26,6 +26,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
@@ -46,7 +47,12 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         if (contentLength > 0) {
-            publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, contentLength));
+            if (s instanceof ReleasableBufferSubscriber) {
+                publisher.subscribe(new ReleasableChecksumValidatingSubscriber((ReleasableBufferSubscriber) s, sdkChecksum,
+                                                                               contentLength));
+            } else {
+                publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, contentLength));
+            }
         } else {
             publisher.subscribe(new ChecksumSkippingSubscriber(s));
         }
@@ -56,12 +62,12 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         private static final int CHECKSUM_SIZE = 16;
 
-        private final Subscriber<? super ByteBuffer> wrapped;
-        private final SdkChecksum sdkChecksum;
-        private final long strippedLength;
+        protected final Subscriber<? super ByteBuffer> wrapped;
+        protected final SdkChecksum sdkChecksum;
+        protected final long strippedLength;
 
-        private byte[] streamChecksum = new byte[CHECKSUM_SIZE];
-        private long lengthRead = 0;
+        protected byte[] streamChecksum = new byte[CHECKSUM_SIZE];
+        protected long lengthRead = 0;
 
         ChecksumValidatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
                                      SdkChecksum sdkChecksum,
@@ -149,6 +155,45 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
         }
     }
 
+    /**
+     * Validates the checksum of buffers that are still owned by the HTTP client, and passes the data in them on to a
+     * subscriber that releases them, instead of copying them.
+     */
+    private static final class ReleasableChecksumValidatingSubscriber extends ChecksumValidatingSubscriber
+        implements ReleasableBufferSubscriber {
+
+        private final ReleasableBufferSubscriber releasableWrapped;
+
+        ReleasableChecksumValidatingSubscriber(ReleasableBufferSubscriber wrapped,
+                                               SdkChecksum sdkChecksum,
+                                               long contentLength) {
+            super(wrapped, sdkChecksum, contentLength);
+            this.releasableWrapped = wrapped;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable releaseHook) {
+            int length = byteBuffer.remaining();
+            int dataBytes = (int) Math.max(0, Math.min(strippedLength - lengthRead, length));
+
+            ByteBuffer data = byteBuffer.duplicate();
+            data.limit(data.position() + dataBytes);
+            sdkChecksum.update(data.duplicate());
+
+            if (dataBytes < length) {
+                // The rest of the buffer is (part of) the checksum, see the copying onNext for the layout.
+                ByteBuffer checksum = byteBuffer.duplicate();
+                checksum.position(checksum.position() + dataBytes);
+                int streamChecksumOffset = toIntExact(lengthRead + dataBytes - strippedLength);
+                checksum.get(streamChecksum, streamChecksumOffset, checksum.remaining());
+            }
+            lengthRead += length;
+
+            // Always pass a buffer on, even an empty one, to satisfy the wrapped subscriber's demand and have it run the hook.
+            releasableWrapped.onNext(data.slice(), releaseHook);
+        }
+    }
+
     private static class ChecksumSkippingSubscriber implements Subscriber<ByteBuffer> {
         private static final int CHECKSUM_SIZE = 16;
 
@@ -0,0 +1,223 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.functionaltests;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableBufferSubscriber;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Verifies that GetObject responses reach a {@link ReleasableBufferSubscriber} as the Netty client's own buffers, through the
+ * interceptors that validate the response checksum, when the client is configured to use zero-copy response buffers.
+ */
+@WireMockTest
+public class ZeroCopyGetObjectTest {
+    // Not a valid DNS name, so that the request uses path-style addressing against the mock server
+    private static final String BUCKET = "Example-Bucket";
+    private static final byte[] CONTENT = randomBytes(256 * 1024);
+
+    private S3AsyncClient s3;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wm) {
+        s3 = S3AsyncClient.builder()
+                          .region(Region.US_EAST_1)
+                          .endpointOverride(URI.create(wm.getHttpBaseUrl()))
+                          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                          .httpClientBuilder(NettyNioAsyncHttpClient.builder().useZeroCopyResponseBuffers(true))
+                          .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        s3.close();
+    }
+
+    @Test
+    public void getObject_trailingMd5Checksum_buffersReleasedNotCopied() throws Exception {
+        stubBody(aResponse().withHeader("x-amz-transfer-encoding", "append-md5"),
+                 withTrailingChecksum(CONTENT, md5(CONTENT)));
+
+        RecordingTransformer transformer = new RecordingTransformer();
+        byte[] result = s3.getObject(r -> r.bucket(BUCKET).key("key"), transformer).join();
+
+        assertThat(result).isEqualTo(CONTENT);
+        transformer.assertBuffersReleasedNotCopied();
+    }
+
+    @Test
+    public void getObject_wrongTrailingMd5Checksum_failsAndReleasesBuffers() throws Exception {
+        byte[] wrongChecksum = md5(CONTENT);
+        wrongChecksum[0]++;
+        stubBody(aResponse().withHeader("x-amz-transfer-encoding", "append-md5"),
+                 withTrailingChecksum(CONTENT, wrongChecksum));
+
+        RecordingTransformer transformer = new RecordingTransformer();
+        assertThatThrownBy(() -> s3.getObject(r -> r.bucket(BUCKET).key("key"), transformer).join())
+            .isInstanceOf(CompletionException.class)
+            .hasMessageContaining("Data read has a different checksum than expected");
+        transformer.assertBuffersReleasedNotCopied();
+    }
+
+    @Test
+    public void getObject_flexibleChecksum_buffersReleasedNotCopied() {
+        CRC32 crc32 = new CRC32();
+        crc32.update(CONTENT, 0, CONTENT.length);
+        byte[] checksum = ByteBuffer.allocate(4).putInt((int) crc32.getValue()).array();
+        stubBody(aResponse().withHeader("x-amz-checksum-crc32", BinaryUtils.toBase64(checksum)), CONTENT);
+
+        RecordingTransformer transformer = new RecordingTransformer();
+        byte[] result = s3.getObject(r -> r.bucket(BUCKET).key("key").checksumMode(ChecksumMode.ENABLED), transformer)
+                          .join();
+
+        assertThat(result).isEqualTo(CONTENT);
+        transformer.assertBuffersReleasedNotCopied();
+    }
+
+    private static void stubBody(ResponseDefinitionBuilder response, byte[] body) {
+        stubFor(any(anyUrl()).willReturn(response.withStatus(200)
+                                                 .withHeader("Content-Length", String.valueOf(body.length))
+                                                 .withBody(body)));
+    }
+
+    private static byte[] withTrailingChecksum(byte[] content, byte[] checksum) {
+        byte[] body = new byte[content.length + checksum.length];
+        System.arraycopy(content, 0, body, 0, content.length);
+        System.arraycopy(checksum, 0, body, content.length, checksum.length);
+        return body;
+    }
+
+    private static byte[] md5(byte[] content) throws Exception {
+        return MessageDigest.getInstance("MD5").digest(content);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class RecordingTransformer implements AsyncResponseTransformer<GetObjectResponse, byte[]>,
+                                                               ReleasableBufferSubscriber {
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final AtomicInteger releasableBuffers = new AtomicInteger();
+        private final AtomicInteger releasedBuffers = new AtomicInteger();
+        private final AtomicInteger copiedBuffers = new AtomicInteger();
+        private final CompletableFuture<Void> streamFinished = new CompletableFuture<>();
+        private CompletableFuture<byte[]> future;
+        private Subscription subscription;
+
+        @Override
+        public CompletableFuture<byte[]> prepare() {
+            future = new CompletableFuture<>();
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            publisher.subscribe(this);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            future.completeExceptionally(error);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            copiedBuffers.incrementAndGet();
+            append(buffer);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer, Runnable releaseHook) {
+            releasableBuffers.incrementAndGet();
+            try {
+                append(buffer);
+            } finally {
+                releasedBuffers.incrementAndGet();
+                releaseHook.run();
+            }
+            subscription.request(1);
+        }
+
+        private void append(ByteBuffer buffer) {
+            byte[] bytes = BinaryUtils.copyBytesFrom(buffer);
+            content.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            streamFinished.complete(null);
+            future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            streamFinished.complete(null);
+            future.complete(content.toByteArray());
+        }
+
+        private void assertBuffersReleasedNotCopied() {
+            streamFinished.join();
+            assertThat(copiedBuffers).hasValue(0);
+            assertThat(releasableBuffers.get()).isPositive();
+            assertThat(releasedBuffers).hasValue(releasableBuffers.get());
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
@@ -49,6 +50,7 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
     protected final String key;
     protected final String path;
     private final File file;
+    private final S3AsyncClient javaS3;
 
     BaseTransferManagerBenchmark(TransferManagerBenchmarkConfig config) {
         logger.info(() -> "Benchmark config: " + config);
@@ -59,9 +61,12 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
                              .build();
         s3Sync = S3Client.builder()
                          .build();
+        javaS3 = config.javaClient() ? S3AsyncClient.builder().build() : null;
         transferManager = S3TransferManager.builder()
+                                           .s3AsyncClient(javaS3)
                                            .s3ClientConfiguration(b -> b.targetThroughputInGbps(config.targetThroughput())
-                                           .minimumPartSizeInBytes(partSizeInMb))
+                                           .minimumPartSizeInBytes(partSizeInMb)
+                                           .maxConcurrency(config.maxConcurrency()))
                                            .build();
         bucket = config.bucket();
         key = config.key();
@@ -119,6 +124,9 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
     private void cleanup() {
         s3Sync.deleteObject(b -> b.bucket(bucket).key(WARMUP_KEY));
         transferManager.close();
+        if (javaS3 != null) {
+            javaS3.close();
+        }
     }
 
     private void warmUp() throws InterruptedException {
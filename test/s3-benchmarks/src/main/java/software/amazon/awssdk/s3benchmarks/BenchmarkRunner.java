@@ -29,6 +29,8 @@ public class BenchmarkRunner {
     private static final String MAX_THROUGHPUT = "maxThroughput";
     private static final String KEY = "key";
     private static final String OPERATION = "operation";
+    private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String CLIENT = "client";
 
     private BenchmarkRunner() {
     }
@@ -45,6 +47,8 @@ public class BenchmarkRunner {
         options.addRequiredOption(null, OPERATION, true, "The operation to benchmark against");
         options.addOption(null, PART_SIZE_IN_MB, true, "Part size in MB");
         options.addOption(null, MAX_THROUGHPUT, true, "The max throughput");
+        options.addOption(null, MAX_CONCURRENCY, true, "The max number of concurrent part requests");
+        options.addOption(null, CLIENT, true, "The S3 client to transfer with: crt (default) or java");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -72,11 +76,18 @@ public class BenchmarkRunner {
         Double maxThroughput = cmd.getOptionValue(MAX_THROUGHPUT) == null ? null :
                                Double.parseDouble(cmd.getOptionValue(MAX_THROUGHPUT));
 
+        Integer maxConcurrency = cmd.getOptionValue(MAX_CONCURRENCY) == null ? null :
+                                 Integer.parseInt(cmd.getOptionValue(MAX_CONCURRENCY));
+
+        boolean javaClient = "java".equalsIgnoreCase(cmd.getOptionValue(CLIENT));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
                                              .partSizeInMb(partSize)
                                              .targetThroughput(maxThroughput)
+                                             .maxConcurrency(maxConcurrency)
+                                             .javaClient(javaClient)
                                              .filePath(filePath)
                                              .build();
     }
@@ -21,6 +21,8 @@ public class TransferManagerBenchmarkConfig {
     private final String key;
     private final Double targetThroughput;
     private final Long partSizeInMb;
+    private final Integer maxConcurrency;
+    private final boolean javaClient;
 
     private TransferManagerBenchmarkConfig(Builder builder) {
         this.filePath = builder.filePath;
@@ -28,6 +30,8 @@ public class TransferManagerBenchmarkConfig {
         this.key = builder.key;
         this.targetThroughput = builder.targetThroughput;
         this.partSizeInMb = builder.partSizeInMb;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.javaClient = builder.javaClient;
     }
 
     public String filePath() {
@@ -50,6 +54,18 @@ public class TransferManagerBenchmarkConfig {
         return partSizeInMb;
     }
 
+    public Integer maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return whether the transfer manager should transfer through the Java-based {@code S3AsyncClient} instead of the
+     * CRT-based client.
+     */
+    public boolean javaClient() {
+        return javaClient;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -62,6 +78,8 @@ public class TransferManagerBenchmarkConfig {
                ", key: '" + key + '\'' +
                ", targetThroughput: " + targetThroughput +
                ", partSizeInMB: " + partSizeInMb +
+               ", maxConcurrency: " + maxConcurrency +
+               ", javaClient: " + javaClient +
                '}';
     }
 
@@ -71,6 +89,8 @@ public class TransferManagerBenchmarkConfig {
         private String key;
         private Double targetThroughput;
         private Long partSizeInMb;
+        private Integer maxConcurrency;
+        private boolean javaClient;
 
         public Builder filePath(String filePath) {
             this.filePath = filePath;
@@ -97,6 +117,16 @@ public class TransferManagerBenchmarkConfig {
             return this;
         }
 
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder javaClient(boolean javaClient) {
+            this.javaClient = javaClient;
+            return this;
+        }
+
         public TransferManagerBenchmarkConfig build() {
             return new TransferManagerBenchmarkConfig(this);
         }
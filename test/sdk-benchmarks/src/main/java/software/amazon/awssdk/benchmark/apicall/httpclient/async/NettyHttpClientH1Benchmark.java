@@ -21,8 +21,12 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.getSslProvid
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
 
 import io.netty.handler.ssl.SslProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
@@ -34,18 +38,23 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.LargePayloadServlet;
 import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
- * Using netty client to test against local mock https server.
+ * Using netty client to test against local mock https server. The download benchmarks stream a large response body, with
+ * and without zero-copy response buffers; add the GC profiler to compare their allocation rates.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -56,19 +65,25 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
     private MockServer mockServer;
     private SdkAsyncHttpClient sdkHttpClient;
+    private Path downloadDirectory;
 
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    @Param({"false", "true"})
+    private boolean zeroCopyResponseBuffers;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
         mockServer.start();
+        downloadDirectory = Files.createTempDirectory("netty-download-benchmark");
 
         SslProvider sslProvider = getSslProvider(sslProviderValue);
 
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .useZeroCopyResponseBuffers(zeroCopyResponseBuffers)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpsUri())
@@ -77,6 +92,9 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
         // Making sure the request actually succeeds
         client.allTypes().join();
+        if (downloadToBytes().asByteArrayUnsafe().length != LargePayloadServlet.PAYLOAD_SIZE) {
+            throw new IllegalStateException("Unexpected payload size");
+        }
     }
 
     @TearDown(Level.Trial)
@@ -84,6 +102,26 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
         mockServer.stop();
         sdkHttpClient.close();
         client.close();
+        Files.deleteIfExists(downloadDirectory);
+    }
+
+    @Benchmark
+    public void downloadToBytes(Blackhole blackhole) {
+        blackhole.consume(downloadToBytes());
+    }
+
+    @Benchmark
+    public void downloadToFile(Blackhole blackhole) throws IOException {
+        Path file = downloadDirectory.resolve("download");
+        try {
+            blackhole.consume(client.streamingOutputOperation(r -> { }, AsyncResponseTransformer.toFile(file)).join());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private ResponseBytes<?> downloadToBytes() {
+        return client.streamingOutputOperation(r -> { }, AsyncResponseTransformer.toBytes()).join();
     }
 
     public static void main(String... args) throws Exception {
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.async;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+
+/**
+ * Measures uploads of request bodies that are published in many small chunks through the netty client, with every chunk
+ * flushed and with flushes coalesced by {@link NettyNioAsyncHttpClient.Builder#requestBodyFlushThreshold(Integer)}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class NettyHttpClientSmallChunkUploadBenchmark {
+    private static final int CHUNK_COUNT = 1024;
+
+    private MockServer mockServer;
+    private SdkAsyncHttpClient sdkHttpClient;
+    private ProtocolRestJsonAsyncClient client;
+
+    @Param({"64", "1024"})
+    private int chunkSize;
+
+    @Param({"0", "16384"})
+    private int requestBodyFlushThreshold;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+
+        sdkHttpClient = NettyNioAsyncHttpClient.builder()
+                                               .requestBodyFlushThreshold(requestBodyFlushThreshold)
+                                               .build();
+        client = ProtocolRestJsonAsyncClient.builder()
+                                            .endpointOverride(mockServer.getHttpUri())
+                                            .httpClient(sdkHttpClient)
+                                            .build();
+
+        // Making sure the request actually succeeds
+        client.streamingInputOperation(r -> { }, new SmallChunkRequestBody(CHUNK_COUNT, chunkSize)).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        mockServer.stop();
+        sdkHttpClient.close();
+        client.close();
+    }
+
+    @Benchmark
+    public void upload(Blackhole blackhole) {
+        blackhole.consume(client.streamingInputOperation(r -> { }, new SmallChunkRequestBody(CHUNK_COUNT, chunkSize)).join());
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(NettyHttpClientSmallChunkUploadBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+
+    /**
+     * A request body that publishes a fixed number of equally-sized chunks, as an event-stream or
+     * {@code AsyncRequestBody.fromPublisher} source would.
+     */
+    private static final class SmallChunkRequestBody implements AsyncRequestBody {
+        private final int chunkCount;
+        private final byte[] chunk;
+
+        private SmallChunkRequestBody(int chunkCount, int chunkSize) {
+            this.chunkCount = chunkCount;
+            this.chunk = new byte[chunkSize];
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of((long) chunkCount * chunk.length);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            s.onSubscribe(new Subscription() {
+                private int published = 0;
+                private long demand = 0;
+                private boolean publishing = false;
+                private boolean done = false;
+
+                @Override
+                public void request(long n) {
+                    synchronized (this) {
+                        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                        if (publishing) {
+                            return;
+                        }
+                        publishing = true;
+                    }
+
+                    while (true) {
+                        synchronized (this) {
+                            if (done || demand == 0) {
+                                publishing = false;
+                                return;
+                            }
+                            demand--;
+                        }
+
+                        s.onNext(ByteBuffer.wrap(chunk));
+                        if (++published == chunkCount) {
+                            synchronized (this) {
+                                done = true;
+                            }
+                            s.onComplete();
+                        }
+                    }
+                }
+
+                @Override
+                public synchronized void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.sync;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.VirtualThreadFactory;
+
+/**
+ * Stress test for the synchronous clients when called from a very large number of virtual threads. Each invocation starts
+ * {@code callers} virtual threads that each make one API call and measures the time until all of them have completed.
+ *
+ * <p>Any monitor held while a caller blocks on I/O pins the caller's carrier thread, which shows up here as a collapse in
+ * throughput (or, with {@code -Djdk.tracePinnedThreads=full}, as pinned stack traces). Requires Java 21 or newer.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadStressBenchmark {
+
+    @Param({"100000"})
+    private int callers;
+
+    @Param({"apache", "url-connection"})
+    private String httpClient;
+
+    private MockServer mockServer;
+    private SdkHttpClient sdkHttpClient;
+    private ProtocolRestJsonClient client;
+    private ThreadFactory threadFactory;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        if (!VirtualThreadFactory.isSupported()) {
+            throw new IllegalStateException("This benchmark requires a JVM that supports virtual threads (Java 21+).");
+        }
+
+        mockServer = new MockServer();
+        mockServer.start();
+        sdkHttpClient = createHttpClient();
+        client = ProtocolRestJsonClient.builder()
+                                       .endpointOverride(mockServer.getHttpsUri())
+                                       .httpClient(sdkHttpClient)
+                                       .build();
+        threadFactory = new ThreadFactoryBuilder().threadNamePrefix("stress-caller")
+                                                  .virtualThreads(true)
+                                                  .build();
+
+        client.allTypes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        mockServer.stop();
+        sdkHttpClient.close();
+        client.close();
+    }
+
+    @Benchmark
+    public void virtualThreadCallers(Blackhole blackhole) {
+        CountDownLatch countDownLatch = new CountDownLatch(callers);
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < callers; i++) {
+            threadFactory.newThread(() -> {
+                try {
+                    blackhole.consume(client.allTypes());
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            }).start();
+        }
+
+        awaitCountdownLatchUninterruptibly(countDownLatch, 10, TimeUnit.MINUTES);
+
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " of " + callers + " calls failed.");
+        }
+    }
+
+    private SdkHttpClient createHttpClient() {
+        switch (httpClient) {
+            case "apache":
+                // Most callers wait for a connection, so the acquisition timeout has to cover the whole run.
+                return ApacheHttpClient.builder()
+                                       .maxConnections(500)
+                                       .connectionAcquisitionTimeout(Duration.ofMinutes(10))
+                                       .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
+            case "url-connection":
+                return UrlConnectionHttpClient.builder()
+                                              .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
+            default:
+                throw new IllegalArgumentException("Unknown HTTP client: " + httpClient);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(VirtualThreadStressBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
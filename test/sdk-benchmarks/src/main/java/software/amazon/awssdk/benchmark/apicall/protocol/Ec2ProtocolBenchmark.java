@@ -31,6 +31,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
@@ -48,13 +49,19 @@ import software.amazon.awssdk.services.protocolec2.ProtocolEc2Client;
 @BenchmarkMode(Mode.Throughput)
 public class Ec2ProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final int LARGE_RESPONSE_LIST_SIZE = 1000;
+
     private ProtocolEc2Client client;
+    private ProtocolEc2Client largeResponseClient;
 
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolEc2Client.builder()
                                   .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
                                   .build();
+        largeResponseClient = ProtocolEc2Client.builder()
+                                               .httpClient(new MockHttpClient(largeXmlBody(), ERROR_XML_BODY))
+                                               .build();
     }
 
     @Override
@@ -63,10 +70,33 @@ public class Ec2ProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(EC2_ALL_TYPES_REQUEST));
     }
 
+    /**
+     * Unmarshalls a response with large lists, similar to a page of EC2 DescribeInstances results, where the cost of parsing the
+     * payload dominates the cost of the call.
+     */
+    @Benchmark
+    public void largeSuccessfulResponse(Blackhole blackhole) {
+        blackhole.consume(largeResponseClient.allTypes(EC2_ALL_TYPES_REQUEST));
+    }
+
+    private static String largeXmlBody() {
+        StringBuilder body = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><AllTypesResponse>"
+                                               + "<stringMember>foo</stringMember><simpleList>");
+        for (int i = 0; i < LARGE_RESPONSE_LIST_SIZE; i++) {
+            body.append("<member>item").append(i).append("</member>");
+        }
+        body.append("</simpleList><listOfStructs>");
+        for (int i = 0; i < LARGE_RESPONSE_LIST_SIZE; i++) {
+            body.append("<member><StringMember>listOfStructs").append(i).append("</StringMember></member>");
+        }
+        return body.append("</listOfStructs></AllTypesResponse>").toString();
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(Ec2ProtocolBenchmark.class.getSimpleName())
             .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
             .build();
         new Runner(opt).run();
     }
@@ -31,6 +31,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
@@ -48,13 +49,19 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 @BenchmarkMode(Mode.Throughput)
 public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final int LARGE_RESPONSE_LIST_SIZE = 1000;
+
     private ProtocolRestJsonClient client;
+    private ProtocolRestJsonClient largeResponseClient;
 
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolRestJsonClient.builder()
                                        .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
                                        .build();
+        largeResponseClient = ProtocolRestJsonClient.builder()
+                                                    .httpClient(new MockHttpClient(largeJsonBody(), ERROR_JSON_BODY))
+                                                    .build();
     }
 
     @Override
@@ -63,10 +70,32 @@ public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
     }
 
+    /**
+     * Unmarshalls a response with large lists, similar to a page of DynamoDB Query or Scan results, where the cost of parsing
+     * the payload dominates the cost of the call.
+     */
+    @Benchmark
+    public void largeSuccessfulResponse(Blackhole blackhole) {
+        blackhole.consume(largeResponseClient.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
+    private static String largeJsonBody() {
+        StringBuilder body = new StringBuilder("{\"StringMember\":\"foo\",\"SimpleList\":[");
+        for (int i = 0; i < LARGE_RESPONSE_LIST_SIZE; i++) {
+            body.append(i == 0 ? "" : ",").append("\"item").append(i).append('"');
+        }
+        body.append("],\"ListOfStructs\":[");
+        for (int i = 0; i < LARGE_RESPONSE_LIST_SIZE; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"StringMember\":\"listOfStructs").append(i).append("\"}");
+        }
+        return body.append("]}").toString();
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(JsonProtocolBenchmark.class.getSimpleName())
             .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
             .build();
         new Runner(opt).run();
     }
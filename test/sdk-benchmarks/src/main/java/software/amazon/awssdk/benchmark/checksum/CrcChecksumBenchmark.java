@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.internal.checksums.factory.CrcChecksumProvider;
+import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
+import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+
+/**
+ * Compares the CRC32 and CRC32C implementations the SDK can choose between, and the {@link SdkChecksum} wrappers that use
+ * the selected one, over buffers from 1 KiB to 64 MiB.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class CrcChecksumBenchmark {
+
+    @Param({"1024", "65536", "1048576", "67108864"})
+    private int size;
+
+    private byte[] data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[size];
+        new Random(0).nextBytes(data);
+    }
+
+    @Benchmark
+    public long jdkCrc32() {
+        return checksum(CRC32::new);
+    }
+
+    @Benchmark
+    public long crtCrc32() {
+        return checksum(CrtBasedChecksumProvider::createCrc32);
+    }
+
+    @Benchmark
+    public long selectedCrc32C() {
+        return checksum(CrcChecksumProvider::createCrc32C);
+    }
+
+    @Benchmark
+    public long crtCrc32C() {
+        return checksum(CrtBasedChecksumProvider::createCrc32C);
+    }
+
+    @Benchmark
+    public long sdkCrc32C() {
+        return checksum(SdkCrc32C::create);
+    }
+
+    @Benchmark
+    public long sdkChecksumCrc32() {
+        return sdkChecksum(Algorithm.CRC32);
+    }
+
+    @Benchmark
+    public long sdkChecksumCrc32C() {
+        return sdkChecksum(Algorithm.CRC32C);
+    }
+
+    private long checksum(Supplier<Checksum> implementation) {
+        Checksum checksum = implementation.get();
+        checksum.update(data, 0, data.length);
+        return checksum.getValue();
+    }
+
+    private long sdkChecksum(Algorithm algorithm) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(data, 0, data.length);
+        return checksum.getValue();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CrcChecksumBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.chunkedencoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.signer.internal.chunkedencoding.AwsS3V4ChunkSigner;
+import software.amazon.awssdk.auth.signer.internal.chunkedencoding.AwsSignedChunkedEncodingInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.internal.async.ChecksumCalculatingAsyncRequestBody;
+import software.amazon.awssdk.core.internal.io.AwsUnsignedChunkedEncodingInputStream;
+
+/**
+ * Measures the throughput of AWS chunked encoding for large synthetic uploads, reading the encoded body the way an HTTP
+ * client would send it. The synthetic payload is generated on the fly so the measurement covers only the encoding.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChunkedEncodingBenchmark {
+
+    private static final String CHECKSUM_HEADER = "x-amz-checksum-crc32";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    @Param({"134217728", "5368709120"})
+    private long payloadSize;
+
+    private byte[] readBuffer;
+    private byte[] signingKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        readBuffer = new byte[READ_BUFFER_SIZE];
+        signingKey = new byte[32];
+    }
+
+    @Benchmark
+    public long unsignedWithTrailingChecksum() throws IOException {
+        InputStream encoded = AwsUnsignedChunkedEncodingInputStream.builder()
+                                                                   .inputStream(new SyntheticInputStream(payloadSize))
+                                                                   .sdkChecksum(SdkChecksum.forAlgorithm(Algorithm.CRC32))
+                                                                   .checksumHeaderForTrailer(CHECKSUM_HEADER)
+                                                                   .build();
+        return drain(encoded);
+    }
+
+    @Benchmark
+    public long signedWithTrailingChecksum() throws IOException {
+        AwsS3V4ChunkSigner chunkSigner = new AwsS3V4ChunkSigner(signingKey,
+                                                                "20210601T000000Z",
+                                                                "20210601/us-west-2/s3/aws4_request");
+        InputStream encoded = AwsSignedChunkedEncodingInputStream.builder()
+                                                                 .inputStream(new SyntheticInputStream(payloadSize))
+                                                                 .sdkChecksum(SdkChecksum.forAlgorithm(Algorithm.CRC32))
+                                                                 .checksumHeaderForTrailer(CHECKSUM_HEADER)
+                                                                 .awsChunkSigner(chunkSigner)
+                                                                 .headerSignature(Instant.EPOCH.toString())
+                                                                 .build();
+        return drain(encoded);
+    }
+
+    @Benchmark
+    public void asyncWithTrailingChecksum(Blackhole blackhole) {
+        AsyncRequestBody body = ChecksumCalculatingAsyncRequestBody.builder()
+                                                                   .asyncRequestBody(new SyntheticAsyncRequestBody(payloadSize))
+                                                                   .algorithm(Algorithm.CRC32)
+                                                                   .trailerHeader(CHECKSUM_HEADER)
+                                                                   .build();
+        body.subscribe(new DrainingSubscriber(blackhole));
+    }
+
+    private long drain(InputStream encoded) throws IOException {
+        long total = 0;
+        for (int count; (count = encoded.read(readBuffer, 0, readBuffer.length)) != -1; ) {
+            total += count;
+        }
+        return total;
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ChunkedEncodingBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+
+    /**
+     * An input stream of the given number of zero bytes, which does not allocate while it is read.
+     */
+    private static final class SyntheticInputStream extends InputStream {
+        private long remaining;
+
+        private SyntheticInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, remaining);
+            remaining -= count;
+            return count;
+        }
+    }
+
+    /**
+     * An async request body of the given number of zero bytes, published synchronously as slices of one buffer.
+     */
+    private static final class SyntheticAsyncRequestBody implements AsyncRequestBody {
+        private final long size;
+
+        private SyntheticAsyncRequestBody(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(size);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            ByteBuffer payloadBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            subscriber.onSubscribe(new Subscription() {
+                private long remaining = size;
+                private boolean emitting;
+                private long demand;
+
+                @Override
+                public void request(long n) {
+                    demand = n > Long.MAX_VALUE - demand ? Long.MAX_VALUE : demand + n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && remaining > 0) {
+                        demand--;
+                        ByteBuffer next = payloadBuffer.duplicate();
+                        next.limit((int) Math.min(READ_BUFFER_SIZE, remaining));
+                        remaining -= next.remaining();
+                        subscriber.onNext(next);
+                    }
+                    emitting = false;
+                    if (remaining == 0) {
+                        remaining = -1;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    remaining = -1;
+                }
+            });
+        }
+    }
+
+    private static final class DrainingSubscriber implements Subscriber<ByteBuffer> {
+        private final Blackhole blackhole;
+
+        private DrainingSubscriber(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            blackhole.consume(byteBuffer.remaining());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            blackhole.consume(t);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metrics;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.publishers.cloudwatch.CloudWatchMetricPublisher;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
+import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
+import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataResponse;
+
+/**
+ * Benchmark for the ingestion side of {@link CloudWatchMetricPublisher}: how many {@link MetricCollection}s per second
+ * multiple request threads can hand to {@link CloudWatchMetricPublisher#publish(MetricCollection)}.
+ *
+ * <p>{@code aggregationShards = 0} uses the default single-thread executor. Under sustained load that executor's queue fills
+ * up and collections are dropped, so its throughput numbers should be read together with the logged drop warnings. Any other
+ * value aggregates on the publishing threads using that many shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(8)
+public class CloudWatchMetricPublisherBenchmark {
+    private static final int COLLECTION_COUNT = 1024;
+
+    @Param({"0", "8", "16"})
+    private int aggregationShards;
+
+    @Param({"DETAILED", "HISTOGRAM"})
+    private String latencyAggregation;
+
+    private CloudWatchMetricPublisher publisher;
+    private MetricCollection[] collections;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        CloudWatchMetricPublisher.Builder builder = CloudWatchMetricPublisher.builder()
+                                                                             .cloudWatchClient(new NoOpCloudWatchClient())
+                                                                             .uploadFrequency(Duration.ofSeconds(10));
+        if ("HISTOGRAM".equals(latencyAggregation)) {
+            builder.histogramMetrics(CoreMetric.API_CALL_DURATION, CoreMetric.SERVICE_CALL_DURATION);
+        } else {
+            builder.detailedMetrics(CoreMetric.API_CALL_DURATION, CoreMetric.SERVICE_CALL_DURATION);
+        }
+        if (aggregationShards > 0) {
+            builder.aggregationShards(aggregationShards);
+        }
+        publisher = builder.build();
+
+        collections = new MetricCollection[COLLECTION_COUNT];
+        for (int i = 0; i < COLLECTION_COUNT; i++) {
+            collections[i] = apiCallCollection(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(collections[ThreadLocalRandom.current().nextInt(COLLECTION_COUNT)]);
+    }
+
+    private static MetricCollection apiCallCollection(int seed) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "Service" + seed % 4);
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "Operation" + seed % 8);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.of(1_000 + random.nextInt(200_000), ChronoUnit.MICROS));
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.of(800 + random.nextInt(150_000), ChronoUnit.MICROS));
+        attempt.reportMetric(CoreMetric.MARSHALLING_DURATION, Duration.of(random.nextInt(500), ChronoUnit.MICROS));
+
+        MetricCollector http = attempt.createChild("HttpClient");
+        http.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        http.reportMetric(HttpMetric.MAX_CONCURRENCY, 50);
+        http.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, random.nextInt(50));
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, random.nextInt(50));
+        http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, random.nextInt(5));
+
+        return apiCall.collect();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CloudWatchMetricPublisherBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    /**
+     * A CloudWatch client that accepts every upload without sending it anywhere, so that only ingestion is measured.
+     */
+    private static final class NoOpCloudWatchClient implements CloudWatchAsyncClient {
+        @Override
+        public CompletableFuture<PutMetricDataResponse> putMetricData(PutMetricDataRequest putMetricDataRequest) {
+            return CompletableFuture.completedFuture(PutMetricDataResponse.builder().build());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
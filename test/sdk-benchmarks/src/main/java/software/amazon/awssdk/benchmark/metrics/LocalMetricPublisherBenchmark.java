@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metrics;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.publishers.local.LocalMetricPublisher;
+
+/**
+ * Benchmark for the overhead of {@link LocalMetricPublisher#publish(MetricCollection)} on the request thread, compared to only
+ * iterating the published collection. Run with the GC profiler to see the allocation rate of publishing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(4)
+public class LocalMetricPublisherBenchmark {
+    private static final int COLLECTION_COUNT = 1024;
+
+    @Param({"false", "true"})
+    private boolean jmxEnabled;
+
+    private LocalMetricPublisher publisher;
+    private MetricCollection[] collections;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        publisher = LocalMetricPublisher.builder().jmxEnabled(jmxEnabled).build();
+
+        collections = new MetricCollection[COLLECTION_COUNT];
+        for (int i = 0; i < COLLECTION_COUNT; i++) {
+            collections[i] = apiCallCollection(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(nextCollection());
+    }
+
+    @Benchmark
+    public void iterateOnly(Blackhole blackhole) {
+        iterate(nextCollection(), blackhole);
+    }
+
+    @Benchmark
+    public String scrape() {
+        return publisher.scrape();
+    }
+
+    private MetricCollection nextCollection() {
+        return collections[ThreadLocalRandom.current().nextInt(COLLECTION_COUNT)];
+    }
+
+    private static void iterate(MetricCollection collection, Blackhole blackhole) {
+        collection.forEach(blackhole::consume);
+        for (MetricCollection child : collection.children()) {
+            iterate(child, blackhole);
+        }
+    }
+
+    private static MetricCollection apiCallCollection(int seed) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "Service" + seed % 4);
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "Operation" + seed % 8);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.of(1_000 + random.nextInt(200_000), ChronoUnit.MICROS));
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, 0);
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.of(800 + random.nextInt(150_000), ChronoUnit.MICROS));
+        attempt.reportMetric(CoreMetric.MARSHALLING_DURATION, Duration.of(random.nextInt(500), ChronoUnit.MICROS));
+        attempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+
+        MetricCollector http = attempt.createChild("HttpClient");
+        http.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        http.reportMetric(HttpMetric.MAX_CONCURRENCY, 50);
+        http.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, random.nextInt(50));
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, random.nextInt(50));
+        http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, random.nextInt(5));
+        http.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.of(random.nextInt(2_000), ChronoUnit.MICROS));
+
+        return apiCall.collect();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(LocalMetricPublisherBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
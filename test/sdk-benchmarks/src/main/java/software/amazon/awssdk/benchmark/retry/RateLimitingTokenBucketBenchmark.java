@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.retry;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
+
+/**
+ * Benchmark for the client side rate limiter of {@link software.amazon.awssdk.core.retry.RetryMode#ADAPTIVE}, shared by all
+ * the threads making requests with a client. Every request acquires a token before each attempt, and updates the sending rate
+ * once the attempt completes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(8)
+public class RateLimitingTokenBucketBenchmark {
+
+    /**
+     * Rate limiting is enabled by the first throttling response.
+     */
+    @Param({"false", "true"})
+    private boolean throttled;
+
+    private RateLimitingTokenBucket tokenBucket;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tokenBucket = new RateLimitingTokenBucket();
+        if (throttled) {
+            tokenBucket.updateClientSendingRate(true);
+        }
+    }
+
+    @Benchmark
+    public OptionalDouble acquire() {
+        return tokenBucket.acquireNonBlocking(1.0, false);
+    }
+
+    @Benchmark
+    public void updateClientSendingRate() {
+        tokenBucket.updateClientSendingRate(false);
+    }
+
+    @Benchmark
+    public OptionalDouble attempt() {
+        OptionalDouble waitTime = tokenBucket.acquireNonBlocking(1.0, false);
+        tokenBucket.updateClientSendingRate(false);
+        return waitTime;
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RateLimitingTokenBucketBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
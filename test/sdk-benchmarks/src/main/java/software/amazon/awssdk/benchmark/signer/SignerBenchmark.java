@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.AsyncAws4Signer;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.auth.signer.params.AwsS3V4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Benchmarks SigV4 signing with many threads signing concurrently, which exercises the shared signing key cache and the
+ * per-thread digest, MAC and canonical request state.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+@Threads(32)
+public class SignerBenchmark {
+
+    private static final byte[] PAYLOAD = new byte[1024];
+
+    private Aws4Signer aws4Signer;
+    private AwsS3V4Signer s3Signer;
+    private AsyncAws4Signer asyncSigner;
+    private SdkHttpFullRequest request;
+    private Aws4SignerParams signerParams;
+    private AwsS3V4SignerParams s3SignerParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        aws4Signer = Aws4Signer.create();
+        s3Signer = AwsS3V4Signer.create();
+        asyncSigner = AsyncAws4Signer.create();
+
+        request = SdkHttpFullRequest.builder()
+                                    .method(SdkHttpMethod.POST)
+                                    .protocol("https")
+                                    .host("dynamodb.us-west-2.amazonaws.com")
+                                    .encodedPath("/")
+                                    .putRawQueryParameter("Action", "PutItem")
+                                    .putRawQueryParameter("Version", "2012-08-10")
+                                    .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                    .putHeader("User-Agent", "aws-sdk-java/2.x")
+                                    .putHeader("X-Amz-Target", "DynamoDB_20120810.PutItem")
+                                    .putHeader("amz-sdk-invocation-id", "5a8ec1e4-8b3b-4b1d-9f3c-6c1f3c2c9a1e")
+                                    .contentStreamProvider(() -> new ByteArrayInputStream(PAYLOAD))
+                                    .build();
+
+        AwsBasicCredentials credentials = AwsBasicCredentials.create("akid", "skid");
+        signerParams = Aws4SignerParams.builder()
+                                       .awsCredentials(credentials)
+                                       .signingName("dynamodb")
+                                       .signingRegion(Region.US_WEST_2)
+                                       .build();
+        s3SignerParams = AwsS3V4SignerParams.builder()
+                                            .awsCredentials(credentials)
+                                            .signingName("s3")
+                                            .signingRegion(Region.US_WEST_2)
+                                            .enablePayloadSigning(true)
+                                            .build();
+    }
+
+    @Benchmark
+    public void aws4Signer(Blackhole blackhole) {
+        blackhole.consume(aws4Signer.sign(request, signerParams));
+    }
+
+    @Benchmark
+    public void awsS3V4Signer(Blackhole blackhole) {
+        blackhole.consume(s3Signer.sign(request, s3SignerParams));
+    }
+
+    @Benchmark
+    public void asyncAws4Signer(Blackhole blackhole) {
+        blackhole.consume(asyncSigner.signWithBody(request, AsyncRequestBody.fromBytes(PAYLOAD), signerParams).join());
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SignerBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.timers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+
+/**
+ * Benchmark for scheduling and cancelling an API call timeout, which is what happens for every request that completes in time,
+ * while many other timeouts are outstanding. Compares the {@link HashedWheelTimer} used by the SDK to the
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} the SDK used to schedule timeouts on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(8)
+public class TimeoutSchedulingBenchmark {
+    private static final long TIMEOUT_MILLIS = 1_000;
+    private static final Runnable NO_OP = () -> { };
+
+    @Param({"100000"})
+    private int outstandingTimeouts;
+
+    /**
+     * Executes expired timeouts. None of them expire during the benchmark.
+     */
+    private ScheduledExecutorService executor;
+    private HashedWheelTimer timer;
+    private List<Runnable> cancellations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Configured like the executor the SDK creates for each client.
+        executor = Executors.newScheduledThreadPool(5);
+        timer = HashedWheelTimer.shared();
+
+        cancellations = new ArrayList<>(outstandingTimeouts * 2);
+        for (int i = 0; i < outstandingTimeouts; i++) {
+            ScheduledFuture<?> future = executor.schedule(NO_OP, 1, TimeUnit.HOURS);
+            HashedWheelTimer.Timeout timeout = timer.schedule(NO_OP, 1, TimeUnit.HOURS, executor);
+            cancellations.add(() -> future.cancel(false));
+            cancellations.add(timeout::cancel);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cancellations.forEach(Runnable::run);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduledThreadPoolExecutor() {
+        return executor.schedule(NO_OP, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).cancel(false);
+    }
+
+    @Benchmark
+    public boolean hashedWheelTimer() {
+        return timer.schedule(NO_OP, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS, executor).cancel();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TimeoutSchedulingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
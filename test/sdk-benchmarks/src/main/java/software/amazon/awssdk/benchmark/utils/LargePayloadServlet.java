@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Always succeeds with a 200 response carrying a large binary payload, for benchmarking streaming downloads.
+ */
+public class LargePayloadServlet extends HttpServlet {
+    public static final int PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+    private static final int WRITE_SIZE = 64 * 1024;
+
+    private final byte[] chunk = new byte[WRITE_SIZE];
+
+    public LargePayloadServlet() {
+        new Random(0).nextBytes(chunk);
+    }
+
+    @Override
+    public void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("application/octet-stream");
+        response.setContentLength(PAYLOAD_SIZE);
+        OutputStream out = response.getOutputStream();
+        for (int written = 0; written < PAYLOAD_SIZE; written += WRITE_SIZE) {
+            out.write(chunk, 0, Math.min(WRITE_SIZE, PAYLOAD_SIZE - written));
+        }
+    }
+}
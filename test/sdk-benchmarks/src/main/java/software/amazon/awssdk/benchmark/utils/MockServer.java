@@ -60,6 +60,7 @@ public class MockServer extends BaseMockServer {
 
         ServletContextHandler context = new ServletContextHandler(server, "/", ServletContextHandler.SESSIONS);
         context.addServlet(new ServletHolder(new AlwaysSuccessServlet()), "/*");
+        context.addServlet(new ServletHolder(new LargePayloadServlet()), "/2016-03-11/streamingOutputOperation");
         server.setHandler(context);
     }
 
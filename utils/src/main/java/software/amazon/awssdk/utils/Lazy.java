@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.utils;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -27,6 +29,12 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 public class Lazy<T> implements SdkAutoCloseable {
     private final Supplier<T> initializer;
 
+    /**
+     * Guards the initialization of the value. This is a {@link ReentrantLock} rather than a monitor so that a virtual thread
+     * waiting for a slow initializer doesn't pin its carrier thread.
+     */
+    private final Lock initializationLock = new ReentrantLock();
+
     private volatile T value;
 
     public Lazy(Supplier<T> initializer) {
@@ -44,12 +52,15 @@ public class Lazy<T> implements SdkAutoCloseable {
     public T getValue() {
         T result = value;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = value;
                 if (result == null) {
                     result = initializer.get();
                     value = result;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
 
@@ -35,8 +35,11 @@ public class ThreadFactoryBuilder {
 
     private static final AtomicLong POOL_NUMBER = new AtomicLong(0);
 
+    private static final Logger log = Logger.loggerFor(ThreadFactoryBuilder.class);
+
     private String threadNamePrefix = "aws-java-sdk";
     private Boolean daemonThreads = true;
+    private Boolean virtualThreads = false;
 
     /**
      * The name prefix for threads created by this thread factory. The prefix will be appended with a number unique to the thread
@@ -60,6 +63,18 @@ public class ThreadFactoryBuilder {
         return this;
     }
 
+    /**
+     * Whether the factory should create virtual threads instead of platform threads. Virtual threads are only available on
+     * Java 21 and newer; on older JVMs this setting is ignored and platform threads are created instead. Virtual threads are
+     * always daemon threads, so {@link #daemonThreads(Boolean)} has no effect when this is enabled.
+     *
+     * By default, this is false.
+     */
+    public ThreadFactoryBuilder virtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     /**
      * Test API to reset pool count for reliable assertions.
      */
@@ -74,6 +89,14 @@ public class ThreadFactoryBuilder {
     public ThreadFactory build() {
         String threadNamePrefixWithPoolNumber = threadNamePrefix + "-" + POOL_NUMBER.getAndIncrement() % POOL_NUMBER_MAX;
 
+        if (Boolean.TRUE.equals(virtualThreads)) {
+            if (VirtualThreadFactory.isSupported()) {
+                return new NamedThreadFactory(new VirtualThreadFactory(), threadNamePrefixWithPoolNumber);
+            }
+            log.debug(() -> "Virtual threads were requested but are not supported by this JVM. Platform threads will be "
+                            + "used instead.");
+        }
+
         ThreadFactory result = new NamedThreadFactory(Executors.defaultThreadFactory(), threadNamePrefixWithPoolNumber);
 
         if (daemonThreads) {
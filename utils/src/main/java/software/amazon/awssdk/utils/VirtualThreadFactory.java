@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link ThreadFactory} that creates virtual threads, when the running JVM supports them (Java 21+).
+ *
+ * <p>The SDK is compiled against Java 8, so virtual threads are created reflectively through {@code Thread.ofVirtual()}.
+ * Callers should check {@link #isSupported()} before constructing this factory, or use
+ * {@link ThreadFactoryBuilder#virtualThreads(Boolean)} which falls back to platform threads automatically.
+ */
+@SdkProtectedApi
+public class VirtualThreadFactory implements ThreadFactory {
+    private static final Logger log = Logger.loggerFor(VirtualThreadFactory.class);
+
+    private static final Lazy<Boolean> SUPPORTED = new Lazy<>(VirtualThreadFactory::detectSupport);
+
+    private final ThreadFactory delegate;
+
+    public VirtualThreadFactory() {
+        Validate.validState(isSupported(), "Virtual threads are not supported by this JVM.");
+        this.delegate = newJdkFactory();
+    }
+
+    /**
+     * Whether the running JVM can create virtual threads. This is false on JVMs older than Java 21, and on Java 19 and 20
+     * unless preview features are enabled.
+     */
+    public static boolean isSupported() {
+        return SUPPORTED.getValue();
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        return delegate.newThread(runnable);
+    }
+
+    private static boolean detectSupport() {
+        try {
+            newJdkFactory();
+            return true;
+        } catch (RuntimeException e) {
+            log.debug(() -> "Virtual threads are not supported by this JVM.", e);
+            return false;
+        }
+    }
+
+    private static ThreadFactory newJdkFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create a virtual thread factory.", e);
+        }
+    }
+}
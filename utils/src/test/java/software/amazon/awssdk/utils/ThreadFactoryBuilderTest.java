@@ -17,6 +17,8 @@ package software.amazon.awssdk.utils;
 
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -59,6 +61,31 @@ public class ThreadFactoryBuilderTest {
         assertThat(thread.isDaemon()).isTrue();
     }
 
+    @Test
+    public void virtualThreadsFallBackToPlatformThreadsWhenUnsupported() {
+        assumeFalse(VirtualThreadFactory.isSupported());
+        Thread thread = new ThreadFactoryBuilder()
+                .threadNamePrefix("virtual")
+                .virtualThreads(true)
+                .build()
+                .newThread(this::doNothing);
+        assertThat(thread.getName()).isEqualTo("virtual-0-0");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    @Test
+    public void virtualThreadsCreatedWhenSupported() throws Exception {
+        assumeTrue(VirtualThreadFactory.isSupported());
+        Thread thread = new ThreadFactoryBuilder()
+                .threadNamePrefix("virtual")
+                .virtualThreads(true)
+                .build()
+                .newThread(this::doNothing);
+        assertThat(thread.getName()).isEqualTo("virtual-0-0");
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat((Boolean) Thread.class.getMethod("isVirtual").invoke(thread)).isTrue();
+    }
+
     /**
      * To use as a {@link Runnable} method reference.
      */